@@ -0,0 +1,349 @@
+package br.com.cronicasdeeldoria.config;
+
+import br.com.cronicasdeeldoria.game.render.RenderMode;
+
+/**
+ * Configurações de execução do jogo (loop, renderização e afins).
+ * Os valores padrão podem ser sobrescritos por propriedades de sistema,
+ * por exemplo: -Deldoria.tickRate=60 -Deldoria.maxFps=120
+ */
+public class GameSettings {
+  private static GameSettings instance;
+
+  private int tickRate;
+  private int maxFps;
+  private int maxCatchUpTicks;
+  private long spinThresholdNanos;
+  private RenderMode renderMode;
+  private boolean vsync;
+  private boolean lowResFramebuffer;
+  private int nativeTileSize;
+  private boolean tileCollision;
+  private boolean chunkCache;
+  private int chunkTiles;
+  private long chunkCacheBytes;
+  private boolean binaryMaps;
+  private boolean asyncMapLoading;
+  private int mapFadeMillis;
+  private int mapPrefetchRadius;
+  private int mapPrefetchCacheSize;
+  private int assetLoaderThreads;
+  private int assetCacheMb;
+  private int battlePrefetchTiles;
+  private int particleParallelThreshold;
+  private boolean profilerEnabled;
+  private String profileDir;
+  private Long randomSeed;
+  private String inputRecordFile;
+  private int pathBudgetMicros;
+  private int flowFieldRadius;
+  private boolean npcLod;
+  private int npcNearTiles;
+  private int aiBudgetMillis;
+
+  private GameSettings() {
+    loadSettings();
+  }
+
+  public static GameSettings getInstance() {
+    if (instance == null) {
+      instance = new GameSettings();
+    }
+    return instance;
+  }
+
+  private void loadSettings() {
+    tickRate = Math.max(1, readInt("eldoria.tickRate", 60));
+    maxFps = Math.max(0, readInt("eldoria.maxFps", 60));
+    maxCatchUpTicks = Math.max(1, readInt("eldoria.maxCatchUpTicks", 5));
+    spinThresholdNanos = Math.max(0, readInt("eldoria.spinMicros", 250)) * 1000L;
+    renderMode = RenderMode.fromString(System.getProperty("eldoria.renderMode"), RenderMode.ACTIVE);
+    vsync = readBoolean("eldoria.vsync", true);
+    lowResFramebuffer = readBoolean("eldoria.lowRes", true);
+    nativeTileSize = readInt("eldoria.nativeTileSize", 16);
+    tileCollision = readBoolean("eldoria.tileCollision", true);
+    chunkCache = readBoolean("eldoria.chunkCache", true);
+    chunkTiles = Math.max(1, readInt("eldoria.chunkTiles", 16));
+    chunkCacheBytes = Math.max(0, readInt("eldoria.chunkCacheMb", 48)) * 1024L * 1024L;
+    binaryMaps = readBoolean("eldoria.binaryMaps", true);
+    asyncMapLoading = readBoolean("eldoria.asyncMapLoading", true);
+    mapFadeMillis = Math.max(0, readInt("eldoria.mapFadeMillis", 250));
+    mapPrefetchRadius = Math.max(0, readInt("eldoria.mapPrefetchRadius", 8));
+    mapPrefetchCacheSize = Math.max(0, readInt("eldoria.mapPrefetchCacheSize", 4));
+    assetLoaderThreads = Math.max(1, readInt("eldoria.assetLoaderThreads", 2));
+    assetCacheMb = Math.max(1, readInt("eldoria.assetCacheMb", 96));
+    battlePrefetchTiles = Math.max(0, readInt("eldoria.battlePrefetchTiles", 8));
+    particleParallelThreshold = Math.max(0, readInt("eldoria.particleParallelThreshold", 4096));
+    profilerEnabled = readBoolean("eldoria.profiler", false);
+    profileDir = System.getProperty("eldoria.profileDir", ".");
+    randomSeed = System.getProperty("eldoria.seed") != null ? readLong("eldoria.seed", 0L) : null;
+    inputRecordFile = System.getProperty("eldoria.recordInput");
+    pathBudgetMicros = Math.max(0, readInt("eldoria.pathBudgetMicros", 1000));
+    flowFieldRadius = Math.max(1, readInt("eldoria.flowFieldRadius", 32));
+    npcLod = readBoolean("eldoria.npcLod", true);
+    npcNearTiles = Math.max(0, readInt("eldoria.npcNearTiles", 8));
+    aiBudgetMillis = Math.max(1, readInt("eldoria.aiBudgetMillis", 2));
+  }
+
+  /**
+   * Lê uma propriedade inteira do sistema, usando o valor padrão se ausente ou inválida.
+   * @param key Nome da propriedade.
+   * @param defaultValue Valor padrão.
+   * @return Valor lido.
+   */
+  static int readInt(String key, int defaultValue) {
+    String value = System.getProperty(key);
+    if (value == null || value.trim().isEmpty()) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      System.err.println("Valor inválido para " + key + ": " + value + " (usando " + defaultValue + ")");
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Lê uma propriedade long do sistema, usando o valor padrão se ausente ou inválida.
+   * @param key Nome da propriedade.
+   * @param defaultValue Valor padrão.
+   * @return Valor lido.
+   */
+  static long readLong(String key, long defaultValue) {
+    String value = System.getProperty(key);
+    if (value == null || value.trim().isEmpty()) {
+      return defaultValue;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      System.err.println("Valor inválido para " + key + ": " + value + " (usando " + defaultValue + ")");
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Lê uma propriedade booleana do sistema, usando o valor padrão se ausente.
+   * @param key Nome da propriedade.
+   * @param defaultValue Valor padrão.
+   * @return Valor lido.
+   */
+  static boolean readBoolean(String key, boolean defaultValue) {
+    String value = System.getProperty(key);
+    if (value == null || value.trim().isEmpty()) {
+      return defaultValue;
+    }
+    return Boolean.parseBoolean(value.trim());
+  }
+
+  /**
+   * @return Ticks de simulação por segundo.
+   */
+  public int getTickRate() {
+    return tickRate;
+  }
+
+  /**
+   * @return Limite de quadros renderizados por segundo (0 = sem limite).
+   */
+  public int getMaxFps() {
+    return maxFps;
+  }
+
+  /**
+   * @return Máximo de ticks executados em sequência para recuperar atraso.
+   */
+  public int getMaxCatchUpTicks() {
+    return maxCatchUpTicks;
+  }
+
+  /**
+   * @return Janela final de espera, em nanossegundos, feita com spin em vez de park.
+   */
+  public long getSpinThresholdNanos() {
+    return spinThresholdNanos;
+  }
+
+  /**
+   * @return Modo de renderização (ativo ou passivo via repaint).
+   */
+  public RenderMode getRenderMode() {
+    return renderMode;
+  }
+
+  /**
+   * @return true para sincronizar os quadros com a taxa de atualização do monitor.
+   */
+  public boolean isVsync() {
+    return vsync;
+  }
+
+  /**
+   * @return true para desenhar o mundo na resolução nativa da arte e ampliar uma única vez.
+   */
+  public boolean isLowResFramebuffer() {
+    return lowResFramebuffer;
+  }
+
+  /**
+   * @return Tamanho original dos tiles na arte (em pixels).
+   */
+  public int getNativeTileSize() {
+    return nativeTileSize;
+  }
+
+  /**
+   * @return true para bloquear tiles marcados com collision em tiles.json, além das camadas colisoras.
+   */
+  public boolean isTileCollision() {
+    return tileCollision;
+  }
+
+  /**
+   * @return true para desenhar as camadas estáticas a partir de chunks pré-renderizados.
+   */
+  public boolean isChunkCache() {
+    return chunkCache;
+  }
+
+  /**
+   * @return Tiles por lado de cada chunk pré-renderizado.
+   */
+  public int getChunkTiles() {
+    return chunkTiles;
+  }
+
+  /**
+   * @return Memória máxima, em bytes, das imagens de chunks.
+   */
+  public long getChunkCacheBytes() {
+    return chunkCacheBytes;
+  }
+
+  /**
+   * @return true para carregar os mapas binários (.emap) gerados no build, quando existirem.
+   */
+  public boolean isBinaryMaps() {
+    return binaryMaps;
+  }
+
+  /**
+   * @return true para carregar mapas numa thread de fundo, com transição em fade.
+   */
+  public boolean isAsyncMapLoading() {
+    return asyncMapLoading;
+  }
+
+  /**
+   * @return Duração, em milissegundos, de cada metade do fade na troca de mapa.
+   */
+  public int getMapFadeMillis() {
+    return mapFadeMillis;
+  }
+
+  /**
+   * @return Distância, em tiles, dos teleportes cujo destino é pré-carregado.
+   */
+  public int getMapPrefetchRadius() {
+    return mapPrefetchRadius;
+  }
+
+  /**
+   * @return Quantidade de mapas pré-carregados mantidos em memória.
+   */
+  public int getMapPrefetchCacheSize() {
+    return mapPrefetchCacheSize;
+  }
+
+  /**
+   * @return Threads usadas para decodificar imagens em segundo plano.
+   */
+  public int getAssetLoaderThreads() {
+    return assetLoaderThreads;
+  }
+
+  /**
+   * @return Memória máxima (MB) das imagens em cache sem referência antes de descartá-las.
+   */
+  public int getAssetCacheMb() {
+    return assetCacheMb;
+  }
+
+  /**
+   * @return Distância, em tiles, a partir da qual as imagens da batalha contra um monstro são pré-carregadas.
+   */
+  public int getBattlePrefetchTiles() {
+    return battlePrefetchTiles;
+  }
+
+  /**
+   * @return Partículas vivas a partir das quais um sistema é atualizado em paralelo (0 = nunca).
+   */
+  public int getParticleParallelThreshold() {
+    return particleParallelThreshold;
+  }
+
+  /**
+   * @return true se o profiler de quadros começa ligado (alternado com F3 durante o jogo).
+   */
+  public boolean isProfilerEnabled() {
+    return profilerEnabled;
+  }
+
+  /**
+   * @return Pasta onde o F4 grava o CSV do profiler.
+   */
+  public String getProfileDir() {
+    return profileDir;
+  }
+
+  /**
+   * @return Semente fixa dos geradores aleatórios (eldoria.seed), ou null para uma semente nova a cada partida.
+   */
+  public Long getRandomSeed() {
+    return randomSeed;
+  }
+
+  /**
+   * @return Arquivo onde a entrada de cada tick é gravada para replay, ou null para não gravar.
+   */
+  public String getInputRecordFile() {
+    return inputRecordFile;
+  }
+
+  /**
+   * @return Tempo de busca de caminhos por tick, em microssegundos, dividido entre todos os NPCs.
+   */
+  public int getPathBudgetMicros() {
+    return pathBudgetMicros;
+  }
+
+  /**
+   * @return Alcance, em tiles, do campo de perseguição calculado em volta do jogador.
+   */
+  public int getFlowFieldRadius() {
+    return flowFieldRadius;
+  }
+
+  /**
+   * @return true se NPCs fora da tela atualizam com menos frequência (NpcScheduler).
+   */
+  public boolean isNpcLodEnabled() {
+    return npcLod;
+  }
+
+  /**
+   * @return Distância, em tiles além da tela, até onde um NPC ainda conta como próximo.
+   */
+  public int getNpcNearTiles() {
+    return npcNearTiles;
+  }
+
+  /**
+   * @return Tempo por tick, em milissegundos, para os trabalhos da fila de IA (AiJobQueue).
+   */
+  public int getAiBudgetMillis() {
+    return aiBudgetMillis;
+  }
+}
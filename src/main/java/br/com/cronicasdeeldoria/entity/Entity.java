@@ -8,6 +8,14 @@ import java.util.UUID;
  * Classe base para todas as entidades do jogo, contendo posição, direção, nome e hitbox.
  */
 public class Entity {
+
+  /**
+   * Notificado quando a posição da entidade no mundo muda (ex.: grade espacial de colisão).
+   */
+  public interface PositionListener {
+    void onPositionChanged(Entity entity);
+  }
+
   private final UUID id;
   private int worldX, worldY;
   private int speed;
@@ -17,6 +25,12 @@ public class Entity {
   private Rectangle hitbox;
   private boolean collisionOn = false;
 
+  // Distância (em pixels) a partir da qual não se interpola, como em teleportes
+  private static final int INTERPOLATION_SNAP_DISTANCE = 64;
+  private int previousWorldX, previousWorldY;
+  private int renderX, renderY;
+  private PositionListener positionListener;
+
   /**
    * Cria uma nova entidade.
    * @param x Posição X no mundo.
@@ -29,6 +43,10 @@ public class Entity {
     this.id = UUID.randomUUID();
     this.worldX = x;
     this.worldY = y;
+    this.previousWorldX = x;
+    this.previousWorldY = y;
+    this.renderX = x;
+    this.renderY = y;
     this.speed = speed;
     this.direction = direction;
     this.name = name;
@@ -44,6 +62,9 @@ public class Entity {
 
   public void setWorldX(int x) {
     this.worldX = x;
+    if (positionListener != null) {
+      positionListener.onPositionChanged(this);
+    }
   }
 
   public int getWorldY() {
@@ -52,6 +73,47 @@ public class Entity {
 
   public void setWorldY(int y) {
     this.worldY = y;
+    if (positionListener != null) {
+      positionListener.onPositionChanged(this);
+    }
+  }
+
+  /**
+   * Guarda a posição atual como posição do tick anterior (chamado no início de cada tick).
+   */
+  public void savePreviousPosition() {
+    this.previousWorldX = worldX;
+    this.previousWorldY = worldY;
+  }
+
+  /**
+   * Calcula a posição de renderização interpolada entre o tick anterior e o atual.
+   * @param alpha Fração (0..1) do próximo tick já decorrida.
+   */
+  public void prepareRender(double alpha) {
+    this.renderX = interpolate(previousWorldX, worldX, alpha);
+    this.renderY = interpolate(previousWorldY, worldY, alpha);
+  }
+
+  private static int interpolate(int previous, int current, double alpha) {
+    if (Math.abs(current - previous) > INTERPOLATION_SNAP_DISTANCE) {
+      return current;
+    }
+    return (int) Math.round(previous + (current - previous) * alpha);
+  }
+
+  /**
+   * @return Posição X usada na renderização (interpolada).
+   */
+  public int getRenderX() {
+    return renderX;
+  }
+
+  /**
+   * @return Posição Y usada na renderização (interpolada).
+   */
+  public int getRenderY() {
+    return renderY;
   }
 
   public int getSpeed() {
@@ -78,6 +140,14 @@ public class Entity {
     this.name = name;
   }
 
+  public PositionListener getPositionListener() {
+    return positionListener;
+  }
+
+  public void setPositionListener(PositionListener positionListener) {
+    this.positionListener = positionListener;
+  }
+
   public Rectangle getHitbox() {
     return hitbox;
   }
@@ -2,6 +2,7 @@ package br.com.cronicasdeeldoria.entity.character.classes;
 
 import br.com.cronicasdeeldoria.entity.character.Character;
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.GameRandom;
 
 /**
  * Representa a raça Ranger, cujo atributo especial é destreza (dexterity).
@@ -55,7 +56,7 @@ public class Ranger implements CharacterClass {
     // Variação de dano e ignora armadura do alvo
     int baseDamage = Math.max(1, attacker.getEffectiveStrength());
     int variation = Math.max(1, (int)(baseDamage * 0.4)); // 40% variation
-    int finalDamage = baseDamage + (int)(Math.random() * variation * 2) - variation;
+    int finalDamage = baseDamage + (int)(GameRandom.of(GameRandom.Stream.BATTLE).nextDouble() * variation * 2) - variation;
 
     if (attacker.getAttributeMana() >= manaCost) {
       attacker.setAttributeMana(attacker.getAttributeMana() - manaCost);
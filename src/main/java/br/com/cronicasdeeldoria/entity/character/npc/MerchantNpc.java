@@ -2,18 +2,12 @@ package br.com.cronicasdeeldoria.entity.character.npc;
 
 import br.com.cronicasdeeldoria.entity.item.Item;
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.GameRandom;
 import br.com.cronicasdeeldoria.game.inventory.ItemFactory;
+import br.com.cronicasdeeldoria.game.inventory.ItemRegistry;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
 
 /**
  * NPC comerciante que vende itens para o jogador.
@@ -22,7 +16,6 @@ public class MerchantNpc extends Npc {
     private List<MerchantItem> merchantItems;
     private List<ItemConfig> itemConfigs;
     private String merchantName;
-    private static Map<String, Integer> itemPricesCache = new HashMap<>();
 
     /**
      * Classe interna para configuração de itens com probabilidade.
@@ -41,14 +34,14 @@ public class MerchantNpc extends Npc {
         }
 
         public boolean shouldInclude() {
-            return Math.random() < probability;
+            return GameRandom.of(GameRandom.Stream.MERCHANT).nextDouble() < probability;
         }
 
         public int generateQuantity() {
             if (minQuantity == maxQuantity) {
                 return minQuantity;
             }
-            return minQuantity + (int)(Math.random() * (maxQuantity - minQuantity + 1));
+            return minQuantity + GameRandom.of(GameRandom.Stream.MERCHANT).nextInt(maxQuantity - minQuantity + 1);
         }
 
         public String getItemId() { return itemId; }
@@ -158,40 +151,12 @@ public class MerchantNpc extends Npc {
     }
 
     /**
-     * Busca o preço de um item no arquivo objects.json com cache.
+     * Busca o preço de um item no registro de itens.
      * @param itemId ID do item.
      * @return Preço do item ou 25 como fallback.
      */
     private int getItemPriceFromConfig(String itemId) {
-        // Verificar cache primeiro
-        if (itemPricesCache.containsKey(itemId)) {
-            return itemPricesCache.get(itemId);
-        }
-
-        try {
-            InputStream is = MerchantNpc.class.getResourceAsStream("/objects.json");
-            if (is != null) {
-                Gson gson = new Gson();
-                JsonArray objectsArray = gson.fromJson(new InputStreamReader(is), JsonArray.class);
-
-                for (int i = 0; i < objectsArray.size(); i++) {
-                    JsonObject objectJson = objectsArray.get(i).getAsJsonObject();
-                    if (objectJson.has("id") && objectJson.get("id").getAsString().equals(itemId)) {
-                        if (objectJson.has("value")) {
-                            int price = objectJson.get("value").getAsInt();
-                            itemPricesCache.put(itemId, price); // Cache o resultado
-                            return price;
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Erro ao buscar preço do item " + itemId + ": " + e.getMessage());
-        }
-
-        int fallbackPrice = 25;
-        itemPricesCache.put(itemId, fallbackPrice); // Cache o fallback também
-        return fallbackPrice;
+        return ItemRegistry.getInstance().getValue(itemId, 25);
     }
 
     /**
@@ -6,22 +6,32 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
-import javax.imageio.ImageIO;
 
 import br.com.cronicasdeeldoria.entity.character.player.Player;
+import br.com.cronicasdeeldoria.game.AiJob;
+import br.com.cronicasdeeldoria.game.AiJobQueue;
+import br.com.cronicasdeeldoria.game.ColisionChecker;
+import br.com.cronicasdeeldoria.game.FlowField;
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.GameRandom;
+import br.com.cronicasdeeldoria.game.PathfindingService;
+import br.com.cronicasdeeldoria.game.animation.Animator;
+import br.com.cronicasdeeldoria.game.animation.DirectionalAnimation;
+import br.com.cronicasdeeldoria.game.animation.NpcAnimationLibrary;
+import br.com.cronicasdeeldoria.tile.TileRegions;
 
 /**
  * Representa um NPC (personagem não jogável) no jogo.
  */
 public class Npc extends Character {
+    /** Raio, em tiles, da procura do tile alcançável mais perto de um alvo inalcançável. */
+    private static final int REACHABLE_SEARCH_RADIUS = 16;
+
     protected boolean isStatic;
     protected String dialog;
     protected String skin;
@@ -30,9 +40,10 @@ public class Npc extends Character {
     protected int dialogId; // ID do diálogo inicial do NPC
     private int actionCounter = 0;
     private int actionInterval = 120;
-    private int spriteCounter = 0;
-    private int spriteNum = 1;
+    private final Animator animator = new Animator();
     private boolean isMoving = false;
+    private int elapsedTicks = 1;
+    private long lastUpdateTick = -1;
 
     /**
      * Cria um novo NPC.
@@ -149,13 +160,15 @@ public class Npc extends Character {
 
     /**
      * Faz o NPC andar, considerando colisões e o jogador.
+     * Anda o equivalente a getElapsedTicks() ticks, para NPCs atualizados com menos
+     * frequência pelo NpcScheduler manterem a mesma velocidade.
      * @param gamePanel Painel do jogo.
      * @param player Jogador.
      */
     public void walk(GamePanel gamePanel, Player player) {
         if (!isStatic) {
-            actionCounter++;
-            Random random = new Random();
+            actionCounter += elapsedTicks;
+            Random random = GameRandom.of(GameRandom.Stream.NPC_WALK);
 
             if (actionCounter >= actionInterval) {
                 actionCounter = 0;
@@ -167,7 +180,7 @@ public class Npc extends Character {
                     Collections.shuffle(dirList, random);
 
                     for (String dir : dirList) {
-                        if (canMove(dir, gamePanel, player)) {
+                        if (canMove(dir, getSpeed(), gamePanel, player)) {
                             setDirection(dir);
                             break;
                         }
@@ -177,45 +190,144 @@ public class Npc extends Character {
                 actionInterval = 120 + random.nextInt(120);
             }
 
-            if (canMove(getDirection(), gamePanel, player)) {
+            // Passos menores que um tile, para a checagem de colisão não pular paredes
+            int remaining = getSpeed() * elapsedTicks;
+            int maxStep = Math.max(1, gamePanel.getTileSize() - 1);
+            isMoving = false;
+            while (remaining > 0) {
+                int step = Math.min(remaining, maxStep);
+                if (!canMove(getDirection(), step, gamePanel, player)) {
+                    break;
+                }
                 isMoving = true;
                 switch (getDirection()) {
-                    case "up": setWorldY(getWorldY() - getSpeed()); break;
-                    case "down": setWorldY(getWorldY() + getSpeed()); break;
-                    case "left": setWorldX(getWorldX() - getSpeed()); break;
-                    case "right": setWorldX(getWorldX() + getSpeed()); break;
+                    case "up": setWorldY(getWorldY() - step); break;
+                    case "down": setWorldY(getWorldY() + step); break;
+                    case "left": setWorldX(getWorldX() - step); break;
+                    case "right": setWorldX(getWorldX() + step); break;
                 }
-            } else {
-                isMoving = false;
+                remaining -= step;
             }
 
             if (isMoving) {
-                spriteCounter++;
-                if (spriteCounter > 15 - getSpeed()) {
-                    spriteNum = (spriteNum == 1) ? 2 : 1;
-                    spriteCounter = 0;
-                }
+                animator.play(16 - getSpeed());
             } else {
-                spriteNum = 1;
-                spriteCounter = 0;
+                animator.stop();
             }
         }
     }
 
-    private boolean canMove(String direction, GamePanel gamePanel, Player player) {
+    /**
+     * Pede ao PathfindingService um caminho do tile do NPC (centro da hitbox) até o tile
+     * de destino, dentro do orçamento de busca do tick. Destinos em outra região conexa
+     * são recusados sem busca.
+     * @param gamePanel Painel do jogo.
+     * @param targetTileX Tile X de destino.
+     * @param targetTileY Tile Y de destino.
+     * @return Tiles do caminho (PathfindingService.packedX/packedY), ou null se não há caminho
+     *         ou a busca foi adiada para o próximo tick (PathfindingService.getLastResult()).
+     */
+    protected int[] requestPath(GamePanel gamePanel, int targetTileX, int targetTileY) {
+        int tileSize = gamePanel.getTileSize();
+        return PathfindingService.getInstance().findPath(gamePanel.getTileManager().getTileRegions(),
+                centerX(this, tileSize) / tileSize, centerY(this, tileSize) / tileSize, targetTileX, targetTileY);
+    }
+
+    /**
+     * Verifica, pelas TileRegions do mapa, se existe caminho do NPC até o jogador. Custa O(1).
+     * @param gamePanel Painel do jogo.
+     * @param player Jogador.
+     * @return true se o jogador está numa região alcançável (ou se o mapa não tem regiões).
+     */
+    protected boolean canReachPlayer(GamePanel gamePanel, Player player) {
+        TileRegions regions = gamePanel.getTileManager().getTileRegions();
+        if (regions == null) {
+            return true;
+        }
+        int tileSize = gamePanel.getTileSize();
+        return regions.isReachable(centerX(this, tileSize) / tileSize, centerY(this, tileSize) / tileSize,
+                centerX(player, tileSize) / tileSize, centerY(player, tileSize) / tileSize);
+    }
+
+    /**
+     * Tile alcançável pelo NPC mais perto do jogador; se o jogador é alcançável, o tile dele.
+     * @param gamePanel Painel do jogo.
+     * @param player Jogador.
+     * @return Tile compactado (PathfindingService.packedX/packedY), ou -1 se não há tile
+     *         alcançável a até REACHABLE_SEARCH_RADIUS tiles do jogador.
+     */
+    protected int nearestReachableTileToPlayer(GamePanel gamePanel, Player player) {
+        TileRegions regions = gamePanel.getTileManager().getTileRegions();
+        if (regions == null) {
+            return -1;
+        }
+        int tileSize = gamePanel.getTileSize();
+        return regions.nearestReachable(centerX(this, tileSize) / tileSize, centerY(this, tileSize) / tileSize,
+                centerX(player, tileSize) / tileSize, centerY(player, tileSize) / tileSize, REACHABLE_SEARCH_RADIUS);
+    }
+
+    /**
+     * @return Tile compactado (PathfindingService.packedX/packedY) do centro da hitbox do NPC.
+     */
+    protected int getCenterTile(GamePanel gamePanel) {
+        int tileSize = gamePanel.getTileSize();
+        return PathfindingService.pack(centerX(this, tileSize) / tileSize, centerY(this, tileSize) / tileSize);
+    }
+
+    /**
+     * Próximo tile no caminho até o jogador, lido do FlowField compartilhado por todos os
+     * perseguidores. O campo é refeito só quando o jogador muda de tile.
+     * @param gamePanel Painel do jogo.
+     * @param player Jogador.
+     * @return Tile compactado (PathfindingService.packedX/packedY), ou -1 se o NPC está fora
+     *         do alcance do campo, sem caminho até o jogador ou já no tile dele.
+     */
+    protected int nextStepTowardPlayer(GamePanel gamePanel, Player player) {
+        int tileSize = gamePanel.getTileSize();
+        FlowField field = FlowField.getInstance();
+        field.update(gamePanel.getTileManager().getCollisionGrid(),
+                centerX(player, tileSize) / tileSize, centerY(player, tileSize) / tileSize);
+        return field.nextStep(centerX(this, tileSize) / tileSize, centerY(this, tileSize) / tileSize);
+    }
+
+    /**
+     * Envia um trabalho de IA à AiJobQueue, com prioridade pela distância até o jogador
+     * (NPCs mais perto decidem primeiro). O resultado é aplicado no tick seguinte ao término.
+     * @param job Trabalho; ignorado se já está na fila.
+     * @param gamePanel Painel do jogo.
+     */
+    protected void submitAiJob(AiJob job, GamePanel gamePanel) {
+        Player player = gamePanel.getPlayer();
+        int priority = player != null
+                ? Math.abs(player.getWorldX() - getWorldX()) + Math.abs(player.getWorldY() - getWorldY())
+                : Integer.MAX_VALUE;
+        AiJobQueue.getInstance().submit(job, priority);
+    }
+
+    private static int centerX(Character character, int tileSize) {
+        Rectangle hitbox = character.getHitbox();
+        return character.getWorldX() + (hitbox != null ? hitbox.x + hitbox.width / 2 : tileSize / 2);
+    }
+
+    private static int centerY(Character character, int tileSize) {
+        Rectangle hitbox = character.getHitbox();
+        return character.getWorldY() + (hitbox != null ? hitbox.y + hitbox.height / 2 : tileSize / 2);
+    }
+
+    private boolean canMove(String direction, int distance, GamePanel gamePanel, Player player) {
         int newX = getWorldX();
         int newY = getWorldY();
         switch (direction) {
-            case "up": newY -= getSpeed(); break;
-            case "down": newY += getSpeed(); break;
-            case "left": newX -= getSpeed(); break;
-            case "right": newX += getSpeed(); break;
+            case "up": newY -= distance; break;
+            case "down": newY += distance; break;
+            case "left": newX -= distance; break;
+            case "right": newX += distance; break;
         }
 
         String originalDirection = getDirection();
         setDirection(direction);
         setCollisionOn(false);
-        gamePanel.getColisionChecker().checkTile(this);
+        gamePanel.getColisionChecker().checkTile(this, distance);
         boolean tileCollision = isCollisionOn();
         setDirection(originalDirection);
 
@@ -223,38 +335,21 @@ public class Npc extends Character {
             return false;
         }
 
-        if (this.getHitbox() != null && player.getHitbox() != null) {
-            Rectangle npcFutureBox = new Rectangle(
-                newX + getHitbox().x,
-                newY + getHitbox().y,
-                getHitbox().width,
-                getHitbox().height
-            );
-            Rectangle playerBox = new Rectangle(
-                player.getWorldX() + player.getHitbox().x,
-                player.getWorldY() + player.getHitbox().y,
-                player.getHitbox().width,
-                player.getHitbox().height
-            );
-            if (npcFutureBox.intersects(playerBox)) {
+        Rectangle hitbox = this.getHitbox();
+        Rectangle playerHitbox = player.getHitbox();
+        if (hitbox != null && playerHitbox != null) {
+            int futureLeft = newX + hitbox.x;
+            int futureTop = newY + hitbox.y;
+            if (ColisionChecker.intersects(futureLeft, futureTop, hitbox.width, hitbox.height,
+                    player.getWorldX() + playerHitbox.x, player.getWorldY() + playerHitbox.y,
+                    playerHitbox.width, playerHitbox.height)) {
                 return false;
             }
 
-            // Evitar colisão com outros NPCs
-            List<Npc> npcs = gamePanel.getNpcs();
-            if (npcs != null && !npcs.isEmpty()) {
-                for (Npc other : npcs) {
-                    if (other == this || other.getHitbox() == null) continue;
-                    Rectangle otherBox = new Rectangle(
-                        other.getWorldX() + other.getHitbox().x,
-                        other.getWorldY() + other.getHitbox().y,
-                        other.getHitbox().width,
-                        other.getHitbox().height
-                    );
-                    if (npcFutureBox.intersects(otherBox)) {
-                        return false;
-                    }
-                }
+            // Evitar colisão com outros NPCs (apenas os das células vizinhas)
+            if (gamePanel.getColisionChecker().collidesWithEntity(this, gamePanel.getNpcs(),
+                    futureLeft, futureTop, hitbox.width, hitbox.height)) {
+                return false;
             }
         }
 
@@ -271,38 +366,43 @@ public class Npc extends Character {
      * @param playerScreenY Posição Y do jogador na tela.
      */
     public void draw(Graphics2D g, NpcSpriteLoader spriteLoader, int tileSize, Player player, int playerScreenX, int playerScreenY) {
-        String direction = getDirection();
-        java.util.List<String> sprites = spriteLoader.getSprites(skin, direction);
-        int screenX = getWorldX() - player.getWorldX() + playerScreenX;
-        int screenY = getWorldY() - player.getWorldY() + playerScreenY;
+        int screenX = getRenderX() - player.getRenderX() + playerScreenX;
+        int screenY = getRenderY() - player.getRenderY() + playerScreenY;
         int npcSize = player.getPlayerSize();
-        int spriteIdx = 0;
-        if (isMoving && sprites != null && sprites.size() > 2) {
-            spriteIdx = (spriteNum == 1) ? 1 : 2;
-        }
-        if (sprites != null && !sprites.isEmpty()) {
-            try {
-                InputStream is = getClass().getResourceAsStream("/sprites/" + sprites.get(spriteIdx));
-                if (is != null) {
-                    BufferedImage img = ImageIO.read(is);
-                    g.drawImage(img, screenX, screenY, npcSize, npcSize, null);
-                } else {
-                    System.err.println("Sprite não encontrado: /sprites/" + sprites.get(spriteIdx));
-                    g.setColor(Color.RED);
-                    g.fillRect(screenX, screenY, npcSize, npcSize);
-                }
-            } catch (IOException e) {
-                System.err.println("Erro ao carregar sprite: " + e.getMessage());
-                g.setColor(Color.RED);
-                g.fillRect(screenX, screenY, npcSize, npcSize);
-            }
+
+        // Quadros já decodificados, compartilhados por todos os NPCs da mesma skin
+        DirectionalAnimation animation = NpcAnimationLibrary.getInstance().getAnimation(skin);
+        BufferedImage img = animation != null
+            ? animator.frameOf(animation.getClip(getDirection(), isMoving))
+            : null;
+        if (img != null) {
+            g.drawImage(img, screenX, screenY, npcSize, npcSize, null);
         } else {
-            System.err.println("Nenhum sprite encontrado para skin: " + skin + ", direção: " + direction);
             g.setColor(Color.RED);
             g.fillRect(screenX, screenY, npcSize, npcSize);
         }
     }
 
+    /**
+     * Indica se o NPC precisa atualizar em todo tick mesmo longe da tela (ex.: perseguidores),
+     * fora do escalonamento por distância do NpcScheduler.
+     */
+    public boolean isAlwaysUpdated() {
+        return false;
+    }
+
+    /**
+     * @return Ticks passados desde a última atualização (1 quando atualizado em todo tick).
+     */
+    public int getElapsedTicks() { return elapsedTicks; }
+    public void setElapsedTicks(int elapsedTicks) { this.elapsedTicks = Math.max(1, elapsedTicks); }
+
+    /**
+     * @return Tick do NpcScheduler da última atualização, ou -1 se ainda não atualizou.
+     */
+    public long getLastUpdateTick() { return lastUpdateTick; }
+    public void setLastUpdateTick(long lastUpdateTick) { this.lastUpdateTick = lastUpdateTick; }
+
     public String getSkin() { return skin; }
     public void setSkin(String skin) { this.skin = skin; }
     public boolean isStatic() { return isStatic; }
@@ -11,17 +11,33 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
+import br.com.cronicasdeeldoria.game.PathfindingService;
 import br.com.cronicasdeeldoria.tile.TileManager.MapTile;
+import br.com.cronicasdeeldoria.tile.TileRegions;
 
 /**
  * Fábrica de NPCs responsável por carregar instâncias de NPCs a partir de um arquivo JSON.
  */
 public class NpcFactory {
 
+    /** Distância máxima, em tiles, para mover um NPC que nasceria em cima de colisão. */
+    private static final int SPAWN_SEARCH_RADIUS = 4;
+
     /**
      * Carrega NPCs a partir de MapTiles (novo formato).
      */
     public static List<Npc> loadNpcsFromTiles(List<MapTile> npcTiles, int tileSize, int playerSize) {
+        return loadNpcsFromTiles(npcTiles, tileSize, playerSize, null);
+    }
+
+    /**
+     * Carrega NPCs a partir de MapTiles, conferindo as posições iniciais pelas regiões do mapa:
+     * um NPC que anda e nasceria em cima de colisão (onde não conseguiria sair do lugar) é
+     * colocado no tile livre mais próximo. Só usa TileRegions.nearestFree(), que não altera
+     * as regiões, então pode rodar fora da thread do jogo.
+     * @param regions Regiões do mapa (MapData.getTileRegions()), ou null para não conferir.
+     */
+    public static List<Npc> loadNpcsFromTiles(List<MapTile> npcTiles, int tileSize, int playerSize, TileRegions regions) {
         List<Npc> npcs = new ArrayList<>();
 
         // Carregar definições do JSON
@@ -39,8 +55,21 @@ public class NpcFactory {
                 boolean autoInteraction = npcData.containsKey("autoInteraction") ? (Boolean) npcData.get("autoInteraction") : false;
                 int dialogId = npcData.containsKey("dialogId") ? (Integer) npcData.get("dialogId") : 0;
 
-                int x = npcTile.x * tileSize + (tileSize / 2) - (playerSize / 2);
-                int y = npcTile.y * tileSize + (tileSize / 2) - (playerSize / 2);
+                int tileX = npcTile.x;
+                int tileY = npcTile.y;
+                if (regions != null && !isStatic) {
+                    // nearestFree só lê a colisão: seguro na thread de carga do MapLoader
+                    int free = regions.nearestFree(tileX, tileY, SPAWN_SEARCH_RADIUS);
+                    if (free >= 0) {
+                        tileX = PathfindingService.packedX(free);
+                        tileY = PathfindingService.packedY(free);
+                    } else {
+                        System.err.println("NPC " + npcTile.id + " em colisão sem tile livre próximo: " + npcTile.x + "," + npcTile.y);
+                    }
+                }
+
+                int x = tileX * tileSize + (tileSize / 2) - (playerSize / 2);
+                int y = tileY * tileSize + (tileSize / 2) - (playerSize / 2);
 
                 if ("barbarian".equals(type)) {
                   npcs.add(new WarriorNpc(name, isStatic, dialog, x, y, skin, playerSize, interactive, autoInteraction, dialogId));
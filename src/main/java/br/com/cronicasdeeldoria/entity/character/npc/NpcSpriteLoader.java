@@ -150,6 +150,22 @@ public class NpcSpriteLoader {
         return sprites;
     }
 
+    /**
+     * @return Nomes de todas as skins carregadas.
+     */
+    public java.util.Set<String> getSkins() {
+        return spriteMap.keySet();
+    }
+
+    /**
+     * @param skin Nome do skin do NPC
+     * @return Direções definidas para o skin (vazio se não encontrado)
+     */
+    public java.util.Set<String> getDirections(String skin) {
+        Map<String, List<String>> skinMap = spriteMap.get(skin);
+        return skinMap != null ? skinMap.keySet() : java.util.Collections.emptySet();
+    }
+
     public List<String> getSprites(String skin, String direction) {
         Map<String, List<String>> skinMap = spriteMap.get(skin);
         if (skinMap != null) {
@@ -1,18 +1,18 @@
 package br.com.cronicasdeeldoria.entity.character.npc;
 
 import br.com.cronicasdeeldoria.entity.character.player.Player;
+import br.com.cronicasdeeldoria.game.AiJob;
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.PathfindingService;
+import br.com.cronicasdeeldoria.game.animation.GameClock;
+import br.com.cronicasdeeldoria.game.animation.AnimationClip;
+import br.com.cronicasdeeldoria.game.animation.DirectionalAnimation;
+import br.com.cronicasdeeldoria.game.animation.NpcAnimationLibrary;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.InputStream;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Boss final da quest principal - Mago Supremo.
@@ -23,16 +23,16 @@ public class SupremeMage extends Npc {
     private int followDistance;
     private int battleTriggerDistance;
 
-    private List<Point> currentPath;
-    private int pathIndex;
-    private long lastPathUpdate;
-    private static final long PATH_UPDATE_INTERVAL = 150;
-    private static final int MAX_PATH_LENGTH = 30;
     private boolean isStuck;
     private long stuckTime;
     private int lastPosX;
     private int lastPosY;
     private static final long STUCK_THRESHOLD = 150;
+    private final AlternativeMoveJob alternativeMoveJob = new AlternativeMoveJob();
+    // Caminho até o tile alcançável mais perto do jogador, quando ele está fora de alcance
+    private int[] approachPath;
+    private int approachGoal = -1;
+    private int approachIndex;
 
     /**
      * Construtor para criar o Mago Supremo.
@@ -60,11 +60,8 @@ public class SupremeMage extends Npc {
         this.followDistance = 400; // Distância para começar a seguir
         this.battleTriggerDistance = 32; // Distância para iniciar batalha
 
-        this.currentPath = new ArrayList<>();
-        this.pathIndex = 0;
-        this.lastPathUpdate = 0;
         this.isStuck = false;
-        this.stuckTime = System.currentTimeMillis();
+        this.stuckTime = GameClock.getInstance().getUptimeMillis();
         this.lastPosX = x;
         this.lastPosY = y;
     }
@@ -105,37 +102,100 @@ public class SupremeMage extends Npc {
 
         // Se está muito longe, não seguir
         if (distance > followDistance) {
-            currentPath.clear();
-            pathIndex = 0;
             return;
         }
 
         // Sistema de detecção de "preso"
         checkIfStuck();
 
-        // Calcular LOS antes de decidir por atualização de path
-        boolean hasLOS = hasDirectLineOfSight(player, gamePanel);
-
-        // Atualizar path se necessário
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastPathUpdate > PATH_UPDATE_INTERVAL || currentPath.isEmpty() || isStuck || !hasLOS) {
-            updatePath(player, gamePanel);
-            lastPathUpdate = currentTime;
+        if (!canReachPlayer(gamePanel, player)) {
+            // Jogador numa região que o boss não alcança: esperar no ponto mais próximo dele
+            approachUnreachablePlayer(gamePanel, player);
+            return;
         }
+        approachPath = null;
+        approachGoal = -1;
 
-        if (hasLOS && !isStuck) {
+        if (!isStuck && hasDirectLineOfSight(player, gamePanel)) {
             // LOS direto - movimento mais suave
             moveDirectlyToPlayer(deltaX, deltaY, gamePanel);
-        } else if (!currentPath.isEmpty()) {
-            // Seguir path calculado
-            followPath(gamePanel);
+            return;
+        }
+
+        // Sem LOS (ou preso): próximo passo do campo de perseguição compartilhado
+        int step = nextStepTowardPlayer(gamePanel, player);
+        if (step >= 0) {
+            moveTowardsTile(step, gamePanel);
         } else {
-            lastPathUpdate = 0;
-            // Fallback: movimento simples
+            // Fora do alcance do campo ou sem caminho: movimento simples
             moveTowardsPlayerSimple(deltaX, deltaY, gamePanel);
         }
     }
 
+    /**
+     * Com o jogador inalcançável (outra região de tiles livres), anda pelo PathfindingService
+     * até o tile alcançável mais perto dele e fica lá, em vez de forçar contra a parede.
+     * O caminho só é pedido de novo quando esse tile muda.
+     * @param gamePanel Painel do jogo
+     * @param player Jogador
+     */
+    private void approachUnreachablePlayer(GamePanel gamePanel, Player player) {
+        int goal = nearestReachableTileToPlayer(gamePanel, player);
+        if (goal < 0) {
+            approachPath = null;
+            approachGoal = -1;
+            return;
+        }
+        if (goal != approachGoal) {
+            approachPath = requestPath(gamePanel, PathfindingService.packedX(goal), PathfindingService.packedY(goal));
+            if (approachPath == null) {
+                // Busca adiada ou sem caminho: tentar de novo no próximo tick
+                approachGoal = -1;
+                return;
+            }
+            approachGoal = goal;
+            approachIndex = 0;
+        }
+
+        int current = getCenterTile(gamePanel);
+        for (int i = approachIndex; i < approachPath.length; i++) {
+            if (approachPath[i] == current) {
+                approachIndex = i + 1;
+                break;
+            }
+        }
+        if (approachIndex < approachPath.length) {
+            moveTowardsTile(approachPath[approachIndex], gamePanel);
+        }
+    }
+
+    /**
+     * Anda em direção ao centro de um tile vizinho, vindo do FlowField ou de um caminho.
+     * @param step Tile compactado (PathfindingService.packedX/packedY)
+     * @param gamePanel Painel do jogo
+     */
+    private void moveTowardsTile(int step, GamePanel gamePanel) {
+        int tileSize = gamePanel.getTileSize();
+        int targetX = PathfindingService.packedX(step) * tileSize + tileSize / 2;
+        int targetY = PathfindingService.packedY(step) * tileSize + tileSize / 2;
+        int currentCenterX = (getHitbox() != null)
+                ? getWorldX() + getHitbox().x + (getHitbox().width / 2)
+                : getWorldX() + (tileSize / 2);
+        int currentCenterY = (getHitbox() != null)
+                ? getWorldY() + getHitbox().y + (getHitbox().height / 2)
+                : getWorldY() + (tileSize / 2);
+        int deltaX = targetX - currentCenterX;
+        int deltaY = targetY - currentCenterY;
+
+        int beforeX = getWorldX();
+        int beforeY = getWorldY();
+        moveTowardsPoint(deltaX, deltaY, gamePanel);
+        if (getWorldX() == beforeX && getWorldY() == beforeY) {
+            // A hitbox do boss não passou pela quina: contornar
+            requestAlternativeMovement(deltaX, deltaY, gamePanel);
+        }
+    }
+
 
     /**
      * Verifica se há linha de visão direta melhorada entre o boss e o jogador.
@@ -241,7 +301,7 @@ public class SupremeMage extends Npc {
      * Verifica se o boss está "preso" (não se moveu por um tempo).
      */
     private void checkIfStuck() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.getInstance().getUptimeMillis();
         int dx = Math.abs(getWorldX() - lastPosX);
         int dy = Math.abs(getWorldY() - lastPosY);
 
@@ -257,243 +317,6 @@ public class SupremeMage extends Npc {
         isStuck = (currentTime - stuckTime) > STUCK_THRESHOLD;
     }
 
-    /**
-     * Atualiza o path para o jogador usando pathfinding robusto.
-     * @param player Jogador
-     * @param gamePanel Painel do jogo
-     */
-    private void updatePath(Player player, GamePanel gamePanel) {
-        currentPath.clear();
-        pathIndex = 0;
-
-        calculateBfsPath(player, gamePanel);
-
-        // Se BFS falhou, tentar greedy como fallback
-        if (currentPath.size() <= 1) {
-            calculateSimplePath(player, gamePanel);
-        }
-    }
-
-    /**
-     * Calcula um path simples usando algoritmo greedy melhorado.
-     * @param player Jogador
-     * @param gamePanel Painel do jogo
-     */
-    private void calculateSimplePath(Player player, GamePanel gamePanel) {
-        int startX = getWorldX();
-        int startY = getWorldY();
-        int targetX = player.getWorldX();
-        int targetY = player.getWorldY();
-
-        int tileSize = gamePanel.getTileSize();
-
-        // Converter para coordenadas de tile
-        int startTileX = startX / tileSize;
-        int startTileY = startY / tileSize;
-        int targetTileX = targetX / tileSize;
-        int targetTileY = targetY / tileSize;
-
-        int currentX = startTileX;
-        int currentY = startTileY;
-
-        // Adicionar ponto inicial (centro do tile atual)
-        currentPath.add(new Point(startTileX * tileSize + tileSize / 2, startTileY * tileSize + tileSize / 2));
-
-        // Calcular path usando movimento em grade com melhor lógica
-        while (currentPath.size() < MAX_PATH_LENGTH && (currentX != targetTileX || currentY != targetTileY)) {
-            int deltaX = targetTileX - currentX;
-            int deltaY = targetTileY - currentY;
-
-            // Determinar próxima direção
-            int nextX = currentX;
-            int nextY = currentY;
-            boolean moved = false;
-
-            // Tentar movimento diagonal
-            if (deltaX != 0 && deltaY != 0) {
-                int stepX = (deltaX > 0 ? 1 : -1);
-                int stepY = (deltaY > 0 ? 1 : -1);
-                int diagonalX = currentX + stepX;
-                int diagonalY = currentY + stepY;
-
-                boolean freeDiagonal = !hasCollisionAtTile(diagonalX * tileSize, diagonalY * tileSize, gamePanel);
-                boolean freeHoriz = !hasCollisionAtTile((currentX + stepX) * tileSize, currentY * tileSize, gamePanel);
-                boolean freeVert  = !hasCollisionAtTile(currentX * tileSize, (currentY + stepY) * tileSize, gamePanel);
-
-                // Prevenir corner-cutting: só permite diagonal se diagonal e ambos adjacentes estiverem livres
-                if (freeDiagonal && freeHoriz && freeVert) {
-                    currentX = diagonalX;
-                    currentY = diagonalY;
-                    moved = true;
-                }
-            }
-
-            // Se não conseguiu movimento diagonal, tentar movimento em linha reta
-            if (!moved) {
-                if (Math.abs(deltaX) > Math.abs(deltaY)) {
-                    // Mover horizontalmente
-                    nextX += deltaX > 0 ? 1 : -1;
-                    if (!hasCollisionAtTile(nextX * tileSize, currentY * tileSize, gamePanel)) {
-                        currentX = nextX;
-                        moved = true;
-                    }
-                } else {
-                    // Mover verticalmente
-                    nextY += deltaY > 0 ? 1 : -1;
-                    if (!hasCollisionAtTile(currentX * tileSize, nextY * tileSize, gamePanel)) {
-                        currentY = nextY;
-                        moved = true;
-                    }
-                }
-            }
-
-            // Se não conseguiu mover na direção principal, tentar direção alternativa
-            if (!moved) {
-                if (deltaX != 0) {
-                    nextX = currentX + (deltaX > 0 ? 1 : -1);
-                    if (!hasCollisionAtTile(nextX * tileSize, currentY * tileSize, gamePanel)) {
-                        currentX = nextX;
-                        moved = true;
-                    }
-                }
-                if (!moved && deltaY != 0) {
-                    nextY = currentY + (deltaY > 0 ? 1 : -1);
-                    if (!hasCollisionAtTile(currentX * tileSize, nextY * tileSize, gamePanel)) {
-                        currentY = nextY;
-                        moved = true;
-                    }
-                }
-            }
-
-            if (moved) {
-                currentPath.add(new Point(currentX * tileSize + tileSize / 2, currentY * tileSize + tileSize / 2));
-            } else {
-                break;
-            }
-        }
-
-        int lastX = currentPath.get(currentPath.size() - 1).x;
-        int lastY = currentPath.get(currentPath.size() - 1).y;
-        int distanceToTarget = (int) Math.sqrt((targetX - lastX) * (targetX - lastX) + (targetY - lastY) * (targetY - lastY));
-
-        if (distanceToTarget > tileSize) {
-            currentPath.add(new Point(targetX, targetY));
-        }
-    }
-
-    /**
-     * Calcula um path básico usando BFS em grid de tiles, evitando colisões de tiles.
-     * Limita a expansão para evitar custo alto.
-     */
-    private void calculateBfsPath(Player player, GamePanel gamePanel) {
-        int tileSize = gamePanel.getTileSize();
-        int startTileX = getWorldX() / tileSize;
-        int startTileY = getWorldY() / tileSize;
-        int targetTileX = player.getWorldX() / tileSize;
-        int targetTileY = player.getWorldY() / tileSize;
-
-        int maxWidth = gamePanel.getTileManager().getMapWidth();
-        int maxHeight = gamePanel.getTileManager().getMapHeight();
-
-        boolean[][] visited = new boolean[maxWidth][maxHeight];
-        Point[][] parent = new Point[maxWidth][maxHeight];
-        ArrayDeque<Point> queue = new ArrayDeque<>();
-
-        Point start = new Point(startTileX, startTileY);
-        Point goal = new Point(targetTileX, targetTileY);
-        queue.add(start);
-        visited[startTileX][startTileY] = true;
-
-        int[][] dirs = {{1,0},{-1,0},{0,1},{0,-1}}; // apenas 4-direções para evitar corner cutting
-        int expansions = 0;
-        int maxExpansions = 500;
-
-        while (!queue.isEmpty() && expansions < maxExpansions) {
-            Point cur = queue.poll();
-            expansions++;
-            if (cur.x == goal.x && cur.y == goal.y) break;
-
-            for (int[] d : dirs) {
-                int nx = cur.x + d[0];
-                int ny = cur.y + d[1];
-                if (nx < 0 || ny < 0 || nx >= maxWidth || ny >= maxHeight) continue;
-                if (visited[nx][ny]) continue;
-                if (gamePanel.getTileManager().isCollisionAt(nx, ny)) continue;
-                visited[nx][ny] = true;
-                parent[nx][ny] = cur;
-                queue.add(new Point(nx, ny));
-            }
-        }
-
-        if (!visited[targetTileX][targetTileY]) {
-            return;
-        }
-
-        LinkedList<Point> tilesPath = new LinkedList<>();
-        Point cur = new Point(targetTileX, targetTileY);
-        while (cur != null && !(cur.x == startTileX && cur.y == startTileY)) {
-            tilesPath.addFirst(cur);
-            cur = parent[cur.x][cur.y];
-        }
-
-        currentPath.clear();
-        currentPath.add(new Point(startTileX * tileSize + tileSize / 2, startTileY * tileSize + tileSize / 2));
-        for (Point t : tilesPath) {
-            currentPath.add(new Point(t.x * tileSize + tileSize / 2, t.y * tileSize + tileSize / 2));
-        }
-    }
-
-    /**
-     * Segue o path calculado com melhor responsividade.
-     * @param gamePanel Painel do jogo
-     */
-    private void followPath(GamePanel gamePanel) {
-        if (currentPath.isEmpty() || pathIndex >= currentPath.size()) {
-            lastPathUpdate = 0;
-            return;
-        }
-
-        Point targetPoint = currentPath.get(pathIndex);
-        int currentCenterX = (getHitbox() != null)
-                ? getWorldX() + getHitbox().x + (getHitbox().width / 2)
-                : getWorldX() + (gamePanel.getTileSize() / 2);
-        int currentCenterY = (getHitbox() != null)
-                ? getWorldY() + getHitbox().y + (getHitbox().height / 2)
-                : getWorldY() + (gamePanel.getTileSize() / 2);
-        int deltaX = targetPoint.x - currentCenterX;
-        int deltaY = targetPoint.y - currentCenterY;
-
-        // Se chegou próximo ao ponto atual do path, avançar para o próximo
-        int distanceToPoint = (int) Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-        int threshold = Math.max(getSpeed() * 2, gamePanel.getTileSize() / 2);
-
-        if (distanceToPoint < threshold) {
-            pathIndex++;
-            if (pathIndex >= currentPath.size()) {
-                lastPathUpdate = 0;
-                return;
-            }
-            targetPoint = currentPath.get(pathIndex);
-            currentCenterX = (getHitbox() != null)
-                    ? getWorldX() + getHitbox().x + (getHitbox().width / 2)
-                    : getWorldX() + (gamePanel.getTileSize() / 2);
-            currentCenterY = (getHitbox() != null)
-                    ? getWorldY() + getHitbox().y + (getHitbox().height / 2)
-                    : getWorldY() + (gamePanel.getTileSize() / 2);
-            deltaX = targetPoint.x - currentCenterX;
-            deltaY = targetPoint.y - currentCenterY;
-        }
-
-        int beforeX = getWorldX();
-        int beforeY = getWorldY();
-        moveTowardsPoint(deltaX, deltaY, gamePanel);
-
-        boolean actuallyMoved = (getWorldX() != beforeX) || (getWorldY() != beforeY);
-        if (!actuallyMoved) {
-            lastPathUpdate = 0;
-        }
-    }
-
     /**
      * Move em direção a um ponto específico.
      * @param deltaX Diferença X
@@ -550,7 +373,7 @@ public class SupremeMage extends Npc {
         }
 
         if (movedAny) {
-            stuckTime = System.currentTimeMillis();
+            stuckTime = GameClock.getInstance().getUptimeMillis();
         }
     }
 
@@ -652,15 +475,15 @@ public class SupremeMage extends Npc {
         double normalizedX = deltaX / distance;
         double normalizedY = deltaY / distance;
 
-        // Movimento separado por eixo (X depois Y)
+        // Movimento separado por eixo (X depois Y); passo arredondado para zero não conta como movimento
         boolean movedAny = false;
         int proposedX = getWorldX() + (int)(normalizedX * getSpeed());
-        if (!hasCollisionAt(proposedX, getWorldY(), gamePanel)) {
+        if (proposedX != getWorldX() && !hasCollisionAt(proposedX, getWorldY(), gamePanel)) {
             setWorldX(proposedX);
             movedAny = true;
         }
         int proposedY = getWorldY() + (int)(normalizedY * getSpeed());
-        if (!hasCollisionAt(getWorldX(), proposedY, gamePanel)) {
+        if (proposedY != getWorldY() && !hasCollisionAt(getWorldX(), proposedY, gamePanel)) {
             setWorldY(proposedY);
             movedAny = true;
         }
@@ -671,9 +494,9 @@ public class SupremeMage extends Npc {
             } else {
                 setDirection(normalizedY > 0 ? "down" : "up");
             }
-            stuckTime = System.currentTimeMillis();
+            stuckTime = GameClock.getInstance().getUptimeMillis();
         } else {
-            tryAlternativeMovement(deltaX, deltaY, gamePanel);
+            requestAlternativeMovement(deltaX, deltaY, gamePanel);
         }
     }
 
@@ -705,18 +528,11 @@ public class SupremeMage extends Npc {
             int mapWidth = gamePanel.getTileManager().getMapWidth();
             int mapHeight = gamePanel.getTileManager().getMapHeight();
 
-            for (int tileY = topTile; tileY <= bottomTile; tileY++) {
-                for (int tileX = leftTile; tileX <= rightTile; tileX++) {
-                    // Verificar bounds do mapa
-                    if (tileX < 0 || tileY < 0 || tileX >= mapWidth || tileY >= mapHeight) {
-                        return true; // Fora do mapa = colisão
-                    }
-                    if (gamePanel.getTileManager().isCollisionAt(tileX, tileY)) {
-                        return true;
-                    }
-                }
+            // Verificar bounds do mapa
+            if (leftTile < 0 || topTile < 0 || rightTile >= mapWidth || bottomTile >= mapHeight) {
+                return true; // Fora do mapa = colisão
             }
-            return false;
+            return gamePanel.getTileManager().isCollisionInRect(leftTile, topTile, rightTile, bottomTile);
         } else {
             int tileX = x / gamePanel.getTileSize();
             int tileY = y / gamePanel.getTileSize();
@@ -725,50 +541,67 @@ public class SupremeMage extends Npc {
     }
 
     /**
-     * Tenta movimento alternativo quando há colisão.
-     * @param deltaX Diferença X
-     * @param deltaY Diferença Y
+     * Pede à fila de IA uma direção livre para sair de um bloqueio. A busca roda dentro
+     * do orçamento do tick e o movimento acontece no tick seguinte.
+     * @param deltaX Diferença X até o alvo
+     * @param deltaY Diferença Y até o alvo
      * @param gamePanel Painel do jogo
      */
-    private void tryAlternativeMovement(int deltaX, int deltaY, GamePanel gamePanel) {
-        // Tentar mover apenas no eixo X
-        if (Math.abs(deltaX) > 0) {
-            int newX = getWorldX() + (deltaX > 0 ? getSpeed() : -getSpeed());
-            if (!hasCollisionAt(newX, getWorldY(), gamePanel)) {
-                setWorldX(newX);
-                setDirection(deltaX > 0 ? "right" : "left");
-                stuckTime = System.currentTimeMillis();
-                lastPathUpdate = 0;
-                return;
-            }
+    private void requestAlternativeMovement(int deltaX, int deltaY, GamePanel gamePanel) {
+        if (!alternativeMoveJob.isQueued()) {
+            alternativeMoveJob.prepare(deltaX, deltaY, gamePanel);
+            submitAiJob(alternativeMoveJob, gamePanel);
         }
+    }
 
-        // Tentar mover apenas no eixo Y
-        if (Math.abs(deltaY) > 0) {
-            int newY = getWorldY() + (deltaY > 0 ? getSpeed() : -getSpeed());
-            if (!hasCollisionAt(getWorldX(), newY, gamePanel)) {
-                setWorldY(newY);
-                setDirection(deltaY > 0 ? "down" : "up");
-                stuckTime = System.currentTimeMillis();
-                lastPathUpdate = 0;
-                return;
+    /**
+     * Movimento alternativo quando há colisão: testa, um por passo, o eixo X e o eixo Y
+     * em direção ao alvo e depois as quatro direções; aplica a primeira livre, se ainda
+     * estiver livre no tick seguinte. Sem direção livre o boss fica parado, e checkIfStuck()
+     * o marca como preso quando passa de STUCK_THRESHOLD.
+     */
+    private final class AlternativeMoveJob extends AiJob {
+        private final String[] candidates = new String[6];
+        private int candidateCount;
+        private int index;
+        private String chosen;
+        private GamePanel gamePanel;
+
+        void prepare(int deltaX, int deltaY, GamePanel gamePanel) {
+            this.gamePanel = gamePanel;
+            candidateCount = 0;
+            index = 0;
+            chosen = null;
+            if (deltaX != 0) {
+                candidates[candidateCount++] = deltaX > 0 ? "right" : "left";
+            }
+            if (deltaY != 0) {
+                candidates[candidateCount++] = deltaY > 0 ? "down" : "up";
             }
+            candidates[candidateCount++] = "up";
+            candidates[candidateCount++] = "down";
+            candidates[candidateCount++] = "left";
+            candidates[candidateCount++] = "right";
         }
 
-        // Se não conseguir mover em nenhuma direção, tentar direções aleatórias
-        String[] directions = {"up", "down", "left", "right"};
-        for (String direction : directions) {
-            if (canMoveInDirection(direction, gamePanel)) {
-                moveInDirection(direction);
-                stuckTime = System.currentTimeMillis();
-                lastPathUpdate = 0;
-                return;
+        @Override
+        protected boolean step() {
+            if (index < candidateCount) {
+                String direction = candidates[index++];
+                if (canMoveInDirection(direction, gamePanel)) {
+                    chosen = direction;
+                    return true;
+                }
             }
+            return index >= candidateCount;
         }
 
-        // Se não conseguir mover em nenhuma direção, marcar como preso
-        if (stuckTime == 0) {
-            stuckTime = System.currentTimeMillis();
+        @Override
+        protected void apply() {
+            if (chosen != null && canMoveInDirection(chosen, gamePanel)) {
+                moveInDirection(chosen);
+                stuckTime = GameClock.getInstance().getUptimeMillis();
+            }
         }
     }
 
@@ -795,6 +628,14 @@ public class SupremeMage extends Npc {
         }
     }
 
+    /**
+     * Enquanto segue o jogador, o boss atualiza em todo tick, mesmo fora da tela.
+     */
+    @Override
+    public boolean isAlwaysUpdated() {
+        return isFollowingPlayer;
+    }
+
     /**
      * Verifica se o Mago Supremo está seguindo o jogador.
      * @return true se está seguindo
@@ -868,56 +709,23 @@ public class SupremeMage extends Npc {
      */
     @Override
     public void draw(Graphics2D g, NpcSpriteLoader spriteLoader, int tileSize, Player player, int playerScreenX, int playerScreenY) {
-        String direction = getDirection();
-        java.util.List<String> sprites = spriteLoader.getSprites(skin, direction);
-        int screenX = getWorldX() - player.getWorldX() + playerScreenX;
-        int screenY = getWorldY() - player.getWorldY() + playerScreenY;
+        int screenX = getRenderX() - player.getRenderX() + playerScreenX;
+        int screenY = getRenderY() - player.getRenderY() + playerScreenY;
 
         // Supreme Mage usa tamanho de 4 tiles (64x64 pixels) em vez do tamanho padrão do player
         int bossSize = tileSize * 4; // 64x64 pixels para sprite de 64x64
 
-        int spriteIdx = 0;
-        // Para o Supreme Mage, sempre usar o sprite base (índice 0) por enquanto
+        // Para o Supreme Mage, sempre usar o sprite base (quadro parado) por enquanto
         // Futuramente pode ser expandido para incluir animações de movimento
+        DirectionalAnimation animation = NpcAnimationLibrary.getInstance().getAnimation(skin);
+        AnimationClip clip = animation != null ? animation.getIdle(getDirection()) : null;
+        BufferedImage img = clip != null ? clip.getFirstFrame() : null;
 
-        if (sprites != null && !sprites.isEmpty()) {
-            try {
-                InputStream is = getClass().getResourceAsStream("/sprites/" + sprites.get(spriteIdx));
-                if (is != null) {
-                    BufferedImage img = ImageIO.read(is);
-                    g.drawImage(img, screenX, screenY, bossSize, bossSize, null);
-                } else {
-                    System.err.println("Sprite não encontrado: /sprites/" + sprites.get(spriteIdx));
-                    g.setColor(Color.RED);
-                    g.fillRect(screenX, screenY, bossSize, bossSize);
-                }
-            } catch (java.io.IOException e) {
-                System.err.println("Erro ao carregar sprite: " + e.getMessage());
-                g.setColor(Color.RED);
-                g.fillRect(screenX, screenY, bossSize, bossSize);
-            }
+        if (img != null) {
+            g.drawImage(img, screenX, screenY, bossSize, bossSize, null);
         } else {
-            System.err.println("Nenhum sprite encontrado para skin: " + skin + ", direção: " + direction);
             g.setColor(Color.RED);
             g.fillRect(screenX, screenY, bossSize, bossSize);
         }
     }
-
-    /**
-     * Classe auxiliar para representar pontos no pathfinding.
-     */
-    private static class Point {
-        public final int x;
-        public final int y;
-
-        public Point(int x, int y) {
-            this.x = x;
-            this.y = y;
-        }
-
-        @Override
-        public String toString() {
-            return "Point(" + x + ", " + y + ")";
-        }
-    }
 }
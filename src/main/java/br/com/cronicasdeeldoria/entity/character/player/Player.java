@@ -5,6 +5,10 @@ import br.com.cronicasdeeldoria.entity.character.Character;
 import br.com.cronicasdeeldoria.entity.character.classes.*;
 import br.com.cronicasdeeldoria.game.GamePanel;
 import br.com.cronicasdeeldoria.game.KeyHandler;
+import br.com.cronicasdeeldoria.game.animation.AnimationClip;
+import br.com.cronicasdeeldoria.game.animation.Animator;
+import br.com.cronicasdeeldoria.game.animation.DirectionalAnimation;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
 
 import br.com.cronicasdeeldoria.game.inventory.Equipment;
 import br.com.cronicasdeeldoria.game.money.PlayerMoney;
@@ -13,8 +17,8 @@ import br.com.cronicasdeeldoria.entity.character.classes.Ranger;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-
-import javax.imageio.ImageIO;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Representa o jogador controlado pelo usuário no jogo.
@@ -27,8 +31,8 @@ public class Player extends Character {
   private PlayerMoney playerMoney;
   GamePanel gamePanel;
   KeyHandler keyHandler;
-  private int spriteCounter = 0;
-  private int spriteNum = 1;
+  private final Animator animator = new Animator();
+  private DirectionalAnimation animation = new DirectionalAnimation();
   private boolean isMoving = false;
 
   private final int screenX;
@@ -87,24 +91,50 @@ public class Player extends Character {
   public void getPlayerImage() {
     try {
       String classFolder = getCharacterClass().getCharacterClassName().toLowerCase();
-      this.up = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_back.png"));
-      this.down = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_front.png"));
-      this.left = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_left.png"));
-      this.right = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_right.png"));
-
-      this.up1 = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_back_walk1.png"));
-      this.up2 = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_back_walk2.png"));
-      this.down1 = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_front_walk1.png"));
-      this.down2 = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_front_walk2.png"));
-      this.left1 = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_left_walk1.png"));
-      this.left2 = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_left_walk2.png"));
-      this.right1 = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_right_walk1.png"));
-      this.right2 = ImageIO.read(getClass().getResourceAsStream("/sprites/player/" + classFolder + "/" + classFolder + "_right_walk2.png"));
+      String base = "/sprites/player/" + classFolder + "/" + classFolder;
+      String[] suffixes = { "_back", "_front", "_left", "_right", "_back_walk1", "_back_walk2", "_front_walk1",
+        "_front_walk2", "_left_walk1", "_left_walk2", "_right_walk1", "_right_walk2" };
+      List<String> paths = new ArrayList<>(suffixes.length);
+      for (String suffix : suffixes) {
+        paths.add(base + suffix + ".png");
+      }
+      // Decodificar os 12 quadros em paralelo; as leituras abaixo só aguardam
+      AssetManager assets = AssetManager.getInstance();
+      assets.preload(AssetManager.SCOPE_GLOBAL, paths);
+
+      this.up = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(0));
+      this.down = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(1));
+      this.left = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(2));
+      this.right = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(3));
+
+      this.up1 = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(4));
+      this.up2 = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(5));
+      this.down1 = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(6));
+      this.down2 = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(7));
+      this.left1 = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(8));
+      this.left2 = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(9));
+      this.right1 = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(10));
+      this.right2 = assets.getImage(AssetManager.SCOPE_GLOBAL, paths.get(11));
+
+      // Montar os clips parado/caminhada por direção (imagens já no formato da tela)
+      DirectionalAnimation clips = new DirectionalAnimation();
+      putClips(clips, "up", up, up1, up2);
+      putClips(clips, "down", down, down1, down2);
+      putClips(clips, "left", left, left1, left2);
+      putClips(clips, "right", right, right1, right2);
+      this.animation = clips;
     } catch (Exception e) {
       e.printStackTrace();
     }
   }
 
+  private void putClips(DirectionalAnimation clips, String direction, BufferedImage idle,
+                               BufferedImage walk1, BufferedImage walk2) {
+    AnimationClip idleClip = new AnimationClip(new BufferedImage[] { idle }, 16 - getSpeed());
+    AnimationClip walkClip = new AnimationClip(new BufferedImage[] { walk1, walk2 }, 16 - getSpeed());
+    clips.put(direction, idleClip, walkClip);
+  }
+
   /**
    * Atualiza o estado do jogador (movimentação, colisão, animação).
    */
@@ -135,16 +165,10 @@ public class Player extends Character {
         }
       }
 
-      spriteCounter++;
-
-      if(spriteCounter > 15 - getSpeed()) {
-        spriteNum = (spriteNum == 1) ? 2 : 1;
-        spriteCounter = 0;
-      }
+      animator.play(16 - getSpeed());
     } else {
       isMoving = false;
-      spriteNum = 1;
-      spriteCounter = 0;
+      animator.stop();
     }
 
     // Verificar interação com tecla E
@@ -180,39 +204,7 @@ public class Player extends Character {
    * @param graphics2d Contexto gráfico.
    */
   public void draw(Graphics2D graphics2d) {
-    BufferedImage image = null;
-
-    switch(getDirection()) {
-      case "up":
-        if (isMoving) {
-            image = (spriteNum == 1) ? up1 : up2;
-        } else {
-            image = up;
-        }
-        break;
-      case "down":
-        if (isMoving) {
-            image = (spriteNum == 1) ? down1 : down2;
-        } else {
-            image = down;
-        }
-        break;
-      case "left":
-        if (isMoving) {
-            image = (spriteNum == 1) ? left1 : left2;
-        } else {
-            image = left;
-        }
-        break;
-      case "right":
-        if (isMoving) {
-            image = (spriteNum == 1) ? right1 : right2;
-        } else {
-            image = right;
-        }
-        break;
-    }
-
+    BufferedImage image = animator.frameOf(animation.getClip(getDirection(), isMoving));
     graphics2d.drawImage(image, screenX, screenY, gamePanel.getPlayerSize(), gamePanel.getPlayerSize(), null);
   }
 
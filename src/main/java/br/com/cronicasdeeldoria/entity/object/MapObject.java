@@ -9,12 +9,8 @@ import br.com.cronicasdeeldoria.game.inventory.ItemFactory;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.List;
-
-import javax.imageio.ImageIO;
 
 /**
  * Representa um objeto do mapa que pode ser renderizado e interagido.
@@ -30,6 +26,13 @@ public class MapObject extends Entity {
     private ObjectSpriteLoader.ObjectDefinition objectDefinition;
     private boolean active = true;
 
+    // Imagem composta vinda do ObjectSpriteCache
+    private BufferedImage sprite;
+    private ObjectSpriteLoader.ObjectDefinition spriteDefinition;
+    private int spriteWidth;
+    private int spriteHeight;
+    private int spriteTileSize;
+
     /**
      * Cria um novo objeto do mapa.
      * @param objectId ID do objeto.
@@ -78,54 +81,20 @@ public class MapObject extends Entity {
             return;
         }
 
-        int screenX = getWorldX() - player.getWorldX() + playerScreenX;
-        int screenY = getWorldY() - player.getWorldY() + playerScreenY;
-
-        // Se o objeto tem apenas 1 sprite mas tamanho maior que 1x1, renderizar como sprite único
-        if (objectDefinition.spritePaths.size() == 1 && 
-            objectDefinition.spritePaths.get(0).size() == 1 && 
-            (width > 1 || height > 1)) {
-            
-            String spritePath = objectDefinition.spritePaths.get(0).get(0);
-            try {
-                InputStream is = getClass().getResourceAsStream(spritePath);
-                if (is != null) {
-                    BufferedImage img = ImageIO.read(is);
-                    // Renderizar o sprite único cobrindo toda a área do objeto
-                    g.drawImage(img, screenX, screenY, width * tileSize, height * tileSize, null);
-                }
-            } catch (Exception e) {
-                System.err.println("Erro ao carregar sprite único: " + e.getMessage());
-            }
-            return;
+        int screenX = getWorldX() - player.getRenderX() + playerScreenX;
+        int screenY = getWorldY() - player.getRenderY() + playerScreenY;
+
+        // Imagem composta compartilhada entre instâncias; busca no cache só quando definição ou tamanho mudam
+        if (spriteDefinition != objectDefinition || spriteWidth != width || spriteHeight != height
+            || spriteTileSize != tileSize) {
+            sprite = ObjectSpriteCache.getInstance().getComposite(objectDefinition, width, height, tileSize);
+            spriteDefinition = objectDefinition;
+            spriteWidth = width;
+            spriteHeight = height;
+            spriteTileSize = tileSize;
         }
-
-        // Renderizar o objeto tile por tile baseado no tamanho (para objetos com múltiplos sprites)
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                // Determinar qual sprite usar baseado na posição
-                int spriteRow = Math.min(row, objectDefinition.spritePaths.size() - 1);
-                List<String> spriteRowPaths = objectDefinition.spritePaths.get(spriteRow);
-
-                if (spriteRowPaths != null && !spriteRowPaths.isEmpty()) {
-                    int spriteCol = Math.min(col, spriteRowPaths.size() - 1);
-                    String spritePath = spriteRowPaths.get(spriteCol);
-
-                    try {
-                        InputStream is = getClass().getResourceAsStream(spritePath);
-                        if (is != null) {
-                            BufferedImage img = ImageIO.read(is);
-                            int drawX = screenX + (col * tileSize);
-                            int drawY = screenY + (row * tileSize);
-
-                            g.drawImage(img, drawX, drawY, tileSize, tileSize, null);
-
-                        }
-                    } catch (Exception e) {
-                        System.err.println("Erro ao carregar sprite: " + e.getMessage());
-                    }
-                }
-            }
+        if (sprite != null) {
+            g.drawImage(sprite, screenX, screenY, null);
         }
     }
 
@@ -1,13 +1,20 @@
 package br.com.cronicasdeeldoria.entity.object;
 
 import br.com.cronicasdeeldoria.tile.TileManager.MapTile;
+import br.com.cronicasdeeldoria.game.ColisionChecker;
 import br.com.cronicasdeeldoria.game.GamePanel;
 import br.com.cronicasdeeldoria.game.quest.QuestManager;
 
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Gerencia os objetos do mapa, ativando/desativando conforme a proximidade do jogador.
@@ -15,10 +22,27 @@ import java.util.List;
 public class ObjectManager {
     private final GamePanel gamePanel;
     private final ObjectSpriteLoader objectSpriteLoader;
-    private final List<MapTile> rawObjectTiles;
-    private final List<MapObject> activeObjects = new ArrayList<>();
+    // Lista copiada na escrita: o desenho percorre sem cópia por quadro, e ativações são raras
+    private final List<MapObject> activeObjects = new CopyOnWriteArrayList<>();
     private final int buffer = 2;
 
+    /** Lado de um chunk do índice de objetos, em tiles. */
+    private static final int CHUNK_TILES = 8;
+
+    // Tiles brutos agrupados por chunk (MapTile não sobrescreve equals, então os conjuntos são por identidade)
+    private final Map<Long, Set<MapTile>> chunks = new HashMap<>();
+    private final Map<Long, List<MapTile>> rawByTile = new HashMap<>();
+    // Objeto ativo de cada tile bruto, e o caminho inverso para remoção
+    private final Map<MapTile, MapObject> activeByTile = new IdentityHashMap<>();
+    private final Map<MapObject, MapTile> tileByObject = new IdentityHashMap<>();
+    private int rawCount;
+
+    // Janela de tiles ativa (inclusiva); vazia até a primeira atualização
+    private int activeFirstCol = 0;
+    private int activeLastCol = -1;
+    private int activeFirstRow = 0;
+    private int activeLastRow = -1;
+
     /**
      * Cria um novo gerenciador de objetos.
      * @param gamePanel Painel do jogo.
@@ -28,11 +52,28 @@ public class ObjectManager {
     public ObjectManager(GamePanel gamePanel, ObjectSpriteLoader objectSpriteLoader, List<MapTile> rawObjectTiles) {
         this.gamePanel = gamePanel;
         this.objectSpriteLoader = objectSpriteLoader;
-        this.rawObjectTiles = rawObjectTiles;
+        if (rawObjectTiles != null) {
+            for (MapTile raw : rawObjectTiles) {
+                chunks.computeIfAbsent(key(Math.floorDiv(raw.x, CHUNK_TILES), Math.floorDiv(raw.y, CHUNK_TILES)),
+                    k -> new LinkedHashSet<>()).add(raw);
+                rawByTile.computeIfAbsent(key(raw.x, raw.y), k -> new ArrayList<>(1)).add(raw);
+                rawCount++;
+            }
+        }
+    }
+
+    /**
+     * Empacota uma coordenada (de tile ou de chunk) numa chave.
+     */
+    private static long key(int col, int row) {
+        return ((long) col << 32) | (row & 0xFFFFFFFFL);
     }
 
     /**
      * Atualiza a lista de objetos ativos conforme a posição do jogador.
+     * A janela ativa é a área visível mais uma margem de {@code buffer} tiles. Só faz
+     * trabalho quando essa janela muda de tile: objetos que saíram dela são desativados,
+     * e os que entraram são procurados só nos chunks que a tocam.
      * @param playerTileX Tile X do jogador.
      * @param playerTileY Tile Y do jogador.
      */
@@ -50,25 +91,57 @@ public class ObjectManager {
         int firstRow = Math.max((playerWorldY - screenY) / tileSize - buffer, 0);
         int lastRow  = Math.min((playerWorldY + screenY + playerSize) / tileSize + buffer, worldRows - 1);
 
-        activeObjects.removeIf(obj -> {
-            int objTileX = obj.getWorldX() / tileSize;
-            int objTileY = obj.getWorldY() / tileSize;
-            return objTileX < firstCol || objTileX > lastCol || objTileY < firstRow || objTileY > lastRow;
-        });
-
-        for (MapTile raw : rawObjectTiles) {
-            int objX = raw.x;
-            int objY = raw.y;
-            if (objX >= firstCol && objX <= lastCol && objY >= firstRow && objY <= lastRow) {
-                boolean alreadyActive = activeObjects.stream().anyMatch(obj -> obj.getWorldX() / tileSize == objX && obj.getWorldY() / tileSize == objY && obj.getObjectId().equals(raw.id));
-                if (!alreadyActive) {
-                    MapObject obj = instantiateMapObject(raw);
-                    if (obj != null) {
-                        activeObjects.add(obj);
+        if (firstCol == activeFirstCol && lastCol == activeLastCol
+            && firstRow == activeFirstRow && lastRow == activeLastRow) {
+            return;
+        }
+
+        ColisionChecker colisionChecker = gamePanel.getColisionChecker();
+
+        // Saída: desativar objetos que deixaram a janela
+        for (MapObject obj : activeObjects) {
+            MapTile raw = tileByObject.get(obj);
+            int objTileX = raw != null ? raw.x : obj.getWorldX() / tileSize;
+            int objTileY = raw != null ? raw.y : obj.getWorldY() / tileSize;
+            if (objTileX < firstCol || objTileX > lastCol || objTileY < firstRow || objTileY > lastRow) {
+                activeObjects.remove(obj);
+                colisionChecker.removeObject(obj);
+                if (raw != null) {
+                    activeByTile.remove(raw);
+                }
+                tileByObject.remove(obj);
+            }
+        }
+
+        // Entrada: instanciar objetos da janela, procurando só nos chunks que a tocam
+        if (firstCol <= lastCol && firstRow <= lastRow) {
+            for (int chunkRow = firstRow / CHUNK_TILES; chunkRow <= lastRow / CHUNK_TILES; chunkRow++) {
+                for (int chunkCol = firstCol / CHUNK_TILES; chunkCol <= lastCol / CHUNK_TILES; chunkCol++) {
+                    Set<MapTile> bucket = chunks.get(key(chunkCol, chunkRow));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (MapTile raw : bucket) {
+                        if (raw.x < firstCol || raw.x > lastCol || raw.y < firstRow || raw.y > lastRow
+                            || activeByTile.containsKey(raw)) {
+                            continue;
+                        }
+                        MapObject obj = instantiateMapObject(raw);
+                        if (obj != null) {
+                            activeByTile.put(raw, obj);
+                            tileByObject.put(obj, raw);
+                            activeObjects.add(obj);
+                            colisionChecker.updateObject(obj);
+                        }
                     }
                 }
             }
         }
+
+        activeFirstCol = firstCol;
+        activeLastCol = lastCol;
+        activeFirstRow = firstRow;
+        activeLastRow = lastRow;
     }
 
     private MapObject instantiateMapObject(MapTile raw) {
@@ -130,8 +203,15 @@ public class ObjectManager {
         return activeObjects;
     }
 
+    /**
+     * @return Cópia dos tiles brutos ainda presentes no mapa.
+     */
     public List<MapTile> getRawObjectTiles() {
-        return rawObjectTiles;
+        List<MapTile> tiles = new ArrayList<>(rawCount);
+        for (Set<MapTile> bucket : chunks.values()) {
+            tiles.addAll(bucket);
+        }
+        return tiles;
     }
 
     /**
@@ -139,12 +219,33 @@ public class ObjectManager {
      * @param obj Objeto a ser removido.
      */
     public void removeRawObject(MapObject obj) {
-        int tileSize = gamePanel.getTileSize();
-        rawObjectTiles.removeIf(raw ->
-            raw.id.equals(obj.getObjectId()) &&
-            raw.x == obj.getWorldX() / tileSize &&
-            raw.y == obj.getWorldY() / tileSize
-        );
+        MapTile raw = tileByObject.get(obj);
+        if (raw == null) {
+            int tileSize = gamePanel.getTileSize();
+            List<MapTile> atTile = rawByTile.get(key(obj.getWorldX() / tileSize, obj.getWorldY() / tileSize));
+            if (atTile != null) {
+                for (MapTile candidate : atTile) {
+                    if (candidate.id != null && candidate.id.equals(obj.getObjectId())) {
+                        raw = candidate;
+                        break;
+                    }
+                }
+            }
+        }
+        if (raw == null) {
+            return;
+        }
+        List<MapTile> atTile = rawByTile.get(key(raw.x, raw.y));
+        if (atTile != null) {
+            atTile.remove(raw);
+            if (atTile.isEmpty()) {
+                rawByTile.remove(key(raw.x, raw.y));
+            }
+        }
+        Set<MapTile> bucket = chunks.get(key(Math.floorDiv(raw.x, CHUNK_TILES), Math.floorDiv(raw.y, CHUNK_TILES)));
+        if (bucket != null && bucket.remove(raw)) {
+            rawCount--;
+        }
     }
 
     /**
@@ -155,7 +256,7 @@ public class ObjectManager {
         int tileSize = gamePanel.getTileSize();
         int screenX = gamePanel.getPlayer().getScreenX();
         int screenY = gamePanel.getPlayer().getScreenY();
-        for (MapObject obj : new ArrayList<>(activeObjects)) {
+        for (MapObject obj : activeObjects) {
             if (obj.isActive()) {
                 obj.draw(g2, objectSpriteLoader, tileSize, gamePanel.getPlayer(), screenX, screenY);
             }
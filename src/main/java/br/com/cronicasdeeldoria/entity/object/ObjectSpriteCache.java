@@ -0,0 +1,144 @@
+package br.com.cronicasdeeldoria.entity.object;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
+import br.com.cronicasdeeldoria.game.render.CompatibleImages;
+
+/**
+ * Cache das imagens dos objetos do mapa. Os sprites de objects.json vêm do AssetManager
+ * e cada objeto (id + tamanho) é composto numa única imagem compatível,
+ * já no tamanho de desenho, compartilhada por todas as instâncias.
+ */
+public class ObjectSpriteCache {
+    private static ObjectSpriteCache instance;
+
+    private static final class Key {
+        final String objectId;
+        final int width;
+        final int height;
+        final int tileSize;
+
+        Key(String objectId, int width, int height, int tileSize) {
+            this.objectId = objectId;
+            this.width = width;
+            this.height = height;
+            this.tileSize = tileSize;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return width == other.width && height == other.height && tileSize == other.tileSize
+                && Objects.equals(objectId, other.objectId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(objectId, width, height, tileSize);
+        }
+    }
+
+    private final Map<Key, BufferedImage> composites = new HashMap<>();
+
+    // Métricas
+    private long hits;
+    private long misses;
+
+    private ObjectSpriteCache() {
+    }
+
+    public static ObjectSpriteCache getInstance() {
+        if (instance == null) {
+            instance = new ObjectSpriteCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Obtém a imagem composta de um objeto.
+     * @param definition Definição do objeto (objects.json).
+     * @param width Largura em tiles.
+     * @param height Altura em tiles.
+     * @param tileSize Tamanho do tile na tela.
+     * @return Imagem com width*tileSize x height*tileSize pixels, ou null se o objeto não tiver sprites.
+     */
+    public synchronized BufferedImage getComposite(ObjectSpriteLoader.ObjectDefinition definition, int width, int height,
+                                                   int tileSize) {
+        if (definition == null || definition.spritePaths == null || definition.spritePaths.isEmpty()
+            || width <= 0 || height <= 0 || tileSize <= 0) {
+            return null;
+        }
+        Key key = new Key(definition.id, width, height, tileSize);
+        if (composites.containsKey(key)) {
+            hits++;
+            return composites.get(key);
+        }
+        misses++;
+        BufferedImage composite = compose(definition, width, height, tileSize);
+        composites.put(key, composite);
+        return composite;
+    }
+
+    /**
+     * Monta a imagem do objeto com as mesmas regras do desenho tile a tile.
+     */
+    private BufferedImage compose(ObjectSpriteLoader.ObjectDefinition definition, int width, int height, int tileSize) {
+        List<List<String>> paths = definition.spritePaths;
+        BufferedImage composite = CompatibleImages.create(width * tileSize, height * tileSize);
+        Graphics2D g2 = composite.createGraphics();
+        boolean drewAny = false;
+        try {
+            // Objeto com apenas 1 sprite mas maior que 1x1: sprite único cobrindo toda a área
+            if (paths.size() == 1 && paths.get(0) != null && paths.get(0).size() == 1 && (width > 1 || height > 1)) {
+                BufferedImage sprite = getSprite(paths.get(0).get(0));
+                if (sprite != null) {
+                    g2.drawImage(sprite, 0, 0, width * tileSize, height * tileSize, null);
+                    drewAny = true;
+                }
+            } else {
+                for (int row = 0; row < height; row++) {
+                    List<String> rowPaths = paths.get(Math.min(row, paths.size() - 1));
+                    if (rowPaths == null || rowPaths.isEmpty()) {
+                        continue;
+                    }
+                    for (int col = 0; col < width; col++) {
+                        BufferedImage sprite = getSprite(rowPaths.get(Math.min(col, rowPaths.size() - 1)));
+                        if (sprite != null) {
+                            g2.drawImage(sprite, col * tileSize, row * tileSize, tileSize, tileSize, null);
+                            drewAny = true;
+                        }
+                    }
+                }
+            }
+        } finally {
+            g2.dispose();
+        }
+        return drewAny ? composite : null;
+    }
+
+    /**
+     * Sprite decodificado pelo AssetManager (uma única vez por caminho).
+     * @param path Caminho no classpath.
+     */
+    private BufferedImage getSprite(String path) {
+        return path != null ? AssetManager.getInstance().getImage(path) : null;
+    }
+
+    /**
+     * Descarta todas as imagens compostas (ex.: troca de escala).
+     */
+    public synchronized void clear() {
+        composites.clear();
+    }
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized int getCompositeCount() { return composites.size(); }
+}
@@ -0,0 +1,42 @@
+package br.com.cronicasdeeldoria.game;
+
+/**
+ * Trabalho de IA executado aos poucos pela AiJobQueue.
+ * step() faz um pedaço do trabalho e diz se terminou; a fila chama step() de novo
+ * (no mesmo tick ou nos seguintes) até terminar. apply() aplica o resultado no
+ * início do tick seguinte ao término, antes das atualizações dos NPCs.
+ * Um mesmo objeto pode ser enviado de novo depois de aplicado.
+ */
+public abstract class AiJob {
+  int priority;
+  long sequence;
+  boolean queued;
+  boolean cancelled;
+
+  /**
+   * Avança o trabalho um pedaço curto.
+   * @return true quando terminou.
+   */
+  protected abstract boolean step();
+
+  /**
+   * Aplica o resultado do trabalho terminado.
+   */
+  protected abstract void apply();
+
+  /**
+   * Desiste do trabalho: ele sai da fila sem ser aplicado.
+   */
+  public void cancel() {
+    if (queued) {
+      cancelled = true;
+    }
+  }
+
+  /**
+   * @return true enquanto o trabalho está na fila ou aguardando aplicação.
+   */
+  public boolean isQueued() {
+    return queued;
+  }
+}
@@ -0,0 +1,187 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+
+/**
+ * Fila cooperativa das decisões de IA mais caras (reconstrução do campo de perseguição,
+ * busca de desvio de NPCs presos...), para várias delas no mesmo tick não causarem pico.
+ *
+ * Em cada tick, runJobs() executa passos dos trabalhos pendentes, do mais prioritário
+ * (menor prioridade = mais perto do jogador) para o menos, até acabar o orçamento
+ * eldoria.aiBudgetMillis. O que não terminou continua de onde parou no próximo tick.
+ * Os trabalhos terminados são aplicados por applyResults() no início do tick seguinte,
+ * então uma decisão nunca muda o mundo no meio das atualizações dos NPCs.
+ * Pelo menos um passo roda por tick, para a fila sempre andar.
+ *
+ * Durante gravação e replay de entrada, o orçamento é contado em passos em vez de tempo,
+ * para o mesmo tick terminar os mesmos trabalhos. Usado só pela thread do jogo.
+ */
+public class AiJobQueue {
+  private static AiJobQueue instance;
+
+  /** Passos equivalentes a 1ms, para o orçamento em modo determinístico. */
+  private static final int STEPS_PER_MILLI = 200;
+
+  private final PriorityQueue<AiJob> pending = new PriorityQueue<>((a, b) ->
+      a.priority != b.priority ? Integer.compare(a.priority, b.priority) : Long.compare(a.sequence, b.sequence));
+  private final List<AiJob> completed = new ArrayList<>();
+  private final long budgetNanos;
+  private long nextSequence;
+  private boolean deterministic;
+
+  private int maxQueueDepth;
+  private int lastSteps;
+  private long lastRunNanos;
+  private int lastDeferred;
+  private long totalDeferred;
+  private long totalCompleted;
+
+  private AiJobQueue() {
+    this.budgetNanos = GameSettings.getInstance().getAiBudgetMillis() * 1_000_000L;
+  }
+
+  public static synchronized AiJobQueue getInstance() {
+    if (instance == null) {
+      instance = new AiJobQueue();
+    }
+    return instance;
+  }
+
+  /**
+   * Coloca um trabalho na fila. Um trabalho que já está na fila não é duplicado
+   * (se tinha sido cancelado, volta a valer, na mesma posição).
+   * @param job Trabalho.
+   * @param priority Prioridade (menor roda primeiro), normalmente a distância até o jogador.
+   */
+  public void submit(AiJob job, int priority) {
+    if (job.queued) {
+      job.cancelled = false;
+      return;
+    }
+    job.priority = priority;
+    job.sequence = nextSequence++;
+    job.queued = true;
+    job.cancelled = false;
+    pending.add(job);
+    maxQueueDepth = Math.max(maxQueueDepth, pending.size());
+  }
+
+  /**
+   * Aplica os trabalhos que terminaram no tick anterior.
+   */
+  public void applyResults() {
+    for (int i = 0; i < completed.size(); i++) {
+      AiJob job = completed.get(i);
+      job.queued = false;
+      if (!job.cancelled) {
+        job.apply();
+      }
+    }
+    completed.clear();
+  }
+
+  /**
+   * Executa trabalhos até acabar o orçamento do tick.
+   */
+  public void runJobs() {
+    long began = System.nanoTime();
+    long budgetSteps = budgetNanos / 1_000_000L * STEPS_PER_MILLI;
+    int steps = 0;
+    while (!pending.isEmpty()) {
+      AiJob job = pending.peek();
+      if (job.cancelled) {
+        pending.poll();
+        job.queued = false;
+        continue;
+      }
+      if (steps > 0 && (deterministic ? steps >= budgetSteps : System.nanoTime() - began >= budgetNanos)) {
+        break;
+      }
+      steps++;
+      if (job.step()) {
+        pending.poll();
+        completed.add(job);
+        totalCompleted++;
+      }
+    }
+    lastSteps = steps;
+    lastRunNanos = System.nanoTime() - began;
+    lastDeferred = pending.size();
+    totalDeferred += lastDeferred;
+  }
+
+  /**
+   * Descarta todos os trabalhos (troca de mapa).
+   */
+  public void clear() {
+    for (AiJob job : pending) {
+      job.queued = false;
+    }
+    for (AiJob job : completed) {
+      job.queued = false;
+    }
+    pending.clear();
+    completed.clear();
+  }
+
+  /**
+   * Conta o orçamento em passos em vez de tempo (gravação e replay).
+   * @param deterministic true para contar em passos.
+   */
+  public void setDeterministic(boolean deterministic) {
+    this.deterministic = deterministic;
+  }
+
+  /**
+   * @return Trabalhos esperando na fila agora.
+   */
+  public int getQueueDepth() {
+    return pending.size();
+  }
+
+  /**
+   * @return Maior tamanho que a fila já teve.
+   */
+  public int getMaxQueueDepth() {
+    return maxQueueDepth;
+  }
+
+  /**
+   * @return Trabalhos que ficaram para o próximo tick no último runJobs().
+   */
+  public int getLastDeferred() {
+    return lastDeferred;
+  }
+
+  /**
+   * @return Soma, em todos os ticks, dos trabalhos adiados para o tick seguinte.
+   */
+  public long getTotalDeferred() {
+    return totalDeferred;
+  }
+
+  /**
+   * @return Trabalhos terminados desde o início do jogo.
+   */
+  public long getTotalCompleted() {
+    return totalCompleted;
+  }
+
+  /**
+   * @return Passos executados no último runJobs().
+   */
+  public int getLastSteps() {
+    return lastSteps;
+  }
+
+  /**
+   * @return Tempo gasto no último runJobs(), em nanossegundos.
+   */
+  public long getLastRunNanos() {
+    return lastRunNanos;
+  }
+}
@@ -5,14 +5,11 @@ import br.com.cronicasdeeldoria.entity.character.Character;
 import br.com.cronicasdeeldoria.entity.character.player.Player;
 import br.com.cronicasdeeldoria.entity.character.npc.Npc;
 
-import javax.swing.*;
+import br.com.cronicasdeeldoria.game.animation.GameClock;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Objects;
-import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 public class Battle {
   private final GamePanel gp;
@@ -24,7 +21,9 @@ public class Battle {
   private boolean waitingForPlayerInput;
   private int countTurn = 0;
   private final AudioManager audioManager;
-  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  // Turno do monstro agendado no relógio do jogo (-1 = nenhum), para o replay reproduzir o mesmo tick
+  private static final long MONSTER_TURN_DELAY_MILLIS = 1200;
+  private long monsterTurnDueMillis = -1;
 
   public Battle(GamePanel gp) {
     this.gp = gp;
@@ -108,17 +107,24 @@ public class Battle {
 
     // Se for turno do monstro, processar automaticamente com atraso
     if (getCurrentCharacter() instanceof Npc) {
-      // Delay para processar o turno do monstro
-      scheduler.schedule(() -> {
-        SwingUtilities.invokeLater(() -> {
-          processMonsterTurn();
-        });
-      }, 1200, TimeUnit.MILLISECONDS);
+      // Delay para processar o turno do monstro (executado por update())
+      monsterTurnDueMillis = GameClock.getInstance().getUptimeMillis() + MONSTER_TURN_DELAY_MILLIS;
     } else {
       waitingForPlayerInput = true;
     }
   }
 
+  /**
+   * Avança a batalha um tick: executa o turno do monstro quando o atraso agendado termina.
+   * Chamado pela thread do jogo enquanto a batalha está ativa.
+   */
+  public void update() {
+    if (monsterTurnDueMillis >= 0 && GameClock.getInstance().getUptimeMillis() >= monsterTurnDueMillis) {
+      monsterTurnDueMillis = -1;
+      processMonsterTurn();
+    }
+  }
+
   private void processMonsterTurn() {
     if (!inBattle) return;
 
@@ -128,8 +134,7 @@ public class Battle {
     Npc currentMonster = (Npc) currentCharacter;
 
     // IA do monstro
-    Random random = new Random();
-    int choice = random.nextInt(100);
+    int choice = GameRandom.of(GameRandom.Stream.BATTLE).nextInt(100);
 
     // Monstro não tenta usar defend se tiver em cooldown ou ativo
     if (currentMonster.canApplyBuff("ARMOR")) {
@@ -190,7 +195,7 @@ public class Battle {
   public static int calculateDamage(Character attacker, Character target) {
     int baseDamage = Math.max(1, attacker.getEffectiveStrength() - (target.getEffectiveArmor() / 2));
     int variation = Math.max(1, (int)(baseDamage * 0.4)); // 40% variation
-    int finalDamage = baseDamage + (int)(Math.random() * variation * 2) - variation;
+    int finalDamage = baseDamage + (int)(GameRandom.of(GameRandom.Stream.BATTLE).nextDouble() * variation * 2) - variation;
 
     return Math.max(1, finalDamage); // Minimum 1 damage
   }
@@ -313,7 +318,7 @@ public class Battle {
       int fleeChance = 40; // 40% chance base
 
       // Player não pode fugir da batalha do Mago Supremo
-      if (Math.random() * 100 < fleeChance && !Objects.equals(monster.getName(), "Mago Supremo")) {
+      if (GameRandom.of(GameRandom.Stream.BATTLE).nextDouble() * 100 < fleeChance && !Objects.equals(monster.getName(), "Mago Supremo")) {
 //        System.out.println("You successfully fled from battle!");
 //        System.out.println("-----------------------------");
 
@@ -354,7 +359,7 @@ public class Battle {
 
     int baseHeal = 50;
     int variation = (int) (baseHeal * 0.4); // 40% de variação
-    int finalHeal = baseHeal + (int)(Math.random() * variation * 2) - variation;
+    int finalHeal = baseHeal + (int)(GameRandom.of(GameRandom.Stream.BATTLE).nextDouble() * variation * 2) - variation;
     int diffCurrentHpAndMaxHp = character.getAttributeMaxHealth() - character.getAttributeHealth();
 
     if (diffCurrentHpAndMaxHp > finalHeal) {
@@ -384,7 +389,7 @@ public class Battle {
 
     int baseManaRecover = 35;
     int variation = (int) (baseManaRecover * 0.3); // 30% de variação
-    int finalManaRecover = baseManaRecover + (int)(Math.random() * variation * 2) - variation;
+    int finalManaRecover = baseManaRecover + (int)(GameRandom.of(GameRandom.Stream.BATTLE).nextDouble() * variation * 2) - variation;
     int diffCurrentMpAndMaxMp = character.getAttributeMaxMana() - character.getAttributeMana();
 
     if (diffCurrentMpAndMaxMp > finalManaRecover) {
@@ -481,6 +486,7 @@ public class Battle {
 
   public void endBattle() {
     inBattle = false;
+    monsterTurnDueMillis = -1;
     waitingForPlayerInput = false;
     turnOrder.clear();
     currentTurn = 0;
@@ -2,31 +2,47 @@ package br.com.cronicasdeeldoria.game;
 
 import br.com.cronicasdeeldoria.entity.Entity;
 import br.com.cronicasdeeldoria.entity.object.MapObject;
+import br.com.cronicasdeeldoria.tile.MapData;
 import java.awt.Rectangle;
-import java.util.Map;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Sistema otimizado de verificação de colisões.
- * Implementa cache de hitboxes e verificação espacial para melhor performance.
+ * Entidades e objetos ficam registrados numa grade espacial por tile, atualizada
+ * conforme se movem; cada consulta testa apenas os ocupantes das células sobrepostas.
  */
 public class ColisionChecker {
   private GamePanel gamePanel;
-  
-  // Cache de hitboxes para evitar criação excessiva de objetos
-  private Map<Entity, Rectangle> entityHitboxCache = new HashMap<>();
-  private Map<MapObject, Rectangle> objectHitboxCache = new HashMap<>();
-  
-  // Cache de verificação de colisão para evitar verificações redundantes
-  private Map<String, Boolean> collisionCache = new HashMap<>();
-  private long lastCacheClear = 0;
-  private static final long CACHE_CLEAR_INTERVAL = 1000; // Limpar cache a cada 1 segundo
+
+  // Fase ampla: grades por tile, criadas quando o tamanho do tile já é conhecido
+  private SpatialGrid<Entity> entityGrid;
+  private SpatialGrid<MapObject> objectGrid;
+  private MapData gridMap;
+  private List<? extends Entity> trackedEntities;
+  private int trackedEntityCount;
+  private List<MapObject> trackedObjects;
+  private final Entity.PositionListener gridUpdater = this::updateEntity;
+
+  // Listas reutilizadas pelas consultas para não alocar a cada tick
+  private final List<Entity> entityCandidates = new ArrayList<>();
+  private final List<MapObject> objectCandidates = new ArrayList<>();
 
   public ColisionChecker(GamePanel gamePanel) {
     this.gamePanel = gamePanel;
   }
 
   public void checkTile(Entity entity) {
+    checkTile(entity, entity.getSpeed());
+  }
+
+  /**
+   * Verifica colisão com tiles ao andar uma distância na direção atual da entidade.
+   * A distância deve ser menor que um tile, para não atravessar paredes finas.
+   * @param entity Entidade que vai andar.
+   * @param distance Pixels a andar.
+   */
+  public void checkTile(Entity entity, int distance) {
     int entityLeftWorldX = entity.getWorldX() + entity.getHitbox().x;
     int entityRightWorldX = entity.getWorldX() + entity.getHitbox().x + entity.getHitbox().width - 1;
     int entityTopWorldY = entity.getWorldY() + entity.getHitbox().y;
@@ -41,50 +57,38 @@ public class ColisionChecker {
 
     switch (entity.getDirection()) {
       case "up": {
-        entityTopRow = (entityTopWorldY - entity.getSpeed()) / tileSize;
+        entityTopRow = (entityTopWorldY - distance) / tileSize;
         int firstCol = entityLeftWorldX / tileSize;
         int lastCol = entityRightWorldX / tileSize;
-        for (int col = firstCol; col <= lastCol; col++) {
-          if (gamePanel.getTileManager().isCollisionAt(col, entityTopRow)) {
-            entity.setCollisionOn(true);
-            break;
-          }
+        if (gamePanel.getTileManager().isCollisionInRect(firstCol, entityTopRow, lastCol, entityTopRow)) {
+          entity.setCollisionOn(true);
         }
         break;
       }
       case "down": {
-        entityBottomRow = (entityBottomWorldY + entity.getSpeed()) / tileSize;
+        entityBottomRow = (entityBottomWorldY + distance) / tileSize;
         int firstCol = entityLeftWorldX / tileSize;
         int lastCol = entityRightWorldX / tileSize;
-        for (int col = firstCol; col <= lastCol; col++) {
-          if (gamePanel.getTileManager().isCollisionAt(col, entityBottomRow)) {
-            entity.setCollisionOn(true);
-            break;
-          }
+        if (gamePanel.getTileManager().isCollisionInRect(firstCol, entityBottomRow, lastCol, entityBottomRow)) {
+          entity.setCollisionOn(true);
         }
         break;
       }
       case "left": {
-        entityLeftCol = (entityLeftWorldX - entity.getSpeed()) / tileSize;
+        entityLeftCol = (entityLeftWorldX - distance) / tileSize;
         int firstRow = entityTopWorldY / tileSize;
         int lastRow = entityBottomWorldY / tileSize;
-        for (int row = firstRow; row <= lastRow; row++) {
-          if (gamePanel.getTileManager().isCollisionAt(entityLeftCol, row)) {
-            entity.setCollisionOn(true);
-            break;
-          }
+        if (gamePanel.getTileManager().isCollisionInRect(entityLeftCol, firstRow, entityLeftCol, lastRow)) {
+          entity.setCollisionOn(true);
         }
         break;
       }
       case "right": {
-        entityRightCol = (entityRightWorldX + entity.getSpeed()) / tileSize;
+        entityRightCol = (entityRightWorldX + distance) / tileSize;
         int firstRow = entityTopWorldY / tileSize;
         int lastRow = entityBottomWorldY / tileSize;
-        for (int row = firstRow; row <= lastRow; row++) {
-          if (gamePanel.getTileManager().isCollisionAt(entityRightCol, row)) {
-            entity.setCollisionOn(true);
-            break;
-          }
+        if (gamePanel.getTileManager().isCollisionInRect(entityRightCol, firstRow, entityRightCol, lastRow)) {
+          entity.setCollisionOn(true);
         }
         break;
       }
@@ -98,47 +102,47 @@ public class ColisionChecker {
    * @param entity Entidade para verificar colisão.
    * @param entities Lista de entidades para verificar.
    */
-  public void checkEntity(Entity entity, java.util.List<? extends Entity> entities) {
+  public void checkEntity(Entity entity, List<? extends Entity> entities) {
     if (entities == null || entities.isEmpty()) return;
-    
-    // Limpar cache periodicamente
-    clearCacheIfNeeded();
-    
-    // Obter hitbox da entidade (usar cache se disponível)
-    Rectangle entityBox = getEntityHitbox(entity);
-    if (entityBox == null) return;
+
+    Rectangle hitbox = entity.getHitbox();
+    if (hitbox == null) return;
 
     // Verificar colisão baseada na direção do movimento
-    Rectangle futureEntityBox = getFutureHitbox(entity, entityBox);
-
-    for (Entity targetEntity : entities) {
-      if (targetEntity != entity && targetEntity.getHitbox() != null) {
-        // Verificar cache de colisão
-        String cacheKey = getCollisionCacheKey(entity, targetEntity);
-        Boolean cachedResult = collisionCache.get(cacheKey);
-        
-        if (cachedResult != null) {
-          if (cachedResult) {
-            entity.setCollisionOn(true);
-            break;
-          }
-          continue;
-        }
-        
-        // Obter hitbox da entidade alvo
-        Rectangle targetBox = getEntityHitbox(targetEntity);
-        if (targetBox == null) continue;
-        
-        // Verificar colisão
-        boolean collides = futureEntityBox.intersects(targetBox);
-        collisionCache.put(cacheKey, collides);
-        
-        if (collides) {
-          entity.setCollisionOn(true);
-          break;
-        }
+    int left = entity.getWorldX() + hitbox.x + getFutureOffsetX(entity);
+    int top = entity.getWorldY() + hitbox.y + getFutureOffsetY(entity);
+
+    if (collidesWithEntity(entity, entities, left, top, hitbox.width, hitbox.height)) {
+      entity.setCollisionOn(true);
+    }
+  }
+
+  /**
+   * Verifica se uma caixa colide com alguma entidade da lista (exceto a própria).
+   * @param self Entidade que está se movendo (ignorada na verificação).
+   * @param entities Entidades do mapa.
+   * @param left Esquerda da caixa, em pixels do mundo.
+   * @param top Topo da caixa, em pixels do mundo.
+   * @param width Largura da caixa.
+   * @param height Altura da caixa.
+   * @return true se houver colisão.
+   */
+  public boolean collidesWithEntity(Entity self, List<? extends Entity> entities, int left, int top, int width, int height) {
+    if (entities == null || entities.isEmpty()) return false;
+    syncEntities(entities);
+
+    entityGrid.query(left, top, width, height, entityCandidates);
+    for (int i = 0, n = entityCandidates.size(); i < n; i++) {
+      Entity target = entityCandidates.get(i);
+      if (target == self) continue;
+      Rectangle targetBox = target.getHitbox();
+      if (targetBox == null) continue;
+      if (intersects(left, top, width, height,
+          target.getWorldX() + targetBox.x, target.getWorldY() + targetBox.y, targetBox.width, targetBox.height)) {
+        return true;
       }
     }
+    return false;
   }
 
   /**
@@ -147,160 +151,168 @@ public class ColisionChecker {
    */
   public void checkObject(Entity entity) {
     if (gamePanel.getObjectManager() == null) return;
-    
-    // Limpar cache periodicamente
-    clearCacheIfNeeded();
-    
-    // Obter hitbox da entidade
-    Rectangle entityBox = getEntityHitbox(entity);
-    if (entityBox == null) return;
+
+    Rectangle hitbox = entity.getHitbox();
+    if (hitbox == null) return;
+    syncObjects(gamePanel.getObjectManager().getActiveObjects());
 
     // Verificar colisão baseada na direção do movimento
-    Rectangle futureEntityBox = getFutureHitbox(entity, entityBox);
-
-    for (MapObject obj : gamePanel.getObjectManager().getActiveObjects()) {
-      if (obj.isActive() && obj.hasCollision() && obj.getHitbox() != null) {
-        // Verificar cache de colisão
-        String cacheKey = getObjectCollisionCacheKey(entity, obj);
-        Boolean cachedResult = collisionCache.get(cacheKey);
-        
-        if (cachedResult != null) {
-          if (cachedResult) {
-            entity.setCollisionOn(true);
-            break;
-          }
-          continue;
-        }
-        
-        // Obter hitbox do objeto
-        Rectangle objBox = getObjectHitbox(obj);
-        if (objBox == null) continue;
-        
-        // Verificar colisão
-        boolean collides = futureEntityBox.intersects(objBox);
-        collisionCache.put(cacheKey, collides);
-        
-        if (collides) {
-          entity.setCollisionOn(true);
-          break;
-        }
+    int left = entity.getWorldX() + hitbox.x + getFutureOffsetX(entity);
+    int top = entity.getWorldY() + hitbox.y + getFutureOffsetY(entity);
+
+    objectGrid.query(left, top, hitbox.width, hitbox.height, objectCandidates);
+    for (int i = 0, n = objectCandidates.size(); i < n; i++) {
+      MapObject obj = objectCandidates.get(i);
+      Rectangle objBox = obj.getHitbox();
+      if (!obj.isActive() || !obj.hasCollision() || objBox == null) continue;
+      if (intersects(left, top, hitbox.width, hitbox.height,
+          obj.getWorldX() + objBox.x, obj.getWorldY() + objBox.y, objBox.width, objBox.height)) {
+        entity.setCollisionOn(true);
+        break;
       }
     }
   }
 
   /**
-   * Obtém a hitbox de uma entidade usando cache.
+   * Atualiza a posição de uma entidade na grade (chamado quando ela se move).
+   */
+  public void updateEntity(Entity entity) {
+    if (entityGrid == null) return;
+    Rectangle hitbox = entity.getHitbox();
+    if (hitbox == null) {
+      entityGrid.remove(entity);
+      return;
+    }
+    entityGrid.update(entity, entity.getWorldX() + hitbox.x, entity.getWorldY() + hitbox.y, hitbox.width, hitbox.height);
+  }
+
+  /**
+   * Remove uma entidade da grade.
+   */
+  public void removeEntity(Entity entity) {
+    if (entityGrid != null && entityGrid.remove(entity) && entity.getPositionListener() == gridUpdater) {
+      entity.setPositionListener(null);
+    }
+  }
+
+  /**
+   * Registra um objeto ativado na grade.
    */
-  private Rectangle getEntityHitbox(Entity entity) {
-    Rectangle cached = entityHitboxCache.get(entity);
-    if (cached != null) {
-      // Atualizar posição da hitbox em cache
-      cached.x = entity.getWorldX() + entity.getHitbox().x;
-      cached.y = entity.getWorldY() + entity.getHitbox().y;
-      return cached;
+  public void updateObject(MapObject obj) {
+    if (objectGrid == null || obj.getHitbox() == null) return;
+    Rectangle hitbox = obj.getHitbox();
+    objectGrid.update(obj, obj.getWorldX() + hitbox.x, obj.getWorldY() + hitbox.y, hitbox.width, hitbox.height);
+  }
+
+  /**
+   * Remove um objeto desativado da grade.
+   */
+  public void removeObject(MapObject obj) {
+    if (objectGrid != null) {
+      objectGrid.remove(obj);
     }
-    
-    // Criar nova hitbox e adicionar ao cache
-    Rectangle hitbox = new Rectangle(
-      entity.getWorldX() + entity.getHitbox().x,
-      entity.getWorldY() + entity.getHitbox().y,
-      entity.getHitbox().width,
-      entity.getHitbox().height
-    );
-    entityHitboxCache.put(entity, hitbox);
-    return hitbox;
   }
 
   /**
-   * Obtém a hitbox de um objeto usando cache.
+   * Deslocamento horizontal da hitbox no próximo passo, conforme a direção do movimento.
    */
-  private Rectangle getObjectHitbox(MapObject obj) {
-    Rectangle cached = objectHitboxCache.get(obj);
-    if (cached != null) {
-      // Atualizar posição da hitbox em cache
-      cached.x = obj.getWorldX() + obj.getHitbox().x;
-      cached.y = obj.getWorldY() + obj.getHitbox().y;
-      return cached;
+  private static int getFutureOffsetX(Entity entity) {
+    switch (entity.getDirection()) {
+      case "left": return -entity.getSpeed();
+      case "right": return entity.getSpeed();
+      default: return 0;
     }
-    
-    // Criar nova hitbox e adicionar ao cache
-    Rectangle hitbox = new Rectangle(
-      obj.getWorldX() + obj.getHitbox().x,
-      obj.getWorldY() + obj.getHitbox().y,
-      obj.getHitbox().width,
-      obj.getHitbox().height
-    );
-    objectHitboxCache.put(obj, hitbox);
-    return hitbox;
   }
 
   /**
-   * Calcula a hitbox futura baseada na direção do movimento.
+   * Deslocamento vertical da hitbox no próximo passo, conforme a direção do movimento.
    */
-  private Rectangle getFutureHitbox(Entity entity, Rectangle currentBox) {
-    Rectangle futureBox = new Rectangle(currentBox);
-    
+  private static int getFutureOffsetY(Entity entity) {
     switch (entity.getDirection()) {
-      case "up": futureBox.y -= entity.getSpeed(); break;
-      case "down": futureBox.y += entity.getSpeed(); break;
-      case "left": futureBox.x -= entity.getSpeed(); break;
-      case "right": futureBox.x += entity.getSpeed(); break;
-      default: break;
+      case "up": return -entity.getSpeed();
+      case "down": return entity.getSpeed();
+      default: return 0;
     }
-    
-    return futureBox;
   }
 
   /**
-   * Gera chave única para cache de colisão entre entidades.
+   * Interseção de dois retângulos dados por inteiros (mesma regra de Rectangle.intersects).
    */
-  private String getCollisionCacheKey(Entity entity1, Entity entity2) {
-    // Incluir posições atuais para evitar resultados "grudados" após movimento
-    return new StringBuilder()
-      .append(entity1.hashCode()).append('_')
-      .append(entity2.hashCode()).append('_')
-      .append(entity1.getDirection()).append('_')
-      .append(entity1.getWorldX()).append(',')
-      .append(entity1.getWorldY()).append('_')
-      .append(entity2.getWorldX()).append(',')
-      .append(entity2.getWorldY())
-      .toString();
+  public static boolean intersects(int ax, int ay, int aw, int ah, int bx, int by, int bw, int bh) {
+    if (aw <= 0 || ah <= 0 || bw <= 0 || bh <= 0) {
+      return false;
+    }
+    return ax < bx + bw && bx < ax + aw && ay < by + bh && by < ay + ah;
+  }
+
+  /**
+   * Cria as grades e as reinicia quando o mapa muda.
+   */
+  private void ensureGrids() {
+    if (entityGrid == null) {
+      entityGrid = new SpatialGrid<>(gamePanel.getTileSize());
+      objectGrid = new SpatialGrid<>(gamePanel.getTileSize());
+    }
+    MapData map = gamePanel.getTileManager().getMapData();
+    if (map != gridMap) {
+      gridMap = map;
+      detachEntities();
+      trackedEntities = null;
+      trackedObjects = null;
+    }
   }
 
   /**
-   * Gera chave única para cache de colisão entre entidade e objeto.
+   * Reconstrói a grade de entidades se a lista mudou (troca de mapa, NPC adicionado ou removido).
+   * Movimentos posteriores chegam pela notificação de posição de cada entidade.
    */
-  private String getObjectCollisionCacheKey(Entity entity, MapObject obj) {
-    // Incluir posições atuais para evitar resultados "grudados" após movimento
-    return new StringBuilder()
-      .append(entity.hashCode()).append("_obj_")
-      .append(obj.hashCode()).append('_')
-      .append(entity.getDirection()).append('_')
-      .append(entity.getWorldX()).append(',')
-      .append(entity.getWorldY()).append('_')
-      .append(obj.getWorldX()).append(',')
-      .append(obj.getWorldY())
-      .toString();
+  private void syncEntities(List<? extends Entity> entities) {
+    ensureGrids();
+    if (entities == trackedEntities && entities.size() == trackedEntityCount) {
+      return;
+    }
+    detachEntities();
+    entityGrid.reset(gamePanel.getTileManager().getMapWidth(), gamePanel.getTileManager().getMapHeight());
+    for (Entity entity : entities) {
+      if (entity.getHitbox() == null) continue;
+      entity.setPositionListener(gridUpdater);
+      updateEntity(entity);
+    }
+    trackedEntities = entities;
+    trackedEntityCount = entities.size();
   }
 
   /**
-   * Limpa o cache periodicamente para evitar vazamentos de memória.
+   * Reconstrói a grade de objetos quando o gerenciador de objetos é trocado.
+   * Ativações e desativações posteriores são informadas pelo ObjectManager.
    */
-  private void clearCacheIfNeeded() {
-    long currentTime = System.currentTimeMillis();
-    if (currentTime - lastCacheClear > CACHE_CLEAR_INTERVAL) {
-      collisionCache.clear();
-      lastCacheClear = currentTime;
+  private void syncObjects(List<MapObject> activeObjects) {
+    ensureGrids();
+    if (activeObjects == trackedObjects) {
+      return;
+    }
+    objectGrid.reset(gamePanel.getTileManager().getMapWidth(), gamePanel.getTileManager().getMapHeight());
+    for (MapObject obj : activeObjects) {
+      updateObject(obj);
+    }
+    trackedObjects = activeObjects;
+  }
+
+  private void detachEntities() {
+    if (entityGrid == null) return;
+    for (Entity entity : entityGrid.items()) {
+      if (entity.getPositionListener() == gridUpdater) {
+        entity.setPositionListener(null);
+      }
     }
   }
 
   /**
-   * Limpa todos os caches (chamado quando entidades são removidas).
+   * Limpa as grades (chamado quando entidades são removidas); são reconstruídas na próxima consulta.
    */
   public void clearAllCaches() {
-    entityHitboxCache.clear();
-    objectHitboxCache.clear();
-    collisionCache.clear();
-    lastCacheClear = System.currentTimeMillis();
+    detachEntities();
+    trackedEntities = null;
+    trackedObjects = null;
   }
 }
@@ -0,0 +1,281 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.Arrays;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+import br.com.cronicasdeeldoria.tile.CollisionGrid;
+
+/**
+ * Campo de distâncias até o tile do jogador, compartilhado por todos os NPCs que o perseguem.
+ * Um Dijkstra parte do tile do jogador e para no raio eldoria.flowFieldRadius (em tiles);
+ * cada tile alcançado guarda o vizinho seguinte no caminho mais curto até o jogador, então
+ * qualquer perseguidor lê seu próximo passo em O(1), em vez de cada um fazer a própria busca.
+ *
+ * O campo só é refeito quando o jogador muda de tile ou quando o mapa muda (a CollisionGrid
+ * não muda depois da carga). Refazer toca só os tiles do raio: os buffers são do tamanho do
+ * mapa, reaproveitados e invalidados por geração.
+ * A reconstrução roda aos poucos na AiJobQueue, numa segunda camada; os NPCs continuam lendo
+ * o campo anterior até a nova camada ficar pronta e ser trocada no tick seguinte.
+ * Movimento em 8 direções sem cortar quinas, como no PathfindingService. Usado só pela thread do jogo.
+ */
+public class FlowField {
+  private static FlowField instance;
+
+  private static final int STRAIGHT_COST = 10;
+  private static final int DIAGONAL_COST = 14;
+  private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+  private static final int[] DY = {0, 0, 1, -1, 1, -1, 1, -1};
+  /** Tiles finalizados por passo da reconstrução na AiJobQueue. */
+  private static final int NODES_PER_STEP = 256;
+
+  /**
+   * Um campo completo: distâncias, próximos passos e marcas por geração.
+   */
+  private static final class Layer {
+    int[] distance = new int[0];
+    int[] next = new int[0];
+    int[] stamp = new int[0];
+    int[] done = new int[0];
+    int generation;
+    int targetX = -1;
+    int targetY = -1;
+    boolean valid;
+
+    void resize(int cells) {
+      if (distance.length < cells) {
+        distance = new int[cells];
+        next = new int[cells];
+        stamp = new int[cells];
+        done = new int[cells];
+        generation = 0;
+      }
+      valid = false;
+    }
+
+    void nextGeneration() {
+      if (generation == Integer.MAX_VALUE) {
+        Arrays.fill(stamp, 0);
+        Arrays.fill(done, 0);
+        generation = 0;
+      }
+      generation++;
+    }
+  }
+
+  /**
+   * Reconstrução em andamento da camada de trás; ao terminar, troca as camadas.
+   */
+  private final class RebuildJob extends AiJob {
+    @Override
+    protected boolean step() {
+      return expand(NODES_PER_STEP);
+    }
+
+    @Override
+    protected void apply() {
+      if (!backComplete) {
+        // Recomeçou (jogador mudou de tile) depois de terminar: continua na fila
+        AiJobQueue.getInstance().submit(this, 0);
+        return;
+      }
+      Layer swap = front;
+      front = back;
+      back = swap;
+      front.valid = true;
+      rebuilds++;
+    }
+  }
+
+  private final int radius;
+  private final RebuildJob rebuildJob = new RebuildJob();
+
+  private CollisionGrid grid;
+  private int width;
+  private int height;
+
+  private Layer front = new Layer();
+  private Layer back = new Layer();
+  private boolean backComplete;
+
+  private final IntMinHeap open = new IntMinHeap();
+
+  private int requestedX = -1;
+  private int requestedY = -1;
+  private boolean dirty = true;
+
+  private long rebuilds;
+  private int lastReached;
+  private int reached;
+
+  private FlowField() {
+    this.radius = GameSettings.getInstance().getFlowFieldRadius();
+  }
+
+  public static synchronized FlowField getInstance() {
+    if (instance == null) {
+      instance = new FlowField();
+    }
+    return instance;
+  }
+
+  /**
+   * Garante que o campo vai corresponder ao mapa e ao tile do jogador informados,
+   * pedindo uma reconstrução à AiJobQueue se algo mudou. Sem mudanças, custa O(1).
+   * @param grid Colisão do mapa atual.
+   * @param playerTileX Tile X do jogador.
+   * @param playerTileY Tile Y do jogador.
+   */
+  public void update(CollisionGrid grid, int playerTileX, int playerTileY) {
+    if (grid != this.grid) {
+      this.grid = grid;
+      rebuildJob.cancel();
+      if (grid != null) {
+        width = grid.getWidth();
+        height = grid.getHeight();
+        front.resize(width * height);
+        back.resize(width * height);
+      }
+      dirty = true;
+    }
+    if (grid == null) {
+      return;
+    }
+    if (!dirty && playerTileX == requestedX && playerTileY == requestedY) {
+      return;
+    }
+    requestedX = playerTileX;
+    requestedY = playerTileY;
+    dirty = false;
+    startRebuild();
+    AiJobQueue.getInstance().submit(rebuildJob, 0);
+  }
+
+  /**
+   * Prepara a camada de trás para um Dijkstra a partir do jogador, limitado ao quadrado
+   * de lado 2 * radius + 1 em volta dele.
+   */
+  private void startRebuild() {
+    back.nextGeneration();
+    back.targetX = requestedX;
+    back.targetY = requestedY;
+    back.valid = false;
+    open.clear();
+    reached = 0;
+    backComplete = false;
+    if (!inBounds(requestedX, requestedY)) {
+      return;
+    }
+
+    // O tile do jogador entra mesmo se marcado como colisão (hitbox encostada numa parede)
+    int origin = requestedY * width + requestedX;
+    back.stamp[origin] = back.generation;
+    back.distance[origin] = 0;
+    back.next[origin] = -1;
+    open.push(origin, 0);
+  }
+
+  /**
+   * Continua o Dijkstra da camada de trás.
+   * @param maxNodes Tiles a finalizar neste passo.
+   * @return true quando a camada ficou pronta.
+   */
+  private boolean expand(int maxNodes) {
+    Layer layer = back;
+    int targetX = layer.targetX;
+    int targetY = layer.targetY;
+    int finalized = 0;
+    while (!open.isEmpty() && finalized < maxNodes) {
+      int node = open.pop();
+      if (layer.done[node] == layer.generation) {
+        continue;
+      }
+      layer.done[node] = layer.generation;
+      finalized++;
+      reached++;
+      int x = node % width;
+      int y = node / width;
+      for (int i = 0; i < DX.length; i++) {
+        int nx = x + DX[i];
+        int ny = y + DY[i];
+        if (Math.abs(nx - targetX) > radius || Math.abs(ny - targetY) > radius || !isWalkable(nx, ny)) {
+          continue;
+        }
+        boolean diagonal = DX[i] != 0 && DY[i] != 0;
+        if (diagonal && (!isWalkable(x + DX[i], y) || !isWalkable(x, y + DY[i]))) {
+          continue;
+        }
+        int neighbor = ny * width + nx;
+        int newDistance = layer.distance[node] + (diagonal ? DIAGONAL_COST : STRAIGHT_COST);
+        if (layer.stamp[neighbor] != layer.generation || newDistance < layer.distance[neighbor]) {
+          layer.stamp[neighbor] = layer.generation;
+          layer.distance[neighbor] = newDistance;
+          layer.next[neighbor] = node;
+          open.push(neighbor, newDistance);
+        }
+      }
+    }
+    if (open.isEmpty()) {
+      backComplete = true;
+      lastReached = reached;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Próximo tile no caminho mais curto até o jogador, pelo último campo pronto.
+   * @param tileX Tile X atual do perseguidor.
+   * @param tileY Tile Y atual do perseguidor.
+   * @return Tile compactado (PathfindingService.packedX/packedY), ou -1 se o tile está fora
+   *         do raio, sem caminho até o jogador, já é o tile do jogador ou ainda não há campo pronto.
+   */
+  public int nextStep(int tileX, int tileY) {
+    if (!isReached(tileX, tileY)) {
+      return -1;
+    }
+    int step = front.next[tileY * width + tileX];
+    return step < 0 ? -1 : PathfindingService.pack(step % width, step / width);
+  }
+
+  /**
+   * Distância até o jogador (10 por passo reto, 14 na diagonal), pelo último campo pronto.
+   * @return Distância, ou -1 se o tile está fora do raio ou sem caminho até o jogador.
+   */
+  public int distanceAt(int tileX, int tileY) {
+    return isReached(tileX, tileY) ? front.distance[tileY * width + tileX] : -1;
+  }
+
+  private boolean isReached(int tileX, int tileY) {
+    return grid != null && front.valid && inBounds(tileX, tileY)
+        && front.done[tileY * width + tileX] == front.generation;
+  }
+
+  private boolean inBounds(int x, int y) {
+    return x >= 0 && y >= 0 && x < width && y < height;
+  }
+
+  private boolean isWalkable(int x, int y) {
+    return inBounds(x, y) && !grid.isBlocked(x, y);
+  }
+
+  /**
+   * @return Raio do campo, em tiles.
+   */
+  public int getRadius() {
+    return radius;
+  }
+
+  /**
+   * @return Campos refeitos e trocados desde o início do jogo.
+   */
+  public long getRebuilds() {
+    return rebuilds;
+  }
+
+  /**
+   * @return Tiles alcançados na última reconstrução terminada.
+   */
+  public int getLastReached() {
+    return lastReached;
+  }
+}
@@ -0,0 +1,206 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Loop principal do jogo com passo fixo de simulação e renderização desacoplada.
+ * A espera entre quadros é feita com LockSupport.parkNanos, usando spin apenas nos
+ * últimos microssegundos para manter a precisão sem ocupar um núcleo inteiro.
+ */
+public class GameLoop implements Runnable {
+
+  /**
+   * Recebe os eventos do loop.
+   */
+  public interface Listener {
+    /**
+     * Executa um passo fixo de simulação.
+     */
+    void tick();
+
+    /**
+     * Renderiza um quadro.
+     * @param alpha Fração (0..1) do próximo tick já decorrida, usada para interpolação.
+     */
+    void render(double alpha);
+  }
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final Listener listener;
+  private final long tickNanos;
+  private final long frameNanos;
+  private final int maxCatchUpTicks;
+  private final long spinThresholdNanos;
+
+  private volatile boolean running;
+
+  // Métricas
+  private volatile double measuredTickRate;
+  private volatile double measuredRenderRate;
+  private volatile long tickCount;
+  private volatile long renderCount;
+  private volatile long droppedTicks;
+
+  /**
+   * Cria o loop.
+   * @param listener Destino dos ticks e quadros.
+   * @param tickRate Ticks de simulação por segundo.
+   * @param maxFps Limite de quadros por segundo (0 = um quadro por volta do loop).
+   * @param maxCatchUpTicks Máximo de ticks seguidos para recuperar atraso.
+   * @param spinThresholdNanos Janela final de espera feita com spin.
+   */
+  public GameLoop(Listener listener, int tickRate, int maxFps, int maxCatchUpTicks, long spinThresholdNanos) {
+    this.listener = listener;
+    this.tickNanos = NANOS_PER_SECOND / Math.max(1, tickRate);
+    this.frameNanos = maxFps > 0 ? NANOS_PER_SECOND / maxFps : 0;
+    this.maxCatchUpTicks = Math.max(1, maxCatchUpTicks);
+    this.spinThresholdNanos = Math.max(0, spinThresholdNanos);
+  }
+
+  /**
+   * Executa o loop na thread atual até que stop() seja chamado.
+   */
+  @Override
+  public void run() {
+    running = true;
+
+    long previousTime = System.nanoTime();
+    long accumulator = 0;
+    long nextFrameTime = previousTime;
+
+    long statsStart = previousTime;
+    long statsTicks = 0;
+    long statsFrames = 0;
+
+    while (running) {
+      long now = System.nanoTime();
+      accumulator += now - previousTime;
+      previousTime = now;
+
+      // Simulação em passo fixo, limitando a recuperação de atraso
+      int ticksThisPass = 0;
+      while (accumulator >= tickNanos && ticksThisPass < maxCatchUpTicks) {
+        try {
+          listener.tick();
+        } catch (Exception e) {
+          System.err.println("Erro durante o tick do jogo: " + e.getMessage());
+          e.printStackTrace();
+        }
+        accumulator -= tickNanos;
+        ticksThisPass++;
+        statsTicks++;
+        tickCount++;
+      }
+      if (accumulator >= tickNanos) {
+        // Atraso grande demais (ex.: depuração, GC longo): descartar em vez de acelerar o jogo
+        droppedTicks += accumulator / tickNanos;
+        accumulator %= tickNanos;
+      }
+
+      // Renderização desacoplada do tick
+      now = System.nanoTime();
+      if (frameNanos == 0 || now >= nextFrameTime) {
+        try {
+          listener.render((double) accumulator / tickNanos);
+        } catch (Exception e) {
+          System.err.println("Erro durante a renderização: " + e.getMessage());
+          e.printStackTrace();
+        }
+        statsFrames++;
+        renderCount++;
+        nextFrameTime += frameNanos;
+        if (nextFrameTime < now) {
+          nextFrameTime = now + frameNanos;
+        }
+      }
+
+      // Atualizar métricas uma vez por segundo
+      now = System.nanoTime();
+      long statsElapsed = now - statsStart;
+      if (statsElapsed >= NANOS_PER_SECOND) {
+        measuredTickRate = statsTicks * (double) NANOS_PER_SECOND / statsElapsed;
+        measuredRenderRate = statsFrames * (double) NANOS_PER_SECOND / statsElapsed;
+        statsTicks = 0;
+        statsFrames = 0;
+        statsStart = now;
+      }
+
+      // Dormir até o próximo evento (tick ou quadro)
+      long nextTickTime = previousTime + (tickNanos - accumulator);
+      long wakeTime = frameNanos > 0 ? Math.min(nextTickTime, nextFrameTime) : nextTickTime;
+      waitUntil(wakeTime);
+    }
+  }
+
+  /**
+   * Espera até o instante indicado: park enquanto houver folga, spin no final.
+   * @param deadline Instante alvo em System.nanoTime().
+   */
+  private void waitUntil(long deadline) {
+    while (running) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return;
+      }
+      if (remaining > spinThresholdNanos) {
+        LockSupport.parkNanos(remaining - spinThresholdNanos);
+      } else {
+        Thread.onSpinWait();
+      }
+    }
+  }
+
+  /**
+   * Solicita a parada do loop.
+   */
+  public void stop() {
+    running = false;
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * @return Ticks de simulação por segundo medidos no último segundo.
+   */
+  public double getMeasuredTickRate() {
+    return measuredTickRate;
+  }
+
+  /**
+   * @return Quadros renderizados por segundo medidos no último segundo.
+   */
+  public double getMeasuredRenderRate() {
+    return measuredRenderRate;
+  }
+
+  /**
+   * @return Total de ticks executados desde o início.
+   */
+  public long getTickCount() {
+    return tickCount;
+  }
+
+  /**
+   * @return Total de quadros renderizados desde o início.
+   */
+  public long getRenderCount() {
+    return renderCount;
+  }
+
+  /**
+   * @return Total de ticks descartados por excesso de atraso.
+   */
+  public long getDroppedTicks() {
+    return droppedTicks;
+  }
+
+  /**
+   * @return Duração de um tick em nanossegundos.
+   */
+  public long getTickNanos() {
+    return tickNanos;
+  }
+}
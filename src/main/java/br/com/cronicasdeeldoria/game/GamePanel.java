@@ -27,35 +27,72 @@ import br.com.cronicasdeeldoria.game.dialog.DialogUI;
 import br.com.cronicasdeeldoria.tile.TileManager;
 import br.com.cronicasdeeldoria.tile.TileManager.MapTile;
 import br.com.cronicasdeeldoria.config.CharacterConfigLoader;
+import br.com.cronicasdeeldoria.config.GameSettings;
+import br.com.cronicasdeeldoria.game.animation.GameClock;
+import br.com.cronicasdeeldoria.game.animation.NpcAnimationLibrary;
+import br.com.cronicasdeeldoria.game.render.ActiveRenderer;
+import br.com.cronicasdeeldoria.game.render.LowResFramebuffer;
+import br.com.cronicasdeeldoria.game.render.RenderMode;
+import br.com.cronicasdeeldoria.game.render.ScreenOverlay;
+import br.com.cronicasdeeldoria.game.render.Viewport;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import br.com.cronicasdeeldoria.entity.Entity;
 import br.com.cronicasdeeldoria.game.inventory.InventoryManager;
+import br.com.cronicasdeeldoria.game.inventory.ItemRegistry;
 import br.com.cronicasdeeldoria.game.merchant.MerchantManager;
 import br.com.cronicasdeeldoria.game.merchant.MerchantUI;
 import br.com.cronicasdeeldoria.game.teleport.TeleportManager;
 import br.com.cronicasdeeldoria.game.quest.QuestManager;
 import br.com.cronicasdeeldoria.audio.AudioManager;
 import br.com.cronicasdeeldoria.audio.AudioContext;
+import br.com.cronicasdeeldoria.game.debug.FrameProfiler;
+import br.com.cronicasdeeldoria.game.debug.FrameProfilerOverlay;
 import br.com.cronicasdeeldoria.game.effects.BattleEffectManager;
+import br.com.cronicasdeeldoria.game.effects.BattlePreloader;
 import br.com.cronicasdeeldoria.game.environment.EnvironmentEffectManager;
 import br.com.cronicasdeeldoria.game.environment.Season;
+import br.com.cronicasdeeldoria.game.replay.InputRecorder;
+import br.com.cronicasdeeldoria.game.replay.InputRecording;
 import java.time.LocalTime;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 /**
  * Painel principal do jogo, responsável pelo loop de atualização, renderização e gerenciamento dos elementos do jogo.
  */
 public class GamePanel extends JPanel implements Runnable{
-  private static final int FPS = 60;
-
   public int maxWorldCol;
   public int maxWorldRow;
   public final int worldWidth = getTileSize() * maxWorldCol;
   public final int worldHeight = getTileSize() * maxWorldRow;
 
   KeyHandler keyHandler = new KeyHandler();
+  private InputFocus inputFocus = InputFocus.of(this);
   Thread gameThread;
+  private GameLoop gameLoop;
+  private volatile double renderAlpha = 1.0;
+  private RenderMode renderMode = RenderMode.PASSIVE;
+  private ActiveRenderer activeRenderer;
+  private LowResFramebuffer lowResFramebuffer;
+  private final List<ScreenOverlay> screenOverlays = new CopyOnWriteArrayList<>();
+  private final FrameProfiler profiler = FrameProfiler.getInstance();
+  private final NpcScheduler npcScheduler = new NpcScheduler();
+  private volatile InputRecorder inputRecorder;
+  private InputRecording inputPlayback;
+  private long inputTick;
   private ColisionChecker colisionChecker = new ColisionChecker(this);
+  private MapLoader mapLoader;
+  private MapTransition mapTransition;
+  // Trocas de mapa pedidas durante outra transição, iniciadas em ordem quando ela termina
+  private final Deque<Runnable> queuedMapLoads = new ArrayDeque<>();
+  private ObjectSpriteLoader objectSpriteLoader;
+  private int prefetchTickCounter;
+  private static final int PREFETCH_INTERVAL_TICKS = 30;
 
   Player player;
   private int tileSize;
@@ -99,10 +136,11 @@ public class GamePanel extends JPanel implements Runnable{
   public Npc battleMonster = null;
   public Battle battle;
   private BattleEffectManager battleEffectManager;
+  private BattlePreloader battlePreloader;
 
   // Cooldown para evitar re-engajamento imediato
-  private long lastBattleEndTime = 0;
   private final long BATTLE_COOLDOWN = 1000; // 1 segundo de cooldown
+  private long lastBattleEndTime = -BATTLE_COOLDOWN; // Medido no tempo de execução do GameClock
 
   /**
    * Inicializa o painel do jogo com as configurações fornecidas.
@@ -116,6 +154,7 @@ public class GamePanel extends JPanel implements Runnable{
    */
   public GamePanel(int screenWidth, int screenHeight, String playerName, CharacterClass characterClass, int tileSize, int maxScreenRow, int maxScreenCol) {
     this.setPreferredSize(new Dimension(screenWidth, screenHeight));
+    this.setMinimumSize(new Dimension(screenWidth / 3, screenHeight / 3));
     this.maxScreenRow = maxScreenRow;
     this.maxScreenCol = maxScreenCol;
     this.setBackground(Color.BLACK);
@@ -125,6 +164,17 @@ public class GamePanel extends JPanel implements Runnable{
     this.setFocusable(true);
     this.playerClassName = characterClass.getCharacterClassName();
 
+    // Cada partida começa do início dos geradores aleatórios (semente fixa ou nova)
+    GameRandom.getInstance().beginSession();
+
+    // Framebuffer na resolução nativa da arte, ampliado uma única vez por quadro
+    GameSettings settings = GameSettings.getInstance();
+    int nativeTileSize = settings.getNativeTileSize();
+    if (settings.isLowResFramebuffer() && nativeTileSize > 0 && tileSize > nativeTileSize && tileSize % nativeTileSize == 0) {
+      int worldScale = tileSize / nativeTileSize;
+      this.lowResFramebuffer = new LowResFramebuffer(screenWidth / worldScale, screenHeight / worldScale, worldScale);
+    }
+
     this.battle = new Battle(this);
     this.battleEffectManager = new BattleEffectManager();
     try {
@@ -140,6 +190,12 @@ public class GamePanel extends JPanel implements Runnable{
 
     this.tileManager = new TileManager(this);
     this.maxWorldCol = tileManager.getMapWidth();
+
+    // Carregamento de mapas em segundo plano, com fade na troca
+    this.mapLoader = new MapLoader(tileManager, tileSize, playerSize, settings.getMapPrefetchCacheSize());
+    this.mapTransition = new MapTransition(settings.getMapFadeMillis() * settings.getTickRate() / 1000);
+    addScreenOverlay(mapTransition);
+    addScreenOverlay(new FrameProfilerOverlay(profiler));
     this.maxWorldRow = tileManager.getMapHeight();
 
     int x = (maxWorldCol * tileSize) / 2 - (playerSize / 2);
@@ -219,6 +275,13 @@ public class GamePanel extends JPanel implements Runnable{
     // Configurar contexto inicial de áudio
     AudioContext initialContext = AudioContext.fromMapName(currentMapName);
     audioManager.changeContext(initialContext);
+
+    // Gravação da entrada para replay (-Deldoria.recordInput=arquivo)
+    String recordFile = settings.getInputRecordFile();
+    if (recordFile != null && !recordFile.isBlank()) {
+      startInputRecording(Paths.get(recordFile));
+      Runtime.getRuntime().addShutdownHook(new Thread(this::stopInputRecording));
+    }
   }
 
   /**
@@ -227,72 +290,305 @@ public class GamePanel extends JPanel implements Runnable{
   public void startGameThread() {
     gameThread = new Thread(this);
     gameThread.start();
-    this.requestFocusInWindow(); // Garantir que o GamePanel tenha foco
+    inputFocus.requestFocus(); // Garantir que o GamePanel tenha foco
+  }
+
+  /**
+   * Substitui a origem do foco de teclado (ex.: InputFocus.ALWAYS no modo headless).
+   * @param inputFocus Nova origem do foco.
+   */
+  public void setInputFocus(InputFocus inputFocus) {
+    this.inputFocus = inputFocus;
+  }
+
+  /**
+   * Retorna o tratador de teclado, para entrada vinda de script.
+   * @return KeyHandler do jogo.
+   */
+  public KeyHandler getKeyHandler() {
+    return keyHandler;
   }
 
   @Override
-    public void run() {
-        double drawInterval = 1000000000/FPS;
-        double delta = 0;
-        long lastTime = System.nanoTime();
-        long currentTime;
-        long timer = 0;
-
-        while(gameThread != null) {
-            currentTime = System.nanoTime();
-            delta += (currentTime - lastTime) / drawInterval;
-            timer += (currentTime - lastTime);
-            lastTime = currentTime;
-
-            if(delta >= 1) {
-                update();
-                repaint();
-                delta--;
-            }
-            if(timer >= 1000000000) {
-                timer = 0;
-            }
+  public void run() {
+    GameSettings settings = GameSettings.getInstance();
+    renderMode = settings.getRenderMode();
+
+    int maxFps = settings.getMaxFps();
+    if (renderMode == RenderMode.ACTIVE) {
+      activeRenderer = new ActiveRenderer(this);
+      // Os quadros são apresentados pela thread do jogo; ignorar pedidos de repintura do sistema
+      setIgnoreRepaint(true);
+      if (settings.isVsync()) {
+        int refreshRate = ActiveRenderer.getDisplayRefreshRate(this);
+        if (refreshRate > 0) {
+          maxFps = refreshRate;
+        }
+      }
+    }
+
+    gameLoop = new GameLoop(new GameLoop.Listener() {
+      @Override
+      public void tick() {
+        update();
+      }
+
+      @Override
+      public void render(double alpha) {
+        renderAlpha = alpha;
+        if (renderMode == RenderMode.ACTIVE) {
+          activeRenderer.renderFrame(graphics2D -> {
+            prepareRenderState(alpha);
+            renderFrame(graphics2D);
+          });
+        } else {
+          repaint();
         }
+      }
+    }, settings.getTickRate(), maxFps, settings.getMaxCatchUpTicks(), settings.getSpinThresholdNanos());
+    gameLoop.run();
+
+    if (activeRenderer != null) {
+      activeRenderer.dispose();
     }
+  }
+
+  /**
+   * Retorna o modo de renderização em uso.
+   * @return RenderMode ativo ou passivo.
+   */
+  public RenderMode getRenderMode() {
+    return renderMode;
+  }
+
+  /**
+   * Interrompe o loop principal do jogo.
+   */
+  public void stopGameThread() {
+    if (gameLoop != null) {
+      gameLoop.stop();
+    }
+    gameThread = null;
+    stopInputRecording();
+  }
+
+  /**
+   * Passa a gravar o estado do teclado de cada tick, para reproduzir a sessão com setInputPlayback.
+   * Deve ser chamado antes do primeiro tick, para a gravação cobrir a partida inteira.
+   * @param file Arquivo de destino.
+   */
+  public void startInputRecording(Path file) {
+    try {
+      inputRecorder = new InputRecorder(file, GameRandom.getInstance().getSeed(), player.getName(), playerClassName);
+      mapTransition.setWaitForLoad(true);
+      PathfindingService.getInstance().setDeterministic(true);
+      AiJobQueue.getInstance().setDeterministic(true);
+      System.out.println("Gravando entrada em " + file.toAbsolutePath());
+    } catch (IOException e) {
+      System.err.println("Erro ao iniciar gravação de entrada: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Encerra a gravação da entrada, se houver.
+   */
+  public void stopInputRecording() {
+    InputRecorder recorder = inputRecorder;
+    inputRecorder = null;
+    if (recorder != null) {
+      try {
+        recorder.close();
+      } catch (IOException e) {
+        System.err.println("Erro ao finalizar gravação de entrada: " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Reproduz uma sessão gravada: a partir do próximo tick, o teclado segue a gravação
+   * em vez dos eventos reais. A partida deve ter sido criada com a semente da gravação
+   * (GameRandom.setSeed) e com o mesmo jogador, sem nenhum tick antes.
+   * @param recording Sessão gravada.
+   */
+  public void setInputPlayback(InputRecording recording) {
+    this.inputPlayback = recording;
+    mapTransition.setWaitForLoad(true);
+    PathfindingService.getInstance().setDeterministic(true);
+    AiJobQueue.getInstance().setDeterministic(true);
+  }
+
+  /**
+   * @return true quando o replay chegou ao fim da gravação.
+   */
+  public boolean isInputPlaybackFinished() {
+    return inputPlayback != null && inputTick >= inputPlayback.getLength();
+  }
+
+  /**
+   * Retorna o loop do jogo, para consulta das taxas medidas de tick e renderização.
+   * @return GameLoop em execução ou null se ainda não iniciado.
+   */
+  public GameLoop getGameLoop() {
+    return gameLoop;
+  }
+
+  /**
+   * Prepara as posições interpoladas de renderização do player e dos NPCs.
+   * @param alpha Fração do próximo tick já decorrida.
+   */
+  private void prepareRenderState(double alpha) {
+    if (player != null) {
+      player.prepareRender(alpha);
+    }
+    if (npcs != null && !npcs.isEmpty()) {
+      for (int i = 0; i < npcs.size(); i++) {
+        npcs.get(i).prepareRender(alpha);
+      }
+    }
+  }
 
     /**
      * Atualiza o estado do jogo.
      */
     public void update() {
+      processInput();
+      handleProfilerKeys();
+      PathfindingService.getInstance().beginFrame();
+      long start = profiler.start();
+      updateState();
+      profiler.record(FrameProfiler.Phase.UPDATE, start);
+    }
+
+    /**
+     * Aplica os eventos de teclado do tick e grava ou reproduz o estado resultante.
+     */
+    private void processInput() {
+      keyHandler.pollEvents();
+      if (inputPlayback != null) {
+        // Depois do fim da gravação, nenhuma tecla fica presa
+        keyHandler.setState(inputTick < inputPlayback.getLength() ? inputPlayback.stateAt(inputTick) : 0);
+      } else if (inputRecorder != null) {
+        try {
+          inputRecorder.record(keyHandler.getState());
+        } catch (IOException e) {
+          System.err.println("Erro ao gravar entrada: " + e.getMessage());
+          stopInputRecording();
+        }
+      }
+      inputTick++;
+    }
+
+    /**
+     * F3 liga/desliga o profiler de quadros; F4 grava suas estatísticas em CSV.
+     */
+    private void handleProfilerKeys() {
+      if (keyHandler.profilerTogglePressed) {
+        keyHandler.profilerTogglePressed = false;
+        profiler.setEnabled(!profiler.isEnabled());
+      }
+      if (keyHandler.profilerDumpPressed) {
+        keyHandler.profilerDumpPressed = false;
+        try {
+          Path file = profiler.dumpCsv(Paths.get(GameSettings.getInstance().getProfileDir()));
+          System.out.println("Perfil de quadros gravado em " + file.toAbsolutePath());
+        } catch (IOException e) {
+          System.err.println("Erro ao gravar perfil de quadros: " + e.getMessage());
+        }
+      }
+    }
+
+    private void updateState() {
+      // Tempo de execução (efeitos de interface e de batalha) avança em qualquer estado
+      GameClock.getInstance().advanceUptime();
+
+      // Guardar posições do tick anterior para interpolação na renderização
+      player.savePreviousPosition();
+      if (npcs != null && !npcs.isEmpty()) {
+        for (Npc npc : npcs) {
+          npc.savePreviousPosition();
+        }
+      }
+
+      // Troca de mapa em andamento: o novo mapa é aplicado aqui, entre dois ticks
+      if (mapTransition.isActive()) {
+        mapTransition.tick(this::applyLoadedMap);
+        if (mapTransition.isBlocking()) {
+          return;
+        }
+      }
+      if (!mapTransition.isActive() && !queuedMapLoads.isEmpty()) {
+        queuedMapLoads.poll().run();
+      }
 
       if (gameState == tutorialState) {
         updateTutorial();
       }
 
       if (gameState == playState) {
+        // Relógio do mundo (animações) só avança com o jogo em andamento
+        GameClock.getInstance().advance();
+
+        long phaseStart = profiler.start();
         player.update();
+        profiler.record(FrameProfiler.Phase.PLAYER_UPDATE, phaseStart);
 
         // Atualizar NPCs apenas se houver NPCs no mapa
+        phaseStart = profiler.start();
+        AiJobQueue aiJobs = AiJobQueue.getInstance();
+        aiJobs.applyResults();
         if (npcs != null && !npcs.isEmpty()) {
-          // Criar uma cópia da lista para evitar ConcurrentModificationException
-          List<Npc> npcsCopy = new ArrayList<>(npcs);
-          for (Npc npc : npcsCopy) {
-            npc.update(this, player);
-          }
+          // NPCs longe da tela atualizam com menos frequência
+          npcScheduler.update(this, npcs, player, player.getWorldX() - player.getScreenX(),
+            player.getWorldY() - player.getScreenY(), getScreenWidth(), getScreenHeight());
         }
+        profiler.record(FrameProfiler.Phase.NPC_UPDATE, phaseStart);
+
+        // Decisões caras de IA, dentro do orçamento do tick
+        phaseStart = profiler.start();
+        aiJobs.runJobs();
+        profiler.record(FrameProfiler.Phase.AI_JOBS, phaseStart);
 
         // Atualizar objetos
+        phaseStart = profiler.start();
         if (objectManager != null) {
           objectManager.updateActiveObjects(player.getWorldX() / tileSize, player.getWorldY() / tileSize);
         }
+        profiler.record(FrameProfiler.Phase.OBJECT_UPDATE, phaseStart);
+
+        // Partículas de clima do mapa
+        if (environmentEffectManager != null) {
+          environmentEffectManager.update(1f / GameSettings.getInstance().getTickRate(),
+            player.getWorldX() - player.getScreenX(), player.getWorldY() - player.getScreenY(),
+            getScreenWidth(), getScreenHeight());
+        }
 
         // Atualizar pontos de interação
+        phaseStart = profiler.start();
         updateInteractionPoints();
+        profiler.record(FrameProfiler.Phase.INTERACTION, phaseStart);
 
         // Verificar teleportes automáticos
+        phaseStart = profiler.start();
         checkAutomaticTeleports();
+        profiler.record(FrameProfiler.Phase.TELEPORTS, phaseStart);
+
+        // Pré-carregar destinos dos teleportes próximos e assets de batalha
+        if (++prefetchTickCounter >= PREFETCH_INTERVAL_TICKS) {
+          prefetchTickCounter = 0;
+          phaseStart = profiler.start();
+          prefetchNearbyTeleports();
+          prefetchBattleAssets();
+          profiler.record(FrameProfiler.Phase.PREFETCH, phaseStart);
+        }
 
         // Atualizar sistema de quests
+        phaseStart = profiler.start();
         updateQuests();
+        profiler.record(FrameProfiler.Phase.QUESTS, phaseStart);
 
         // Verificar se o GamePanel perdeu o foco e restaurá-lo
-        if (!this.hasFocus()) {
-          this.requestFocusInWindow();
+        if (!inputFocus.hasFocus()) {
+          inputFocus.requestFocus();
         }
 
         // Controle do inventário
@@ -351,6 +647,9 @@ public class GamePanel extends JPanel implements Runnable{
       Npc monster = (Npc) targetEntity;
       battleMonster = monster;
 
+      // Imagens da cena (normalmente já decodificadas pelo pré-carregamento)
+      battlePreloader.prepare(player, monster, currentMapName);
+
       // Iniciar batalha
       battle.startBattle(player, monster);
 
@@ -440,7 +739,11 @@ public class GamePanel extends JPanel implements Runnable{
 
     // Limpar estado de batalha
     battle.endBattle();
-    if (battleEffectManager != null) battleEffectManager.clearAll();
+    if (battleEffectManager != null) {
+      battleEffectManager.clearAll();
+      battleEffectManager.releaseAssets();
+    }
+    battlePreloader.clear();
 
     if (playerWon) {
       // Entrar no estado de vitória
@@ -459,7 +762,7 @@ public class GamePanel extends JPanel implements Runnable{
     }
 
     battleMonster = null;
-    lastBattleEndTime = System.currentTimeMillis();
+    lastBattleEndTime = GameClock.getInstance().getUptimeMillis();
   }
 
   /**
@@ -539,7 +842,7 @@ public class GamePanel extends JPanel implements Runnable{
         if (gameState == battleState) return;
 
         // Verificar cooldown de batalha para evitar re-engajamento imediato
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.getInstance().getUptimeMillis();
         if (currentTime - lastBattleEndTime < BATTLE_COOLDOWN) return;
 
         // Verificar interação com NPCs apenas se houver NPCs no mapa
@@ -548,10 +851,7 @@ public class GamePanel extends JPanel implements Runnable{
             List<Npc> npcsCopy = new ArrayList<>(npcs);
             for (Npc npc : npcsCopy) {
                 // Verificar se é um monstro (usar distância de 5 tiles)
-                if (npc instanceof WolfMonster || npc instanceof SkeletonMonster ||
-                    npc instanceof FrostbornMonster || npc instanceof OrcMonster ||
-                    npc instanceof FrostbornBossMonster || npc instanceof OrcBossMonster ||
-                    npc instanceof SkeletonBossMonster || npc instanceof WolfBossMonster) {
+                if (isBattleMonster(npc)) {
 
                     boolean isNearMonster = isPlayerNearMonster(player, npc.getWorldX(), npc.getWorldY());
                     if (isNearMonster && npc.isInteractive()) {
@@ -699,7 +999,7 @@ public class GamePanel extends JPanel implements Runnable{
         if (gameState == battleState) return;
 
         // Verificar cooldown de batalha para evitar re-engajamento imediato
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.getInstance().getUptimeMillis();
         if (currentTime - lastBattleEndTime < BATTLE_COOLDOWN) return;
 
         // Verificar interação com monstros primeiro (maior prioridade) apenas se houver NPCs
@@ -780,280 +1080,262 @@ public class GamePanel extends JPanel implements Runnable{
       super.paintComponent(graphics);
       Graphics2D graphics2D = (Graphics2D) graphics;
 
-      if (gameState == playState) {
-        // Renderização normal do jogo - apenas camadas de fundo (sem overlay)
-        tileManager.drawBackgroundLayers(graphics2D);
+      // No modo ativo a thread do jogo já desenhou o quadro; apenas reaproveitar o último
+      if (renderMode == RenderMode.ACTIVE && activeRenderer != null) {
+        activeRenderer.blitLastFrame(graphics2D);
+        return;
+      }
 
-        // Renderizar objetos
-        if (objectManager != null) {
-          objectManager.drawObjects(graphics2D);
-        }
+      prepareRenderState(renderAlpha);
+      renderFrame(graphics2D);
+      graphics2D.dispose();
+    }
 
-        // Renderizar NPCs apenas se houver NPCs no mapa
-        if (npcs != null && !npcs.isEmpty()) {
-          // Criar uma cópia da lista para evitar ConcurrentModificationException
-          List<Npc> npcsCopy = new ArrayList<>(npcs);
-          for (Npc npc : npcsCopy) {
-            npc.draw(graphics2D, npcSpriteLoader, tileSize, player, player.getScreenX(), player.getScreenY());
-          }
+    /**
+     * Desenha um quadro completo do estado atual do jogo.
+     * Usado tanto pelo caminho passivo (paintComponent) quanto pelo ativo (back buffer).
+     * O mundo é desenhado primeiro (no framebuffer de baixa resolução, quando ativo)
+     * e a interface depois, já na resolução da janela.
+     * @param graphics2D Contexto gráfico de destino.
+     */
+    public void renderFrame(Graphics2D graphics2D) {
+      renderFrame(graphics2D, getWidth(), getHeight());
+    }
+
+    /**
+     * Desenha o estado atual numa imagem fora da tela, sem janela (modo headless).
+     * @param graphics2D Contexto gráfico da imagem.
+     * @param width Largura da imagem.
+     * @param height Altura da imagem.
+     */
+    public void renderOffscreen(Graphics2D graphics2D, int width, int height) {
+      prepareRenderState(1.0);
+      renderFrame(graphics2D, width, height);
+    }
+
+    private void renderFrame(Graphics2D graphics2D, int targetWidth, int targetHeight) {
+      long frameStart = profiler.start();
+      int screenWidth = getScreenWidth();
+      int screenHeight = getScreenHeight();
+      Viewport viewport = lowResFramebuffer != null
+          ? Viewport.fit(targetWidth, targetHeight, lowResFramebuffer.getWidth(), lowResFramebuffer.getHeight(), screenWidth, screenHeight)
+          : Viewport.fit(targetWidth, targetHeight, screenWidth, screenHeight, screenWidth, screenHeight);
+
+      // 1. Mundo (mapa, entidades, efeitos de ambiente)
+      if (gameState != tutorialState && gameState != battleState) {
+        Graphics2D worldGraphics = lowResFramebuffer != null
+            ? lowResFramebuffer.beginFrame(getGraphicsConfiguration())
+            : viewport.createLogicalGraphics(graphics2D);
+        try {
+          drawWorld(worldGraphics);
+          drawOverlays(worldGraphics, ScreenOverlay.Stage.BEFORE_UPSCALE);
+        } finally {
+          worldGraphics.dispose();
+        }
+        if (lowResFramebuffer != null) {
+          lowResFramebuffer.present(graphics2D, viewport);
         }
+      }
 
-        // Renderizar player
-        player.draw(graphics2D);
+      // 2. Interface, na resolução da janela
+      Graphics2D screenGraphics = viewport.createLogicalGraphics(graphics2D);
+      try {
+        long uiStart = profiler.start();
+        drawScreen(screenGraphics);
+        profiler.record(FrameProfiler.Phase.GAME_UI, uiStart);
+        drawOverlays(screenGraphics, ScreenOverlay.Stage.AFTER_UPSCALE);
+      } finally {
+        screenGraphics.dispose();
+      }
+      profiler.record(FrameProfiler.Phase.FRAME, frameStart);
+    }
+
+    /**
+     * Desenha o mundo do jogo em coordenadas da tela lógica.
+     * @param graphics2D Contexto gráfico.
+     */
+    private void drawWorld(Graphics2D graphics2D) {
+      if (gameState == playState || gameState == merchantState ||
+          gameState == dialogState || gameState == inventoryState) {
+        // Renderização normal do jogo - apenas camadas de fundo (sem overlay)
+        long phaseStart = profiler.start();
+        tileManager.drawBackgroundLayers(graphics2D);
+        profiler.record(FrameProfiler.Phase.BACKGROUND_TILES, phaseStart);
+
+        drawWorldEntities(graphics2D);
 
         // Renderizar camadas overlay APÓS o player (para efeito de profundidade)
+        phaseStart = profiler.start();
         tileManager.drawOverlayLayers(graphics2D);
+        profiler.record(FrameProfiler.Phase.OVERLAY_TILES, phaseStart);
 
         // Efeito de ambiente acima do overlay e relativo ao mundo (scroll com mapa)
+        phaseStart = profiler.start();
         if (environmentEffectManager != null) {
-          int worldOriginX = player.getWorldX() - player.getScreenX();
-          int worldOriginY = player.getWorldY() - player.getScreenY();
+          int worldOriginX = player.getRenderX() - player.getScreenX();
+          int worldOriginY = player.getRenderY() - player.getScreenY();
           environmentEffectManager.drawWorldRelative(graphics2D, worldOriginX, worldOriginY, getScreenWidth(), getScreenHeight());
         }
+        profiler.record(FrameProfiler.Phase.ENVIRONMENT, phaseStart);
 
-        // Renderizar teclas de interação APÓS as camadas overlay (para ficarem por cima)
-        // Renderizar teclas de interação para NPCs
-        if (npcs != null && !npcs.isEmpty() && simpleInteractionManager != null) {
-            // Criar uma cópia da lista para evitar ConcurrentModificationException
-            List<Npc> npcsCopy = new ArrayList<>(npcs);
-            for (Npc npc : npcsCopy) {
-                simpleInteractionManager.renderInteractionKeyForEntity(graphics2D,
-                    npc.getWorldX(), npc.getWorldY(),
-                    npc.getWorldX() - player.getWorldX() + player.getScreenX(),
-                    npc.getWorldY() - player.getWorldY() + player.getScreenY(),
-                    "npc", tileSize);
-            }
+        if (gameState == playState) {
+          drawInteractionKeys(graphics2D);
         }
+      } else if (gameState == pauseState || gameState == victoryState || gameState == endgameState) {
+        // Desenha o jogo de fundo durante pausa, vitória e endgame
+        tileManager.draw(graphics2D);
 
-        // Renderizar teclas de interação para objetos
-        if (objectManager != null && simpleInteractionManager != null) {
-            for (MapObject obj : objectManager.getActiveObjects()) {
-                if (obj.isActive()) {
-                    simpleInteractionManager.renderInteractionKeyForEntity(graphics2D,
-                        obj.getWorldX(), obj.getWorldY(),
-                        obj.getWorldX() - player.getWorldX() + player.getScreenX(),
-                        obj.getWorldY() - player.getWorldY() + player.getScreenY(),
-                        "object", tileSize);
-                }
-            }
-        }
+        drawWorldEntities(graphics2D);
+      }
+    }
 
-        // Renderizar teclas de interação para teleportes (apenas os configurados)
-        if (simpleInteractionManager != null) {
-            List<MapTile> teleportTiles = tileManager.getTeleportTiles();
-            for (MapTile teleportTile : teleportTiles) {
-                // Verificar se o teleporte está configurado no TeleportManager e é interativo
-                if (teleportTile.interactive != null && teleportTile.interactive &&
-                    teleportTile.id != null && teleportManager.hasTeleport(teleportTile.id)) {
-                    int teleportWorldX = teleportTile.x * tileSize;
-                    int teleportWorldY = teleportTile.y * tileSize;
-
-                    // Usar o método específico para tiles que centraliza a tecla
-                    simpleInteractionManager.renderInteractionKeyForTile(graphics2D,
-                        teleportWorldX, teleportWorldY,
-                        teleportWorldX - player.getWorldX() + player.getScreenX(),
-                        teleportWorldY - player.getWorldY() + player.getScreenY(),
-                        "teleport", tileSize);
-                }
-            }
+    /**
+     * Desenha objetos, NPCs e o player.
+     * @param graphics2D Contexto gráfico.
+     */
+    private void drawWorldEntities(Graphics2D graphics2D) {
+      // Renderizar objetos
+      long phaseStart = profiler.start();
+      if (objectManager != null) {
+        objectManager.drawObjects(graphics2D);
+      }
+      profiler.record(FrameProfiler.Phase.OBJECT_DRAW, phaseStart);
+
+      // Renderizar NPCs apenas se houver NPCs no mapa
+      phaseStart = profiler.start();
+      if (npcs != null && !npcs.isEmpty()) {
+        // Criar uma cópia da lista para evitar ConcurrentModificationException
+        List<Npc> npcsCopy = new ArrayList<>(npcs);
+        for (Npc npc : npcsCopy) {
+          npc.draw(graphics2D, npcSpriteLoader, tileSize, player, player.getScreenX(), player.getScreenY());
         }
+      }
+      profiler.record(FrameProfiler.Phase.NPC_DRAW, phaseStart);
 
-        // Interface normal de jogo
-        gameUI.draw(graphics2D);
-
-      } else if (gameState == tutorialState) {
-        // Renderizar tela de tutorial
-        drawTutorialScreen(graphics2D);
-      } else if (gameState == battleState) {
-        // Desenhar interface de batalha
-        gameUI.drawBattleUI(graphics2D);
-      } else if (gameState == merchantState) {
-        // Desenha o jogo de fundo mesmo durante o comerciante (para transparência)
-        tileManager.drawBackgroundLayers(graphics2D);
-
-        // Renderizar objetos
-        if (objectManager != null) {
-          objectManager.drawObjects(graphics2D);
-        }
+      // Renderizar player
+      phaseStart = profiler.start();
+      player.draw(graphics2D);
+      profiler.record(FrameProfiler.Phase.PLAYER_DRAW, phaseStart);
+    }
 
-        // Renderizar NPCs apenas se houver NPCs no mapa
-        if (npcs != null && !npcs.isEmpty()) {
+    /**
+     * Desenha as teclas de interação de NPCs, objetos e teleportes.
+     * @param graphics2D Contexto gráfico.
+     */
+    private void drawInteractionKeys(Graphics2D graphics2D) {
+      // Renderizar teclas de interação para NPCs
+      if (npcs != null && !npcs.isEmpty() && simpleInteractionManager != null) {
           // Criar uma cópia da lista para evitar ConcurrentModificationException
           List<Npc> npcsCopy = new ArrayList<>(npcs);
           for (Npc npc : npcsCopy) {
-            npc.draw(graphics2D, npcSpriteLoader, tileSize, player, player.getScreenX(), player.getScreenY());
+              simpleInteractionManager.renderInteractionKeyForEntity(graphics2D,
+                  npc.getWorldX(), npc.getWorldY(),
+                  npc.getRenderX() - player.getRenderX() + player.getScreenX(),
+                  npc.getRenderY() - player.getRenderY() + player.getScreenY(),
+                  "npc", tileSize);
           }
-        }
+      }
 
-        // Renderizar player
-        player.draw(graphics2D);
+      // Renderizar teclas de interação para objetos
+      if (objectManager != null && simpleInteractionManager != null) {
+          for (MapObject obj : objectManager.getActiveObjects()) {
+              if (obj.isActive()) {
+                  simpleInteractionManager.renderInteractionKeyForEntity(graphics2D,
+                      obj.getWorldX(), obj.getWorldY(),
+                      obj.getWorldX() - player.getRenderX() + player.getScreenX(),
+                      obj.getWorldY() - player.getRenderY() + player.getScreenY(),
+                      "object", tileSize);
+              }
+          }
+      }
 
-        // Renderizar camadas overlay APÓS o player (para efeito de profundidade)
-        tileManager.drawOverlayLayers(graphics2D);
+      // Renderizar teclas de interação para teleportes (apenas os configurados)
+      if (simpleInteractionManager != null) {
+          List<MapTile> teleportTiles = tileManager.getTeleportTiles();
+          for (MapTile teleportTile : teleportTiles) {
+              // Verificar se o teleporte está configurado no TeleportManager e é interativo
+              if (teleportTile.interactive != null && teleportTile.interactive &&
+                  teleportTile.id != null && teleportManager.hasTeleport(teleportTile.id)) {
+                  int teleportWorldX = teleportTile.x * tileSize;
+                  int teleportWorldY = teleportTile.y * tileSize;
+
+                  // Usar o método específico para tiles que centraliza a tecla
+                  simpleInteractionManager.renderInteractionKeyForTile(graphics2D,
+                      teleportWorldX, teleportWorldY,
+                      teleportWorldX - player.getRenderX() + player.getScreenX(),
+                      teleportWorldY - player.getRenderY() + player.getScreenY(),
+                      "teleport", tileSize);
+              }
+          }
+      }
+    }
 
-        if (environmentEffectManager != null) {
-          int worldOriginX = player.getWorldX() - player.getScreenX();
-          int worldOriginY = player.getWorldY() - player.getScreenY();
-          environmentEffectManager.drawWorldRelative(graphics2D, worldOriginX, worldOriginY, getScreenWidth(), getScreenHeight());
-        }
+    /**
+     * Desenha a interface do estado atual em coordenadas da tela lógica.
+     * @param graphics2D Contexto gráfico.
+     */
+    private void drawScreen(Graphics2D graphics2D) {
+      if (gameState == tutorialState) {
+        // Renderizar tela de tutorial
+        drawTutorialScreen(graphics2D);
+        return;
+      }
+      if (gameState == battleState) {
+        // Desenhar interface de batalha
+        gameUI.drawBattleUI(graphics2D);
+        return;
+      }
 
-        // Interface normal de jogo
-        gameUI.draw(graphics2D);
+      // Interface normal de jogo
+      gameUI.draw(graphics2D);
 
+      if (gameState == merchantState) {
         // Desenhar interface do comerciante por cima (transparente)
         merchantUI.draw(graphics2D, merchantManager);
       } else if (gameState == dialogState) {
-        // Desenha o jogo de fundo mesmo durante o diálogo
-        tileManager.drawBackgroundLayers(graphics2D);
-
-        // Renderizar objetos
-        if (objectManager != null) {
-          objectManager.drawObjects(graphics2D);
-        }
-
-        // Renderizar NPCs apenas se houver NPCs no mapa
-        if (npcs != null && !npcs.isEmpty()) {
-          // Criar uma cópia da lista para evitar ConcurrentModificationException
-          List<Npc> npcsCopy = new ArrayList<>(npcs);
-          for (Npc npc : npcsCopy) {
-            npc.draw(graphics2D, npcSpriteLoader, tileSize, player, player.getScreenX(), player.getScreenY());
-          }
-        }
-
-        // Renderizar player
-        player.draw(graphics2D);
-
-        // Renderizar camadas overlay APÓS o player (para efeito de profundidade)
-        tileManager.drawOverlayLayers(graphics2D);
-
-        if (environmentEffectManager != null) {
-          int worldOriginX = player.getWorldX() - player.getScreenX();
-          int worldOriginY = player.getWorldY() - player.getScreenY();
-          environmentEffectManager.drawWorldRelative(graphics2D, worldOriginX, worldOriginY, getScreenWidth(), getScreenHeight());
-        }
-
-        // Interface normal de jogo
-        gameUI.draw(graphics2D);
-
         // Desenhar interface de diálogo por cima
         dialogUI.draw(graphics2D, dialogManager);
       } else if (gameState == inventoryState) {
-        // Desenha o jogo de fundo mesmo durante o inventário (para transparência)
-        tileManager.drawBackgroundLayers(graphics2D);
-
-        // Renderizar objetos
-        if (objectManager != null) {
-          objectManager.drawObjects(graphics2D);
-        }
-
-        // Renderizar NPCs apenas se houver NPCs no mapa
-        if (npcs != null && !npcs.isEmpty()) {
-          // Criar uma cópia da lista para evitar ConcurrentModificationException
-          List<Npc> npcsCopy = new ArrayList<>(npcs);
-          for (Npc npc : npcsCopy) {
-            npc.draw(graphics2D, npcSpriteLoader, tileSize, player, player.getScreenX(), player.getScreenY());
-          }
-        }
-
-        // Renderizar player
-        player.draw(graphics2D);
-
-        // Renderizar camadas overlay APÓS o player (para efeito de profundidade)
-        tileManager.drawOverlayLayers(graphics2D);
-
-        if (environmentEffectManager != null) {
-          int worldOriginX = player.getWorldX() - player.getScreenX();
-          int worldOriginY = player.getWorldY() - player.getScreenY();
-          environmentEffectManager.drawWorldRelative(graphics2D, worldOriginX, worldOriginY, getScreenWidth(), getScreenHeight());
-        }
-
-        // Interface normal de jogo
-        gameUI.draw(graphics2D);
-
         // Desenhar interface do inventário por cima (transparente)
         if (inventoryManager != null) {
           gameUI.drawInventoryUI(graphics2D, inventoryManager);
         }
       } else if (gameState == pauseState) {
-        // Desenha o jogo de fundo durante a pausa
-        tileManager.draw(graphics2D);
-
-        // Renderizar objetos
-        if (objectManager != null) {
-          objectManager.drawObjects(graphics2D);
-        }
-
-        // Renderizar NPCs apenas se houver NPCs no mapa
-        if (npcs != null && !npcs.isEmpty()) {
-          // Criar uma cópia da lista para evitar ConcurrentModificationException
-          List<Npc> npcsCopy = new ArrayList<>(npcs);
-          for (Npc npc : npcsCopy) {
-            npc.draw(graphics2D, npcSpriteLoader, tileSize, player, player.getScreenX(), player.getScreenY());
-          }
-        }
-
-        // Renderizar player
-        player.draw(graphics2D);
-
-        // Interface normal de jogo
-        gameUI.draw(graphics2D);
-
         // Desenhar overlay de pausa
         drawPauseOverlay(graphics2D);
       } else if (gameState == victoryState) {
-        // Desenha o jogo de fundo durante a vitória
-        tileManager.draw(graphics2D);
-
-        // Renderizar objetos
-        if (objectManager != null) {
-          objectManager.drawObjects(graphics2D);
-        }
-
-        // Renderizar NPCs apenas se houver NPCs no mapa
-        if (npcs != null && !npcs.isEmpty()) {
-          // Criar uma cópia da lista para evitar ConcurrentModificationException
-          List<Npc> npcsCopy = new ArrayList<>(npcs);
-          for (Npc npc : npcsCopy) {
-            npc.draw(graphics2D, npcSpriteLoader, tileSize, player, player.getScreenX(), player.getScreenY());
-          }
-        }
-
-        // Renderizar player
-        player.draw(graphics2D);
-
-        // Interface normal de jogo
-        gameUI.draw(graphics2D);
-
         // Desenhar overlay de vitória
         drawVictoryOverlay(graphics2D);
       } else if (gameState == endgameState) {
-        // Desenha o jogo de fundo durante o endgame
-        tileManager.draw(graphics2D);
-
-        // Renderizar objetos
-        if (objectManager != null) {
-          objectManager.drawObjects(graphics2D);
-        }
+        // Desenhar overlay de endgame
+        drawEndgameOverlay(graphics2D);
+      }
+    }
 
-        // Renderizar NPCs apenas se houver NPCs no mapa
-        if (npcs != null && !npcs.isEmpty()) {
-          // Criar uma cópia da lista para evitar ConcurrentModificationException
-          List<Npc> npcsCopy = new ArrayList<>(npcs);
-          for (Npc npc : npcsCopy) {
-            npc.draw(graphics2D, npcSpriteLoader, tileSize, player, player.getScreenX(), player.getScreenY());
-          }
+    private void drawOverlays(Graphics2D graphics2D, ScreenOverlay.Stage stage) {
+      for (ScreenOverlay overlay : screenOverlays) {
+        if (overlay.getStage() == stage) {
+          overlay.draw(graphics2D, getScreenWidth(), getScreenHeight());
         }
+      }
+    }
 
-        // Renderizar player
-        player.draw(graphics2D);
-
-        // Interface normal de jogo
-        gameUI.draw(graphics2D);
-
-        // Desenhar overlay de endgame
-        drawEndgameOverlay(graphics2D);
+    /**
+     * Registra um overlay desenhado antes ou depois da ampliação do mundo.
+     * @param overlay Overlay a adicionar.
+     */
+    public void addScreenOverlay(ScreenOverlay overlay) {
+      if (overlay != null && !screenOverlays.contains(overlay)) {
+        screenOverlays.add(overlay);
       }
-      graphics2D.dispose();
+    }
+
+    /**
+     * Remove um overlay registrado.
+     * @param overlay Overlay a remover.
+     */
+    public void removeScreenOverlay(ScreenOverlay overlay) {
+      screenOverlays.remove(overlay);
     }
 
   /**
@@ -1063,7 +1345,7 @@ public class GamePanel extends JPanel implements Runnable{
   private void drawTutorialScreen(Graphics2D graphics2D) {
     // Fundo preto
     graphics2D.setColor(Color.BLACK);
-    graphics2D.fillRect(0, 0, getWidth(), getHeight());
+    graphics2D.fillRect(0, 0, getScreenWidth(), getScreenHeight());
 
     // Configurar fontes
     Font titleFont = FontManager.getDefaultFont().deriveFont(Font.BOLD, 24f);
@@ -1075,13 +1357,13 @@ public class GamePanel extends JPanel implements Runnable{
     graphics2D.setFont(titleFont);
     String title = "CRÔNICAS DE ELDORIA";
     int titleWidth = graphics2D.getFontMetrics().stringWidth(title);
-    graphics2D.drawString(title, (getWidth() - titleWidth) / 2, 80);
+    graphics2D.drawString(title, (getScreenWidth() - titleWidth) / 2, 80);
 
     // Subtítulo
     graphics2D.setFont(commandFont);
     String subtitle = "CONTROLES DO JOGO";
     int subtitleWidth = graphics2D.getFontMetrics().stringWidth(subtitle);
-    graphics2D.drawString(subtitle, (getWidth() - subtitleWidth) / 2, 120);
+    graphics2D.drawString(subtitle, (getScreenWidth() - subtitleWidth) / 2, 120);
 
     // Comandos
     graphics2D.setFont(commandFont);
@@ -1102,7 +1384,7 @@ public class GamePanel extends JPanel implements Runnable{
       // Desenhar descrição em branco
       graphics2D.setColor(Color.WHITE);
       int descriptionWidth = graphics2D.getFontMetrics().stringWidth(commands[i][1]);
-      graphics2D.drawString(commands[i][1],  (getWidth() - descriptionWidth) / 2, startY + (i * lineHeight));
+      graphics2D.drawString(commands[i][1],  (getScreenWidth() - descriptionWidth) / 2, startY + (i * lineHeight));
     }
 
     // Instrução para continuar
@@ -1110,12 +1392,12 @@ public class GamePanel extends JPanel implements Runnable{
     graphics2D.setColor(Color.YELLOW);
     String instruction = "Pressione E para começar a jogar";
     int instructionWidth = graphics2D.getFontMetrics().stringWidth(instruction);
-    graphics2D.drawString(instruction, (getWidth() - instructionWidth) / 2, getHeight() - 80);
+    graphics2D.drawString(instruction, (getScreenWidth() - instructionWidth) / 2, getScreenHeight() - 80);
 
     // Efeito de piscar
     long currentTime = System.currentTimeMillis();
     if ((currentTime / 500) % 2 == 0) {
-      graphics2D.drawString(instruction, (getWidth() - instructionWidth) / 2, getHeight() - 80);
+      graphics2D.drawString(instruction, (getScreenWidth() - instructionWidth) / 2, getScreenHeight() - 80);
     }
   }
 
@@ -1125,13 +1407,13 @@ public class GamePanel extends JPanel implements Runnable{
   private void drawPauseOverlay(Graphics2D g2) {
     // Overlay semi-transparente
     g2.setColor(new Color(0, 0, 0, 150));
-    g2.fillRect(0, 0, getWidth(), getHeight());
+    g2.fillRect(0, 0, getScreenWidth(), getScreenHeight());
 
     // Caixa de pausa centralizada
     int boxWidth = 300;
     int boxHeight = 150;
-    int boxX = (getWidth() - boxWidth) / 2;
-    int boxY = (getHeight() - boxHeight) / 2;
+    int boxX = (getScreenWidth() - boxWidth) / 2;
+    int boxY = (getScreenHeight() - boxHeight) / 2;
 
     // Sombra da caixa
     g2.setColor(new Color(0, 0, 0, 100));
@@ -1184,13 +1466,13 @@ public class GamePanel extends JPanel implements Runnable{
   private void drawVictoryOverlay(Graphics2D g2) {
     // Overlay semi-transparente
     g2.setColor(new Color(0, 0, 0, 150));
-    g2.fillRect(0, 0, getWidth(), getHeight());
+    g2.fillRect(0, 0, getScreenWidth(), getScreenHeight());
 
     // Caixa de vitória centralizada
     int boxWidth = 400;
     int boxHeight = 200;
-    int boxX = (getWidth() - boxWidth) / 2;
-    int boxY = (getHeight() - boxHeight) / 2;
+    int boxX = (getScreenWidth() - boxWidth) / 2;
+    int boxY = (getScreenHeight() - boxHeight) / 2;
 
     // Sombra da caixa
     g2.setColor(new Color(0, 0, 0, 100));
@@ -1245,13 +1527,13 @@ public class GamePanel extends JPanel implements Runnable{
 
     // Overlay semi-transparente
     g2.setColor(new Color(0, 0, 0, 150));
-    g2.fillRect(0, 0, getWidth(), getHeight());
+    g2.fillRect(0, 0, getScreenWidth(), getScreenHeight());
 
     // Caixa de endgame centralizada
     int boxWidth = 500;
     int boxHeight = 300;
-    int boxX = (getWidth() - boxWidth) / 2;
-    int boxY = (getHeight() - boxHeight) / 2;
+    int boxX = (getScreenWidth() - boxWidth) / 2;
+    int boxY = (getScreenHeight() - boxHeight) / 2;
 
     // Sombra da caixa
     g2.setColor(new Color(0, 0, 0, 100));
@@ -1530,6 +1812,10 @@ public class GamePanel extends JPanel implements Runnable{
   private void updateBattle() {
     if (!battle.isInBattle()) return;
 
+    // Turno do monstro, quando o atraso agendado termina
+    battle.update();
+    if (!battle.isInBattle()) return;
+
     // Processar apenas entrada do jogador quando for sua vez
     if (battle.isWaitingForPlayerInput()) {
       if (keyHandler.attackPressed) {
@@ -1596,7 +1882,6 @@ public class GamePanel extends JPanel implements Runnable{
       }
     }
 
-    // A lógica do monstro é processada automaticamente dentro da Battle class
   }
 
   // Metodo para remover monstro derrotado do mapa
@@ -1609,6 +1894,9 @@ public class GamePanel extends JPanel implements Runnable{
     }
 
     npcs.remove(monster);
+    if (monster != null) {
+      colisionChecker.removeEntity(monster);
+    }
   }
 
   public int getTileSize() {
@@ -1655,6 +1943,10 @@ public class GamePanel extends JPanel implements Runnable{
     return battleEffectManager;
   }
 
+  public BattlePreloader getBattlePreloader() {
+    return battlePreloader;
+  }
+
   public String getCurrentMapName() {
     return currentMapName;
   }
@@ -1718,21 +2010,21 @@ public class GamePanel extends JPanel implements Runnable{
     try {
       //System.out.println("Jogador morreu! Teletransportando para o cemitério...");
 
-      // Carregar mapa do cemitério
-      loadMap("cemetery");
-
       // Posicionar jogador no centro do cemitério
       // Mapa cemetery tem 25x19 tiles, centro seria aproximadamente (10, 9)
       int centerX = 9 * tileSize; // Converter tile para pixel
       int centerY = 10 * tileSize;  // Converter tile para pixel
 
-      player.setWorldX(centerX);
-      player.setWorldY(centerY);
+      // Carregar mapa do cemitério
+      loadMapAsync("cemetery", () -> {
+        player.setWorldX(centerX);
+        player.setWorldY(centerY);
 
-      // Restaurar um pouco de vida para não morrer imediatamente
-      if (player.getAttributeHealth() <= 0) {
-        player.setAttributeHealth(player.getAttributeMaxHealth() / 4); // 25% da vida máxima
-      }
+        // Restaurar um pouco de vida para não morrer imediatamente
+        if (player.getAttributeHealth() <= 0) {
+          player.setAttributeHealth(player.getAttributeMaxHealth() / 4); // 25% da vida máxima
+        }
+      });
 
       // Mostrar mensagem
       if (gameUI != null) {
@@ -1819,14 +2111,12 @@ public class GamePanel extends JPanel implements Runnable{
           int x = Integer.parseInt(parts[1].trim());
           int y = Integer.parseInt(parts[2].trim());
 
-          // Carregar novo mapa
-          loadMap(mapName);
-
-          // Posicionar jogador na nova posição
-          player.setWorldX(x);
-          player.setWorldY(y);
-
-          gameUI.addMessage(message, null, 3000L);
+          // Carregar novo mapa e posicionar jogador na nova posição
+          loadMapAsync(mapName, () -> {
+            player.setWorldX(x);
+            player.setWorldY(y);
+            gameUI.addMessage(message, null, 3000L);
+          });
 
         } else {
           System.err.println("Formato de teleporte inválido: " + teleportString);
@@ -1856,17 +2146,22 @@ public class GamePanel extends JPanel implements Runnable{
     // Inicializar NpcSpriteLoader
     try {
       this.npcSpriteLoader = new NpcSpriteLoader("/npc_sprites.json");
+      // Decodificar todos os quadros dos NPCs uma única vez
+      NpcAnimationLibrary.getInstance().load(npcSpriteLoader);
     } catch (Exception e) {
       System.err.println("Erro ao inicializar NpcSpriteLoader: " + e.getMessage());
       this.npcSpriteLoader = null;
     }
+    this.battlePreloader = new BattlePreloader(battleEffectManager, npcSpriteLoader);
 
     // Carregar NPCs do mapa
     loadNpcsFromMap();
 
     // Inicializar ObjectManager
     try {
-      ObjectSpriteLoader objectSpriteLoader = new ObjectSpriteLoader("/objects.json");
+      this.objectSpriteLoader = new ObjectSpriteLoader("/objects.json");
+      // Protótipos de itens montados uma única vez a partir das mesmas definições
+      ItemRegistry.getInstance().load(objectSpriteLoader);
       List<TileManager.MapTile> objectTiles = tileManager.getObjectTiles();
       this.objectManager = new ObjectManager(this, objectSpriteLoader, objectTiles);
     } catch (Exception e) {
@@ -1906,7 +2201,7 @@ public class GamePanel extends JPanel implements Runnable{
 
       List<TileManager.MapTile> npcTiles = tileManager.getNpcTiles();
       if (npcTiles != null && !npcTiles.isEmpty()) {
-        this.npcs = NpcFactory.loadNpcsFromTiles(npcTiles, tileSize, getPlayerSize());
+        this.npcs = NpcFactory.loadNpcsFromTiles(npcTiles, tileSize, getPlayerSize(), tileManager.getTileRegions());
       } else {
         // Se não há NPCs no mapa, garantir que a lista está vazia
         this.npcs = new ArrayList<>();
@@ -2044,9 +2339,6 @@ public class GamePanel extends JPanel implements Runnable{
    */
   private void performTeleportToConfig(TeleportManager.TeleportConfig config, String spawnPoint) {
     try {
-      // Carregar novo mapa
-      loadMap(config.map);
-
       int[] coordinates;
       if (spawnPoint != null) {
         coordinates = config.getSpawnPoint(spawnPoint);
@@ -2054,16 +2346,19 @@ public class GamePanel extends JPanel implements Runnable{
         coordinates = config.getFirstSpawnPoint();
       }
 
-      if (coordinates != null && coordinates.length == 2) {
-        // Converter coordenadas de tile para pixels
-        int pixelX = coordinates[0] * tileSize;
-        int pixelY = coordinates[1] * tileSize;
-        player.setWorldX(pixelX);
-        player.setWorldY(pixelY);
-        gameUI.addMessage("Você foi teleportado para " + config.name + "!", null, 3000L);
-      } else {
-        System.err.println("Coordenadas de spawn inválidas para " + config.name);
-      }
+      // Carregar novo mapa
+      loadMapAsync(config.map, () -> {
+        if (coordinates != null && coordinates.length == 2) {
+          // Converter coordenadas de tile para pixels
+          int pixelX = coordinates[0] * tileSize;
+          int pixelY = coordinates[1] * tileSize;
+          player.setWorldX(pixelX);
+          player.setWorldY(pixelY);
+          gameUI.addMessage("Você foi teleportado para " + config.name + "!", null, 3000L);
+        } else {
+          System.err.println("Coordenadas de spawn inválidas para " + config.name);
+        }
+      });
 
     } catch (Exception e) {
       System.err.println("Erro ao executar teleporte para configuração: " + e.getMessage());
@@ -2092,9 +2387,6 @@ public class GamePanel extends JPanel implements Runnable{
         if (teleportManager.hasTeleport(teleportId)) {
           TeleportManager.TeleportConfig config = teleportManager.getTeleport(teleportId);
 
-          // Carregar novo mapa
-          loadMap(config.map);
-
           // Usar ponto de spawn específico ou primeiro disponível
           int[] spawnCoords;
           if (spawnPoint != null) {
@@ -2109,12 +2401,14 @@ public class GamePanel extends JPanel implements Runnable{
           }
 
           if (spawnCoords != null && spawnCoords.length == 2) {
-            // Converter coordenadas de tile para pixels
+            // Carregar novo mapa e converter coordenadas de tile para pixels
             int pixelX = spawnCoords[0] * tileSize;
             int pixelY = spawnCoords[1] * tileSize;
-            player.setWorldX(pixelX);
-            player.setWorldY(pixelY);
-            gameUI.addMessage("Você foi teleportado para " + config.name + "!", null, 3000L);
+            loadMapAsync(config.map, () -> {
+              player.setWorldX(pixelX);
+              player.setWorldY(pixelY);
+              gameUI.addMessage("Você foi teleportado para " + config.name + "!", null, 3000L);
+            });
           } else {
             System.err.println("Nenhum ponto de spawn válido encontrado para " + config.name);
             gameUI.addMessage("Erro: pontos de spawn inválidos!", null, 3000L);
@@ -2134,44 +2428,156 @@ public class GamePanel extends JPanel implements Runnable{
   }
 
   /**
-   * Carrega um novo mapa.
+   * Carrega um novo mapa imediatamente, bloqueando a thread atual.
    */
   public void loadMap(String mapName) {
     try {
-      String mapPath = "/maps/" + mapName + ".json";
-      tileManager.loadMapJson(mapPath);
-
-      // Recarregar NPCs e objetos do novo mapa
-      loadNpcsFromMap();
+      applyLoadedMap(mapLoader.load(mapName).get());
+    } catch (Exception e) {
+      System.err.println("Erro ao carregar mapa: " + e.getMessage());
+      e.printStackTrace();
+    }
+  }
 
-      if (objectManager != null) {
-        ObjectSpriteLoader objectSpriteLoader = new ObjectSpriteLoader("/objects.json");
-        List<TileManager.MapTile> objectTiles = tileManager.getObjectTiles();
-        this.objectManager = new ObjectManager(this, objectSpriteLoader, objectTiles);
+  /**
+   * Carrega um novo mapa em segundo plano, com fade. O mapa é aplicado entre dois
+   * ticks, quando o carregamento termina, e em seguida onArrival é executado.
+   * Se já houver uma troca de mapa em andamento, o pedido fica na fila e começa
+   * quando ela terminar. Usado só pela thread do jogo.
+   * @param mapName Nome do mapa (sem extensão .json).
+   * @param onArrival Ação executada logo após a troca (ex.: posicionar o jogador), ou null.
+   * @return true se a troca começou agora, false se ficou na fila.
+   */
+  public boolean loadMapAsync(String mapName, Runnable onArrival) {
+    if (!GameSettings.getInstance().isAsyncMapLoading()) {
+      loadMap(mapName);
+      if (onArrival != null) {
+        onArrival.run();
       }
+      return true;
+    }
+    if (mapTransition.isActive()) {
+      queuedMapLoads.add(() -> loadMapAsync(mapName, onArrival));
+      return false;
+    }
+    return mapTransition.start(mapLoader.load(mapName), onArrival);
+  }
 
-      // Notificar QuestManager sobre mudança de mapa
-      if (questManager != null) {
-        questManager.onPlayerEnterMap(mapName);
+  /**
+   * Verifica se há uma troca de mapa em andamento.
+   * @return true durante o fade e o carregamento, ou com outra troca na fila.
+   */
+  public boolean isMapTransitionActive() {
+    return mapTransition.isActive() || !queuedMapLoads.isEmpty();
+  }
+
+  /**
+   * Torna atual um mapa já carregado: tiles, NPCs, objetos, quests, áudio e ambiente.
+   */
+  private void applyLoadedMap(MapLoader.LoadedMap loaded) {
+    String mapName = loaded.getMapName();
+    tileManager.applyMap(loaded.getMapData());
+
+    // NPCs já instanciados pelo carregador; trabalhos de IA do mapa anterior são descartados
+    this.npcs = loaded.getNpcs();
+    AiJobQueue.getInstance().clear();
+
+    if (objectManager != null && objectSpriteLoader != null) {
+      List<TileManager.MapTile> objectTiles = tileManager.getObjectTiles();
+      this.objectManager = new ObjectManager(this, objectSpriteLoader, objectTiles);
+    }
+
+    // Notificar QuestManager sobre mudança de mapa
+    if (questManager != null) {
+      questManager.onPlayerEnterMap(mapName);
+    }
+
+    // Atualizar contexto de áudio baseado no novo mapa
+    updateAudioContextForMap(mapName);
+
+    // Selecionar efeito de ambiente para o novo mapa
+    if (environmentEffectManager != null) {
+      environmentEffectManager.selectEffectForMap(mapName, currentSeason, LocalTime.now());
+      // Se não selecionou nada (p.ex. por nome de mapa diferente), tentar com nome normalizado
+      if (!environmentEffectManager.hasActiveEffect() && mapName.contains("/")) {
+        String normalized = mapName.substring(mapName.lastIndexOf('/') + 1);
+        environmentEffectManager.selectEffectForMap(normalized, currentSeason, LocalTime.now());
       }
+    }
+  }
 
-      // Atualizar contexto de áudio baseado no novo mapa
-      updateAudioContextForMap(mapName);
+  /**
+   * Pré-carrega os mapas de destino dos teleportes próximos do jogador.
+   */
+  private void prefetchNearbyTeleports() {
+    int radius = GameSettings.getInstance().getMapPrefetchRadius();
+    if (radius <= 0) {
+      return;
+    }
+    int playerTileX = player.getWorldX() / tileSize;
+    int playerTileY = player.getWorldY() / tileSize;
+    for (MapTile teleportTile : tileManager.getTeleportTiles()) {
+      if (Math.abs(teleportTile.x - playerTileX) > radius || Math.abs(teleportTile.y - playerTileY) > radius) {
+        continue;
+      }
+      String destination = getTeleportDestination(teleportTile);
+      if (destination != null && !destination.equals(currentMapName)) {
+        mapLoader.prefetch(destination);
+      }
+    }
+  }
 
-      // Selecionar efeito de ambiente para o novo mapa
-      if (environmentEffectManager != null) {
-        environmentEffectManager.selectEffectForMap(mapName, currentSeason, LocalTime.now());
-        // Se não selecionou nada (p.ex. por nome de mapa diferente), tentar com nome normalizado
-        if (!environmentEffectManager.hasActiveEffect() && mapName.contains("/")) {
-          String normalized = mapName.substring(mapName.lastIndexOf('/') + 1);
-          environmentEffectManager.selectEffectForMap(normalized, currentSeason, LocalTime.now());
-        }
+  /**
+   * Pré-carrega as imagens da batalha contra o monstro mais próximo dentro do raio configurado.
+   */
+  private void prefetchBattleAssets() {
+    int radius = GameSettings.getInstance().getBattlePrefetchTiles();
+    if (radius <= 0 || npcs == null || npcs.isEmpty()) {
+      return;
+    }
+    long maxDistance = (long) radius * tileSize;
+    maxDistance *= maxDistance;
+    Npc closest = null;
+    long closestDistance = Long.MAX_VALUE;
+    for (int i = 0; i < npcs.size(); i++) {
+      Npc npc = npcs.get(i);
+      if (!isBattleMonster(npc) && !(npc instanceof SupremeMage)) {
+        continue;
+      }
+      long dx = npc.getWorldX() - player.getWorldX();
+      long dy = npc.getWorldY() - player.getWorldY();
+      long distance = dx * dx + dy * dy;
+      if (distance <= maxDistance && distance < closestDistance) {
+        closest = npc;
+        closestDistance = distance;
       }
+    }
+    if (closest != null) {
+      battlePreloader.prefetch(player, closest, currentMapName);
+    }
+  }
 
-    } catch (Exception e) {
-      System.err.println("Erro ao carregar mapa: " + e.getMessage());
-      e.printStackTrace();
+  /**
+   * Verifica se o NPC é um monstro que inicia batalha.
+   */
+  private boolean isBattleMonster(Npc npc) {
+    return npc instanceof WolfMonster || npc instanceof SkeletonMonster ||
+      npc instanceof FrostbornMonster || npc instanceof OrcMonster ||
+      npc instanceof FrostbornBossMonster || npc instanceof OrcBossMonster ||
+      npc instanceof SkeletonBossMonster || npc instanceof WolfBossMonster;
+  }
+
+  /**
+   * Obtém o mapa de destino de um teleporte, pelo TeleportManager ou pelo próprio tile.
+   */
+  private String getTeleportDestination(MapTile teleportTile) {
+    if (teleportTile.id != null && teleportManager != null) {
+      String teleportId = teleportTile.id.contains(":") ? teleportTile.id.split(":", 2)[0].trim() : teleportTile.id;
+      if (teleportManager.hasTeleport(teleportId)) {
+        return teleportManager.getTeleport(teleportId).map;
+      }
     }
+    return teleportTile.toMap;
   }
 
   /**
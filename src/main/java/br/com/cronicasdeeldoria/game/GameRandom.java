@@ -0,0 +1,144 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.Random;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+
+/**
+ * Geradores aleatórios do jogo, todos derivados de uma única semente.
+ * Cada sistema usa o seu próprio fluxo (Stream), então sortear mais vezes num deles
+ * (ex.: partículas) não muda a sequência dos outros (ex.: dano em batalha).
+ * Com a mesma semente e a mesma entrada por tick, uma sessão se repete igual.
+ */
+public class GameRandom {
+  private static GameRandom instance;
+
+  /**
+   * Fluxos independentes de números aleatórios.
+   */
+  public enum Stream {
+    /** Passeio dos NPCs (Npc.walk). */
+    NPC_WALK,
+    /** Dano, cura, fuga e decisões do monstro em batalha. */
+    BATTLE,
+    /** Itens deixados pelos monstros. */
+    LOOT,
+    /** Estoque dos comerciantes. */
+    MERCHANT,
+    /** Escolha do efeito de ambiente de cada mapa. */
+    ENVIRONMENT,
+    /** Posição e velocidade das partículas de clima. */
+    PARTICLES
+  }
+
+  private static final Stream[] STREAMS = Stream.values();
+
+  private final CountingRandom[] randoms = new CountingRandom[STREAMS.length];
+  private Long fixedSeed;
+  private long seed;
+
+  private GameRandom() {
+    for (int i = 0; i < randoms.length; i++) {
+      randoms[i] = new CountingRandom();
+    }
+    this.fixedSeed = GameSettings.getInstance().getRandomSeed();
+    beginSession();
+  }
+
+  public static synchronized GameRandom getInstance() {
+    if (instance == null) {
+      instance = new GameRandom();
+    }
+    return instance;
+  }
+
+  /**
+   * Reinicia os fluxos para uma nova partida: com a semente fixa, se houver
+   * (eldoria.seed ou setSeed()), ou com uma semente nova.
+   */
+  public synchronized void beginSession() {
+    reseed(fixedSeed != null ? fixedSeed : mix(System.nanoTime()));
+  }
+
+  /**
+   * Fixa a semente das próximas partidas (ex.: a de uma sessão gravada, antes do replay)
+   * e reinicia os fluxos com ela.
+   * @param seed Semente base.
+   */
+  public synchronized void setSeed(long seed) {
+    this.fixedSeed = seed;
+    reseed(seed);
+  }
+
+  private void reseed(long seed) {
+    this.seed = seed;
+    for (int i = 0; i < randoms.length; i++) {
+      randoms[i].setSeed(mix(seed + (i + 1) * 0x9E3779B97F4A7C15L));
+    }
+  }
+
+  /**
+   * Espalha os bits da semente (finalizador do SplitMix64), para fluxos vizinhos não ficarem correlacionados.
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Retorna o gerador de um fluxo. Cada fluxo tem sempre o mesmo objeto (uma nova partida
+   * só reinicia o estado dele), então é seguro guardar a referência.
+   * @param stream Fluxo desejado.
+   * @return Gerador do fluxo.
+   */
+  public Random get(Stream stream) {
+    return randoms[stream.ordinal()];
+  }
+
+  /**
+   * Quantidade de sorteios feitos num fluxo desde o início da partida. Com a semente, identifica
+   * o estado do fluxo (java.util.Random não expõe o estado interno).
+   * @param stream Fluxo desejado.
+   * @return Chamadas ao gerador desde a última troca de semente.
+   */
+  public long getDraws(Stream stream) {
+    return randoms[stream.ordinal()].draws;
+  }
+
+  /**
+   * Atalho para {@code getInstance().get(stream)}.
+   * @param stream Fluxo desejado.
+   * @return Gerador do fluxo.
+   */
+  public static Random of(Stream stream) {
+    return getInstance().get(stream);
+  }
+
+  /**
+   * @return Semente da partida atual (gravada junto com a entrada, para o replay).
+   */
+  public synchronized long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Random que conta os sorteios, para a assinatura do estado da partida.
+   */
+  @SuppressWarnings("serial")
+  private static final class CountingRandom extends Random {
+    private long draws;
+
+    @Override
+    protected int next(int bits) {
+      draws++;
+      return super.next(bits);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+      super.setSeed(seed);
+      draws = 0;
+    }
+  }
+}
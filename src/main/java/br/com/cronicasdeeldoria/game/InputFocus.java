@@ -0,0 +1,53 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.awt.Component;
+
+/**
+ * Origem do foco de teclado da simulação. Na janela é o próprio componente Swing;
+ * sem janela (modo headless), a entrada vem de um script e o foco está sempre garantido.
+ */
+public interface InputFocus {
+
+  /**
+   * Foco que nunca se perde, para simulações sem janela.
+   */
+  InputFocus ALWAYS = new InputFocus() {
+    @Override
+    public boolean hasFocus() {
+      return true;
+    }
+
+    @Override
+    public void requestFocus() {
+    }
+  };
+
+  /**
+   * @return true se a entrada de teclado está chegando ao jogo.
+   */
+  boolean hasFocus();
+
+  /**
+   * Pede o foco de teclado de volta.
+   */
+  void requestFocus();
+
+  /**
+   * Foco de um componente Swing.
+   * @param component Componente que recebe os eventos de teclado.
+   * @return InputFocus ligado ao componente.
+   */
+  static InputFocus of(Component component) {
+    return new InputFocus() {
+      @Override
+      public boolean hasFocus() {
+        return component.hasFocus();
+      }
+
+      @Override
+      public void requestFocus() {
+        component.requestFocusInWindow();
+      }
+    };
+  }
+}
@@ -0,0 +1,68 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.Arrays;
+
+/**
+ * Heap binário de mínimo com nós e chaves int, sem objetos por entrada. Fila de prioridade
+ * das buscas do PathfindingService e do FlowField; os arrays crescem quando preciso e são
+ * reaproveitados entre buscas.
+ */
+final class IntMinHeap {
+  private int[] nodes = new int[256];
+  private int[] keys = new int[256];
+  private int size;
+
+  void push(int node, int key) {
+    if (size == nodes.length) {
+      nodes = Arrays.copyOf(nodes, size * 2);
+      keys = Arrays.copyOf(keys, size * 2);
+    }
+    int i = size++;
+    while (i > 0) {
+      int up = (i - 1) >>> 1;
+      if (keys[up] <= key) {
+        break;
+      }
+      nodes[i] = nodes[up];
+      keys[i] = keys[up];
+      i = up;
+    }
+    nodes[i] = node;
+    keys[i] = key;
+  }
+
+  /**
+   * Remove o nó de menor chave. O heap não pode estar vazio.
+   * @return Nó removido.
+   */
+  int pop() {
+    int top = nodes[0];
+    int lastNode = nodes[--size];
+    int lastKey = keys[size];
+    int i = 0;
+    int half = size >>> 1;
+    while (i < half) {
+      int child = 2 * i + 1;
+      if (child + 1 < size && keys[child + 1] < keys[child]) {
+        child++;
+      }
+      if (lastKey <= keys[child]) {
+        break;
+      }
+      nodes[i] = nodes[child];
+      keys[i] = keys[child];
+      i = child;
+    }
+    nodes[i] = lastNode;
+    keys[i] = lastKey;
+    return top;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void clear() {
+    size = 0;
+  }
+}
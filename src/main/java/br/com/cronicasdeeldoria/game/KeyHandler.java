@@ -2,9 +2,14 @@ package br.com.cronicasdeeldoria.game;
 
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Gerencia os eventos de teclado do jogador.
+ *
+ * Os eventos chegam pela thread do Swing e ficam numa fila até o início do próximo
+ * tick (pollEvents), então um tick sempre enxerga o mesmo estado do começo ao fim.
+ * Esse estado, visto pelo tick, é o que getState()/setState() gravam e reproduzem.
  */
 public class KeyHandler implements KeyListener {
     public boolean actionPressed, upPressed, downPressed, leftPressed, rightPressed, qPressed;
@@ -12,6 +17,17 @@ public class KeyHandler implements KeyListener {
     public boolean healthPressed, manaPressed, waterOrbPressed, fireOrbPressed;
     public boolean inventoryPressed, tabPressed, escapeKeyPressed, jPressed;
     public boolean upArrowPressed, downArrowPressed; // Teclas de seta para scroll
+    public boolean profilerTogglePressed, profilerDumpPressed; // F3 e F4 (consumidas pelo GamePanel)
+
+    /** Bits de getState(), na ordem dos campos acima (F3/F4 ficam de fora: não afetam o jogo). */
+    private static final int ACTION = 1, UP = 1 << 1, DOWN = 1 << 2, LEFT = 1 << 3, RIGHT = 1 << 4, Q = 1 << 5;
+    private static final int SPECIAL = 1 << 6, ATTACK = 1 << 7, DEFEND = 1 << 8, ESCAPE = 1 << 9;
+    private static final int HEALTH = 1 << 10, MANA = 1 << 11, WATER_ORB = 1 << 12, FIRE_ORB = 1 << 13;
+    private static final int INVENTORY = 1 << 14, TAB = 1 << 15, ESCAPE_KEY = 1 << 16, J = 1 << 17;
+    private static final int UP_ARROW = 1 << 18, DOWN_ARROW = 1 << 19;
+
+    // Código da tecla pressionada, ou ~código da liberada
+    private final ConcurrentLinkedQueue<Integer> pendingEvents = new ConcurrentLinkedQueue<>();
 
     // Sistema anti-repeat para teclas importantes
     private boolean actionKeyDown = false;
@@ -32,7 +48,34 @@ public class KeyHandler implements KeyListener {
      */
     @Override
     public void keyPressed(KeyEvent e) {
-        int code = e.getKeyCode();
+        pendingEvents.add(e.getKeyCode());
+    }
+
+    /**
+     * Evento chamado quando uma tecla é liberada.
+     * @param e Evento de tecla.
+     */
+    @Override
+    public void keyReleased(KeyEvent e) {
+        pendingEvents.add(~e.getKeyCode());
+    }
+
+    /**
+     * Aplica os eventos recebidos desde o último tick. Chamado pela thread do jogo no início de cada tick.
+     */
+    public void pollEvents() {
+        Integer event;
+        while ((event = pendingEvents.poll()) != null) {
+            int code = event;
+            if (code >= 0) {
+                applyPressed(code);
+            } else {
+                applyReleased(~code);
+            }
+        }
+    }
+
+    private void applyPressed(int code) {
         switch (code) {
             case KeyEvent.VK_W: upPressed = true; break;
             case KeyEvent.VK_S: downPressed = true; break;
@@ -62,6 +105,8 @@ public class KeyHandler implements KeyListener {
             case KeyEvent.VK_J: jPressed = true; break;
             case KeyEvent.VK_UP: upArrowPressed = true; break;
             case KeyEvent.VK_DOWN: downArrowPressed = true; break;
+            case KeyEvent.VK_F3: profilerTogglePressed = true; break;
+            case KeyEvent.VK_F4: profilerDumpPressed = true; break;
 
             // Key de batalha
             case KeyEvent.VK_1: specialPressed = true; break;
@@ -78,13 +123,7 @@ public class KeyHandler implements KeyListener {
         }
     }
 
-    /**
-     * Evento chamado quando uma tecla é liberada.
-     * @param e Evento de tecla.
-     */
-    @Override
-    public void keyReleased(KeyEvent e) {
-        int code = e.getKeyCode();
+    private void applyReleased(int code) {
         switch (code) {
 
             case KeyEvent.VK_W: upPressed = false; break;
@@ -124,4 +163,60 @@ public class KeyHandler implements KeyListener {
           case KeyEvent.VK_9: fireOrbPressed = false; break;
         }
     }
+
+    /**
+     * Estado das teclas de jogo compactado num int, para gravação de sessões.
+     * @return Um bit por campo público (exceto as teclas do profiler).
+     */
+    public int getState() {
+        int state = 0;
+        if (actionPressed) state |= ACTION;
+        if (upPressed) state |= UP;
+        if (downPressed) state |= DOWN;
+        if (leftPressed) state |= LEFT;
+        if (rightPressed) state |= RIGHT;
+        if (qPressed) state |= Q;
+        if (specialPressed) state |= SPECIAL;
+        if (attackPressed) state |= ATTACK;
+        if (defendPressed) state |= DEFEND;
+        if (escapePressed) state |= ESCAPE;
+        if (healthPressed) state |= HEALTH;
+        if (manaPressed) state |= MANA;
+        if (waterOrbPressed) state |= WATER_ORB;
+        if (fireOrbPressed) state |= FIRE_ORB;
+        if (inventoryPressed) state |= INVENTORY;
+        if (tabPressed) state |= TAB;
+        if (escapeKeyPressed) state |= ESCAPE_KEY;
+        if (jPressed) state |= J;
+        if (upArrowPressed) state |= UP_ARROW;
+        if (downArrowPressed) state |= DOWN_ARROW;
+        return state;
+    }
+
+    /**
+     * Substitui o estado das teclas de jogo (replay de uma sessão gravada).
+     * @param state Valor obtido de getState().
+     */
+    public void setState(int state) {
+        actionPressed = (state & ACTION) != 0;
+        upPressed = (state & UP) != 0;
+        downPressed = (state & DOWN) != 0;
+        leftPressed = (state & LEFT) != 0;
+        rightPressed = (state & RIGHT) != 0;
+        qPressed = (state & Q) != 0;
+        specialPressed = (state & SPECIAL) != 0;
+        attackPressed = (state & ATTACK) != 0;
+        defendPressed = (state & DEFEND) != 0;
+        escapePressed = (state & ESCAPE) != 0;
+        healthPressed = (state & HEALTH) != 0;
+        manaPressed = (state & MANA) != 0;
+        waterOrbPressed = (state & WATER_ORB) != 0;
+        fireOrbPressed = (state & FIRE_ORB) != 0;
+        inventoryPressed = (state & INVENTORY) != 0;
+        tabPressed = (state & TAB) != 0;
+        escapeKeyPressed = (state & ESCAPE_KEY) != 0;
+        jPressed = (state & J) != 0;
+        upArrowPressed = (state & UP_ARROW) != 0;
+        downArrowPressed = (state & DOWN_ARROW) != 0;
+    }
 }
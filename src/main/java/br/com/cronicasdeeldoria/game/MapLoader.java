@@ -0,0 +1,167 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import br.com.cronicasdeeldoria.entity.character.npc.Npc;
+import br.com.cronicasdeeldoria.entity.character.npc.NpcFactory;
+import br.com.cronicasdeeldoria.tile.MapData;
+import br.com.cronicasdeeldoria.tile.TileManager;
+
+/**
+ * Carrega mapas numa thread de fundo. O mapa é lido e compilado e os NPCs são
+ * instanciados fora da thread do jogo; o resultado é aplicado depois, de uma vez,
+ * entre dois ticks. Destinos de teleportes próximos do jogador podem ser
+ * pré-carregados num pequeno LRU de mapas compilados.
+ */
+public class MapLoader {
+
+  /**
+   * Mapa pronto para ser aplicado.
+   */
+  public static class LoadedMap {
+    private final String mapName;
+    private final MapData mapData;
+    private final List<Npc> npcs;
+
+    LoadedMap(String mapName, MapData mapData, List<Npc> npcs) {
+      this.mapName = mapName;
+      this.mapData = mapData;
+      this.npcs = npcs;
+    }
+
+    public String getMapName() {
+      return mapName;
+    }
+
+    public MapData getMapData() {
+      return mapData;
+    }
+
+    public List<Npc> getNpcs() {
+      return npcs;
+    }
+  }
+
+  private final TileManager tileManager;
+  private final int tileSize;
+  private final int playerSize;
+  private final int cacheSize;
+  private final ExecutorService worker;
+
+  // Mapas pré-carregados; cada um é entregue uma única vez, pois a grade de colisão é alterada em jogo
+  private final LinkedHashMap<String, MapData> prefetched = new LinkedHashMap<>(8, 0.75f, true);
+  private final Set<String> pending = new HashSet<>();
+
+  // Métricas
+  private long prefetchHits;
+  private long prefetchMisses;
+
+  /**
+   * @param tileManager Gerenciador que lê e compila os mapas.
+   * @param tileSize Tamanho do tile na tela.
+   * @param playerSize Tamanho do player (usado para posicionar os NPCs).
+   * @param cacheSize Quantidade de mapas pré-carregados mantidos em memória.
+   */
+  public MapLoader(TileManager tileManager, int tileSize, int playerSize, int cacheSize) {
+    this.tileManager = tileManager;
+    this.tileSize = tileSize;
+    this.playerSize = playerSize;
+    this.cacheSize = Math.max(0, cacheSize);
+    this.worker = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "map-loader");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Agenda o carregamento de um mapa. Um pré-carregamento já agendado para o mesmo
+   * mapa é executado antes (a fila é única) e aproveitado.
+   * @param mapName Nome do mapa (sem extensão .json).
+   * @return Resultado futuro do carregamento.
+   */
+  public Future<LoadedMap> load(String mapName) {
+    return worker.submit(() -> {
+      MapData mapData = take(mapName);
+      if (mapData == null) {
+        mapData = tileManager.parseMap(toPath(mapName));
+      }
+      return new LoadedMap(mapName, mapData, buildNpcs(mapData));
+    });
+  }
+
+  /**
+   * Pré-carrega um mapa em segundo plano, se ainda não estiver em memória.
+   * @param mapName Nome do mapa (sem extensão .json).
+   */
+  public synchronized void prefetch(String mapName) {
+    if (cacheSize == 0 || mapName == null || prefetched.containsKey(mapName) || !pending.add(mapName)) {
+      return;
+    }
+    worker.submit(() -> {
+      try {
+        MapData mapData = tileManager.parseMap(toPath(mapName));
+        store(mapName, mapData);
+      } catch (Exception e) {
+        System.err.println("Erro ao pré-carregar mapa " + mapName + ": " + e.getMessage());
+      } finally {
+        synchronized (this) {
+          pending.remove(mapName);
+        }
+      }
+    });
+  }
+
+  private synchronized MapData take(String mapName) {
+    MapData mapData = prefetched.remove(mapName);
+    if (mapData != null) {
+      prefetchHits++;
+    } else {
+      prefetchMisses++;
+    }
+    return mapData;
+  }
+
+  private synchronized void store(String mapName, MapData mapData) {
+    prefetched.put(mapName, mapData);
+    while (prefetched.size() > cacheSize) {
+      String eldest = prefetched.keySet().iterator().next();
+      prefetched.remove(eldest);
+    }
+  }
+
+  private List<Npc> buildNpcs(MapData mapData) {
+    try {
+      List<TileManager.MapTile> npcTiles = mapData.getNpcTiles();
+      if (npcTiles != null && !npcTiles.isEmpty()) {
+        return NpcFactory.loadNpcsFromTiles(npcTiles, tileSize, playerSize, mapData.getTileRegions());
+      }
+    } catch (Exception e) {
+      System.err.println("Erro ao carregar NPCs: " + e.getMessage());
+      e.printStackTrace();
+    }
+    return new ArrayList<>();
+  }
+
+  private static String toPath(String mapName) {
+    return "/maps/" + mapName + ".json";
+  }
+
+  /**
+   * Encerra a thread de carregamento.
+   */
+  public void shutdown() {
+    worker.shutdownNow();
+  }
+
+  public synchronized int getPrefetchedCount() { return prefetched.size(); }
+  public synchronized long getPrefetchHits() { return prefetchHits; }
+  public synchronized long getPrefetchMisses() { return prefetchMisses; }
+}
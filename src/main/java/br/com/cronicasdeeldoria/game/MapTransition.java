@@ -0,0 +1,148 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import br.com.cronicasdeeldoria.game.render.ScreenOverlay;
+
+/**
+ * Transição em fade para a troca de mapa. Escurece a tela enquanto o mapa é
+ * carregado em segundo plano, aplica o mapa num tick quando o carregamento termina
+ * e clareia a tela em seguida. A transição avança por ticks, não por tempo de quadro.
+ */
+public class MapTransition implements ScreenOverlay {
+
+  private enum Phase { IDLE, FADING_OUT, WAITING, FADING_IN }
+
+  private final int fadeTicks;
+
+  private Phase phase = Phase.IDLE;
+  private int phaseTicks;
+  private Future<MapLoader.LoadedMap> pending;
+  private Runnable onArrival;
+  private volatile float opacity;
+  private boolean waitForLoad;
+
+  /**
+   * @param fadeTicks Duração de cada metade do fade, em ticks.
+   */
+  public MapTransition(int fadeTicks) {
+    this.fadeTicks = Math.max(0, fadeTicks);
+  }
+
+  /**
+   * Inicia uma transição.
+   * @param load Carregamento do novo mapa já agendado.
+   * @param onArrival Executado no tick em que o novo mapa é aplicado (ex.: posicionar o jogador).
+   * @return false se já houver uma transição em andamento.
+   */
+  public boolean start(Future<MapLoader.LoadedMap> load, Runnable onArrival) {
+    if (phase != Phase.IDLE) {
+      return false;
+    }
+    this.pending = load;
+    this.onArrival = onArrival;
+    this.phase = Phase.FADING_OUT;
+    this.phaseTicks = 0;
+    return true;
+  }
+
+  /**
+   * Avança a transição um tick.
+   * @param applier Aplica o mapa carregado ao jogo; chamado uma vez, na thread do jogo.
+   */
+  public void tick(Consumer<MapLoader.LoadedMap> applier) {
+    switch (phase) {
+      case FADING_OUT:
+        phaseTicks++;
+        opacity = fadeTicks > 0 ? Math.min(1f, (float) phaseTicks / fadeTicks) : 1f;
+        if (phaseTicks >= fadeTicks) {
+          phase = Phase.WAITING;
+          tryArrive(applier);
+        }
+        break;
+      case WAITING:
+        tryArrive(applier);
+        break;
+      case FADING_IN:
+        phaseTicks++;
+        opacity = fadeTicks > 0 ? Math.max(0f, 1f - (float) phaseTicks / fadeTicks) : 0f;
+        if (phaseTicks >= fadeTicks) {
+          phase = Phase.IDLE;
+          opacity = 0f;
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Espera o carregamento terminar no próprio tick em vez de aguardar ticks extras.
+   * Usado na gravação e no replay de sessões, em que a troca de mapa precisa
+   * acontecer sempre no mesmo tick, não importa quanto o disco demore.
+   * @param waitForLoad true para bloquear até o mapa estar pronto.
+   */
+  public void setWaitForLoad(boolean waitForLoad) {
+    this.waitForLoad = waitForLoad;
+  }
+
+  private void tryArrive(Consumer<MapLoader.LoadedMap> applier) {
+    if (!waitForLoad && !pending.isDone()) {
+      return;
+    }
+    try {
+      applier.accept(pending.get());
+      if (onArrival != null) {
+        onArrival.run();
+      }
+    } catch (ExecutionException e) {
+      System.err.println("Erro ao carregar mapa: " + e.getCause().getMessage());
+      e.getCause().printStackTrace();
+    } catch (Exception e) {
+      System.err.println("Erro ao trocar de mapa: " + e.getMessage());
+      e.printStackTrace();
+    }
+    pending = null;
+    onArrival = null;
+    phase = Phase.FADING_IN;
+    phaseTicks = 0;
+  }
+
+  /**
+   * @return true enquanto houver uma transição em andamento.
+   */
+  public boolean isActive() {
+    return phase != Phase.IDLE;
+  }
+
+  /**
+   * @return true enquanto o jogo deve ficar parado (escurecendo ou aguardando o mapa).
+   */
+  public boolean isBlocking() {
+    return phase == Phase.FADING_OUT || phase == Phase.WAITING;
+  }
+
+  @Override
+  public Stage getStage() {
+    return Stage.AFTER_UPSCALE;
+  }
+
+  @Override
+  public void draw(Graphics2D g2, int screenWidth, int screenHeight) {
+    float alpha = opacity;
+    if (alpha <= 0f) {
+      return;
+    }
+    Composite previous = g2.getComposite();
+    g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+    g2.setColor(Color.BLACK);
+    g2.fillRect(0, 0, screenWidth, screenHeight);
+    g2.setComposite(previous);
+  }
+}
@@ -16,7 +16,7 @@ public class MonsterLoot {
 
 class LootTable {
   private List<MonsterLoot> loot = new ArrayList<>();
-  private Random random = new Random();
+  private final Random random = GameRandom.of(GameRandom.Stream.LOOT);
 
   public void addLoot(String itemName, double chance) {
     loot.add(new MonsterLoot(itemName, chance));
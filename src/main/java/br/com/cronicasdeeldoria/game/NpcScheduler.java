@@ -0,0 +1,125 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.List;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+import br.com.cronicasdeeldoria.entity.character.npc.Npc;
+import br.com.cronicasdeeldoria.entity.character.player.Player;
+
+/**
+ * Decide quais NPCs atualizam em cada tick, pela distância até a área visível:
+ * na tela (com um tile de folga), todo tick; até eldoria.npcNearTiles tiles fora dela,
+ * a cada NEAR_INTERVAL ticks; mais longe, a cada FAR_INTERVAL ticks.
+ * Cada NPC tem a sua fase (pela posição na lista), então os NPCs distantes se revezam
+ * e o custo fica parecido em todos os ticks. Quem atualiza recebe os ticks passados desde
+ * a última vez (Npc.setElapsedTicks) e anda o equivalente a eles.
+ * NPCs com isAlwaysUpdated() (ex.: perseguidores) atualizam sempre.
+ */
+public class NpcScheduler {
+  /** Intervalo, em ticks, dos NPCs perto da tela. */
+  public static final int NEAR_INTERVAL = 4;
+  /** Intervalo, em ticks, dos NPCs longe da tela. */
+  public static final int FAR_INTERVAL = 16;
+
+  private final boolean enabled;
+  private final int nearTiles;
+  private long tick;
+
+  private int onScreenCount;
+  private int nearCount;
+  private int farCount;
+  private int updatedCount;
+
+  public NpcScheduler() {
+    GameSettings settings = GameSettings.getInstance();
+    this.enabled = settings.isNpcLodEnabled();
+    this.nearTiles = settings.getNpcNearTiles();
+  }
+
+  /**
+   * Atualiza os NPCs que estão na vez neste tick. A lista é percorrida por índice,
+   * sem cópia; NPCs adicionados durante o tick entram no fim e também são vistos.
+   * @param gamePanel Painel do jogo.
+   * @param npcs NPCs do mapa.
+   * @param player Jogador.
+   * @param viewLeft Esquerda da área visível, em pixels do mundo.
+   * @param viewTop Topo da área visível, em pixels do mundo.
+   * @param viewWidth Largura da área visível.
+   * @param viewHeight Altura da área visível.
+   */
+  public void update(GamePanel gamePanel, List<Npc> npcs, Player player,
+                     int viewLeft, int viewTop, int viewWidth, int viewHeight) {
+    tick++;
+    onScreenCount = 0;
+    nearCount = 0;
+    farCount = 0;
+    updatedCount = 0;
+
+    int tileSize = gamePanel.getTileSize();
+    int screenLeft = viewLeft - tileSize;
+    int screenTop = viewTop - tileSize;
+    int screenRight = viewLeft + viewWidth + tileSize;
+    int screenBottom = viewTop + viewHeight + tileSize;
+    int nearMargin = nearTiles * tileSize;
+
+    for (int i = 0; i < npcs.size(); i++) {
+      Npc npc = npcs.get(i);
+      int interval;
+      if (!enabled || npc.isAlwaysUpdated()
+          || overlaps(npc, tileSize, screenLeft, screenTop, screenRight, screenBottom)) {
+        interval = 1;
+        onScreenCount++;
+      } else if (overlaps(npc, tileSize, screenLeft - nearMargin, screenTop - nearMargin,
+          screenRight + nearMargin, screenBottom + nearMargin)) {
+        interval = NEAR_INTERVAL;
+        nearCount++;
+      } else {
+        interval = FAR_INTERVAL;
+        farCount++;
+      }
+
+      long last = npc.getLastUpdateTick();
+      if (interval > 1 && last >= 0 && (tick + i) % interval != 0) {
+        continue;
+      }
+      npc.setElapsedTicks(last >= 0 ? (int) Math.min(tick - last, FAR_INTERVAL) : 1);
+      npc.setLastUpdateTick(tick);
+      npc.update(gamePanel, player);
+      updatedCount++;
+    }
+  }
+
+  private static boolean overlaps(Npc npc, int size, int left, int top, int right, int bottom) {
+    int x = npc.getWorldX();
+    int y = npc.getWorldY();
+    return x + size > left && x < right && y + size > top && y < bottom;
+  }
+
+  /**
+   * @return NPCs atualizados todo tick (na tela ou sempre ativos), no último tick.
+   */
+  public int getOnScreenCount() {
+    return onScreenCount;
+  }
+
+  /**
+   * @return NPCs perto da tela no último tick.
+   */
+  public int getNearCount() {
+    return nearCount;
+  }
+
+  /**
+   * @return NPCs longe da tela no último tick.
+   */
+  public int getFarCount() {
+    return farCount;
+  }
+
+  /**
+   * @return NPCs efetivamente atualizados no último tick.
+   */
+  public int getUpdatedCount() {
+    return updatedCount;
+  }
+}
@@ -0,0 +1,480 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.Arrays;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+import br.com.cronicasdeeldoria.tile.CollisionGrid;
+import br.com.cronicasdeeldoria.tile.TileRegions;
+
+/**
+ * Busca de caminhos em tiles compartilhada por todos os NPCs: A* com jump point search
+ * sobre a CollisionGrid do mapa, em 8 direções, sem cortar quinas de paredes.
+ * Custos, pais e marcas de aberto/fechado ficam em int[] reaproveitados entre buscas e
+ * invalidados por geração; a fila de prioridade é um IntMinHeap. Uma busca só
+ * aloca o caminho devolvido.
+ *
+ * Os caminhos são int[] com um tile por passo (sem o tile de partida, com o de destino),
+ * cada um compactado por pack() e lido com packedX()/packedY().
+ *
+ * As buscas de um tick dividem um orçamento (eldoria.pathBudgetMicros). Esgotado o
+ * orçamento, a busca em andamento é interrompida e as seguintes devolvem DEFERRED, para
+ * serem pedidas de novo no próximo tick. A primeira busca do tick sempre vai até o fim,
+ * então nenhum pedido fica adiado para sempre. Pedidos feitos com as TileRegions do mapa
+ * entre regiões desconexas são recusados sem busca e sem gastar orçamento.
+ * Usado só pela thread do jogo.
+ */
+public class PathfindingService {
+  private static PathfindingService instance;
+
+  /**
+   * Resultado da última busca.
+   */
+  public enum Result {
+    /** Caminho encontrado. */
+    FOUND,
+    /** Não há caminho (destino bloqueado, fora do mapa ou isolado). */
+    UNREACHABLE,
+    /** Orçamento do tick esgotado: pedir de novo no próximo tick. */
+    DEFERRED
+  }
+
+  private static final int STRAIGHT_COST = 10;
+  private static final int DIAGONAL_COST = 14;
+  /** Passos de varredura equivalentes a 1µs, para o orçamento em modo determinístico. */
+  private static final int STEPS_PER_MICRO = 20;
+
+  private CollisionGrid grid;
+  private int width;
+  private int height;
+
+  private int[] cost = new int[0];
+  private int[] parent = new int[0];
+  private int[] openGeneration = new int[0];
+  private int[] closedGeneration = new int[0];
+  private int generation;
+
+  private final IntMinHeap open = new IntMinHeap();
+
+  private final int[] directions = new int[16];
+  private int goalX;
+  private int goalY;
+  private long steps;
+
+  private final long frameBudgetNanos;
+  private long frameNanos;
+  private long frameSteps;
+  private boolean searchedThisFrame;
+  private boolean deterministic;
+
+  private Result lastResult = Result.UNREACHABLE;
+  private int lastExpansions;
+  private long totalSearches;
+  private long totalDeferred;
+  private long totalRejected;
+
+  private PathfindingService() {
+    this.frameBudgetNanos = GameSettings.getInstance().getPathBudgetMicros() * 1000L;
+  }
+
+  public static synchronized PathfindingService getInstance() {
+    if (instance == null) {
+      instance = new PathfindingService();
+    }
+    return instance;
+  }
+
+  /**
+   * Compacta um tile num int de caminho.
+   */
+  public static int pack(int tileX, int tileY) {
+    return (tileY << 16) | (tileX & 0xFFFF);
+  }
+
+  public static int packedX(int packed) {
+    return packed & 0xFFFF;
+  }
+
+  public static int packedY(int packed) {
+    return packed >>> 16;
+  }
+
+  /**
+   * Começa o orçamento de um novo tick. Chamado pelo GamePanel no início de cada update.
+   */
+  public void beginFrame() {
+    frameNanos = 0;
+    frameSteps = 0;
+    searchedThisFrame = false;
+  }
+
+  /**
+   * Mede o orçamento em passos de varredura em vez de tempo, para a mesma entrada
+   * adiar as mesmas buscas (gravação e replay).
+   * @param deterministic true para medir em passos.
+   */
+  public void setDeterministic(boolean deterministic) {
+    this.deterministic = deterministic;
+  }
+
+  /**
+   * Procura um caminho entre dois tiles, recusando na hora (UNREACHABLE) destinos em
+   * outra região conexa.
+   * @param regions Regiões do mapa atual (TileManager.getTileRegions()).
+   * @param startX Tile X de partida.
+   * @param startY Tile Y de partida.
+   * @param targetX Tile X de destino.
+   * @param targetY Tile Y de destino.
+   * @return Tiles do caminho (vazio se já está no destino), ou null se não há caminho
+   *         ou a busca foi adiada; getLastResult() diz qual dos dois.
+   */
+  public int[] findPath(TileRegions regions, int startX, int startY, int targetX, int targetY) {
+    if (regions == null) {
+      return findPath((CollisionGrid) null, startX, startY, targetX, targetY);
+    }
+    if (!regions.isReachable(startX, startY, targetX, targetY)) {
+      lastExpansions = 0;
+      totalRejected++;
+      lastResult = Result.UNREACHABLE;
+      return null;
+    }
+    return findPath(regions.getGrid(), startX, startY, targetX, targetY);
+  }
+
+  /**
+   * Procura um caminho entre dois tiles.
+   * @param grid Colisão do mapa atual.
+   * @param startX Tile X de partida.
+   * @param startY Tile Y de partida.
+   * @param targetX Tile X de destino.
+   * @param targetY Tile Y de destino.
+   * @return Tiles do caminho (vazio se já está no destino), ou null se não há caminho
+   *         ou a busca foi adiada; getLastResult() diz qual dos dois.
+   */
+  public int[] findPath(CollisionGrid grid, int startX, int startY, int targetX, int targetY) {
+    lastExpansions = 0;
+    if (grid == null) {
+      lastResult = Result.UNREACHABLE;
+      return null;
+    }
+    prepare(grid);
+    if (!inBounds(startX, startY) || !isWalkable(targetX, targetY)) {
+      lastResult = Result.UNREACHABLE;
+      return null;
+    }
+    if (startX == targetX && startY == targetY) {
+      lastResult = Result.FOUND;
+      return new int[0];
+    }
+    boolean firstOfFrame = !searchedThisFrame;
+    if (!firstOfFrame && isOverBudget(0, 0)) {
+      totalDeferred++;
+      lastResult = Result.DEFERRED;
+      return null;
+    }
+    searchedThisFrame = true;
+    totalSearches++;
+
+    long began = System.nanoTime();
+    steps = 0;
+    goalX = targetX;
+    goalY = targetY;
+    nextGeneration();
+    open.clear();
+
+    int start = startY * width + startX;
+    int goal = targetY * width + targetX;
+    cost[start] = 0;
+    parent[start] = -1;
+    openGeneration[start] = generation;
+    open.push(start, heuristic(startX, startY));
+
+    Result result = Result.UNREACHABLE;
+    while (!open.isEmpty()) {
+      int node = open.pop();
+      if (closedGeneration[node] == generation) {
+        continue;
+      }
+      closedGeneration[node] = generation;
+      if (node == goal) {
+        result = Result.FOUND;
+        break;
+      }
+      lastExpansions++;
+      if (!firstOfFrame && isOverBudget(System.nanoTime() - began, steps)) {
+        totalDeferred++;
+        result = Result.DEFERRED;
+        break;
+      }
+      expand(node);
+    }
+
+    frameNanos += System.nanoTime() - began;
+    frameSteps += steps;
+    lastResult = result;
+    return result == Result.FOUND ? buildPath(start, goal) : null;
+  }
+
+  private boolean isOverBudget(long searchNanos, long searchSteps) {
+    if (deterministic) {
+      return frameSteps + searchSteps > frameBudgetNanos / 1000L * STEPS_PER_MICRO;
+    }
+    return frameNanos + searchNanos > frameBudgetNanos;
+  }
+
+  private void prepare(CollisionGrid grid) {
+    this.grid = grid;
+    this.width = grid.getWidth();
+    this.height = grid.getHeight();
+    int cells = width * height;
+    if (cost.length < cells) {
+      cost = new int[cells];
+      parent = new int[cells];
+      openGeneration = new int[cells];
+      closedGeneration = new int[cells];
+      generation = 0;
+    }
+  }
+
+  private void nextGeneration() {
+    if (generation == Integer.MAX_VALUE) {
+      Arrays.fill(openGeneration, 0);
+      Arrays.fill(closedGeneration, 0);
+      generation = 0;
+    }
+    generation++;
+  }
+
+  /**
+   * Gera os sucessores de um nó: para cada vizinho que sobra da poda do JPS,
+   * salta na mesma direção até o próximo ponto de salto.
+   */
+  private void expand(int node) {
+    int x = node % width;
+    int y = node / width;
+    int count = prunedDirections(node, x, y);
+    for (int i = 0; i < count; i += 2) {
+      int dx = directions[i];
+      int dy = directions[i + 1];
+      int jumpPoint = jump(x + dx, y + dy, dx, dy);
+      if (jumpPoint < 0 || closedGeneration[jumpPoint] == generation) {
+        continue;
+      }
+      int jumpX = jumpPoint % width;
+      int jumpY = jumpPoint / width;
+      int newCost = cost[node] + octile(Math.abs(jumpX - x), Math.abs(jumpY - y));
+      if (openGeneration[jumpPoint] != generation || newCost < cost[jumpPoint]) {
+        openGeneration[jumpPoint] = generation;
+        cost[jumpPoint] = newCost;
+        parent[jumpPoint] = node;
+        open.push(jumpPoint, newCost + heuristic(jumpX, jumpY));
+      }
+    }
+  }
+
+  /**
+   * Direções a explorar a partir do nó, conforme a direção em que se chegou nele.
+   * Diagonais só quando os dois vizinhos retos estão livres (sem cortar quinas).
+   * @return Quantidade de valores (dx, dy) gravados em directions.
+   */
+  private int prunedDirections(int node, int x, int y) {
+    int count = 0;
+    int from = parent[node];
+    if (from < 0) {
+      for (int dy = -1; dy <= 1; dy++) {
+        for (int dx = -1; dx <= 1; dx++) {
+          if ((dx != 0 || dy != 0) && isWalkable(x + dx, y) && isWalkable(x, y + dy) && isWalkable(x + dx, y + dy)) {
+            directions[count++] = dx;
+            directions[count++] = dy;
+          }
+        }
+      }
+      return count;
+    }
+
+    int dx = Integer.signum(x - from % width);
+    int dy = Integer.signum(y - from / width);
+    if (dx != 0 && dy != 0) {
+      boolean nextX = isWalkable(x + dx, y);
+      boolean nextY = isWalkable(x, y + dy);
+      if (nextX) {
+        directions[count++] = dx;
+        directions[count++] = 0;
+      }
+      if (nextY) {
+        directions[count++] = 0;
+        directions[count++] = dy;
+      }
+      if (nextX && nextY && isWalkable(x + dx, y + dy)) {
+        directions[count++] = dx;
+        directions[count++] = dy;
+      }
+    } else if (dx != 0) {
+      boolean next = isWalkable(x + dx, y);
+      boolean up = isWalkable(x, y - 1);
+      boolean down = isWalkable(x, y + 1);
+      if (next) {
+        directions[count++] = dx;
+        directions[count++] = 0;
+        if (up && isWalkable(x + dx, y - 1)) {
+          directions[count++] = dx;
+          directions[count++] = -1;
+        }
+        if (down && isWalkable(x + dx, y + 1)) {
+          directions[count++] = dx;
+          directions[count++] = 1;
+        }
+      }
+      if (up) {
+        directions[count++] = 0;
+        directions[count++] = -1;
+      }
+      if (down) {
+        directions[count++] = 0;
+        directions[count++] = 1;
+      }
+    } else {
+      boolean next = isWalkable(x, y + dy);
+      boolean left = isWalkable(x - 1, y);
+      boolean right = isWalkable(x + 1, y);
+      if (next) {
+        directions[count++] = 0;
+        directions[count++] = dy;
+        if (left && isWalkable(x - 1, y + dy)) {
+          directions[count++] = -1;
+          directions[count++] = dy;
+        }
+        if (right && isWalkable(x + 1, y + dy)) {
+          directions[count++] = 1;
+          directions[count++] = dy;
+        }
+      }
+      if (left) {
+        directions[count++] = -1;
+        directions[count++] = 0;
+      }
+      if (right) {
+        directions[count++] = 1;
+        directions[count++] = 0;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Avança de (x, y) na direção (dx, dy) até achar um ponto de salto: o destino,
+   * um tile com vizinho forçado ou, na diagonal, um tile de onde um salto reto acha algo.
+   * @return Índice do ponto de salto, ou -1 se a linha termina numa parede.
+   */
+  private int jump(int x, int y, int dx, int dy) {
+    while (true) {
+      steps++;
+      if (!isWalkable(x, y)) {
+        return -1;
+      }
+      if (x == goalX && y == goalY) {
+        return y * width + x;
+      }
+      if (dx != 0 && dy != 0) {
+        if (jump(x + dx, y, dx, 0) >= 0 || jump(x, y + dy, 0, dy) >= 0) {
+          return y * width + x;
+        }
+      } else if (dx != 0) {
+        if ((isWalkable(x, y - 1) && !isWalkable(x - dx, y - 1))
+            || (isWalkable(x, y + 1) && !isWalkable(x - dx, y + 1))) {
+          return y * width + x;
+        }
+      } else {
+        if ((isWalkable(x - 1, y) && !isWalkable(x - 1, y - dy))
+            || (isWalkable(x + 1, y) && !isWalkable(x + 1, y - dy))) {
+          return y * width + x;
+        }
+      }
+      // Na diagonal, os dois vizinhos retos precisam estar livres
+      if (!isWalkable(x + dx, y) || !isWalkable(x, y + dy)) {
+        return -1;
+      }
+      x += dx;
+      y += dy;
+    }
+  }
+
+  /**
+   * Refaz o caminho pelos pais, preenchendo os tiles entre pontos de salto
+   * (cada trecho é uma reta ou uma diagonal).
+   */
+  private int[] buildPath(int start, int goal) {
+    int length = 0;
+    for (int node = goal; node != start; node = parent[node]) {
+      int from = parent[node];
+      length += Math.max(Math.abs(node % width - from % width), Math.abs(node / width - from / width));
+    }
+    int[] path = new int[length];
+    int index = length;
+    for (int node = goal; node != start; node = parent[node]) {
+      int from = parent[node];
+      int x = node % width;
+      int y = node / width;
+      int dx = Integer.signum(from % width - x);
+      int dy = Integer.signum(from / width - y);
+      int fromX = from % width;
+      int fromY = from / width;
+      while (x != fromX || y != fromY) {
+        path[--index] = pack(x, y);
+        x += dx;
+        y += dy;
+      }
+    }
+    return path;
+  }
+
+  private boolean inBounds(int x, int y) {
+    return x >= 0 && y >= 0 && x < width && y < height;
+  }
+
+  private boolean isWalkable(int x, int y) {
+    return inBounds(x, y) && !grid.isBlocked(x, y);
+  }
+
+  private int heuristic(int x, int y) {
+    return octile(Math.abs(goalX - x), Math.abs(goalY - y));
+  }
+
+  private static int octile(int dx, int dy) {
+    return STRAIGHT_COST * Math.max(dx, dy) + (DIAGONAL_COST - STRAIGHT_COST) * Math.min(dx, dy);
+  }
+
+  /**
+   * @return Resultado da última chamada a findPath.
+   */
+  public Result getLastResult() {
+    return lastResult;
+  }
+
+  /**
+   * @return Nós expandidos na última busca.
+   */
+  public int getLastExpansions() {
+    return lastExpansions;
+  }
+
+  /**
+   * @return Buscas executadas desde o início do jogo.
+   */
+  public long getTotalSearches() {
+    return totalSearches;
+  }
+
+  /**
+   * @return Buscas adiadas por falta de orçamento desde o início do jogo.
+   */
+  public long getTotalDeferred() {
+    return totalDeferred;
+  }
+
+  /**
+   * @return Pedidos recusados pelas regiões, sem busca, desde o início do jogo.
+   */
+  public long getTotalRejected() {
+    return totalRejected;
+  }
+}
@@ -0,0 +1,192 @@
+package br.com.cronicasdeeldoria.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Grade espacial uniforme (células do tamanho de um tile) para a fase ampla da colisão.
+ * Cada ocupante é registrado nas células cobertas pela sua caixa e só muda de célula
+ * quando a faixa de células ocupada muda. As consultas devolvem apenas os ocupantes
+ * das células que se sobrepõem à área consultada, cada um uma única vez.
+ * Posições fora do mapa são presas às células da borda.
+ * @param <T> Tipo dos ocupantes.
+ */
+public final class SpatialGrid<T> {
+
+  private static final class Entry<T> {
+    final T item;
+    int minCol, minRow, maxCol, maxRow;
+    int stamp;
+
+    Entry(T item) {
+      this.item = item;
+    }
+  }
+
+  private final int cellSize;
+  private int cols;
+  private int rows;
+  // Uma lista por célula (null enquanto vazia), indexada por linha * cols + coluna
+  private final ArrayList<List<Entry<T>>> cells = new ArrayList<>();
+  private final IdentityHashMap<T, Entry<T>> entries = new IdentityHashMap<>();
+  private int queryStamp;
+
+  /**
+   * @param cellSize Tamanho de cada célula em pixels.
+   */
+  public SpatialGrid(int cellSize) {
+    this.cellSize = Math.max(1, cellSize);
+    reset(1, 1);
+  }
+
+  /**
+   * Redimensiona a grade e remove todos os ocupantes.
+   * @param cols Colunas (em células).
+   * @param rows Linhas (em células).
+   */
+  public void reset(int cols, int rows) {
+    this.cols = Math.max(1, cols);
+    this.rows = Math.max(1, rows);
+    cells.clear();
+    cells.addAll(Collections.nCopies(this.cols * this.rows, null));
+    entries.clear();
+  }
+
+  /**
+   * Registra o ocupante ou atualiza sua posição.
+   * @param item Ocupante.
+   * @param x Esquerda da caixa, em pixels.
+   * @param y Topo da caixa, em pixels.
+   * @param width Largura da caixa.
+   * @param height Altura da caixa.
+   */
+  public void update(T item, int x, int y, int width, int height) {
+    int minCol = clampCol(Math.floorDiv(x, cellSize));
+    int minRow = clampRow(Math.floorDiv(y, cellSize));
+    int maxCol = clampCol(Math.floorDiv(x + Math.max(width, 1) - 1, cellSize));
+    int maxRow = clampRow(Math.floorDiv(y + Math.max(height, 1) - 1, cellSize));
+
+    Entry<T> entry = entries.get(item);
+    if (entry == null) {
+      entry = new Entry<>(item);
+      entries.put(item, entry);
+    } else if (entry.minCol == minCol && entry.minRow == minRow && entry.maxCol == maxCol && entry.maxRow == maxRow) {
+      return; // Continua nas mesmas células
+    } else {
+      unlink(entry);
+    }
+    entry.minCol = minCol;
+    entry.minRow = minRow;
+    entry.maxCol = maxCol;
+    entry.maxRow = maxRow;
+    link(entry);
+  }
+
+  /**
+   * Remove o ocupante da grade.
+   * @return true se estava registrado.
+   */
+  public boolean remove(T item) {
+    Entry<T> entry = entries.remove(item);
+    if (entry == null) {
+      return false;
+    }
+    unlink(entry);
+    return true;
+  }
+
+  /**
+   * Coleta os ocupantes das células que se sobrepõem à área.
+   * @param x Esquerda da área, em pixels.
+   * @param y Topo da área, em pixels.
+   * @param width Largura da área.
+   * @param height Altura da área.
+   * @param out Lista de saída (limpa antes do uso).
+   * @return Quantidade de ocupantes encontrados.
+   */
+  public int query(int x, int y, int width, int height, List<T> out) {
+    out.clear();
+    if (entries.isEmpty()) {
+      return 0;
+    }
+    int minCol = clampCol(Math.floorDiv(x, cellSize));
+    int minRow = clampRow(Math.floorDiv(y, cellSize));
+    int maxCol = clampCol(Math.floorDiv(x + Math.max(width, 1) - 1, cellSize));
+    int maxRow = clampRow(Math.floorDiv(y + Math.max(height, 1) - 1, cellSize));
+
+    // Marca de consulta para não devolver duas vezes quem ocupa várias células
+    int stamp = ++queryStamp;
+    for (int row = minRow; row <= maxRow; row++) {
+      int rowOffset = row * cols;
+      for (int col = minCol; col <= maxCol; col++) {
+        List<Entry<T>> cell = cells.get(rowOffset + col);
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0, n = cell.size(); i < n; i++) {
+          Entry<T> entry = cell.get(i);
+          if (entry.stamp != stamp) {
+            entry.stamp = stamp;
+            out.add(entry.item);
+          }
+        }
+      }
+    }
+    return out.size();
+  }
+
+  public boolean contains(T item) {
+    return entries.containsKey(item);
+  }
+
+  /**
+   * @return Ocupantes registrados (visão ligada à grade).
+   */
+  public Set<T> items() {
+    return entries.keySet();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public int getCellSize() {
+    return cellSize;
+  }
+
+  private void link(Entry<T> entry) {
+    for (int row = entry.minRow; row <= entry.maxRow; row++) {
+      for (int col = entry.minCol; col <= entry.maxCol; col++) {
+        int index = row * cols + col;
+        List<Entry<T>> cell = cells.get(index);
+        if (cell == null) {
+          cell = new ArrayList<>(4);
+          cells.set(index, cell);
+        }
+        cell.add(entry);
+      }
+    }
+  }
+
+  private void unlink(Entry<T> entry) {
+    for (int row = entry.minRow; row <= entry.maxRow; row++) {
+      for (int col = entry.minCol; col <= entry.maxCol; col++) {
+        List<Entry<T>> cell = cells.get(row * cols + col);
+        if (cell != null) {
+          cell.remove(entry);
+        }
+      }
+    }
+  }
+
+  private int clampCol(int col) {
+    return col < 0 ? 0 : (col >= cols ? cols - 1 : col);
+  }
+
+  private int clampRow(int row) {
+    return row < 0 ? 0 : (row >= rows ? rows - 1 : row);
+  }
+}
@@ -0,0 +1,58 @@
+package br.com.cronicasdeeldoria.game.animation;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Sequência de quadros já decodificados, repetida em loop.
+ * Um clip é imutável e compartilhado por todas as entidades com a mesma skin;
+ * o andamento de cada entidade fica no seu Animator.
+ */
+public class AnimationClip {
+    private final BufferedImage[] frames;
+    private final int frameTicks;
+
+    /**
+     * @param frames Quadros do clip, na ordem de exibição.
+     * @param frameTicks Ticks que cada quadro fica na tela.
+     */
+    public AnimationClip(BufferedImage[] frames, int frameTicks) {
+        this.frames = frames.clone();
+        this.frameTicks = Math.max(1, frameTicks);
+    }
+
+    /**
+     * Quadro a exibir depois de um tempo de reprodução, com a duração padrão por quadro.
+     * @param elapsedTicks Ticks desde o início da reprodução.
+     */
+    public BufferedImage getFrame(long elapsedTicks) {
+        return getFrame(elapsedTicks, frameTicks);
+    }
+
+    /**
+     * Quadro a exibir depois de um tempo de reprodução.
+     * @param elapsedTicks Ticks desde o início da reprodução.
+     * @param ticksPerFrame Ticks que cada quadro fica na tela.
+     */
+    public BufferedImage getFrame(long elapsedTicks, int ticksPerFrame) {
+        if (frames.length == 0) {
+            return null;
+        }
+        if (frames.length == 1 || elapsedTicks <= 0) {
+            return frames[0];
+        }
+        long index = (elapsedTicks / Math.max(1, ticksPerFrame)) % frames.length;
+        return frames[(int) index];
+    }
+
+    public BufferedImage getFirstFrame() {
+        return frames.length > 0 ? frames[0] : null;
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    public int getFrameTicks() {
+        return frameTicks;
+    }
+}
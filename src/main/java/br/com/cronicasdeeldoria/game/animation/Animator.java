@@ -0,0 +1,52 @@
+package br.com.cronicasdeeldoria.game.animation;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Estado de reprodução de animação de uma entidade: se está tocando, desde
+ * quando (no GameClock) e em que velocidade. Os quadros vêm de clips compartilhados.
+ */
+public class Animator {
+    private volatile boolean running;
+    private volatile long startTick;
+    private volatile int ticksPerFrame;
+
+    /**
+     * Inicia a reprodução, ou mantém a fase atual se já estiver tocando
+     * (ex.: ao trocar de direção andando).
+     * @param ticksPerFrame Ticks por quadro (0 = padrão do clip).
+     */
+    public void play(int ticksPerFrame) {
+        this.ticksPerFrame = ticksPerFrame;
+        if (!running) {
+            startTick = GameClock.getInstance().getTicks();
+            running = true;
+        }
+    }
+
+    /**
+     * Para a reprodução; a próxima começa do primeiro quadro.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Quadro atual de um clip segundo este estado de reprodução.
+     * Parado, devolve o primeiro quadro.
+     */
+    public BufferedImage frameOf(AnimationClip clip) {
+        if (clip == null) {
+            return null;
+        }
+        if (!running) {
+            return clip.getFirstFrame();
+        }
+        long elapsed = GameClock.getInstance().getTicks() - startTick;
+        return ticksPerFrame > 0 ? clip.getFrame(elapsed, ticksPerFrame) : clip.getFrame(elapsed);
+    }
+}
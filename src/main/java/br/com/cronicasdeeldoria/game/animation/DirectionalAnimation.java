@@ -0,0 +1,39 @@
+package br.com.cronicasdeeldoria.game.animation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Clips de uma skin por direção ("up", "down", "left", "right"):
+ * um clip parado (quadro base) e um clip de caminhada.
+ */
+public class DirectionalAnimation {
+    private final Map<String, AnimationClip> idle = new HashMap<>();
+    private final Map<String, AnimationClip> walk = new HashMap<>();
+
+    /**
+     * Define os clips de uma direção.
+     * @param direction Direção.
+     * @param idleClip Clip parado.
+     * @param walkClip Clip de caminhada.
+     */
+    public void put(String direction, AnimationClip idleClip, AnimationClip walkClip) {
+        idle.put(direction, idleClip);
+        walk.put(direction, walkClip);
+    }
+
+    public AnimationClip getIdle(String direction) {
+        return idle.get(direction);
+    }
+
+    public AnimationClip getWalk(String direction) {
+        return walk.get(direction);
+    }
+
+    /**
+     * Clip a usar conforme a entidade está andando ou parada.
+     */
+    public AnimationClip getClip(String direction, boolean moving) {
+        return moving ? walk.get(direction) : idle.get(direction);
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.cronicasdeeldoria.game.animation;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+
+/**
+ * Relógio do mundo do jogo, medido em ticks de simulação.
+ * Avança apenas enquanto o mundo está em andamento; as animações usam este
+ * relógio e por isso param junto com o jogo (pausa, menus, batalha).
+ *
+ * O tempo de execução (uptime) avança em todo tick, em qualquer estado, e
+ * serve às animações de interface e de batalha.
+ */
+public class GameClock {
+    private static GameClock instance;
+
+    private final int tickRate;
+    private volatile long ticks;
+    private volatile long uptimeTicks;
+
+    private GameClock() {
+        this.tickRate = GameSettings.getInstance().getTickRate();
+    }
+
+    public static GameClock getInstance() {
+        if (instance == null) {
+            instance = new GameClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Avança o relógio um tick (chamado pela thread do jogo).
+     */
+    public void advance() {
+        ticks++;
+    }
+
+    /**
+     * @return Ticks decorridos desde o início do jogo.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Avança o tempo de execução um tick (chamado pela thread do jogo em todo tick).
+     */
+    public void advanceUptime() {
+        uptimeTicks++;
+    }
+
+    /**
+     * @return Ticks decorridos desde o início do jogo, em qualquer estado.
+     */
+    public long getUptimeTicks() {
+        return uptimeTicks;
+    }
+
+    /**
+     * @return Tempo do mundo em milissegundos.
+     */
+    public long getMillis() {
+        return ticksToMillis(ticks);
+    }
+
+    /**
+     * @return Tempo de execução em milissegundos.
+     */
+    public long getUptimeMillis() {
+        return ticksToMillis(uptimeTicks);
+    }
+
+    /**
+     * Converte ticks de simulação em milissegundos.
+     */
+    public long ticksToMillis(long tickCount) {
+        return tickCount * 1000L / tickRate;
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.cronicasdeeldoria.game.animation;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Estado de reprodução de uma GifSequence: desde quando está tocando, no relógio
+ * escolhido pelo chamador (tempo do mundo ou de execução do GameClock).
+ * Usado pela thread de desenho.
+ */
+public class GifPlayback {
+    private final GifSequence sequence;
+    private long startMillis;
+    // Só para sequências não compostas de antemão
+    private GifSequence.Compositor compositor;
+
+    /**
+     * @param sequence Sequência compartilhada.
+     * @param startMillis Instante de início da reprodução.
+     */
+    public GifPlayback(GifSequence sequence, long startMillis) {
+        this.sequence = sequence;
+        this.startMillis = startMillis;
+    }
+
+    /**
+     * Recomeça a reprodução do primeiro quadro.
+     * @param nowMillis Instante atual.
+     */
+    public void restart(long nowMillis) {
+        this.startMillis = nowMillis;
+    }
+
+    /**
+     * Quadro a exibir no instante informado.
+     * @param nowMillis Instante atual, no mesmo relógio do início.
+     */
+    public BufferedImage frameAt(long nowMillis) {
+        int index = sequence.frameIndexAt(nowMillis - startMillis);
+        if (sequence.isComposed()) {
+            return sequence.getComposedFrame(index);
+        }
+        if (compositor == null) {
+            compositor = new GifSequence.Compositor(sequence, sequence.getFrames());
+        }
+        compositor.advanceTo(index);
+        return compositor.canvas;
+    }
+
+    public GifSequence getSequence() {
+        return sequence;
+    }
+}
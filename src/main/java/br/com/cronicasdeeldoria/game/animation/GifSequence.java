@@ -0,0 +1,368 @@
+package br.com.cronicasdeeldoria.game.animation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+
+import org.w3c.dom.Node;
+
+import br.com.cronicasdeeldoria.game.render.CompatibleImages;
+
+/**
+ * GIF animado decodificado uma única vez em quadros com a duração de cada um.
+ * A sequência é imutável e compartilhada; o andamento de cada uso fica no seu GifPlayback,
+ * que avança pelo tempo do GameClock (sem as threads de animação do Toolkit).
+ *
+ * Sequências pequenas são compostas de antemão em quadros prontos. As grandes (efeitos
+ * de tela cheia com centenas de quadros) guardam só os quadros crus, no formato indexado
+ * do arquivo, e cada GifPlayback os compõe à medida que avança.
+ */
+public final class GifSequence {
+    /** Duração usada quando o arquivo não informa (ou informa menos de 20 ms), como nos navegadores. */
+    private static final int DEFAULT_DELAY_MS = 100;
+    /** Acima deste tamanho (em bytes, já compostos) os quadros não são compostos de antemão. */
+    private static final long PRECOMPOSE_LIMIT_BYTES = 4L * 1024 * 1024;
+
+    enum Disposal { NONE, BACKGROUND, PREVIOUS }
+
+    /**
+     * Quadro como vem no arquivo: só a região alterada, posicionada na tela lógica.
+     */
+    static final class Frame {
+        final BufferedImage image;
+        final int x;
+        final int y;
+        final Disposal disposal;
+
+        Frame(BufferedImage image, int x, int y, Disposal disposal) {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+            this.disposal = disposal;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final Frame[] frames;
+    private final int[] endTimes;
+    private final int plays;
+    private final BufferedImage[] composed;
+    private final long byteSize;
+
+    private GifSequence(int width, int height, Frame[] frames, int[] delays, int plays, boolean precompose) {
+        this.width = width;
+        this.height = height;
+        this.plays = plays;
+        this.endTimes = new int[delays.length];
+        int total = 0;
+        for (int i = 0; i < delays.length; i++) {
+            total += delays[i];
+            endTimes[i] = total;
+        }
+
+        if (precompose) {
+            this.composed = new BufferedImage[frames.length];
+            Compositor compositor = new Compositor(this, frames);
+            for (int i = 0; i < frames.length; i++) {
+                compositor.advanceTo(i);
+                composed[i] = CompatibleImages.toCompatible(compositor.canvas);
+            }
+            this.frames = null;
+            this.byteSize = 4L * width * height * frames.length;
+        } else {
+            this.composed = null;
+            this.frames = frames;
+            long bytes = 0;
+            for (Frame frame : frames) {
+                bytes += frame.image.getRaster().getDataBuffer().getSize();
+            }
+            this.byteSize = bytes;
+        }
+    }
+
+    /**
+     * Sequência de um quadro só (imagens estáticas usadas no lugar de um GIF).
+     */
+    public static GifSequence of(BufferedImage image) {
+        return new GifSequence(image.getWidth(), image.getHeight(),
+            new Frame[] { new Frame(image, 0, 0, Disposal.NONE) }, new int[] { DEFAULT_DELAY_MS }, 0, true);
+    }
+
+    /**
+     * Decodifica um GIF, respeitando posição, duração e descarte de cada quadro.
+     * @param in Conteúdo do arquivo.
+     * @return Sequência decodificada, ou null se não houver quadros.
+     */
+    public static GifSequence read(InputStream in) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+        if (!readers.hasNext()) {
+            throw new IOException("Nenhum leitor de GIF disponível");
+        }
+        ImageReader reader = readers.next();
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            reader.setInput(stream, false);
+
+            int width = 0;
+            int height = 0;
+            IIOMetadata streamMetadata = reader.getStreamMetadata();
+            if (streamMetadata != null) {
+                Node screen = child(streamMetadata.getAsTree("javax_imageio_gif_stream_1.0"), "LogicalScreenDescriptor");
+                width = intAttribute(screen, "logicalScreenWidth", 0);
+                height = intAttribute(screen, "logicalScreenHeight", 0);
+            }
+
+            List<Frame> frames = new ArrayList<>();
+            List<Integer> delays = new ArrayList<>();
+            int plays = 1;
+            int count = reader.getNumImages(true);
+            for (int i = 0; i < count; i++) {
+                BufferedImage image = reader.read(i);
+                Node root = reader.getImageMetadata(i).getAsTree("javax_imageio_gif_image_1.0");
+                Node descriptor = child(root, "ImageDescriptor");
+                Node control = child(root, "GraphicControlExtension");
+                int x = intAttribute(descriptor, "imageLeftPosition", 0);
+                int y = intAttribute(descriptor, "imageTopPosition", 0);
+                int delay = intAttribute(control, "delayTime", 0) * 10;
+                frames.add(new Frame(image, x, y, parseDisposal(attribute(control, "disposalMethod"))));
+                delays.add(delay < 20 ? DEFAULT_DELAY_MS : delay);
+                // Alguns arquivos têm quadros maiores que a tela lógica declarada
+                width = Math.max(width, x + image.getWidth());
+                height = Math.max(height, y + image.getHeight());
+                if (i == 0) {
+                    plays = readPlays(root);
+                }
+            }
+            if (frames.isEmpty()) {
+                return null;
+            }
+
+            int[] delayArray = new int[delays.size()];
+            for (int i = 0; i < delayArray.length; i++) {
+                delayArray[i] = delays.get(i);
+            }
+            boolean precompose = 4L * width * height * frames.size() <= PRECOMPOSE_LIMIT_BYTES;
+            return new GifSequence(width, height, frames.toArray(new Frame[0]), delayArray, plays, precompose);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Índice do quadro a exibir depois de um tempo de reprodução. Ao fim das repetições
+     * previstas no arquivo, fica no último quadro.
+     * @param elapsedMillis Milissegundos desde o início da reprodução.
+     */
+    public int frameIndexAt(long elapsedMillis) {
+        int duration = getDurationMillis();
+        if (elapsedMillis <= 0 || endTimes.length == 1) {
+            return 0;
+        }
+        if (plays > 0 && elapsedMillis >= (long) duration * plays) {
+            return endTimes.length - 1;
+        }
+        int t = (int) (elapsedMillis % duration);
+        int low = 0;
+        int high = endTimes.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (endTimes[mid] <= t) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return true se os quadros já estão compostos e podem ser desenhados diretamente.
+     */
+    boolean isComposed() {
+        return composed != null;
+    }
+
+    BufferedImage getComposedFrame(int index) {
+        return composed[index];
+    }
+
+    Frame[] getFrames() {
+        return frames;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getFrameCount() { return endTimes.length; }
+
+    /**
+     * @return Duração de uma passada pela sequência, em milissegundos.
+     */
+    public int getDurationMillis() { return endTimes[endTimes.length - 1]; }
+
+    /**
+     * @return Quantas vezes a sequência toca (0 = sem fim).
+     */
+    public int getPlays() { return plays; }
+
+    /**
+     * @return Memória ocupada pelos quadros, em bytes.
+     */
+    public long getByteSize() { return byteSize; }
+
+    /**
+     * Repetições da extensão NETSCAPE2.0: sem a extensão o GIF toca uma vez;
+     * com ela, 0 significa sem fim e N significa N repetições além da primeira.
+     */
+    private static int readPlays(Node root) {
+        Node extensions = child(root, "ApplicationExtensions");
+        for (Node node = extensions != null ? extensions.getFirstChild() : null; node != null; node = node.getNextSibling()) {
+            String id = attribute(node, "applicationID");
+            if (!"NETSCAPE".equalsIgnoreCase(id) || !(node instanceof IIOMetadataNode)) {
+                continue;
+            }
+            Object data = ((IIOMetadataNode) node).getUserObject();
+            if (data instanceof byte[] && ((byte[]) data).length >= 3) {
+                byte[] bytes = (byte[]) data;
+                int loops = (bytes[1] & 0xFF) | ((bytes[2] & 0xFF) << 8);
+                return loops == 0 ? 0 : loops + 1;
+            }
+            return 0;
+        }
+        return 1;
+    }
+
+    private static Disposal parseDisposal(String value) {
+        if ("restoreToBackgroundColor".equals(value)) {
+            return Disposal.BACKGROUND;
+        }
+        if ("restoreToPrevious".equals(value)) {
+            return Disposal.PREVIOUS;
+        }
+        return Disposal.NONE;
+    }
+
+    private static Node child(Node parent, String name) {
+        if (parent == null) {
+            return null;
+        }
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static String attribute(Node node, String name) {
+        if (node == null || node.getAttributes() == null) {
+            return null;
+        }
+        Node attribute = node.getAttributes().getNamedItem(name);
+        return attribute != null ? attribute.getNodeValue() : null;
+    }
+
+    private static int intAttribute(Node node, String name, int fallback) {
+        String value = attribute(node, name);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Compõe os quadros crus numa tela do tamanho lógico, aplicando o descarte
+     * do quadro anterior antes de desenhar o próximo.
+     */
+    static final class Compositor {
+        final BufferedImage canvas;
+        private final Frame[] frames;
+        private BufferedImage saved;
+        private int index = -1;
+
+        Compositor(GifSequence sequence, Frame[] frames) {
+            this.canvas = CompatibleImages.create(sequence.width, sequence.height);
+            this.frames = frames;
+        }
+
+        /**
+         * Avança até o quadro indicado; se ele já passou, recomeça do primeiro.
+         */
+        void advanceTo(int target) {
+            if (target < index) {
+                reset();
+            }
+            while (index < target) {
+                step();
+            }
+        }
+
+        private void reset() {
+            Graphics2D g2 = canvas.createGraphics();
+            try {
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            } finally {
+                g2.dispose();
+            }
+            saved = null;
+            index = -1;
+        }
+
+        private void step() {
+            Graphics2D g2 = canvas.createGraphics();
+            try {
+                if (index >= 0) {
+                    Frame previous = frames[index];
+                    if (previous.disposal == Disposal.BACKGROUND) {
+                        g2.setComposite(AlphaComposite.Clear);
+                        g2.fillRect(previous.x, previous.y, previous.image.getWidth(), previous.image.getHeight());
+                    } else if (previous.disposal == Disposal.PREVIOUS && saved != null) {
+                        g2.setComposite(AlphaComposite.Src);
+                        g2.drawImage(saved, previous.x, previous.y, null);
+                    }
+                }
+                index++;
+                Frame frame = frames[index];
+                if (frame.disposal == Disposal.PREVIOUS) {
+                    saved = copy(frame);
+                }
+                g2.setComposite(AlphaComposite.SrcOver);
+                g2.drawImage(frame.image, frame.x, frame.y, null);
+            } finally {
+                g2.dispose();
+            }
+        }
+
+        private BufferedImage copy(Frame frame) {
+            int w = Math.min(frame.image.getWidth(), canvas.getWidth() - frame.x);
+            int h = Math.min(frame.image.getHeight(), canvas.getHeight() - frame.y);
+            if (w <= 0 || h <= 0) {
+                return null;
+            }
+            BufferedImage region = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = region.createGraphics();
+            try {
+                g2.setComposite(AlphaComposite.Src);
+                g2.drawImage(canvas.getSubimage(frame.x, frame.y, w, h), 0, 0, null);
+            } finally {
+                g2.dispose();
+            }
+            return region;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.cronicasdeeldoria.game.animation;
+
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import br.com.cronicasdeeldoria.entity.character.npc.NpcSpriteLoader;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
+
+/**
+ * Biblioteca de animações dos NPCs. Carrega pelo AssetManager, em paralelo, cada quadro
+ * listado em npc_sprites.json (imagens repetidas entre skins são reaproveitadas) e monta
+ * os clips de cada skin, que são compartilhados por todos os NPCs que usam a mesma skin.
+ */
+public class NpcAnimationLibrary {
+    private static NpcAnimationLibrary instance;
+
+    /** Ticks por quadro da caminhada dos NPCs (velocidade padrão 1). */
+    public static final int DEFAULT_WALK_FRAME_TICKS = 15;
+
+    private volatile Map<String, DirectionalAnimation> animations = Collections.emptyMap();
+    private int decodedImages;
+
+    private NpcAnimationLibrary() {
+    }
+
+    public static NpcAnimationLibrary getInstance() {
+        if (instance == null) {
+            instance = new NpcAnimationLibrary();
+        }
+        return instance;
+    }
+
+    /**
+     * Decodifica todos os quadros do loader e monta os clips de cada skin.
+     * @param spriteLoader Definições de npc_sprites.json.
+     */
+    public synchronized void load(NpcSpriteLoader spriteLoader) {
+        Map<String, BufferedImage> decoded = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        Map<String, DirectionalAnimation> loaded = new HashMap<>();
+
+        // Agendar todos os quadros no pool do AssetManager; a montagem abaixo só aguarda cada um
+        Set<String> allFrames = new LinkedHashSet<>();
+        for (String skin : spriteLoader.getSkins()) {
+            for (String direction : spriteLoader.getDirections(skin)) {
+                List<String> frames = spriteLoader.getSprites(skin, direction);
+                if (frames != null) {
+                    for (String frame : frames) {
+                        allFrames.add("/sprites/" + frame);
+                    }
+                }
+            }
+        }
+        AssetManager.getInstance().preload(AssetManager.SCOPE_GLOBAL, allFrames);
+
+        for (String skin : spriteLoader.getSkins()) {
+            DirectionalAnimation animation = new DirectionalAnimation();
+            for (String direction : spriteLoader.getDirections(skin)) {
+                List<String> paths = spriteLoader.getSprites(skin, direction);
+                if (paths == null || paths.isEmpty()) {
+                    continue;
+                }
+                BufferedImage base = decode(paths.get(0), decoded, missing);
+                AnimationClip idleClip = new AnimationClip(new BufferedImage[] { base }, DEFAULT_WALK_FRAME_TICKS);
+                AnimationClip walkClip = idleClip;
+                if (paths.size() > 2) {
+                    // Caminhada alterna os quadros 1 e 2; o quadro 0 é a pose parada
+                    walkClip = new AnimationClip(new BufferedImage[] {
+                        decode(paths.get(1), decoded, missing),
+                        decode(paths.get(2), decoded, missing)
+                    }, DEFAULT_WALK_FRAME_TICKS);
+                }
+                animation.put(direction, idleClip, walkClip);
+            }
+            loaded.put(skin, animation);
+        }
+
+        this.decodedImages = decoded.size();
+        this.animations = loaded;
+    }
+
+    private static BufferedImage decode(String path, Map<String, BufferedImage> decoded, Set<String> missing) {
+        if (decoded.containsKey(path) || missing.contains(path)) {
+            return decoded.get(path);
+        }
+        BufferedImage image = AssetManager.getInstance().getImage(AssetManager.SCOPE_GLOBAL, "/sprites/" + path);
+        if (image == null) {
+            missing.add(path);
+            return null;
+        }
+        decoded.put(path, image);
+        return image;
+    }
+
+    /**
+     * @param skin Nome da skin.
+     * @return Clips da skin, ou null se a skin não existir.
+     */
+    public DirectionalAnimation getAnimation(String skin) {
+        return skin != null ? animations.get(skin) : null;
+    }
+
+    /**
+     * @return Quantidade de imagens distintas decodificadas.
+     */
+    public synchronized int getDecodedImageCount() {
+        return decodedImages;
+    }
+
+    public int getSkinCount() {
+        return animations.size();
+    }
+}
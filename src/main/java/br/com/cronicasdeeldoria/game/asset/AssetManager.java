@@ -0,0 +1,311 @@
+package br.com.cronicasdeeldoria.game.asset;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+import br.com.cronicasdeeldoria.game.animation.GifSequence;
+import br.com.cronicasdeeldoria.game.render.CompatibleImages;
+
+/**
+ * Ponto único de carregamento de imagens. Cada caminho é decodificado uma única vez
+ * (em segundo plano ou sob demanda) e convertido para o formato compatível com a tela.
+ *
+ * Os assets são presos a escopos (ex.: "global", "battle", "environment"); um asset sem
+ * nenhum escopo continua em cache e é descartado do menos usado para o mais usado quando
+ * a memória passa do orçamento (eldoria.assetCacheMb).
+ *
+ * GIFs animados viram uma GifSequence (quadros e durações), tocada pelo tempo do jogo.
+ */
+public class AssetManager {
+    private static AssetManager instance;
+
+    /** Escopo dos assets usados durante todo o jogo (interface, jogador, NPCs). */
+    public static final String SCOPE_GLOBAL = "global";
+
+    private enum Kind { IMAGE, SEQUENCE }
+
+    private static final class Asset {
+        final String path;
+        final Kind kind;
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final Set<String> scopes = new HashSet<>();
+        long bytes;
+
+        Asset(String path, Kind kind) {
+            this.path = path;
+            this.kind = kind;
+        }
+    }
+
+    private final ExecutorService workers;
+    private final long budgetBytes;
+
+    // Em ordem de acesso: o primeiro é o menos usado recentemente
+    private final LinkedHashMap<String, Asset> assets = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Set<String>> scopeAssets = new HashMap<>();
+    private final Set<String> missing = new HashSet<>();
+    private long usedBytes;
+
+    // Métricas
+    private long loads;
+    private long hits;
+    private long evictions;
+    private long failures;
+
+    private AssetManager() {
+        GameSettings settings = GameSettings.getInstance();
+        this.budgetBytes = settings.getAssetCacheMb() * 1024L * 1024L;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(settings.getAssetLoaderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static synchronized AssetManager getInstance() {
+        if (instance == null) {
+            instance = new AssetManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Obtém uma imagem estática, decodificando na thread atual se ainda não estiver em cache.
+     * @param path Caminho no classpath.
+     * @return Imagem compatível, ou null se não existir.
+     */
+    public BufferedImage getImage(String path) {
+        return getImage(null, path);
+    }
+
+    /**
+     * Obtém uma imagem estática e a prende a um escopo.
+     * @param scope Escopo (null = nenhum).
+     * @param path Caminho no classpath.
+     */
+    public BufferedImage getImage(String scope, String path) {
+        return (BufferedImage) get(scope, path, Kind.IMAGE);
+    }
+
+    /**
+     * Obtém a sequência de quadros de um GIF; outros formatos viram uma sequência de um quadro.
+     * @param scope Escopo (null = nenhum).
+     * @param path Caminho no classpath.
+     */
+    public GifSequence getSequence(String scope, String path) {
+        return (GifSequence) get(scope, path, Kind.SEQUENCE);
+    }
+
+    /**
+     * Agenda a decodificação em segundo plano de vários assets, presos ao escopo.
+     * @param scope Escopo (null = nenhum).
+     * @param paths Caminhos no classpath.
+     */
+    public void preload(String scope, Collection<String> paths) {
+        for (String path : paths) {
+            if (path != null) {
+                request(scope, path, isAnimated(path) ? Kind.SEQUENCE : Kind.IMAGE, true);
+            }
+        }
+    }
+
+    /**
+     * @return true se o asset já foi decodificado (com sucesso ou não).
+     */
+    public synchronized boolean isReady(String path) {
+        Kind kind = isAnimated(path) ? Kind.SEQUENCE : Kind.IMAGE;
+        String key = key(path, kind);
+        if (missing.contains(key)) {
+            return true;
+        }
+        Asset asset = assets.get(key);
+        return asset != null && asset.future.isDone();
+    }
+
+    /**
+     * Solta todos os assets de um escopo; os que ficarem sem escopo podem ser descartados.
+     * @param scope Escopo.
+     */
+    public synchronized void releaseScope(String scope) {
+        Set<String> keys = scopeAssets.remove(scope);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            Asset asset = assets.get(key);
+            if (asset != null) {
+                asset.scopes.remove(scope);
+            }
+        }
+        evictIfNeeded();
+    }
+
+    private Object get(String scope, String path, Kind kind) {
+        if (path == null) {
+            return null;
+        }
+        Asset asset = request(scope, path, kind, false);
+        if (asset == null) {
+            return null;
+        }
+        try {
+            return asset.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Localiza ou cria a entrada do asset; quando nova, decodifica aqui ou no pool.
+     */
+    private Asset request(String scope, String path, Kind kind, boolean async) {
+        String key = key(path, kind);
+        Asset asset;
+        boolean decodeHere = false;
+        synchronized (this) {
+            if (missing.contains(key)) {
+                return null;
+            }
+            asset = assets.get(key);
+            if (asset != null) {
+                hits++;
+            } else {
+                asset = new Asset(path, kind);
+                assets.put(key, asset);
+                if (async) {
+                    Asset pending = asset;
+                    workers.execute(() -> decode(key, pending));
+                } else {
+                    decodeHere = true;
+                }
+            }
+            if (scope != null) {
+                scopeAssets.computeIfAbsent(scope, k -> new HashSet<>()).add(key);
+                asset.scopes.add(scope);
+            }
+        }
+        if (decodeHere) {
+            decode(key, asset);
+        }
+        return asset;
+    }
+
+    private void decode(String key, Asset asset) {
+        Object value = null;
+        long bytes = 0;
+        try {
+            if (asset.kind == Kind.SEQUENCE) {
+                GifSequence sequence = readSequence(asset.path);
+                if (sequence != null) {
+                    value = sequence;
+                    bytes = sequence.getByteSize();
+                }
+            } else {
+                BufferedImage image = readImage(asset.path);
+                if (image != null) {
+                    value = image;
+                    bytes = 4L * image.getWidth() * image.getHeight();
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Erro ao carregar imagem " + asset.path + ": " + e.getMessage());
+        }
+
+        synchronized (this) {
+            if (value == null) {
+                failures++;
+                missing.add(key);
+                assets.remove(key);
+            } else {
+                loads++;
+                asset.bytes = bytes;
+                usedBytes += bytes;
+                evictIfNeeded();
+            }
+        }
+        asset.future.complete(value);
+    }
+
+    private BufferedImage readImage(String path) throws Exception {
+        try (InputStream is = AssetManager.class.getResourceAsStream(path)) {
+            if (is == null) {
+                System.err.println("Imagem não encontrada: " + path);
+                return null;
+            }
+            return CompatibleImages.toCompatible(ImageIO.read(is));
+        }
+    }
+
+    private GifSequence readSequence(String path) throws Exception {
+        if (!isAnimated(path)) {
+            BufferedImage image = readImage(path);
+            return image != null ? GifSequence.of(image) : null;
+        }
+        try (InputStream is = AssetManager.class.getResourceAsStream(path)) {
+            if (is == null) {
+                System.err.println("Imagem não encontrada: " + path);
+                return null;
+            }
+            return GifSequence.read(is);
+        }
+    }
+
+    /**
+     * Descarta assets sem escopo, do menos usado para o mais usado, até caber no orçamento.
+     */
+    private void evictIfNeeded() {
+        Iterator<Asset> iterator = assets.values().iterator();
+        while (usedBytes > budgetBytes && iterator.hasNext()) {
+            Asset asset = iterator.next();
+            if (!asset.scopes.isEmpty() || !asset.future.isDone()) {
+                continue;
+            }
+            iterator.remove();
+            usedBytes -= asset.bytes;
+            evictions++;
+        }
+    }
+
+    private static boolean isAnimated(String path) {
+        return path != null && path.toLowerCase(Locale.ROOT).endsWith(".gif");
+    }
+
+    private static String key(String path, Kind kind) {
+        return kind == Kind.SEQUENCE ? "sequence:" + path : path;
+    }
+
+    /**
+     * Encerra as threads de decodificação.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public synchronized long getLoadCount() { return loads; }
+    public synchronized long getHitCount() { return hits; }
+    public synchronized long getEvictionCount() { return evictions; }
+    public synchronized long getFailureCount() { return failures; }
+    public synchronized long getUsedBytes() { return usedBytes; }
+    public long getBudgetBytes() { return budgetBytes; }
+    public synchronized int getAssetCount() { return assets.size(); }
+}
@@ -0,0 +1,200 @@
+package br.com.cronicasdeeldoria.game.debug;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+
+/**
+ * Mede quanto tempo cada fase do tick e do quadro leva, guardando as últimas amostras
+ * em buffers circulares de primitivos. Medir não aloca nada: é uma chamada a
+ * System.nanoTime no início e outra no fim de cada fase.
+ *
+ * Uso: {@code long t = profiler.start(); ...; profiler.record(Phase.X, t);}
+ * Desligado, start() devolve 0 e record() não faz nada.
+ *
+ * Cada fase é gravada por uma única thread (a do jogo ou a de desenho); as estatísticas
+ * são calculadas sob demanda numa cópia, e uma amostra em andamento pode ficar de fora.
+ */
+public class FrameProfiler {
+    private static FrameProfiler instance;
+
+    /** Amostras guardadas por fase (cerca de 4 segundos a 60 quadros por segundo). */
+    public static final int WINDOW = 256;
+
+    /**
+     * Fases medidas, na ordem em que aparecem no overlay e no CSV.
+     */
+    public enum Phase {
+        UPDATE("update (total)"),
+        PLAYER_UPDATE("player update"),
+        NPC_UPDATE("npc update"),
+        AI_JOBS("ai jobs"),
+        OBJECT_UPDATE("objects update"),
+        INTERACTION("interaction points"),
+        TELEPORTS("teleports"),
+        PREFETCH("asset prefetch"),
+        QUESTS("quests"),
+        FRAME("frame (total)"),
+        BACKGROUND_TILES("background tiles"),
+        OBJECT_DRAW("objects draw"),
+        NPC_DRAW("npc draw"),
+        PLAYER_DRAW("player draw"),
+        OVERLAY_TILES("overlay tiles"),
+        ENVIRONMENT("environment"),
+        GAME_UI("game ui");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Estatísticas de uma fase, em nanossegundos.
+     */
+    public static final class Stats {
+        public long samples;
+        public long mean;
+        public long p50;
+        public long p95;
+        public long p99;
+        public long max;
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[][] samples = new long[PHASES.length][WINDOW];
+    private final int[] next = new int[PHASES.length];
+    private final int[] filled = new int[PHASES.length];
+    private final long[] scratch = new long[WINDOW];
+    private volatile boolean enabled;
+
+    private FrameProfiler() {
+        this.enabled = GameSettings.getInstance().isProfilerEnabled();
+    }
+
+    public static synchronized FrameProfiler getInstance() {
+        if (instance == null) {
+            instance = new FrameProfiler();
+        }
+        return instance;
+    }
+
+    /**
+     * Marca o início de uma fase.
+     * @return Instante atual, ou 0 se o profiler estiver desligado.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Registra a duração de uma fase iniciada com start().
+     * @param phase Fase medida.
+     * @param startNanos Valor devolvido por start().
+     */
+    public void record(Phase phase, long startNanos) {
+        if (!enabled || startNanos == 0L) {
+            return;
+        }
+        int p = phase.ordinal();
+        int slot = next[p];
+        samples[p][slot] = System.nanoTime() - startNanos;
+        next[p] = (slot + 1) % WINDOW;
+        if (filled[p] < WINDOW) {
+            filled[p]++;
+        }
+    }
+
+    /**
+     * Calcula as estatísticas das últimas amostras de uma fase.
+     * @param phase Fase.
+     * @param out Objeto que recebe o resultado (reaproveitado pelo chamador).
+     */
+    public synchronized void computeStats(Phase phase, Stats out) {
+        int p = phase.ordinal();
+        int n = filled[p];
+        System.arraycopy(samples[p], 0, scratch, 0, n);
+        out.samples = n;
+        if (n == 0) {
+            out.mean = out.p50 = out.p95 = out.p99 = out.max = 0L;
+            return;
+        }
+        Arrays.sort(scratch, 0, n);
+        long sum = 0L;
+        for (int i = 0; i < n; i++) {
+            sum += scratch[i];
+        }
+        out.mean = sum / n;
+        out.p50 = percentile(n, 0.50);
+        out.p95 = percentile(n, 0.95);
+        out.p99 = percentile(n, 0.99);
+        out.max = scratch[n - 1];
+    }
+
+    private long percentile(int n, double fraction) {
+        int index = (int) Math.ceil(fraction * n) - 1;
+        return scratch[Math.max(0, Math.min(n - 1, index))];
+    }
+
+    /**
+     * Grava as estatísticas de todas as fases num CSV, para comparar versões.
+     * @param directory Pasta de destino.
+     * @return Arquivo gravado.
+     */
+    public Path dumpCsv(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = directory.resolve("frame-profile-" + stamp + ".csv");
+        Stats stats = new Stats();
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.println("phase,samples,mean_ms,p50_ms,p95_ms,p99_ms,max_ms");
+            for (Phase phase : PHASES) {
+                computeStats(phase, stats);
+                writer.println(String.format(Locale.ROOT, "%s,%d,%.4f,%.4f,%.4f,%.4f,%.4f",
+                    phase.getLabel(), stats.samples, toMillis(stats.mean), toMillis(stats.p50),
+                    toMillis(stats.p95), toMillis(stats.p99), toMillis(stats.max)));
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Descarta todas as amostras.
+     */
+    public synchronized void reset() {
+        Arrays.fill(next, 0);
+        Arrays.fill(filled, 0);
+    }
+
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Liga ou desliga a coleta; ao ligar, começa com as amostras zeradas.
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            reset();
+        }
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.cronicasdeeldoria.game.debug;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.util.Locale;
+
+import br.com.cronicasdeeldoria.game.AiJobQueue;
+import br.com.cronicasdeeldoria.game.render.ScreenOverlay;
+
+/**
+ * Tabela com p50, p95, p99 e máximo de cada fase do FrameProfiler, desenhada sobre a interface,
+ * seguida do estado da fila de IA (AiJobQueue).
+ * O texto é refeito poucas vezes por segundo, para o próprio overlay não pesar no quadro.
+ */
+public class FrameProfilerOverlay implements ScreenOverlay {
+    private static final long REFRESH_NANOS = 250_000_000L;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    private static final int LINE_HEIGHT = 13;
+    private static final int PADDING = 6;
+
+    private final FrameProfiler profiler;
+    private final FrameProfiler.Stats stats = new FrameProfiler.Stats();
+    private final String[] lines = new String[FrameProfiler.Phase.values().length + 2];
+    private long lastRefresh;
+
+    public FrameProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Stage getStage() {
+        return Stage.AFTER_UPSCALE;
+    }
+
+    @Override
+    public void draw(Graphics2D g2, int screenWidth, int screenHeight) {
+        if (!profiler.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lines[0] == null || now - lastRefresh >= REFRESH_NANOS) {
+            refresh();
+            lastRefresh = now;
+        }
+
+        Font oldFont = g2.getFont();
+        Color oldColor = g2.getColor();
+        g2.setFont(FONT);
+        int width = 0;
+        for (String line : lines) {
+            width = Math.max(width, g2.getFontMetrics().stringWidth(line));
+        }
+        int x = 8;
+        int y = 8;
+        g2.setColor(BACKGROUND);
+        g2.fillRect(x, y, width + PADDING * 2, lines.length * LINE_HEIGHT + PADDING * 2);
+        g2.setColor(Color.WHITE);
+        for (int i = 0; i < lines.length; i++) {
+            g2.drawString(lines[i], x + PADDING, y + PADDING + (i + 1) * LINE_HEIGHT - 3);
+        }
+        g2.setFont(oldFont);
+        g2.setColor(oldColor);
+    }
+
+    private void refresh() {
+        lines[0] = String.format(Locale.ROOT, "%-20s %7s %7s %7s %7s", "fase (ms)", "p50", "p95", "p99", "max");
+        FrameProfiler.Phase[] phases = FrameProfiler.Phase.values();
+        for (int i = 0; i < phases.length; i++) {
+            profiler.computeStats(phases[i], stats);
+            lines[i + 1] = String.format(Locale.ROOT, "%-20s %7.3f %7.3f %7.3f %7.3f", phases[i].getLabel(),
+                FrameProfiler.toMillis(stats.p50), FrameProfiler.toMillis(stats.p95),
+                FrameProfiler.toMillis(stats.p99), FrameProfiler.toMillis(stats.max));
+        }
+        AiJobQueue aiJobs = AiJobQueue.getInstance();
+        lines[phases.length + 1] = String.format(Locale.ROOT, "fila de IA: %d (max %d), adiados %d, passos %d",
+            aiJobs.getQueueDepth(), aiJobs.getMaxQueueDepth(), aiJobs.getLastDeferred(), aiJobs.getLastSteps());
+    }
+}
@@ -5,7 +5,6 @@ import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
 import java.io.InputStream;
-import java.lang.reflect.Method;
 import java.io.IOException;
 
 import br.com.cronicasdeeldoria.entity.item.QuestItem;
@@ -595,14 +594,12 @@ public class DialogManager {
                 int x = Integer.parseInt(parts[1].trim());
                 int y = Integer.parseInt(parts[2].trim());
 
-                // Carregar novo mapa
-                loadMap(mapName);
-
-                // Posicionar jogador na nova posição
-                player.setWorldX(x);
-                player.setWorldY(y);
-
-                gamePanel.getGameUI().addMessage(message, null, 3500L);
+                // Carregar novo mapa e posicionar jogador na nova posição
+                gamePanel.loadMapAsync(mapName, () -> {
+                    player.setWorldX(x);
+                    player.setWorldY(y);
+                    gamePanel.getGameUI().addMessage(message, null, 3500L);
+                });
 
             } else {
                 System.err.println("Formato de teleporte inválido: " + teleportString);
@@ -615,33 +612,6 @@ public class DialogManager {
         }
     }
 
-    /**
-     * Carrega um novo mapa.
-     * @param mapName Nome do mapa (sem extensão .json)
-     */
-    private void loadMap(String mapName) {
-        try {
-            // Usar reflexão para acessar o método privado loadMap do GamePanel
-            java.lang.reflect.Method loadMapMethod = gamePanel.getClass().getDeclaredMethod("loadMap", String.class);
-            loadMapMethod.setAccessible(true);
-            loadMapMethod.invoke(gamePanel, mapName);
-
-        } catch (Exception e) {
-            System.err.println("Erro ao carregar mapa " + mapName + ": " + e.getMessage());
-
-            // Fallback: tentar carregar diretamente via TileManager
-            try {
-                gamePanel.getTileManager().loadMapJson("/maps/" + mapName + ".json");
-                // Usar reflexão para acessar método privado
-                Method loadNpcsMethod = gamePanel.getClass().getDeclaredMethod("loadNpcsFromMap");
-                loadNpcsMethod.setAccessible(true);
-                loadNpcsMethod.invoke(gamePanel);
-            } catch (Exception fallbackError) {
-                System.err.println("Erro no fallback de carregamento de mapa: " + fallbackError.getMessage());
-            }
-        }
-    }
-
     /**
      * Encontra o comerciante mais próximo do jogador.
      * @return MerchantNpc mais próximo ou null se não encontrado
@@ -6,12 +6,10 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 import java.util.List;
 
-import javax.imageio.ImageIO;
-
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
 import br.com.cronicasdeeldoria.game.font.FontManager;
 
 /**
@@ -64,10 +62,10 @@ public class DialogUI {
         this.highlightColor = new Color(255, 255, 255, 120); // Destaque mais visível
 
         // Configurar dimensões - Box com largura da tela e posicionado na parte inferior
-        this.dialogBoxWidth = gamePanel.getWidth() - 40; // Margem de 20px de cada lado
+        this.dialogBoxWidth = gamePanel.getScreenWidth() - 40; // Margem de 20px de cada lado
         this.dialogBoxHeight = 280;
         this.dialogBoxX = 20; // Margem esquerda
-        this.dialogBoxY = gamePanel.getHeight() - dialogBoxHeight - 20; // Margem inferior de 20px
+        this.dialogBoxY = gamePanel.getScreenHeight() - dialogBoxHeight - 20; // Margem inferior de 20px
         this.portraitSize = 100;
         this.textPadding = 25;
         this.optionSpacing = 30;
@@ -89,7 +87,7 @@ public class DialogUI {
 
         // Overlay semi-transparente
         g2.setColor(new Color(0, 0, 0, 150));
-        g2.fillRect(0, 0, gamePanel.getWidth(), gamePanel.getHeight());
+        g2.fillRect(0, 0, gamePanel.getScreenWidth(), gamePanel.getScreenHeight());
 
         // Atualizar dimensões se necessário
         updateDimensions();
@@ -147,10 +145,9 @@ public class DialogUI {
         try {
             String spritePath = "/sprites/npc/" + dialog.getPortraitSprite() + "/" + 
                                dialog.getPortraitSprite() + "_front.png";
-            InputStream is = getClass().getResourceAsStream(spritePath);
-            
-            if (is != null) {
-                BufferedImage portrait = ImageIO.read(is);
+            BufferedImage portrait = AssetManager.getInstance().getImage(spritePath);
+
+            if (portrait != null) {
                 
                 int portraitX = dialogBoxX + 20;
                 int portraitY = dialogBoxY + 20;
@@ -357,9 +354,9 @@ public class DialogUI {
      * Atualiza as dimensões da interface baseada no tamanho do painel.
      */
     public void updateDimensions() {
-        this.dialogBoxWidth = gamePanel.getWidth() - 40; // Margem de 20px de cada lado
+        this.dialogBoxWidth = gamePanel.getScreenWidth() - 40; // Margem de 20px de cada lado
         this.dialogBoxX = 20; // Margem esquerda
-        this.dialogBoxY = gamePanel.getHeight() - dialogBoxHeight - 20; // Margem inferior de 20px
+        this.dialogBoxY = gamePanel.getScreenHeight() - dialogBoxHeight - 20; // Margem inferior de 20px
     }
     
     // Método resetPagination removido - agora usa apenas o DialogManager
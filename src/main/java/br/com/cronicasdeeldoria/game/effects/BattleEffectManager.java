@@ -3,41 +3,48 @@ package br.com.cronicasdeeldoria.game.effects;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import javax.imageio.ImageIO;
-import javax.swing.ImageIcon;
+import br.com.cronicasdeeldoria.game.animation.GameClock;
+import br.com.cronicasdeeldoria.game.animation.GifPlayback;
+import br.com.cronicasdeeldoria.game.animation.GifSequence;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
+
 import java.awt.Graphics2D;
 import java.awt.Image;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
 /**
  * Manages configurable battle overlay effects (animated GIFs/images) per class and action.
+ * Os GIFs tocam pelo tempo de execução do GameClock, a partir do instante do disparo.
  */
 public class BattleEffectManager {
 
+  /** Escopo no AssetManager das imagens usadas durante uma batalha. */
+  public static final String ASSET_SCOPE = "battle";
+
   public enum TargetType { PLAYER, MONSTER }
 
   public static class ActiveEffect {
     public final TargetType targetType;
     public final String effectKey;
-    public final Image image;
+    public final GifPlayback playback;
     public final long startTimeMs;
     public final long durationMs;
 
-    public ActiveEffect(TargetType targetType, String effectKey, Image image, long durationMs) {
+    public ActiveEffect(TargetType targetType, String effectKey, GifSequence sequence, long durationMs) {
       this.targetType = targetType;
       this.effectKey = effectKey;
-      this.image = image;
-      this.startTimeMs = System.currentTimeMillis();
+      this.startTimeMs = now();
+      this.playback = new GifPlayback(sequence, startTimeMs);
       this.durationMs = durationMs;
     }
 
     public boolean isExpired() {
-      return System.currentTimeMillis() - startTimeMs > durationMs;
+      return now() - startTimeMs > durationMs;
     }
   }
 
@@ -87,7 +94,7 @@ public class BattleEffectManager {
     EffectConfig cfg = resolveConfig(classToConfigPlayer, playerClassName);
     EffectConfig.Trigger def = cfg.get(actionKey);
     if (def == null) return;
-    Image img = loadImage(def.imagePath);
+    GifSequence img = loadSequence(def.imagePath);
     if (img == null) return;
     playerEffect = new ActiveEffect(TargetType.PLAYER, actionKey, img, def.durationMs);
   }
@@ -96,7 +103,7 @@ public class BattleEffectManager {
     EffectConfig cfg = resolveConfig(classToConfigMonster, monsterClassKey);
     EffectConfig.Trigger def = cfg.get(actionKey);
     if (def == null) return;
-    Image img = loadImage(def.imagePath);
+    GifSequence img = loadSequence(def.imagePath);
     if (img == null) return;
     monsterEffect = new ActiveEffect(TargetType.MONSTER, actionKey, img, def.durationMs);
   }
@@ -106,7 +113,7 @@ public class BattleEffectManager {
     EffectConfig cfg = resolveConfig(classToConfigPlayer, playerClassName);
     EffectConfig.Trigger def = cfg.get(actionKey);
     if (def == null) return;
-    Image img = loadImage(def.imagePath);
+    GifSequence img = loadSequence(def.imagePath);
     if (img == null) return;
     monsterEffect = new ActiveEffect(TargetType.MONSTER, actionKey, img, def.durationMs);
   }
@@ -115,7 +122,7 @@ public class BattleEffectManager {
     EffectConfig cfg = resolveConfig(classToConfigMonster, monsterClassKey);
     EffectConfig.Trigger def = cfg.get(actionKey);
     if (def == null) return;
-    Image img = loadImage(def.imagePath);
+    GifSequence img = loadSequence(def.imagePath);
     if (img == null) return;
     playerEffect = new ActiveEffect(TargetType.PLAYER, actionKey, img, def.durationMs);
   }
@@ -125,6 +132,33 @@ public class BattleEffectManager {
     monsterEffect = null;
   }
 
+  /**
+   * Lista as imagens de todos os efeitos que podem aparecer numa batalha entre a classe
+   * do jogador e o monstro (os gatilhos cruzados usam as mesmas duas configurações).
+   * @param playerClassName Classe do jogador.
+   * @param monster Monstro da batalha.
+   * @param out Coleção que recebe os caminhos.
+   */
+  public void collectEffectPaths(String playerClassName, br.com.cronicasdeeldoria.entity.character.npc.Npc monster,
+                                 Collection<String> out) {
+    for (EffectConfig cfg : new EffectConfig[] {
+        resolveConfig(classToConfigPlayer, playerClassName),
+        resolveConfig(classToConfigMonster, deriveMonsterKey(monster)) }) {
+      for (EffectConfig.Trigger trigger : cfg.getTriggers()) {
+        if (trigger.imagePath != null) {
+          out.add(trigger.imagePath);
+        }
+      }
+    }
+  }
+
+  /**
+   * Solta as imagens presas à cena de batalha (fundo, monstro, ícones e efeitos).
+   */
+  public void releaseAssets() {
+    AssetManager.getInstance().releaseScope(ASSET_SCOPE);
+  }
+
   public String getBattleBackgroundPath(String mapName) {
     if (mapName == null) return mapToBackground.get("default");
     
@@ -164,7 +198,7 @@ public class BattleEffectManager {
       if (playerEffect.isExpired()) {
         playerEffect = null;
       } else {
-        g2.drawImage(playerEffect.image, playerX, playerY, width, height, observer);
+        g2.drawImage(playerEffect.playback.frameAt(now()), playerX, playerY, width, height, observer);
       }
     }
 
@@ -172,7 +206,7 @@ public class BattleEffectManager {
       if (monsterEffect.isExpired()) {
         monsterEffect = null;
       } else {
-        g2.drawImage(monsterEffect.image, monsterX, monsterY, width, height, observer);
+        g2.drawImage(monsterEffect.playback.frameAt(now()), monsterX, monsterY, width, height, observer);
       }
     }
   }
@@ -180,11 +214,11 @@ public class BattleEffectManager {
   private boolean lastPlayerArmorState = false;
   private boolean lastMonsterArmorState = false;
   
-  // Cache para imagens de efeitos persistentes para evitar recarregar GIFs
-  private Image cachedPlayerShieldImage = null;
-  private Image cachedMonsterShieldImage = null;
-  private Image cachedPlayerHotImage = null;
-  private Image cachedMonsterDotImage = null;
+  // Reprodução dos efeitos persistentes, iniciada quando o buff é ativado
+  private GifPlayback cachedPlayerShieldEffect = null;
+  private GifPlayback cachedMonsterShieldEffect = null;
+  private GifPlayback cachedPlayerHotEffect = null;
+  private GifPlayback cachedMonsterDotEffect = null;
   
   /**
    * Desenha efeitos persistentes com base em buffs ativos (como animação de escudo enquanto o buff de ARMADURA está ativo)
@@ -205,18 +239,18 @@ public class BattleEffectManager {
         if (playerConfig != null) {
           EffectConfig.Trigger shieldTrigger = playerConfig.get("shield");
           if (shieldTrigger != null && shieldTrigger.imagePath != null) {
-            cachedPlayerShieldImage = loadImage(shieldTrigger.imagePath);
+            cachedPlayerShieldEffect = startPlayback(shieldTrigger.imagePath);
           }
         }
       }
       
-      if (cachedPlayerShieldImage != null) {
-        g2.drawImage(cachedPlayerShieldImage, playerX, playerY, width, height, observer);
+      if (cachedPlayerShieldEffect != null) {
+        g2.drawImage(cachedPlayerShieldEffect.frameAt(now()), playerX, playerY, width, height, observer);
       }
     } else if (player != null) {
       if (lastPlayerArmorState) {
         lastPlayerArmorState = false;
-        cachedPlayerShieldImage = null;
+        cachedPlayerShieldEffect = null;
       }
     }
     
@@ -230,59 +264,59 @@ public class BattleEffectManager {
         if (monsterConfig != null) {
           EffectConfig.Trigger shieldTrigger = monsterConfig.get("shield");
           if (shieldTrigger != null && shieldTrigger.imagePath != null) {
-            cachedMonsterShieldImage = loadImage(shieldTrigger.imagePath);
+            cachedMonsterShieldEffect = startPlayback(shieldTrigger.imagePath);
           }
         }
       }
       
-      // Desenha a imagem em cache (o GIF continuará animando)
-      if (cachedMonsterShieldImage != null) {
-        g2.drawImage(cachedMonsterShieldImage, monsterX, monsterY, width, height, observer);
+      // Desenha o quadro atual do escudo
+      if (cachedMonsterShieldEffect != null) {
+        g2.drawImage(cachedMonsterShieldEffect.frameAt(now()), monsterX, monsterY, width, height, observer);
       }
     } else if (monster != null) {
       if (lastMonsterArmorState) {
         lastMonsterArmorState = false;
-        cachedMonsterShieldImage = null;
+        cachedMonsterShieldEffect = null;
       }
     }
     
     // Desenha efeito DOT para monstro se o bônus DOT estiver ativo
     if (monster != null && monster.hasActiveBuff("DOT")) {
-      if (cachedMonsterDotImage == null) {
+      if (cachedMonsterDotEffect == null) {
         String monsterKey = deriveMonsterKey(monster);
         EffectConfig monsterConfig = resolveConfig(classToConfigMonster, monsterKey);
         if (monsterConfig != null) {
           EffectConfig.Trigger dotTrigger = monsterConfig.get("dot");
           if (dotTrigger != null && dotTrigger.imagePath != null) {
-            cachedMonsterDotImage = loadImage(dotTrigger.imagePath);
+            cachedMonsterDotEffect = startPlayback(dotTrigger.imagePath);
           }
         }
       }
       
-      if (cachedMonsterDotImage != null) {
-        g2.drawImage(cachedMonsterDotImage, monsterX, monsterY, width, height, observer);
+      if (cachedMonsterDotEffect != null) {
+        g2.drawImage(cachedMonsterDotEffect.frameAt(now()), monsterX, monsterY, width, height, observer);
       }
     } else if (monster != null) {
-      cachedMonsterDotImage = null;
+      cachedMonsterDotEffect = null;
     }
     
     // Desenha efeito HOT para o jogador se o bônus HOT estiver ativo
     if (player != null && player.hasActiveBuff("HOT")) {
-      if (cachedPlayerHotImage == null) {
+      if (cachedPlayerHotEffect == null) {
         EffectConfig playerConfig = resolveConfig(classToConfigPlayer, player.getCharacterClass().getCharacterClassName());
         if (playerConfig != null) {
           EffectConfig.Trigger hotTrigger = playerConfig.get("heal");
           if (hotTrigger != null && hotTrigger.imagePath != null) {
-            cachedPlayerHotImage = loadImage(hotTrigger.imagePath);
+            cachedPlayerHotEffect = startPlayback(hotTrigger.imagePath);
           }
         }
       }
       
-      if (cachedPlayerHotImage != null) {
-        g2.drawImage(cachedPlayerHotImage, playerX, playerY, width, height, observer);
+      if (cachedPlayerHotEffect != null) {
+        g2.drawImage(cachedPlayerHotEffect.frameAt(now()), playerX, playerY, width, height, observer);
       }
     } else if (player != null) {
-      cachedPlayerHotImage = null;
+      cachedPlayerHotEffect = null;
     }
   }
 
@@ -294,25 +328,29 @@ public class BattleEffectManager {
     return cfg;
   }
 
+  /**
+   * Quadros de um efeito, decodificados uma vez e compartilhados por todos os disparos.
+   */
+  private GifSequence loadSequence(String path) {
+    if (path == null) return null;
+    return AssetManager.getInstance().getSequence(ASSET_SCOPE, path);
+  }
+
+  /**
+   * Inicia agora a reprodução de um efeito persistente.
+   */
+  private GifPlayback startPlayback(String path) {
+    GifSequence sequence = loadSequence(path);
+    return sequence != null ? new GifPlayback(sequence, now()) : null;
+  }
+
   private Image loadImage(String path) {
     if (path == null) return null;
-    try (InputStream is = getClass().getResourceAsStream(path)) {
-      if (is == null) return null;
-      // Prefer ImageIcon to preserve GIF animation frames/timing
-      byte[] bytes = is.readAllBytes();
-      ImageIcon icon = new ImageIcon(bytes);
-      Image img = icon.getImage();
-      if (img == null) {
-        // Fallback to static image
-        try (InputStream is2 = getClass().getResourceAsStream(path)) {
-          BufferedImage bi = ImageIO.read(is2);
-          return bi;
-        }
-      }
-      return img;
-    } catch (IOException e) {
-      return null;
-    }
+    return AssetManager.getInstance().getImage(ASSET_SCOPE, path);
+  }
+
+  private static long now() {
+    return GameClock.getInstance().getUptimeMillis();
   }
 
   private String deriveMonsterKey(br.com.cronicasdeeldoria.entity.character.npc.Npc npc) {
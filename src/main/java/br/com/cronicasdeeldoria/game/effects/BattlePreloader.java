@@ -0,0 +1,172 @@
+package br.com.cronicasdeeldoria.game.effects;
+
+import br.com.cronicasdeeldoria.entity.character.npc.Npc;
+import br.com.cronicasdeeldoria.entity.character.npc.NpcSpriteLoader;
+import br.com.cronicasdeeldoria.entity.character.player.Player;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
+
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Prepara a cena de batalha antes de ela começar: fundo do mapa, sprite do monstro,
+ * ícones das ações e todos os efeitos da classe do jogador e do monstro. O carregamento
+ * começa em segundo plano quando um monstro entra no raio de aggro; no início da
+ * batalha as imagens já resolvidas ficam num BattleAssets, e o desenho só as copia.
+ */
+public class BattlePreloader {
+
+  private static final String HEALTH_POTION = "/sprites/objects/items/health_potion.png";
+  private static final String MANA_POTION = "/sprites/objects/items/mana_potion.png";
+  private static final String SWORD = "/sprites/objects/items/sword_common.png";
+  private static final String SHIELD = "/sprites/objects/items/shield_common.png";
+  private static final String WATER_ORB = "/sprites/objects/quest/orb_water.png";
+  private static final String FIRE_ORB = "/sprites/objects/quest/orb_fire.png";
+
+  /**
+   * Imagens de uma batalha, já decodificadas.
+   */
+  public static final class BattleAssets {
+    private final BufferedImage background;
+    private final BufferedImage monster;
+    private final BufferedImage healthPotion;
+    private final BufferedImage manaPotion;
+    private final BufferedImage sword;
+    private final BufferedImage shield;
+    private final BufferedImage waterOrb;
+    private final BufferedImage fireOrb;
+
+    private BattleAssets(String backgroundPath, String monsterPath) {
+      AssetManager assets = AssetManager.getInstance();
+      String scope = BattleEffectManager.ASSET_SCOPE;
+      this.background = backgroundPath != null ? assets.getImage(scope, backgroundPath) : null;
+      this.monster = monsterPath != null ? assets.getImage(scope, monsterPath) : null;
+      this.healthPotion = assets.getImage(scope, HEALTH_POTION);
+      this.manaPotion = assets.getImage(scope, MANA_POTION);
+      this.sword = assets.getImage(scope, SWORD);
+      this.shield = assets.getImage(scope, SHIELD);
+      this.waterOrb = assets.getImage(scope, WATER_ORB);
+      this.fireOrb = assets.getImage(scope, FIRE_ORB);
+    }
+
+    public BufferedImage getBackground() { return background; }
+    public BufferedImage getMonster() { return monster; }
+    public BufferedImage getHealthPotion() { return healthPotion; }
+    public BufferedImage getManaPotion() { return manaPotion; }
+    public BufferedImage getSword() { return sword; }
+    public BufferedImage getShield() { return shield; }
+    public BufferedImage getWaterOrb() { return waterOrb; }
+    public BufferedImage getFireOrb() { return fireOrb; }
+  }
+
+  private final BattleEffectManager effectManager;
+  private final NpcSpriteLoader spriteLoader;
+
+  // Cena agendada por último
+  private Npc preparedMonster;
+  private String preparedMap;
+  private String preparedClass;
+  private String backgroundPath;
+  private String monsterPath;
+  private BattleAssets assets;
+
+  // Métricas
+  private int prefetches;
+  private int preparedFromPrefetch;
+
+  public BattlePreloader(BattleEffectManager effectManager, NpcSpriteLoader spriteLoader) {
+    this.effectManager = effectManager;
+    this.spriteLoader = spriteLoader;
+  }
+
+  /**
+   * Agenda em segundo plano as imagens da batalha contra um monstro.
+   * Não faz nada se a mesma cena já foi agendada.
+   * @param player Jogador.
+   * @param monster Monstro que entrou no raio de aggro.
+   * @param mapName Mapa atual (define o fundo).
+   */
+  public synchronized void prefetch(Player player, Npc monster, String mapName) {
+    if (player == null || monster == null) {
+      return;
+    }
+    String playerClass = player.getCharacterClass() != null
+      ? player.getCharacterClass().getCharacterClassName() : null;
+    if (monster == preparedMonster && equals(mapName, preparedMap) && equals(playerClass, preparedClass)) {
+      return;
+    }
+
+    // Trocou de alvo: soltar a cena anterior antes de prender a nova
+    AssetManager.getInstance().releaseScope(BattleEffectManager.ASSET_SCOPE);
+
+    backgroundPath = effectManager != null ? effectManager.getBattleBackgroundPath(mapName) : null;
+    String frontSprite = spriteLoader != null ? spriteLoader.getFrontSprite(monster.getSkin()) : null;
+    monsterPath = frontSprite != null ? "/sprites/" + frontSprite : null;
+
+    Set<String> paths = new LinkedHashSet<>();
+    if (backgroundPath != null) paths.add(backgroundPath);
+    if (monsterPath != null) paths.add(monsterPath);
+    paths.add(HEALTH_POTION);
+    paths.add(MANA_POTION);
+    paths.add(SWORD);
+    paths.add(SHIELD);
+    paths.add(WATER_ORB);
+    paths.add(FIRE_ORB);
+    if (effectManager != null) {
+      effectManager.collectEffectPaths(playerClass, monster, paths);
+    }
+    AssetManager.getInstance().preload(BattleEffectManager.ASSET_SCOPE, paths);
+
+    preparedMonster = monster;
+    preparedMap = mapName;
+    preparedClass = playerClass;
+    assets = null;
+    prefetches++;
+  }
+
+  /**
+   * Resolve as imagens no início da batalha, aguardando as que ainda estiverem decodificando.
+   * @param player Jogador.
+   * @param monster Monstro da batalha.
+   * @param mapName Mapa atual.
+   * @return Imagens da cena.
+   */
+  public synchronized BattleAssets prepare(Player player, Npc monster, String mapName) {
+    boolean wasPrefetched = monster == preparedMonster;
+    prefetch(player, monster, mapName);
+    if (assets == null) {
+      assets = new BattleAssets(backgroundPath, monsterPath);
+    }
+    if (wasPrefetched) {
+      preparedFromPrefetch++;
+    }
+    return assets;
+  }
+
+  /**
+   * @return Imagens da batalha preparada, ou null se nenhuma foi preparada.
+   */
+  public synchronized BattleAssets getAssets() {
+    return assets;
+  }
+
+  /**
+   * Esquece a cena preparada (fim da batalha); as imagens são soltas pelo BattleEffectManager.
+   */
+  public synchronized void clear() {
+    preparedMonster = null;
+    preparedMap = null;
+    preparedClass = null;
+    backgroundPath = null;
+    monsterPath = null;
+    assets = null;
+  }
+
+  private static boolean equals(String a, String b) {
+    return a == null ? b == null : a.equals(b);
+  }
+
+  public synchronized int getPrefetchCount() { return prefetches; }
+  public synchronized int getPreparedFromPrefetchCount() { return preparedFromPrefetch; }
+}
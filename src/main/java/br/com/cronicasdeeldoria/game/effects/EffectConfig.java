@@ -1,6 +1,7 @@
 package br.com.cronicasdeeldoria.game.effects;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -36,5 +37,11 @@ public class EffectConfig {
     if (actionKey == null) return null;
     return actionToTrigger.get(actionKey.toLowerCase());
   }
-}
 
+  /**
+   * @return Gatilhos configurados (ação -> efeito).
+   */
+  public Collection<Trigger> getTriggers() {
+    return actionToTrigger.values();
+  }
+}
@@ -1,12 +1,18 @@
 package br.com.cronicasdeeldoria.game.environment;
 
-import javax.swing.ImageIcon;
+import br.com.cronicasdeeldoria.game.animation.GameClock;
+import br.com.cronicasdeeldoria.game.animation.GifPlayback;
+import br.com.cronicasdeeldoria.game.animation.GifSequence;
+
 import java.awt.Graphics2D;
 import java.awt.Image;
 
 public class EnvironmentEffect {
     private final String id;
-    private final ImageIcon imageIcon;
+    // Toca pelo tempo do mundo: para junto com o jogo
+    private final GifPlayback playback;
+    private final int imageWidth;
+    private final int imageHeight;
     private final DrawMode drawMode;
     private final float alpha;
 
@@ -16,24 +22,26 @@ public class EnvironmentEffect {
         TILE
     }
 
-    public EnvironmentEffect(String id, ImageIcon imageIcon, DrawMode drawMode, float alpha) {
+    public EnvironmentEffect(String id, GifSequence sequence, DrawMode drawMode, float alpha) {
         this.id = id;
-        this.imageIcon = imageIcon;
+        this.playback = sequence != null ? new GifPlayback(sequence, GameClock.getInstance().getMillis()) : null;
+        this.imageWidth = sequence != null ? sequence.getWidth() : 0;
+        this.imageHeight = sequence != null ? sequence.getHeight() : 0;
         this.drawMode = drawMode;
         this.alpha = Math.max(0.0f, Math.min(1.0f, alpha));
     }
 
     public void draw(Graphics2D g2, int screenWidth, int screenHeight) {
-        if (imageIcon == null) return;
+        if (playback == null) return;
 
         var oldAlpha = g2.getComposite();
         if (alpha < 1.0f) {
             g2.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, alpha));
         }
 
-        Image img = imageIcon.getImage();
-        int imgW = imageIcon.getIconWidth();
-        int imgH = imageIcon.getIconHeight();
+        Image img = playback.frameAt(GameClock.getInstance().getMillis());
+        int imgW = imageWidth;
+        int imgH = imageHeight;
 
         switch (drawMode) {
             case CENTER -> {
@@ -59,16 +67,16 @@ public class EnvironmentEffect {
     public String getId() { return id; }
 
     public void drawWorldRelative(Graphics2D g2, int worldOriginX, int worldOriginY, int screenWidth, int screenHeight) {
-        if (imageIcon == null) return;
+        if (playback == null) return;
 
         var oldAlpha = g2.getComposite();
         if (alpha < 1.0f) {
             g2.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, alpha));
         }
 
-        Image img = imageIcon.getImage();
-        int imgW = Math.max(1, imageIcon.getIconWidth());
-        int imgH = Math.max(1, imageIcon.getIconHeight());
+        Image img = playback.frameAt(GameClock.getInstance().getMillis());
+        int imgW = Math.max(1, imageWidth);
+        int imgH = Math.max(1, imageHeight);
 
         switch (drawMode) {
             case TILE -> {
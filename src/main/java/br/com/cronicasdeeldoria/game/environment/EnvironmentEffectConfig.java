@@ -8,6 +8,25 @@ public class EnvironmentEffectConfig {
         public String effectId;
         public String drawMode;
         public Float alpha;
+        public ParticleRule particles;
+    }
+
+    /**
+     * Efeito de partículas no lugar (ou além) do GIF. Distâncias em pixels do mundo, tempos em segundos.
+     */
+    public static class ParticleRule {
+        public String shape;             // STREAK (chuva), DOT (neve), PUFF (névoa)
+        public int capacity;             // Máximo de partículas vivas
+        public float rate;               // Partículas criadas por segundo na área visível
+        public float velocityX;          // Velocidade média (px/s)
+        public float velocityY;
+        public float jitterX;            // Variação aleatória da velocidade (px/s)
+        public float jitterY;
+        public float minLife;            // Duração de cada partícula (s)
+        public float maxLife;
+        public float size;               // Espessura (STREAK) ou diâmetro (DOT, PUFF)
+        public String color;             // "#RRGGBB"
+        public Float alpha;              // 0..1
     }
 
     public static class EffectRule {
@@ -19,6 +38,7 @@ public class EnvironmentEffectConfig {
         public String drawMode;          // STRETCH, TILE, CENTER
         public Float alpha;              // 0..1
         public List<AlsoEffect> also;    // Adicionar efeitos secundários
+        public ParticleRule particles;   // Partículas (opcional; effectId pode ficar vazio)
     }
 
     public Map<String, List<EffectRule>> mapRules; // mapName
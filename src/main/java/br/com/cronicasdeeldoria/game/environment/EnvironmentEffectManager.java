@@ -1,7 +1,11 @@
 package br.com.cronicasdeeldoria.game.environment;
 
+import br.com.cronicasdeeldoria.game.GameRandom;
+import br.com.cronicasdeeldoria.game.animation.GifSequence;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
+import br.com.cronicasdeeldoria.game.environment.particle.ParticleEmitter;
+import br.com.cronicasdeeldoria.game.environment.particle.ParticleSystem;
 import com.google.gson.Gson;
-import javax.swing.ImageIcon;
 import java.awt.Graphics2D;
 import java.io.InputStream;
 import java.time.LocalTime;
@@ -10,11 +14,16 @@ import java.util.*;
 
 public class EnvironmentEffectManager {
     private static final String BASE_PATH = "/sprites/world/effects/";
-    private final Random random = new Random();
+    /** Escopo no AssetManager dos efeitos do mapa atual. */
+    private static final String ASSET_SCOPE = "environment";
+    private final Random random = GameRandom.of(GameRandom.Stream.ENVIRONMENT);
 
     private EnvironmentEffectConfig config;
-    private final Map<String, ImageIcon> cache = new HashMap<>();
+    // Caminho resolvido de cada effectId (a imagem em si fica no AssetManager)
+    private final Map<String, String> resolvedPaths = new HashMap<>();
     private final List<EnvironmentEffect> activeEffects = new ArrayList<>();
+    // Trocada inteira ao mudar de mapa, para o desenho nunca ver a lista pela metade
+    private volatile List<ParticleSystem> activeParticles = List.of();
 
     public void loadConfig(String resourcePath) throws Exception {
         try (InputStream is = getClass().getResourceAsStream(resourcePath)) {
@@ -26,6 +35,8 @@ public class EnvironmentEffectManager {
 
     public void selectEffectForMap(String mapName, Season currentSeason, LocalTime currentTime) {
         activeEffects.clear();
+        activeParticles = List.of();
+        AssetManager.getInstance().releaseScope(ASSET_SCOPE);
         if (config == null || config.mapRules == null) return;
 
         String key = mapName == null ? "" : mapName;
@@ -64,82 +75,96 @@ public class EnvironmentEffectManager {
             selected.add(top);
         }
 
+        List<ParticleSystem> particles = new ArrayList<>();
         for (EnvironmentEffectConfig.EffectRule rule : selected) {
             addEffectFromRule(key, rule.effectId, rule.drawMode, rule.alpha);
+            addParticlesFromRule(rule.particles, rule.alpha, particles);
             if (rule.also != null) {
                 for (EnvironmentEffectConfig.AlsoEffect also : rule.also) {
                     if (also == null) continue;
                     String amode = also.drawMode;
                     Float aalpha = also.alpha;
                     addEffectFromRule(key, also.effectId, amode, aalpha);
+                    addParticlesFromRule(also.particles, aalpha, particles);
                 }
             }
         }
+        activeParticles = particles;
+    }
+
+    private void addParticlesFromRule(EnvironmentEffectConfig.ParticleRule rule, Float alpha, List<ParticleSystem> out) {
+        if (rule == null) return;
+        out.add(new ParticleSystem(ParticleEmitter.fromRule(rule, alpha)));
     }
 
     private void addEffectFromRule(String mapKey, String effectId, String drawModeText, Float alphaValue) {
         if (effectId == null || effectId.isBlank()) return;
-        ImageIcon icon = loadIcon(effectId);
+        GifSequence sequence = loadSequence(effectId);
         EnvironmentEffect.DrawMode drawMode = parseMode(drawModeText);
         float alpha = alphaValue != null ? Math.max(0f, Math.min(1f, alphaValue)) : 1.0f;
-        EnvironmentEffect effect = new EnvironmentEffect(effectId, icon, drawMode, alpha);
+        EnvironmentEffect effect = new EnvironmentEffect(effectId, sequence, drawMode, alpha);
         activeEffects.add(effect);
     }
 
-    public void draw(Graphics2D g2, int screenWidth, int screenHeight) {
-        if (activeEffects.isEmpty()) return;
-        for (EnvironmentEffect effect : activeEffects) {
-            effect.draw(g2, screenWidth, screenHeight);
+    /**
+     * Avança as partículas do mapa (chamado pela thread do jogo a cada tick).
+     * @param dt Segundos por tick.
+     * @param worldOriginX Posição do canto da tela no mundo.
+     * @param worldOriginY Posição do topo da tela no mundo.
+     */
+    public void update(float dt, int worldOriginX, int worldOriginY, int screenWidth, int screenHeight) {
+        List<ParticleSystem> particles = activeParticles;
+        // Por índice: sem iterador, nada é alocado por tick
+        for (int i = 0; i < particles.size(); i++) {
+            particles.get(i).update(dt, worldOriginX, worldOriginY, screenWidth, screenHeight);
         }
     }
 
     public void drawWorldRelative(Graphics2D g2, int worldOriginX, int worldOriginY, int screenWidth, int screenHeight) {
-        if (activeEffects.isEmpty()) return;
         for (EnvironmentEffect effect : activeEffects) {
             effect.drawWorldRelative(g2, worldOriginX, worldOriginY, screenWidth, screenHeight);
         }
+        List<ParticleSystem> particles = activeParticles;
+        for (int i = 0; i < particles.size(); i++) {
+            particles.get(i).draw(g2, worldOriginX, worldOriginY);
+        }
     }
 
-    private ImageIcon loadIcon(String effectId) {
+    private GifSequence loadSequence(String effectId) {
         if (effectId == null) return null;
-        return cache.computeIfAbsent(effectId, id -> {
-            String trimmed = id.trim();
-            String base;
-            String ext = null;
-            int dot = trimmed.lastIndexOf('.');
-            if (dot > 0 && dot < trimmed.length() - 1) {
-                base = trimmed.substring(0, dot);
-                ext = trimmed.substring(dot + 1).toLowerCase(Locale.ROOT);
-            } else {
-                base = trimmed;
-            }
-
-            ImageIcon icon = null;
-
-            if (ext != null) {
-                icon = tryLoad(BASE_PATH + base + "." + ext);
-            } else {
-                icon = tryLoad(BASE_PATH + base);
-            }
+        String path = resolvedPaths.computeIfAbsent(effectId, this::resolvePath);
+        return path.isEmpty() ? null : AssetManager.getInstance().getSequence(ASSET_SCOPE, path);
+    }
 
-            if (icon == null || icon.getIconWidth() <= 0) {
-                icon = tryLoad(BASE_PATH + base + ".gif");
-            }
-            if (icon == null || icon.getIconWidth() <= 0) {
-                icon = tryLoad(BASE_PATH + base + ".png");
-            }
+    /**
+     * Procura o arquivo do efeito: extensão informada, sem extensão, .gif e .png.
+     * @return Caminho encontrado, ou vazio se nenhum existir.
+     */
+    private String resolvePath(String id) {
+        String trimmed = id.trim();
+        String base;
+        String ext = null;
+        int dot = trimmed.lastIndexOf('.');
+        if (dot > 0 && dot < trimmed.length() - 1) {
+            base = trimmed.substring(0, dot);
+            ext = trimmed.substring(dot + 1).toLowerCase(Locale.ROOT);
+        } else {
+            base = trimmed;
+        }
 
-            if (icon == null || icon.getIconWidth() <= 0) {
-                System.err.println("[EnvEffect] Icon not found for id='" + id + "' (base='" + base + "') under " + BASE_PATH);
+        String[] candidates = {
+            ext != null ? BASE_PATH + base + "." + ext : BASE_PATH + base,
+            BASE_PATH + base + ".gif",
+            BASE_PATH + base + ".png"
+        };
+        for (String candidate : candidates) {
+            if (getClass().getResource(candidate) != null) {
+                return candidate;
             }
-            return icon;
-        });
-    }
+        }
 
-    private ImageIcon tryLoad(String resourcePath) {
-        java.net.URL url = getClass().getResource(resourcePath);
-        if (url == null) return null;
-        return new ImageIcon(url);
+        System.err.println("[EnvEffect] Icon not found for id='" + id + "' (base='" + base + "') under " + BASE_PATH);
+        return "";
     }
 
     private boolean isWithinTime(String start, String end, LocalTime t) {
@@ -174,7 +199,7 @@ public class EnvironmentEffectManager {
     }
 
     public boolean hasActiveEffect() {
-        return !activeEffects.isEmpty();
+        return !activeEffects.isEmpty() || !activeParticles.isEmpty();
     }
 }
 
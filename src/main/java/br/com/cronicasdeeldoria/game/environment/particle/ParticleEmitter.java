@@ -0,0 +1,92 @@
+package br.com.cronicasdeeldoria.game.environment.particle;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.util.Locale;
+
+import br.com.cronicasdeeldoria.game.environment.EnvironmentEffectConfig;
+
+/**
+ * Parâmetros imutáveis de um efeito de partículas, lidos de uma regra do environment_config.json.
+ * Cores, traços e transparências são criados aqui, uma vez, para o desenho não alocar nada.
+ */
+public final class ParticleEmitter {
+    public enum Shape { STREAK, DOT, PUFF }
+
+    /** Níveis de transparência pré-calculados para o esmaecimento das nuvens de névoa. */
+    static final int FADE_LEVELS = 16;
+
+    final Shape shape;
+    final int capacity;
+    final float rate;
+    final float velocityX;
+    final float velocityY;
+    final float jitterX;
+    final float jitterY;
+    final float minLife;
+    final float maxLife;
+    final int size;
+    final Color color;
+    final AlphaComposite composite;
+    final AlphaComposite[] fades;
+    final BasicStroke stroke;
+
+    private ParticleEmitter(EnvironmentEffectConfig.ParticleRule rule, float alpha) {
+        this.shape = parseShape(rule.shape);
+        this.capacity = rule.capacity > 0 ? rule.capacity : 512;
+        this.rate = Math.max(0f, rule.rate);
+        this.velocityX = rule.velocityX;
+        this.velocityY = rule.velocityY;
+        this.jitterX = Math.abs(rule.jitterX);
+        this.jitterY = Math.abs(rule.jitterY);
+        this.minLife = rule.minLife > 0 ? rule.minLife : 1f;
+        this.maxLife = Math.max(this.minLife, rule.maxLife);
+        this.size = Math.max(1, Math.round(rule.size));
+        this.color = parseColor(rule.color);
+        this.composite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha);
+        this.fades = new AlphaComposite[FADE_LEVELS];
+        for (int i = 0; i < FADE_LEVELS; i++) {
+            fades[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * i / (FADE_LEVELS - 1));
+        }
+        this.stroke = new BasicStroke(size, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    }
+
+    /**
+     * @param rule Regra de partículas do arquivo de configuração.
+     * @param alpha Transparência da regra, se a de partículas não informar (null = opaco).
+     */
+    public static ParticleEmitter fromRule(EnvironmentEffectConfig.ParticleRule rule, Float alpha) {
+        Float value = rule.alpha != null ? rule.alpha : alpha;
+        return new ParticleEmitter(rule, value != null ? Math.max(0f, Math.min(1f, value)) : 1f);
+    }
+
+    private static Shape parseShape(String value) {
+        if (value == null) {
+            return Shape.DOT;
+        }
+        try {
+            return Shape.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("[EnvEffect] Forma de partícula desconhecida: " + value);
+            return Shape.DOT;
+        }
+    }
+
+    private static Color parseColor(String value) {
+        if (value == null || value.isBlank()) {
+            return Color.WHITE;
+        }
+        try {
+            return Color.decode(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[EnvEffect] Cor de partícula inválida: " + value);
+            return Color.WHITE;
+        }
+    }
+
+    public Shape getShape() { return shape; }
+    public int getCapacity() { return capacity; }
+    public float getRate() { return rate; }
+    public float getMaxLife() { return maxLife; }
+}
@@ -0,0 +1,235 @@
+package br.com.cronicasdeeldoria.game.environment.particle;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Stroke;
+import java.util.Random;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+import br.com.cronicasdeeldoria.game.GameRandom;
+
+/**
+ * Partículas de clima em coordenadas do mundo, guardadas em vetores de primitivos
+ * (x, y, vx, vy, vida) de capacidade fixa. Partículas mortas são removidas trocando
+ * de lugar com a última, então nem a atualização nem o desenho alocam objetos.
+ *
+ * As partículas nascem na área visível (com margem) e ficam no mundo: andar com a
+ * câmera faz a chuva passar pela tela em vez de acompanhá-la. Com muitas partículas
+ * vivas, o movimento é calculado em paralelo, em fatias fixas.
+ *
+ * Atualizado pela thread do jogo e desenhado pela de renderização; o desenho lê os
+ * vetores sem trava, o que no máximo mostra uma partícula com um tick de diferença.
+ */
+public class ParticleSystem {
+    /** Área além da tela onde as partículas continuam vivas, em pixels do mundo. */
+    private static final float MARGIN = 64f;
+    /** Comprimento do rastro das gotas, em segundos de movimento. */
+    private static final float STREAK_SECONDS = 0.025f;
+    /** Passo usado para pré-aquecer o efeito ao entrar no mapa. */
+    private static final float WARMUP_STEP = 1f / 30f;
+
+    private final ParticleEmitter emitter;
+    private final int capacity;
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] span;
+    private volatile int count;
+
+    private final Random random = GameRandom.of(GameRandom.Stream.PARTICLES);
+    private final int parallelThreshold;
+    private final Slice[] slices;
+    private float sliceDt;
+    private float spawnAccumulator;
+    private boolean warmedUp;
+
+    public ParticleSystem(ParticleEmitter emitter) {
+        this.emitter = emitter;
+        this.capacity = emitter.capacity;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.vx = new float[capacity];
+        this.vy = new float[capacity];
+        this.life = new float[capacity];
+        this.span = new float[capacity];
+        this.parallelThreshold = GameSettings.getInstance().getParticleParallelThreshold();
+        int sliceCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+        this.slices = new Slice[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            slices[i] = new Slice();
+        }
+    }
+
+    /**
+     * Avança a simulação: move, remove as partículas mortas ou longe da tela e cria as novas.
+     * Na primeira chamada, simula a vida de uma partícula para a tela já começar cheia.
+     * @param dt Segundos desde a última atualização.
+     * @param viewX Canto esquerdo da área visível, no mundo.
+     * @param viewY Topo da área visível, no mundo.
+     * @param viewWidth Largura da área visível.
+     * @param viewHeight Altura da área visível.
+     */
+    public void update(float dt, float viewX, float viewY, float viewWidth, float viewHeight) {
+        if (!warmedUp) {
+            warmedUp = true;
+            for (float t = 0; t < emitter.maxLife; t += WARMUP_STEP) {
+                step(WARMUP_STEP, viewX, viewY, viewWidth, viewHeight);
+            }
+        }
+        step(dt, viewX, viewY, viewWidth, viewHeight);
+    }
+
+    private void step(float dt, float viewX, float viewY, float viewWidth, float viewHeight) {
+        int n = count;
+        if (parallelThreshold > 0 && n >= parallelThreshold) {
+            integrateParallel(n, dt);
+        } else {
+            integrate(0, n, dt);
+        }
+
+        // Remover mortas e as que saíram da área ativa
+        float minX = viewX - MARGIN;
+        float minY = viewY - MARGIN;
+        float maxX = viewX + viewWidth + MARGIN;
+        float maxY = viewY + viewHeight + MARGIN;
+        int i = 0;
+        while (i < n) {
+            if (life[i] <= 0f || x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY) {
+                n--;
+                x[i] = x[n];
+                y[i] = y[n];
+                vx[i] = vx[n];
+                vy[i] = vy[n];
+                life[i] = life[n];
+                span[i] = span[n];
+            } else {
+                i++;
+            }
+        }
+
+        // Criar novas na área ativa
+        spawnAccumulator += emitter.rate * dt;
+        int spawn = (int) spawnAccumulator;
+        spawnAccumulator -= spawn;
+        float areaWidth = maxX - minX;
+        float areaHeight = maxY - minY;
+        while (spawn-- > 0 && n < capacity) {
+            x[n] = minX + random.nextFloat() * areaWidth;
+            y[n] = minY + random.nextFloat() * areaHeight;
+            vx[n] = emitter.velocityX + (random.nextFloat() * 2f - 1f) * emitter.jitterX;
+            vy[n] = emitter.velocityY + (random.nextFloat() * 2f - 1f) * emitter.jitterY;
+            float duration = emitter.minLife + random.nextFloat() * (emitter.maxLife - emitter.minLife);
+            life[n] = duration;
+            span[n] = duration;
+            n++;
+        }
+        count = n;
+    }
+
+    private void integrate(int from, int to, float dt) {
+        for (int i = from; i < to; i++) {
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            life[i] -= dt;
+        }
+    }
+
+    private void integrateParallel(int n, float dt) {
+        sliceDt = dt;
+        int chunk = (n + slices.length - 1) / slices.length;
+        for (int s = 0; s < slices.length; s++) {
+            slices[s].from = Math.min(n, s * chunk);
+            slices[s].to = Math.min(n, (s + 1) * chunk);
+            slices[s].reinitialize();
+        }
+        ForkJoinTask.invokeAll(slices);
+    }
+
+    /**
+     * Desenha as partículas vivas.
+     * @param g2 Contexto gráfico.
+     * @param worldOriginX Posição do canto da tela no mundo.
+     * @param worldOriginY Posição do topo da tela no mundo.
+     */
+    public void draw(Graphics2D g2, int worldOriginX, int worldOriginY) {
+        int n = count;
+        if (n == 0) {
+            return;
+        }
+        Composite oldComposite = g2.getComposite();
+        Color oldColor = g2.getColor();
+        Stroke oldStroke = g2.getStroke();
+        g2.setColor(emitter.color);
+        g2.setComposite(emitter.composite);
+
+        int size = emitter.size;
+        int half = size / 2;
+        switch (emitter.shape) {
+            case STREAK -> {
+                g2.setStroke(emitter.stroke);
+                for (int i = 0; i < n; i++) {
+                    int headX = (int) x[i] - worldOriginX;
+                    int headY = (int) y[i] - worldOriginY;
+                    int tailX = (int) (x[i] - vx[i] * STREAK_SECONDS) - worldOriginX;
+                    int tailY = (int) (y[i] - vy[i] * STREAK_SECONDS) - worldOriginY;
+                    g2.drawLine(tailX, tailY, headX, headY);
+                }
+            }
+            case DOT -> {
+                for (int i = 0; i < n; i++) {
+                    g2.fillRect((int) x[i] - worldOriginX - half, (int) y[i] - worldOriginY - half, size, size);
+                }
+            }
+            case PUFF -> {
+                int last = ParticleEmitter.FADE_LEVELS - 1;
+                for (int i = 0; i < n; i++) {
+                    // Surge e some aos poucos: opacidade máxima no meio da vida
+                    float t = span[i] > 0f ? life[i] / span[i] : 0f;
+                    float fade = Math.min(1f, Math.min(t, 1f - t) * 4f);
+                    g2.setComposite(emitter.fades[Math.max(0, Math.min(last, (int) (fade * last)))]);
+                    g2.fillOval((int) x[i] - worldOriginX - half, (int) y[i] - worldOriginY - half, size, size);
+                }
+            }
+        }
+
+        g2.setStroke(oldStroke);
+        g2.setColor(oldColor);
+        g2.setComposite(oldComposite);
+    }
+
+    /**
+     * Remove todas as partículas; a próxima atualização pré-aquece o efeito de novo.
+     */
+    public void clear() {
+        count = 0;
+        spawnAccumulator = 0f;
+        warmedUp = false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public ParticleEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Fatia do movimento para a atualização em paralelo; reaproveitada a cada tick.
+     */
+    @SuppressWarnings("serial")
+    private final class Slice extends RecursiveAction {
+        private int from;
+        private int to;
+
+        @Override
+        protected void compute() {
+            integrate(from, to, sliceDt);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package br.com.cronicasdeeldoria.game.headless;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import javax.imageio.ImageIO;
+
+import br.com.cronicasdeeldoria.config.GameSettings;
+import br.com.cronicasdeeldoria.entity.character.classes.Barbarian;
+import br.com.cronicasdeeldoria.entity.character.classes.CharacterClass;
+import br.com.cronicasdeeldoria.entity.character.classes.Mage;
+import br.com.cronicasdeeldoria.entity.character.classes.Orc;
+import br.com.cronicasdeeldoria.entity.character.classes.Paladin;
+import br.com.cronicasdeeldoria.entity.character.classes.Ranger;
+import br.com.cronicasdeeldoria.entity.character.npc.Npc;
+import br.com.cronicasdeeldoria.entity.character.player.Player;
+import br.com.cronicasdeeldoria.entity.item.Item;
+import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.GameRandom;
+import br.com.cronicasdeeldoria.game.InputFocus;
+import br.com.cronicasdeeldoria.game.debug.FrameProfiler;
+import br.com.cronicasdeeldoria.game.inventory.Equipment;
+import br.com.cronicasdeeldoria.game.inventory.InventoryManager;
+import br.com.cronicasdeeldoria.game.replay.InputRecording;
+
+/**
+ * Roda a simulação do jogo sem janela e sem limite de velocidade: o mesmo GamePanel.update()
+ * da partida normal, alimentado por um InputScript. Serve para testes de longa duração e
+ * benchmarks em máquinas de CI:
+ * <pre>
+ * java -Djava.awt.headless=true -cp ... br.com.cronicasdeeldoria.game.headless.HeadlessRunner \
+ *     --ticks 100000 --loop --render-every 2 --script meu.script
+ * </pre>
+ * Opções:
+ * <ul>
+ *   <li>{@code --ticks N}: ticks a simular (padrão 10000);</li>
+ *   <li>{@code --script arquivo}: teclas a enviar (padrão: /headless/soak.script do classpath);</li>
+ *   <li>{@code --loop}: repete o script até o fim da simulação;</li>
+ *   <li>{@code --render-every N}: desenha um quadro numa imagem a cada N ticks (0 = não desenha);</li>
+ *   <li>{@code --snapshot arquivo.png}: grava o último quadro desenhado;</li>
+ *   <li>{@code --class Nome}: classe do personagem (Barbarian, Mage, Orc, Paladin, Ranger);</li>
+ *   <li>{@code --replay arquivo}: reproduz uma sessão gravada com -Deldoria.recordInput, com a
+ *       mesma semente e o mesmo personagem (o padrão de --ticks passa a ser a duração da gravação).</li>
+ * </ul>
+ * Com -Deldoria.profiler=true, as estatísticas por fase são gravadas em CSV ao final.
+ * O resumo final inclui uma assinatura do estado do jogo: duas execuções da mesma
+ * gravação devem terminar com a mesma assinatura.
+ */
+public class HeadlessRunner {
+    private static final String DEFAULT_SCRIPT = "/headless/soak.script";
+
+    // Mesmas dimensões da janela criada em Main
+    private static final int TILE_SIZE = 16 * 3;
+    private static final int MAX_SCREEN_COL = 16;
+    private static final int MAX_SCREEN_ROW = 12;
+    private static final int SCREEN_WIDTH = TILE_SIZE * MAX_SCREEN_COL;
+    private static final int SCREEN_HEIGHT = TILE_SIZE * MAX_SCREEN_ROW;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final GamePanel gamePanel;
+    private final InputScript script;
+    private final boolean loop;
+    private final int renderEvery;
+    private BufferedImage frame;
+
+    private long ticks;
+    private long frames;
+    private long elapsedNanos;
+
+    /**
+     * @param gamePanel Jogo a simular (nunca exibido).
+     * @param script Teclas a enviar.
+     * @param loop Se o script deve recomeçar ao terminar.
+     * @param renderEvery Intervalo em ticks entre quadros desenhados fora da tela (0 = nenhum).
+     */
+    public HeadlessRunner(GamePanel gamePanel, InputScript script, boolean loop, int renderEvery) {
+        this.gamePanel = gamePanel;
+        this.script = script;
+        this.loop = loop;
+        this.renderEvery = Math.max(0, renderEvery);
+        gamePanel.setInputFocus(InputFocus.ALWAYS);
+    }
+
+    /**
+     * Executa a quantidade de ticks pedida o mais rápido possível,
+     * informando a taxa de ticks por segundo a cada segundo.
+     * @param tickCount Ticks a simular.
+     */
+    public void run(long tickCount) {
+        long start = System.nanoTime();
+        long reportStart = start;
+        long reportTicks = 0;
+        long scriptTick = 0;
+
+        for (long i = 0; i < tickCount; i++) {
+            if (loop && script.getLength() > 0 && scriptTick >= script.getLength()) {
+                script.rewind();
+                scriptTick = 0;
+            }
+            script.apply(scriptTick++, gamePanel.getKeyHandler(), gamePanel);
+
+            try {
+                gamePanel.update();
+            } catch (Exception e) {
+                // Mesmo tratamento do GameLoop: um tick com erro não derruba a simulação
+                System.err.println("Erro durante o tick do jogo: " + e.getMessage());
+                e.printStackTrace();
+            }
+            ticks++;
+            reportTicks++;
+
+            if (renderEvery > 0 && ticks % renderEvery == 0) {
+                renderFrame();
+            }
+
+            long now = System.nanoTime();
+            if (now - reportStart >= NANOS_PER_SECOND) {
+                System.out.println(String.format(Locale.ROOT, "[Headless] %,d ticks (%.0f ticks/s)",
+                    ticks, reportTicks * (double) NANOS_PER_SECOND / (now - reportStart)));
+                reportStart = now;
+                reportTicks = 0;
+            }
+        }
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    private void renderFrame() {
+        if (frame == null) {
+            frame = new BufferedImage(SCREEN_WIDTH, SCREEN_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        }
+        Graphics2D g2 = frame.createGraphics();
+        try {
+            gamePanel.renderOffscreen(g2, SCREEN_WIDTH, SCREEN_HEIGHT);
+        } catch (Exception e) {
+            System.err.println("Erro durante a renderização: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            g2.dispose();
+        }
+        frames++;
+    }
+
+    /**
+     * @return Último quadro desenhado, ou null se nenhum foi desenhado.
+     */
+    public BufferedImage getLastFrame() {
+        return frame;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return Ticks por segundo da última execução.
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos > 0 ? ticks * (double) NANOS_PER_SECOND / elapsedNanos : 0.0;
+    }
+
+    /**
+     * Assinatura do estado final, para comparar duas execuções da mesma sessão: mapa, posição,
+     * direção, vida, mana e experiência do jogador, inventário e equipamento, posição e direção
+     * dos NPCs, e a semente e a quantidade de sorteios de cada fluxo do GameRandom.
+     * @return Hash do estado atual do jogo.
+     */
+    public long stateChecksum() {
+        long hash = 17;
+        hash = hash * 31 + gamePanel.gameState;
+        hash = hash * 31 + String.valueOf(gamePanel.getCurrentMapName()).hashCode();
+        Player player = gamePanel.getPlayer();
+        hash = hash * 31 + player.getWorldX();
+        hash = hash * 31 + player.getWorldY();
+        hash = hash * 31 + String.valueOf(player.getDirection()).hashCode();
+        hash = hash * 31 + player.getAttributeHealth();
+        hash = hash * 31 + player.getAttributeMana();
+        hash = hash * 31 + player.getTotalXp();
+        InventoryManager inventory = gamePanel.getInventoryManager();
+        if (inventory != null) {
+            for (Item item : inventory.getInventorySlots()) {
+                hash = hash * 31 + itemHash(item);
+            }
+            Equipment equipment = inventory.getEquipment();
+            if (equipment != null) {
+                for (int i = 0; i < equipment.getTotalSlots(); i++) {
+                    hash = hash * 31 + itemHash(equipment.getEquippedItem(i));
+                }
+            }
+        }
+        for (Npc npc : gamePanel.getNpcs()) {
+            hash = hash * 31 + npc.getWorldX();
+            hash = hash * 31 + npc.getWorldY();
+            hash = hash * 31 + String.valueOf(npc.getDirection()).hashCode();
+        }
+        GameRandom random = GameRandom.getInstance();
+        hash = hash * 31 + random.getSeed();
+        for (GameRandom.Stream stream : GameRandom.Stream.values()) {
+            hash = hash * 31 + random.getDraws(stream);
+        }
+        return hash;
+    }
+
+    private static int itemHash(Item item) {
+        if (item == null) {
+            return 0;
+        }
+        return String.valueOf(item.getItemId()).hashCode() * 31 + item.getStackSize();
+    }
+
+    public static void main(String[] args) throws IOException {
+        long tickCount = -1;
+        String scriptPath = null;
+        String replayPath = null;
+        boolean loop = false;
+        int renderEvery = 0;
+        String snapshot = null;
+        String className = "Barbarian";
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--ticks" -> tickCount = Long.parseLong(requireValue(args, ++i));
+                case "--script" -> scriptPath = requireValue(args, ++i);
+                case "--loop" -> loop = true;
+                case "--render-every" -> renderEvery = Integer.parseInt(requireValue(args, ++i));
+                case "--snapshot" -> snapshot = requireValue(args, ++i);
+                case "--class" -> className = requireValue(args, ++i);
+                case "--replay" -> replayPath = requireValue(args, ++i);
+                default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+
+        InputScript script;
+        InputRecording recording = null;
+        String playerName = "Headless";
+        if (replayPath != null) {
+            // A sessão gravada substitui o script e define semente e personagem
+            recording = InputRecording.load(Paths.get(replayPath));
+            GameRandom.getInstance().setSeed(recording.getSeed());
+            playerName = recording.getPlayerName();
+            className = recording.getClassName();
+            script = InputScript.empty();
+            loop = false;
+            if (tickCount < 0) {
+                tickCount = recording.getLength();
+            }
+            System.out.println("[Headless] Replay de " + replayPath + ": " + recording.getLength() + " ticks, "
+                + recording.getEntryCount() + " mudanças de teclado, semente " + recording.getSeed());
+        } else {
+            script = loadScript(scriptPath);
+        }
+        if (tickCount < 0) {
+            tickCount = 10_000;
+        }
+
+        GamePanel gamePanel = new GamePanel(SCREEN_WIDTH, SCREEN_HEIGHT, playerName, createClass(className),
+            TILE_SIZE, MAX_SCREEN_ROW, MAX_SCREEN_COL);
+        if (recording != null) {
+            gamePanel.setInputPlayback(recording);
+        }
+        HeadlessRunner runner = new HeadlessRunner(gamePanel, script, loop, renderEvery);
+        runner.run(tickCount);
+        gamePanel.stopInputRecording();
+
+        System.out.println(String.format(Locale.ROOT, "[Headless] %,d ticks em %.2f s: %.0f ticks/s (%.1fx tempo real), %,d quadros",
+            runner.getTicks(), runner.elapsedNanos / (double) NANOS_PER_SECOND, runner.getTicksPerSecond(),
+            runner.getTicksPerSecond() / GameSettings.getInstance().getTickRate(), runner.getFrames()));
+        System.out.println(String.format(Locale.ROOT, "[Headless] Semente %d, assinatura do estado final %016x",
+            GameRandom.getInstance().getSeed(), runner.stateChecksum()));
+
+        if (snapshot != null && runner.getLastFrame() != null) {
+            ImageIO.write(runner.getLastFrame(), "png", Paths.get(snapshot).toFile());
+            System.out.println("[Headless] Quadro gravado em " + snapshot);
+        }
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        if (profiler.isEnabled()) {
+            Path file = profiler.dumpCsv(Paths.get(GameSettings.getInstance().getProfileDir()));
+            System.out.println("[Headless] Perfil de quadros gravado em " + file.toAbsolutePath());
+        }
+
+        // Áudio e a EDT mantêm threads vivas; a simulação terminou
+        System.exit(0);
+    }
+
+    private static String requireValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Falta o valor de " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static InputScript loadScript(String path) throws IOException {
+        if (path != null) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+                return InputScript.parse(reader, path);
+            }
+        }
+        try (InputStream in = HeadlessRunner.class.getResourceAsStream(DEFAULT_SCRIPT)) {
+            if (in == null) {
+                System.err.println("[Headless] Script padrão não encontrado: " + DEFAULT_SCRIPT);
+                return InputScript.empty();
+            }
+            return InputScript.parse(new InputStreamReader(in, StandardCharsets.UTF_8), DEFAULT_SCRIPT);
+        }
+    }
+
+    private static CharacterClass createClass(String name) {
+        // Mesmos valores especiais da tela de criação de personagem
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "ranger" -> new Ranger(10);
+            case "barbarian" -> new Barbarian(15);
+            case "paladin" -> new Paladin(20);
+            case "mage" -> new Mage(25);
+            case "orc" -> new Orc(30);
+            default -> throw new IllegalArgumentException("Classe desconhecida: " + name);
+        };
+    }
+}
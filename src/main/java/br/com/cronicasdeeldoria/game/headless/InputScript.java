@@ -0,0 +1,158 @@
+package br.com.cronicasdeeldoria.game.headless;
+
+import java.awt.AWTKeyStroke;
+import java.awt.Component;
+import java.awt.event.KeyEvent;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import br.com.cronicasdeeldoria.game.KeyHandler;
+
+/**
+ * Sequência de teclas a enviar ao KeyHandler em ticks definidos, para rodar o jogo sem janela.
+ * Formato, uma ação por linha ({@code #} inicia comentário):
+ * <pre>
+ * 0   tap     E      # pressiona no tick 0 e solta no tick seguinte
+ * 10  press   D
+ * 40  release D
+ * </pre>
+ * As teclas usam os nomes de KeyEvent sem o prefixo VK_ (E, D, ESCAPE, F3...).
+ * Os eventos passam pelo próprio keyPressed/keyReleased, então o anti-repeat do
+ * KeyHandler vale igual ao teclado de verdade.
+ */
+public class InputScript {
+    private static final int PRESS = 0;
+    private static final int RELEASE = 1;
+
+    private final int[] ticks;
+    private final int[] keyCodes;
+    private final int[] actions;
+    private final int length;
+    private int cursor;
+
+    private InputScript(int[] ticks, int[] keyCodes, int[] actions) {
+        this.ticks = ticks;
+        this.keyCodes = keyCodes;
+        this.actions = actions;
+        this.length = ticks.length > 0 ? ticks[ticks.length - 1] + 1 : 0;
+    }
+
+    /**
+     * Script sem nenhuma tecla.
+     */
+    public static InputScript empty() {
+        return new InputScript(new int[0], new int[0], new int[0]);
+    }
+
+    /**
+     * Lê um script.
+     * @param reader Origem do texto.
+     * @param name Nome usado nas mensagens de erro.
+     * @return Script com os eventos em ordem de tick.
+     * @throws IOException Em erro de leitura.
+     * @throws IllegalArgumentException Se alguma linha for inválida.
+     */
+    public static InputScript parse(Reader reader, String name) throws IOException {
+        List<long[]> events = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(name + ":" + lineNumber + ": esperado '<tick> <press|release|tap> <tecla>'");
+            }
+            int tick;
+            try {
+                tick = Integer.parseInt(parts[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(name + ":" + lineNumber + ": tick inválido: " + parts[0]);
+            }
+            if (tick < 0) {
+                throw new IllegalArgumentException(name + ":" + lineNumber + ": tick negativo");
+            }
+            int keyCode = parseKey(parts[2], name, lineNumber);
+            // A ordem de inserção desempata eventos no mesmo tick
+            long order = events.size();
+            switch (parts[1].toLowerCase(Locale.ROOT)) {
+                case "press" -> events.add(new long[] {tick, order, keyCode, PRESS});
+                case "release" -> events.add(new long[] {tick, order, keyCode, RELEASE});
+                case "tap" -> {
+                    events.add(new long[] {tick, order, keyCode, PRESS});
+                    events.add(new long[] {tick + 1L, order, keyCode, RELEASE});
+                }
+                default -> throw new IllegalArgumentException(name + ":" + lineNumber + ": ação desconhecida: " + parts[1]);
+            }
+        }
+
+        events.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        int[] ticks = new int[events.size()];
+        int[] keyCodes = new int[events.size()];
+        int[] actions = new int[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            long[] event = events.get(i);
+            ticks[i] = (int) event[0];
+            keyCodes[i] = (int) event[2];
+            actions[i] = (int) event[3];
+        }
+        return new InputScript(ticks, keyCodes, actions);
+    }
+
+    private static int parseKey(String name, String scriptName, int lineNumber) {
+        try {
+            return AWTKeyStroke.getAWTKeyStroke(name.toUpperCase(Locale.ROOT)).getKeyCode();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(scriptName + ":" + lineNumber + ": tecla desconhecida: " + name);
+        }
+    }
+
+    /**
+     * Envia ao KeyHandler os eventos marcados para o tick indicado.
+     * Os ticks devem ser consultados em ordem crescente.
+     * @param tick Tick atual, relativo ao início do script.
+     * @param keyHandler Destino dos eventos.
+     * @param source Componente usado como origem dos KeyEvents.
+     */
+    public void apply(long tick, KeyHandler keyHandler, Component source) {
+        while (cursor < ticks.length && ticks[cursor] <= tick) {
+            int keyCode = keyCodes[cursor];
+            if (actions[cursor] == PRESS) {
+                keyHandler.keyPressed(new KeyEvent(source, KeyEvent.KEY_PRESSED, 0L, 0, keyCode, KeyEvent.CHAR_UNDEFINED));
+            } else {
+                keyHandler.keyReleased(new KeyEvent(source, KeyEvent.KEY_RELEASED, 0L, 0, keyCode, KeyEvent.CHAR_UNDEFINED));
+            }
+            cursor++;
+        }
+    }
+
+    /**
+     * Volta ao início, para repetir o script.
+     */
+    public void rewind() {
+        cursor = 0;
+    }
+
+    /**
+     * @return Duração do script em ticks (último tick com evento + 1).
+     */
+    public int getLength() {
+        return length;
+    }
+
+    public int getEventCount() {
+        return ticks.length;
+    }
+}
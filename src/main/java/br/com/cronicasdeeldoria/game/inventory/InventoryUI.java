@@ -45,8 +45,8 @@ public class InventoryUI {
     public void draw(Graphics2D g2, InventoryManager inventoryManager) {
         if (!inventoryManager.isVisible()) return;
 
-        int screenWidth = gamePanel.getWidth();
-        int screenHeight = gamePanel.getHeight();
+        int screenWidth = gamePanel.getScreenWidth();
+        int screenHeight = gamePanel.getScreenHeight();
 
         // Overlay semi-transparente
         g2.setColor(new Color(0, 0, 0, 150));
@@ -1,31 +1,18 @@
 package br.com.cronicasdeeldoria.game.inventory;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.List;
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-
 import br.com.cronicasdeeldoria.entity.item.Item;
-import br.com.cronicasdeeldoria.entity.item.ItemType;
 import br.com.cronicasdeeldoria.entity.item.MagicOrb;
-import br.com.cronicasdeeldoria.entity.item.QuestItem;
-import br.com.cronicasdeeldoria.entity.item.ItemRarity;
 import br.com.cronicasdeeldoria.entity.object.MapObject;
 import br.com.cronicasdeeldoria.entity.object.ObjectSpriteLoader;
 
 /**
  * Factory para criar itens a partir de objetos do mapa.
+ * As definições vêm do ItemRegistry, carregado uma única vez.
  */
 public class ItemFactory {
 
   /**
    * Cria um item a partir do ID usando configurações do objects.json.
-   * Reutiliza a lógica existente do createItemFromMapObject.
    * @param itemId ID do item.
    * @return Item criado ou null se não encontrado.
    */
@@ -38,29 +25,8 @@ public class ItemFactory {
         return new MagicOrb(orbType); // Usar construtor sem coordenadas
       }
 
-      // Buscar dados do item no objects.json
-      try {
-        InputStream is = ItemFactory.class.getResourceAsStream("/objects.json");
-        if (is != null) {
-          Gson gson = new Gson();
-          JsonArray objectsArray = gson.fromJson(new InputStreamReader(is), JsonArray.class);
-
-          for (int i = 0; i < objectsArray.size(); i++) {
-            JsonObject objectJson = objectsArray.get(i).getAsJsonObject();
-            if (objectJson.has("id") && objectJson.get("id").getAsString().equals(itemId)) {
-              // Criar MapObject temporário para reutilizar createItemFromMapObject
-              MapObject tempMapObject = createTempMapObjectFromJson(objectJson);
-              if (tempMapObject != null) {
-                return createItemFromMapObject(tempMapObject, 48);
-              }
-            }
-          }
-        }
-      } catch (Exception e) {
-        System.err.println("Erro ao criar item " + itemId + " do objects.json: " + e.getMessage());
-      }
-
-      return null;
+      ItemRegistry.ItemPrototype prototype = ItemRegistry.getInstance().getPrototype(itemId);
+      return prototype != null ? prototype.create(0, 0, 48) : null;
     }
 
     /**
@@ -72,88 +38,6 @@ public class ItemFactory {
       return new MagicOrb(orbType);
     }
 
-    /**
-     * Cria um MapObject temporário a partir de dados JSON para reutilizar createItemFromMapObject.
-     * @param objectJson Objeto JSON do objects.json.
-     * @return MapObject temporário ou null se dados inválidos.
-     */
-    private static MapObject createTempMapObjectFromJson(JsonObject objectJson) {
-        try {
-            String id = objectJson.get("id").getAsString();
-            String name = objectJson.get("name").getAsString();
-
-            // Criar MapObject temporário (posição 0,0 pois é para inventário)
-            MapObject mapObject = new MapObject(id, name, 0, 0, 1, 1, false, true, false, null, 48);
-
-            // Criar ObjectDefinition com dados do JSON usando reflexão
-            ObjectSpriteLoader.ObjectDefinition def = new ObjectSpriteLoader.ObjectDefinition();
-
-            if (objectJson.has("itemType")) {
-                Field itemTypeField = def.getClass().getDeclaredField("itemType");
-                itemTypeField.setAccessible(true);
-                itemTypeField.set(def, objectJson.get("itemType").getAsString());
-            }
-
-            if (objectJson.has("rarity")) {
-                Field rarityField = def.getClass().getDeclaredField("rarity");
-                rarityField.setAccessible(true);
-                rarityField.set(def, objectJson.get("rarity").getAsString());
-            }
-
-            if (objectJson.has("description")) {
-                Field descriptionField = def.getClass().getDeclaredField("description");
-                descriptionField.setAccessible(true);
-                descriptionField.set(def, objectJson.get("description").getAsString());
-            }
-
-            if (objectJson.has("value")) {
-                Field valueField = def.getClass().getDeclaredField("value");
-                valueField.setAccessible(true);
-                valueField.set(def, objectJson.get("value").getAsInt());
-            }
-
-            if (objectJson.has("allowedClass")) {
-              Field classField = def.getClass().getDeclaredField("allowedClass");
-              classField.setAccessible(true);
-
-              List<String> allowedClass = new ArrayList<>();
-              JsonArray classArray = objectJson.getAsJsonArray("allowedClass");
-              for (JsonElement element : classArray) {
-                allowedClass.add(element.getAsString().toLowerCase());
-              }
-              classField.set(def, allowedClass);
-            }
-            // Atributos dos equipamentos
-            if (objectJson.has("strengthFromEquip")) {
-              Field valueField = def.getClass().getDeclaredField("strengthFromEquip");
-              valueField.setAccessible(true);
-              valueField.set(def, objectJson.get("strengthFromEquip").getAsInt());
-            }
-            if (objectJson.has("armorFromEquip")) {
-              Field valueField = def.getClass().getDeclaredField("armorFromEquip");
-              valueField.setAccessible(true);
-              valueField.set(def, objectJson.get("armorFromEquip").getAsInt());
-            }
-            if (objectJson.has("healthFromEquip")) {
-              Field valueField = def.getClass().getDeclaredField("healthFromEquip");
-              valueField.setAccessible(true);
-              valueField.set(def, objectJson.get("healthFromEquip").getAsInt());
-            }
-            if (objectJson.has("manaFromEquip")) {
-              Field valueField = def.getClass().getDeclaredField("manaFromEquip");
-              valueField.setAccessible(true);
-              valueField.set(def, objectJson.get("manaFromEquip").getAsInt());
-            }
-
-            mapObject.setObjectDefinition(def);
-            return mapObject;
-
-        } catch (Exception e) {
-            System.err.println("Erro ao criar MapObject temporário do JSON: " + e.getMessage());
-            return null;
-        }
-    }
-
     /**
      * Cria um item a partir de um MapObject.
      * @param mapObject Objeto do mapa.
@@ -161,127 +45,10 @@ public class ItemFactory {
      * @return Item criado ou null se não for um item válido.
      */
     public static Item createItemFromMapObject(MapObject mapObject, int tileSize) {
-        if (mapObject == null) return null;
-
-
-        // Verificar se o objeto tem propriedades de item
-        String itemTypeStr = getObjectProperty(mapObject, "itemType");
-
-        if (itemTypeStr == null) return null;
-
-        ItemType itemType = ItemType.fromString(itemTypeStr);
-        if (itemType == null) return null;
-
-        String rarityStr = getObjectProperty(mapObject, "rarity");
-        ItemRarity rarity = ItemRarity.fromString(rarityStr);
-
-        String description = getObjectProperty(mapObject, "description");
-        if (description == null) description = "";
+        ItemRegistry.ItemPrototype prototype = getPrototype(mapObject);
+        if (prototype == null) return null;
 
-        String valueStr = getObjectProperty(mapObject, "value");
-        int value = 0;
-        try {
-            value = Integer.parseInt(valueStr);
-        } catch (NumberFormatException e) {
-            // Valor padrão
-        }
-
-        String strengthFromEquipString = getObjectProperty(mapObject, "strengthFromEquip");
-        int strengthFromEquip = 0;
-        try {
-          assert strengthFromEquipString != null;
-          strengthFromEquip = Integer.parseInt(strengthFromEquipString);
-        } catch (NumberFormatException e) {
-          // Valor padrão
-        }
-
-        String armorFromEquipString = getObjectProperty(mapObject, "armorFromEquip");
-        int armorFromEquip = 0;
-        try {
-          armorFromEquip = Integer.parseInt(armorFromEquipString);
-        } catch (NumberFormatException e) {
-          // Valor padrão
-        }
-
-        String healthFromEquipString = getObjectProperty(mapObject, "healthFromEquip");
-        int healthFromEquip = 0;
-        try {
-          healthFromEquip = Integer.parseInt(healthFromEquipString);
-        } catch (NumberFormatException e) {
-          // Valor padrão
-        }
-
-        String manaFromEquipString = getObjectProperty(mapObject, "manaFromEquip");
-        int manaFromEquip = 0;
-        try {
-          manaFromEquip = Integer.parseInt(manaFromEquipString);
-        } catch (NumberFormatException e) {
-          // Valor padrão
-        }
-
-        // Determinar se o item é empilhável baseado no tipo
-        boolean stackable = itemType == ItemType.KEY || itemType == ItemType.CONSUMABLE;
-        int maxStackSize = stackable ? 99 : 1;
-
-        // Obter classes permitidas do ObjectDefinition
-        List<String> allowedClass = getObjectPropertyList(mapObject);
-
-        // Verificar se é um item de quest
-        String questItemStr = getObjectProperty(mapObject, "questItem");
-        boolean isQuestItem = "true".equalsIgnoreCase(questItemStr);
-
-        Item item;
-
-        if (isQuestItem && itemType == ItemType.QUEST_ITEM) {
-            // Verificar se é uma orbe mágica específica
-            String orbType = getObjectProperty(mapObject, "orbType");
-
-            if (orbType != null) {
-                // Criar MagicOrb
-                item = new MagicOrb(
-                    orbType,
-                    mapObject.getWorldX(),
-                    mapObject.getWorldY()
-                );
-            } else {
-                // Criar QuestItem genérico
-                item = new QuestItem(
-                    mapObject.getObjectId(),
-                    mapObject.getName(),
-                    mapObject.getWorldX(),
-                    mapObject.getWorldY(),
-                    itemType,
-                    rarity,
-                    description,
-                    value,
-                    stackable,
-                    "main_orb_quest"
-                );
-            }
-        } else {
-            // Criar Item comum
-            item = new Item(
-                mapObject.getObjectId(),
-                mapObject.getName(),
-                mapObject.getWorldX(),
-                mapObject.getWorldY(),
-                itemType,
-                rarity,
-                description,
-                value,
-                stackable,
-                maxStackSize,
-                mapObject.getObjectDefinition(),
-                tileSize,
-                allowedClass,
-                strengthFromEquip,
-                armorFromEquip,
-                healthFromEquip,
-                manaFromEquip
-            );
-        }
-
-      return item;
+        return prototype.create(mapObject.getWorldX(), mapObject.getWorldY(), tileSize);
     }
 
     /**
@@ -290,53 +57,23 @@ public class ItemFactory {
      * @return true se pode ser convertido em item.
      */
     public static boolean canCreateItem(MapObject mapObject) {
-        if (mapObject == null) return false;
-
-        String itemTypeStr = getObjectProperty(mapObject, "itemType");
-        boolean canCreate = itemTypeStr != null && ItemType.fromString(itemTypeStr) != null;
-
-        return canCreate;
+        return getPrototype(mapObject) != null;
     }
 
     /**
-     * Obtém uma propriedade de um objeto do ObjectDefinition.
-     * Usa reflexão para acessar campos adicionais do JSON.
+     * Protótipo correspondente à definição do objeto; definições que não vieram
+     * do registro são convertidas na hora.
      */
-    private static String getObjectProperty(MapObject mapObject, String property) {
-        try {
-            ObjectSpriteLoader.ObjectDefinition def = mapObject.getObjectDefinition();
-            if (def == null) return null;
+    private static ItemRegistry.ItemPrototype getPrototype(MapObject mapObject) {
+        if (mapObject == null) return null;
 
-            // Usar reflexão para acessar campos adicionais do JSON
-            java.lang.reflect.Field field = def.getClass().getDeclaredField(property);
-            field.setAccessible(true);
-            Object value = field.get(def);
+        ObjectSpriteLoader.ObjectDefinition def = mapObject.getObjectDefinition();
+        if (def == null) return null;
 
-            return value != null ? value.toString() : null;
-        } catch (Exception e) {
-            // Se o campo não existir, retornar null
-            return null;
+        ItemRegistry.ItemPrototype prototype = ItemRegistry.getInstance().getPrototype(def.id);
+        if (prototype != null && prototype.getDefinition() == def) {
+            return prototype;
         }
+        return ItemRegistry.ItemPrototype.fromDefinition(def);
     }
-  /**
-   * Obtém uma propriedade do tipo List de um objeto do ObjectDefinition.
-   */
-  @SuppressWarnings("unchecked")
-  private static List<String> getObjectPropertyList(MapObject mapObject) {
-    try {
-      ObjectSpriteLoader.ObjectDefinition def = mapObject.getObjectDefinition();
-      if (def == null) return null;
-
-      java.lang.reflect.Field field = def.getClass().getDeclaredField("allowedClass");
-      field.setAccessible(true);
-      Object value = field.get(def);
-
-      if (value instanceof List) {
-        return (List<String>) value;
-      }
-      return null;
-    } catch (Exception e) {
-      return null;
-    }
-  }
 }
@@ -0,0 +1,194 @@
+package br.com.cronicasdeeldoria.game.inventory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.cronicasdeeldoria.entity.item.Item;
+import br.com.cronicasdeeldoria.entity.item.ItemRarity;
+import br.com.cronicasdeeldoria.entity.item.ItemType;
+import br.com.cronicasdeeldoria.entity.item.MagicOrb;
+import br.com.cronicasdeeldoria.entity.item.QuestItem;
+import br.com.cronicasdeeldoria.entity.object.ObjectSpriteLoader;
+
+/**
+ * Registro das definições de itens do objects.json, carregado uma única vez e indexado por id.
+ * Cada entrada é um protótipo imutável com os valores já convertidos; criar um item
+ * é apenas instanciar a cópia.
+ */
+public class ItemRegistry {
+    private static ItemRegistry instance;
+
+    private volatile Map<String, ItemPrototype> prototypes;
+
+    private ItemRegistry() {
+    }
+
+    public static ItemRegistry getInstance() {
+        if (instance == null) {
+            instance = new ItemRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Monta os protótipos a partir das definições já carregadas.
+     * @param spriteLoader Loader com as definições do objects.json.
+     */
+    public synchronized void load(ObjectSpriteLoader spriteLoader) {
+        Map<String, ItemPrototype> loaded = new HashMap<>();
+        for (String id : spriteLoader.getAvailableObjectIds()) {
+            ItemPrototype prototype = ItemPrototype.fromDefinition(spriteLoader.getObjectDefinition(id));
+            if (prototype != null) {
+                loaded.put(id, prototype);
+            }
+        }
+        this.prototypes = loaded;
+    }
+
+    /**
+     * Garante o carregamento, lendo o objects.json caso ninguém tenha chamado load.
+     */
+    private Map<String, ItemPrototype> getPrototypes() {
+        Map<String, ItemPrototype> current = prototypes;
+        if (current == null) {
+            synchronized (this) {
+                if (prototypes == null) {
+                    try {
+                        load(new ObjectSpriteLoader("/objects.json"));
+                    } catch (Exception e) {
+                        System.err.println("Erro ao carregar registro de itens: " + e.getMessage());
+                        prototypes = Collections.emptyMap();
+                    }
+                }
+                current = prototypes;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @param itemId ID do item.
+     * @return Protótipo do item ou null se o id não for um item.
+     */
+    public ItemPrototype getPrototype(String itemId) {
+        return itemId != null ? getPrototypes().get(itemId) : null;
+    }
+
+    /**
+     * @param itemId ID do item.
+     * @return true se o id corresponde a um item do objects.json.
+     */
+    public boolean contains(String itemId) {
+        return getPrototype(itemId) != null;
+    }
+
+    /**
+     * Valor em moedas de um item.
+     * @param itemId ID do item.
+     * @param fallback Valor usado se o item não existir.
+     */
+    public int getValue(String itemId, int fallback) {
+        ItemPrototype prototype = getPrototype(itemId);
+        return prototype != null ? prototype.getValue() : fallback;
+    }
+
+    public int size() {
+        return getPrototypes().size();
+    }
+
+    /**
+     * Definição imutável de um item, com os campos do objects.json já convertidos.
+     */
+    public static final class ItemPrototype {
+        private final String itemId;
+        private final String name;
+        private final ItemType itemType;
+        private final ItemRarity rarity;
+        private final String description;
+        private final int value;
+        private final boolean stackable;
+        private final int maxStackSize;
+        private final List<String> allowedClass;
+        private final int strengthFromEquip;
+        private final int armorFromEquip;
+        private final int healthFromEquip;
+        private final int manaFromEquip;
+        private final boolean questItem;
+        private final String orbType;
+        private final ObjectSpriteLoader.ObjectDefinition definition;
+
+        private ItemPrototype(ObjectSpriteLoader.ObjectDefinition def, ItemType itemType) {
+            this.itemId = def.id;
+            this.name = def.name;
+            this.itemType = itemType;
+            this.rarity = ItemRarity.fromString(def.rarity);
+            this.description = def.description != null ? def.description : "";
+            this.value = def.value;
+            // Apenas chaves e consumíveis empilham
+            this.stackable = itemType == ItemType.KEY || itemType == ItemType.CONSUMABLE;
+            this.maxStackSize = stackable ? 99 : 1;
+            if (def.allowedClass != null) {
+                List<String> classes = new ArrayList<>(def.allowedClass.size());
+                for (String allowed : def.allowedClass) {
+                    classes.add(allowed.toLowerCase());
+                }
+                this.allowedClass = Collections.unmodifiableList(classes);
+            } else {
+                this.allowedClass = null;
+            }
+            this.strengthFromEquip = def.strengthFromEquip;
+            this.armorFromEquip = def.armorFromEquip;
+            this.healthFromEquip = def.healthFromEquip;
+            this.manaFromEquip = def.manaFromEquip;
+            this.questItem = "true".equalsIgnoreCase(def.questItem);
+            this.orbType = def.orbType;
+            this.definition = def;
+        }
+
+        /**
+         * Converte uma definição do objects.json.
+         * @param def Definição do objeto.
+         * @return Protótipo, ou null se a definição não for de um item.
+         */
+        public static ItemPrototype fromDefinition(ObjectSpriteLoader.ObjectDefinition def) {
+            if (def == null || def.id == null || def.itemType == null) {
+                return null;
+            }
+            ItemType itemType = ItemType.fromString(def.itemType);
+            return itemType != null ? new ItemPrototype(def, itemType) : null;
+        }
+
+        /**
+         * Cria uma nova instância do item.
+         * @param worldX Posição X no mundo.
+         * @param worldY Posição Y no mundo.
+         * @param tileSize Tamanho do tile.
+         */
+        public Item create(int worldX, int worldY, int tileSize) {
+            if (questItem && itemType == ItemType.QUEST_ITEM) {
+                if (orbType != null) {
+                    return new MagicOrb(orbType, worldX, worldY);
+                }
+                return new QuestItem(itemId, name, worldX, worldY, itemType, rarity, description, value,
+                    stackable, "main_orb_quest");
+            }
+            return new Item(itemId, name, worldX, worldY, itemType, rarity, description, value, stackable,
+                maxStackSize, definition, tileSize, allowedClass, strengthFromEquip, armorFromEquip,
+                healthFromEquip, manaFromEquip);
+        }
+
+        public String getItemId() { return itemId; }
+        public String getName() { return name; }
+        public ItemType getItemType() { return itemType; }
+        public ItemRarity getRarity() { return rarity; }
+        public String getDescription() { return description; }
+        public int getValue() { return value; }
+        public boolean isStackable() { return stackable; }
+        public int getMaxStackSize() { return maxStackSize; }
+        public List<String> getAllowedClass() { return allowedClass; }
+        public ObjectSpriteLoader.ObjectDefinition getDefinition() { return definition; }
+    }
+}
@@ -1,15 +1,14 @@
 package br.com.cronicasdeeldoria.game.inventory;
 
 import br.com.cronicasdeeldoria.entity.object.ObjectSpriteLoader;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javax.imageio.ImageIO;
 
 /**
  * Carregador de sprites para itens do inventário.
@@ -76,16 +75,8 @@ public class ItemSpriteLoader {
             }
             
             String spritePath = firstRow.get(0);
-            InputStream is = getClass().getResourceAsStream(spritePath);
-            
-            if (is != null) {
-                BufferedImage image = ImageIO.read(is);
-                is.close();
-                return image;
-            } else {
-                System.err.println("Sprite não encontrado: " + spritePath);
-                return createDefaultItemSprite(itemId);
-            }
+            BufferedImage image = AssetManager.getInstance().getImage(spritePath);
+            return image != null ? image : createDefaultItemSprite(itemId);
         } catch (Exception e) {
             System.err.println("Erro ao carregar sprite do item " + itemId + ": " + e.getMessage());
             return createDefaultItemSprite(itemId);
@@ -3,16 +3,15 @@ package br.com.cronicasdeeldoria.game.merchant;
 import br.com.cronicasdeeldoria.entity.character.npc.MerchantNpc;
 import br.com.cronicasdeeldoria.entity.item.Item;
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
 import br.com.cronicasdeeldoria.game.font.FontManager;
 import br.com.cronicasdeeldoria.game.inventory.ItemFactory;
 import br.com.cronicasdeeldoria.game.inventory.ItemSpriteLoader;
 import br.com.cronicasdeeldoria.game.inventory.InventoryManager;
 import br.com.cronicasdeeldoria.game.money.PlayerMoney;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
@@ -80,11 +79,7 @@ public class MerchantUI {
      * Carrega o ícone da moeda.
      */
     private void loadCoinIcon() {
-        try {
-            coinIcon = ImageIO.read(getClass().getResourceAsStream("/ui/coin.png"));
-        } catch (IOException e) {
-            System.err.println("Erro ao carregar ícone da moeda: " + e.getMessage());
-        }
+        coinIcon = AssetManager.getInstance().getImage(AssetManager.SCOPE_GLOBAL, "/ui/coin.png");
     }
     
     /**
@@ -114,8 +109,8 @@ public class MerchantUI {
         MerchantNpc merchant = merchantManager.getCurrentMerchant();
         if (merchant == null) return;
         
-        int screenWidth = gamePanel.getWidth();
-        int screenHeight = gamePanel.getHeight();
+        int screenWidth = gamePanel.getScreenWidth();
+        int screenHeight = gamePanel.getScreenHeight();
         
         // Overlay semi-transparente
         g2.setColor(new Color(0, 0, 0, 150));
@@ -146,7 +141,7 @@ public class MerchantUI {
         drawTitle(g2, merchant, startX, startY, totalWidth);
         
         // Desenhar dinheiro do jogador no canto superior direito
-        drawPlayerMoney(g2, merchantManager, gamePanel.getWidth());
+        drawPlayerMoney(g2, merchantManager, gamePanel.getScreenWidth());
         
         // Calcular posições dos inventários
         int merchantInventoryX = startX + PADDING;
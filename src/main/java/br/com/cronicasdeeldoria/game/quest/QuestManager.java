@@ -810,9 +810,12 @@ public class QuestManager {
 
             // Dar itens
             for (String itemId : reward.getItemIds()) {
-                // TODO: Implementar criação de itens de recompensa
-                // gamePanel.getPlayer().getInventoryManager().addItem(ItemFactory.createItem(itemId));
-                System.out.println("Item de recompensa: " + itemId); // Evitar warning de variável não utilizada
+                Item item = ItemFactory.createItem(itemId);
+                if (item == null) {
+                    System.err.println("Item de recompensa desconhecido: " + itemId);
+                } else if (gamePanel.getInventoryManager() == null || !gamePanel.getInventoryManager().addItem(item)) {
+                    System.err.println("Não foi possível entregar o item de recompensa: " + itemId);
+                }
             }
 
             if (gamePanel.getGameUI() != null) {
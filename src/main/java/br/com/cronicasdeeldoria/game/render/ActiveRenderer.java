@@ -0,0 +1,161 @@
+package br.com.cronicasdeeldoria.game.render;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.DisplayMode;
+import java.awt.Toolkit;
+import java.awt.image.VolatileImage;
+import java.util.function.Consumer;
+
+/**
+ * Renderização ativa: a thread do jogo desenha num VolatileImage (back buffer acelerado)
+ * e copia o quadro pronto para a tela, tratando perda de conteúdo da memória de vídeo.
+ * Usado por componentes Swing (JPanel), que não suportam BufferStrategy diretamente.
+ *
+ * São dois buffers: drawBuffer, só da thread do jogo, onde o quadro é desenhado sem
+ * trava, e frontBuffer, o último quadro apresentado, que a EDT recopia em paintComponent.
+ * bufferLock é segurado só na troca dos dois e na cópia para a tela, então a EDT nunca
+ * espera um quadro inteiro ser desenhado.
+ */
+public class ActiveRenderer {
+    private final Component target;
+    private final Object bufferLock = new Object();
+    // Só a thread do jogo
+    private VolatileImage drawBuffer;
+    // Guardado por bufferLock
+    private VolatileImage frontBuffer;
+    private long lostFrames;
+
+    public ActiveRenderer(Component target) {
+        this.target = target;
+    }
+
+    /**
+     * Desenha e apresenta um quadro. Chamado só pela thread do jogo.
+     * @param painter Rotina que desenha o quadro no back buffer.
+     * @return true se o quadro foi apresentado.
+     */
+    public boolean renderFrame(Consumer<Graphics2D> painter) {
+        int width = target.getWidth();
+        int height = target.getHeight();
+        if (!target.isShowing() || width <= 0 || height <= 0) {
+            return false;
+        }
+
+        GraphicsConfiguration gc = target.getGraphicsConfiguration();
+        if (gc == null) {
+            return false;
+        }
+
+        while (true) {
+            if (drawBuffer == null || drawBuffer.getWidth() != width || drawBuffer.getHeight() != height
+                || drawBuffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                // Tamanho ou configuração gráfica mudou (ex.: janela movida para outro monitor)
+                if (drawBuffer != null) {
+                    drawBuffer.flush();
+                }
+                drawBuffer = gc.createCompatibleVolatileImage(width, height);
+            }
+
+            Graphics2D g2 = drawBuffer.createGraphics();
+            try {
+                g2.setColor(Color.BLACK);
+                g2.fillRect(0, 0, width, height);
+                painter.accept(g2);
+            } finally {
+                g2.dispose();
+            }
+
+            if (drawBuffer.contentsLost()) {
+                // Memória de vídeo perdida durante o desenho: refazer o quadro
+                lostFrames++;
+                continue;
+            }
+
+            synchronized (bufferLock) {
+                // O quadro pronto passa a ser o apresentado; o anterior é o próximo a desenhar
+                VolatileImage presented = drawBuffer;
+                drawBuffer = frontBuffer;
+                frontBuffer = presented;
+
+                Graphics screen = target.getGraphics();
+                if (screen == null) {
+                    return false;
+                }
+                try {
+                    screen.drawImage(frontBuffer, 0, 0, null);
+                } finally {
+                    screen.dispose();
+                }
+                if (!frontBuffer.contentsLost()) {
+                    Toolkit.getDefaultToolkit().sync();
+                    return true;
+                }
+            }
+            lostFrames++;
+        }
+    }
+
+    /**
+     * Copia o último quadro para um contexto gráfico (usado quando o Swing pede repintura).
+     * @param g Contexto gráfico de destino.
+     * @return true se havia um quadro válido para copiar.
+     */
+    public boolean blitLastFrame(Graphics g) {
+        synchronized (bufferLock) {
+            if (frontBuffer == null || frontBuffer.contentsLost()) {
+                return false;
+            }
+            g.drawImage(frontBuffer, 0, 0, null);
+            return true;
+        }
+    }
+
+    /**
+     * Libera os buffers. Chamado pela thread do jogo, ao sair do loop.
+     */
+    public void dispose() {
+        if (drawBuffer != null) {
+            drawBuffer.flush();
+            drawBuffer = null;
+        }
+        synchronized (bufferLock) {
+            if (frontBuffer != null) {
+                frontBuffer.flush();
+                frontBuffer = null;
+            }
+        }
+    }
+
+    /**
+     * @return Quadros refeitos por perda de conteúdo da memória de vídeo.
+     */
+    public long getLostFrames() {
+        return lostFrames;
+    }
+
+    /**
+     * Obtém a taxa de atualização do monitor do componente, para sincronizar os quadros (vsync aproximado).
+     * @param component Componente exibido.
+     * @return Taxa em Hz ou 0 se desconhecida.
+     */
+    public static int getDisplayRefreshRate(Component component) {
+        try {
+            GraphicsConfiguration gc = component.getGraphicsConfiguration();
+            if (gc == null) {
+                return 0;
+            }
+            GraphicsDevice device = gc.getDevice();
+            DisplayMode mode = device.getDisplayMode();
+            int refreshRate = mode.getRefreshRate();
+            return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? 0 : refreshRate;
+        } catch (Exception e) {
+            System.err.println("Não foi possível obter a taxa de atualização do monitor: " + e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.cronicasdeeldoria.game.render;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Criação de imagens no formato nativo da tela, que são copiadas sem conversão
+ * (e podem ser aceleradas) ao desenhar. Sem monitor (headless), usa ARGB.
+ */
+public final class CompatibleImages {
+
+    private CompatibleImages() {
+    }
+
+    /**
+     * Cria uma imagem translúcida compatível com a tela.
+     */
+    public static BufferedImage create(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Copia uma imagem decodificada para o formato compatível com a tela.
+     * @param source Imagem original (pode ser null).
+     * @return Cópia compatível, ou null se a origem for null.
+     */
+    public static BufferedImage toCompatible(BufferedImage source) {
+        if (source == null) {
+            return null;
+        }
+        BufferedImage image = create(source.getWidth(), source.getHeight());
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.drawImage(source, 0, 0, null);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.cronicasdeeldoria.game.render;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Framebuffer na resolução nativa da arte (tiles de 16px).
+ * O mundo é desenhado nele com uma escala de 1/worldScale sobre as coordenadas
+ * lógicas do jogo e depois ampliado para a janela uma única vez, com vizinho
+ * mais próximo, em vez de cada sprite ser ampliado individualmente.
+ */
+public class LowResFramebuffer {
+    private final int width;
+    private final int height;
+    private final int worldScale;
+    private BufferedImage image;
+
+    /**
+     * @param width Largura nativa (ex.: 256).
+     * @param height Altura nativa (ex.: 192).
+     * @param worldScale Fator entre a tela lógica e a resolução nativa (ex.: 3).
+     */
+    public LowResFramebuffer(int width, int height, int worldScale) {
+        this.width = width;
+        this.height = height;
+        this.worldScale = worldScale;
+    }
+
+    /**
+     * Prepara o framebuffer para um novo quadro.
+     * @param gc Configuração gráfica da janela (pode ser null).
+     * @return Contexto gráfico que aceita coordenadas da tela lógica; deve ser liberado pelo chamador.
+     */
+    public Graphics2D beginFrame(GraphicsConfiguration gc) {
+        if (image == null) {
+            image = gc != null
+                ? gc.createCompatibleImage(width, height, Transparency.OPAQUE)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+        Graphics2D g2 = image.createGraphics();
+        g2.setColor(Color.BLACK);
+        g2.fillRect(0, 0, width, height);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+        g2.scale(1.0 / worldScale, 1.0 / worldScale);
+        return g2;
+    }
+
+    /**
+     * Amplia o quadro para a área de destino com vizinho mais próximo.
+     * @param target Contexto gráfico da janela.
+     * @param viewport Área de destino.
+     */
+    public void present(Graphics2D target, Viewport viewport) {
+        if (image == null) {
+            return;
+        }
+        Object previousHint = target.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        target.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        target.drawImage(image, viewport.getX(), viewport.getY(), viewport.getWidth(), viewport.getHeight(), null);
+        if (previousHint != null) {
+            target.setRenderingHint(RenderingHints.KEY_INTERPOLATION, previousHint);
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWorldScale() {
+        return worldScale;
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.cronicasdeeldoria.game.render;
+
+/**
+ * Modo de apresentação dos quadros do jogo.
+ */
+public enum RenderMode {
+    /** A thread do jogo desenha num back buffer e apresenta o quadro ela mesma. */
+    ACTIVE,
+    /** Caminho original: repaint() e paintComponent na EDT do Swing. */
+    PASSIVE;
+
+    /**
+     * Converte um texto (ex.: propriedade de sistema) em modo de renderização.
+     * @param value Texto informado.
+     * @param fallback Modo usado se o texto for nulo ou desconhecido.
+     * @return Modo correspondente.
+     */
+    public static RenderMode fromString(String value, RenderMode fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        for (RenderMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        System.err.println("Modo de renderização desconhecido: " + value + " (usando " + fallback + ")");
+        return fallback;
+    }
+}
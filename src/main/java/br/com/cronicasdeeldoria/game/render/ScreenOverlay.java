@@ -0,0 +1,33 @@
+package br.com.cronicasdeeldoria.game.render;
+
+import java.awt.Graphics2D;
+
+/**
+ * Camada extra desenhada sobre o quadro do jogo.
+ * Cada overlay escolhe se é desenhado junto com o mundo (antes da ampliação do
+ * framebuffer de baixa resolução, com pixels do tamanho da arte) ou junto com a
+ * interface (depois da ampliação, na resolução da janela).
+ * Em ambos os casos as coordenadas são as da tela lógica do jogo.
+ */
+public interface ScreenOverlay {
+
+    enum Stage {
+        /** Desenhado no framebuffer do mundo, antes da ampliação. */
+        BEFORE_UPSCALE,
+        /** Desenhado junto com a interface, depois da ampliação. */
+        AFTER_UPSCALE
+    }
+
+    /**
+     * @return Etapa em que o overlay deve ser desenhado.
+     */
+    Stage getStage();
+
+    /**
+     * Desenha o overlay.
+     * @param g2 Contexto gráfico em coordenadas da tela lógica.
+     * @param screenWidth Largura da tela lógica.
+     * @param screenHeight Altura da tela lógica.
+     */
+    void draw(Graphics2D g2, int screenWidth, int screenHeight);
+}
@@ -0,0 +1,87 @@
+package br.com.cronicasdeeldoria.game.render;
+
+import java.awt.Graphics2D;
+
+/**
+ * Área da janela onde o quadro do jogo é apresentado.
+ * A imagem é ampliada por um fator inteiro da resolução base (quando cabe) e
+ * centralizada, deixando faixas pretas nas sobras (letterbox).
+ */
+public final class Viewport {
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    private final int logicalWidth;
+    private final int logicalHeight;
+
+    private Viewport(int x, int y, int width, int height, int logicalWidth, int logicalHeight) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.logicalWidth = logicalWidth;
+        this.logicalHeight = logicalHeight;
+    }
+
+    /**
+     * Calcula a maior ampliação inteira da resolução base que cabe no painel.
+     * Se o painel for menor que a base, reduz proporcionalmente.
+     * @param panelWidth Largura do painel.
+     * @param panelHeight Altura do painel.
+     * @param baseWidth Largura base (framebuffer nativo ou tela lógica).
+     * @param baseHeight Altura base.
+     * @param logicalWidth Largura da tela lógica do jogo.
+     * @param logicalHeight Altura da tela lógica do jogo.
+     * @return Viewport calculado.
+     */
+    public static Viewport fit(int panelWidth, int panelHeight, int baseWidth, int baseHeight,
+                               int logicalWidth, int logicalHeight) {
+        if (panelWidth <= 0 || panelHeight <= 0) {
+            return new Viewport(0, 0, logicalWidth, logicalHeight, logicalWidth, logicalHeight);
+        }
+        int factor = Math.min(panelWidth / baseWidth, panelHeight / baseHeight);
+        int width;
+        int height;
+        if (factor >= 1) {
+            width = baseWidth * factor;
+            height = baseHeight * factor;
+        } else {
+            double scale = Math.min(panelWidth / (double) baseWidth, panelHeight / (double) baseHeight);
+            width = (int) Math.round(baseWidth * scale);
+            height = (int) Math.round(baseHeight * scale);
+        }
+        return new Viewport((panelWidth - width) / 2, (panelHeight - height) / 2, width, height,
+            logicalWidth, logicalHeight);
+    }
+
+    /**
+     * Cria um contexto gráfico que aceita coordenadas da tela lógica, já transladado,
+     * escalado e recortado para o viewport.
+     * @param g2 Contexto gráfico da janela.
+     * @return Novo contexto; deve ser liberado pelo chamador.
+     */
+    public Graphics2D createLogicalGraphics(Graphics2D g2) {
+        Graphics2D logical = (Graphics2D) g2.create();
+        logical.translate(x, y);
+        logical.scale(width / (double) logicalWidth, height / (double) logicalHeight);
+        logical.clipRect(0, 0, logicalWidth, logicalHeight);
+        return logical;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.cronicasdeeldoria.game.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Grava o estado do KeyHandler de cada tick num arquivo binário compacto, para
+ * reproduzir a sessão depois com InputRecording.
+ *
+ * Formato (big-endian):
+ * <pre>
+ * int    MAGIC ("EREC")
+ * short  VERSION
+ * long   semente do GameRandom
+ * UTF    nome do jogador
+ * UTF    classe do personagem
+ * repetido: varint ticks desde a entrada anterior, varint estado das teclas
+ * varint ticks desde a entrada anterior, varint END (fim da gravação)
+ * </pre>
+ * Só as mudanças de estado são gravadas: uma sessão parada custa poucos bytes por minuto.
+ */
+public class InputRecorder implements AutoCloseable {
+    static final int MAGIC = 0x45524543;
+    static final short VERSION = 1;
+    /** Estado impossível (bit 31), usado como marcador de fim. */
+    static final int END = 0x80000000;
+
+    private final DataOutputStream out;
+    private long tick;
+    private long lastEntryTick;
+    private int lastState;
+    private boolean closed;
+
+    /**
+     * Cria o arquivo e grava o cabeçalho.
+     * @param file Arquivo de destino.
+     * @param seed Semente do GameRandom na sessão.
+     * @param playerName Nome do jogador.
+     * @param className Classe do personagem.
+     * @throws IOException Se o arquivo não puder ser criado.
+     */
+    public InputRecorder(Path file, long seed, String playerName, String className) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(seed);
+        out.writeUTF(playerName);
+        out.writeUTF(className);
+    }
+
+    /**
+     * Registra o estado das teclas visto por um tick. Chamado uma vez por tick, em ordem.
+     * @param state Valor de KeyHandler.getState().
+     * @throws IOException Em erro de escrita.
+     */
+    public synchronized void record(int state) throws IOException {
+        if (closed) {
+            return;
+        }
+        if (tick == 0 || state != lastState) {
+            writeVarInt(out, (int) (tick - lastEntryTick));
+            writeVarInt(out, state);
+            lastEntryTick = tick;
+            lastState = state;
+        }
+        tick++;
+    }
+
+    /**
+     * Grava o marcador de fim e fecha o arquivo. Pode ser chamado mais de uma vez.
+     * @throws IOException Em erro de escrita.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writeVarInt(out, (int) (tick - lastEntryTick));
+            writeVarInt(out, END);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * @return Ticks gravados até agora.
+     */
+    public synchronized long getTicks() {
+        return tick;
+    }
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
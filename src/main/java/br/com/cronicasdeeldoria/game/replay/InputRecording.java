@@ -0,0 +1,133 @@
+package br.com.cronicasdeeldoria.game.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Sessão gravada pelo InputRecorder, carregada inteira na memória para o replay.
+ * O estado de cada tick é consultado em ordem com stateAt(), em tempo constante.
+ */
+public class InputRecording {
+    private final long seed;
+    private final String playerName;
+    private final String className;
+    private final long[] entryTicks;
+    private final int[] entryStates;
+    private final int entryCount;
+    private final long length;
+    private int cursor;
+
+    private InputRecording(long seed, String playerName, String className,
+                           long[] entryTicks, int[] entryStates, int entryCount, long length) {
+        this.seed = seed;
+        this.playerName = playerName;
+        this.className = className;
+        this.entryTicks = entryTicks;
+        this.entryStates = entryStates;
+        this.entryCount = entryCount;
+        this.length = length;
+    }
+
+    /**
+     * Lê uma gravação. Um arquivo sem marcador de fim (jogo encerrado à força)
+     * é aceito até a última entrada completa.
+     * @param file Arquivo gravado pelo InputRecorder.
+     * @return Gravação carregada.
+     * @throws IOException Em erro de leitura ou se o arquivo não for uma gravação.
+     */
+    public static InputRecording load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != InputRecorder.MAGIC) {
+                throw new IOException("Não é uma gravação de entrada: " + file);
+            }
+            short version = in.readShort();
+            if (version != InputRecorder.VERSION) {
+                throw new IOException("Versão de gravação não suportada: " + version);
+            }
+            long seed = in.readLong();
+            String playerName = in.readUTF();
+            String className = in.readUTF();
+
+            long[] ticks = new long[256];
+            int[] states = new int[256];
+            int count = 0;
+            long tick = 0;
+            long length;
+            while (true) {
+                int delta;
+                int state;
+                try {
+                    delta = readVarInt(in);
+                    state = readVarInt(in);
+                } catch (EOFException e) {
+                    // Gravação interrompida: vale até a última entrada
+                    length = count > 0 ? ticks[count - 1] + 1 : 0;
+                    break;
+                }
+                tick += delta;
+                if (state == InputRecorder.END) {
+                    length = tick;
+                    break;
+                }
+                if (count == ticks.length) {
+                    ticks = Arrays.copyOf(ticks, count * 2);
+                    states = Arrays.copyOf(states, count * 2);
+                }
+                ticks[count] = tick;
+                states[count] = state;
+                count++;
+            }
+            return new InputRecording(seed, playerName, className, ticks, states, count, length);
+        }
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint inválido na gravação");
+    }
+
+    /**
+     * Estado das teclas no tick indicado. Os ticks devem ser consultados em ordem crescente.
+     * @param tick Tick desde o início da sessão.
+     * @return Estado para KeyHandler.setState().
+     */
+    public int stateAt(long tick) {
+        while (cursor + 1 < entryCount && entryTicks[cursor + 1] <= tick) {
+            cursor++;
+        }
+        return entryCount > 0 && entryTicks[cursor] <= tick ? entryStates[cursor] : 0;
+    }
+
+    /**
+     * Volta ao início, para reproduzir de novo.
+     */
+    public void rewind() {
+        cursor = 0;
+    }
+
+    public long getSeed() { return seed; }
+    public String getPlayerName() { return playerName; }
+    public String getClassName() { return className; }
+
+    /**
+     * @return Duração da sessão em ticks.
+     */
+    public long getLength() { return length; }
+
+    /**
+     * @return Mudanças de estado gravadas.
+     */
+    public int getEntryCount() { return entryCount; }
+}
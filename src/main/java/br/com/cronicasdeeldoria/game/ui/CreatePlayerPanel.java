@@ -8,9 +8,7 @@ import java.awt.Image;
 import java.awt.Insets;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.IOException;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.ButtonGroup;
 import javax.swing.ImageIcon;
@@ -36,6 +34,7 @@ import br.com.cronicasdeeldoria.entity.character.classes.Mage;
 import br.com.cronicasdeeldoria.entity.character.classes.Orc;
 import br.com.cronicasdeeldoria.entity.character.classes.CharacterClass;
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
 import br.com.cronicasdeeldoria.game.font.FontManager;
 
 public class CreatePlayerPanel extends JPanel implements ActionListener {
@@ -248,16 +247,15 @@ public class CreatePlayerPanel extends JPanel implements ActionListener {
       try {
           String classFolder = className.toLowerCase();
           String path = "/sprites/player/" + classFolder + "/" + classFolder + "_avatar.png";
-          var resource = getClass().getResourceAsStream(path);
-          if (resource != null) {
-              Image img = ImageIO.read(resource);
+          Image img = AssetManager.getInstance().getImage(path);
+          if (img != null) {
               Image scaledImg = img.getScaledInstance(192, 192, Image.SCALE_SMOOTH);
               button.setIcon(new ImageIcon(scaledImg));
           } else {
               System.err.println("Resource not found: " + path);
               button.setText(className);
           }
-      } catch (IOException | IllegalArgumentException e) {
+      } catch (IllegalArgumentException e) {
           System.err.println("Could not load avatar for: " + className);
           button.setText(className);
       }
@@ -5,13 +5,9 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Iterator;
 import java.util.List;
 
-import javax.imageio.ImageIO;
-
 import java.util.ArrayList;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
@@ -21,6 +17,8 @@ import br.com.cronicasdeeldoria.entity.character.npc.Npc;
 import br.com.cronicasdeeldoria.entity.character.player.Player;
 import br.com.cronicasdeeldoria.game.FloatingText;
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
+import br.com.cronicasdeeldoria.game.effects.BattlePreloader;
 import br.com.cronicasdeeldoria.game.font.FontManager;
 import br.com.cronicasdeeldoria.game.inventory.InventoryManager;
 import br.com.cronicasdeeldoria.game.inventory.InventoryUI;
@@ -185,11 +183,12 @@ public class GameUI {
    */
   private void loadHeartImages() {
     try {
-      heartFull = ImageIO.read(getClass().getResourceAsStream("/ui/hearth-01.png"));
-      heartThreeQuarters = ImageIO.read(getClass().getResourceAsStream("/ui/hearth-02.png"));
-      heartHalf = ImageIO.read(getClass().getResourceAsStream("/ui/hearth-03.png"));
-      heartQuarter = ImageIO.read(getClass().getResourceAsStream("/ui/hearth-04.png"));
-      heartEmpty = ImageIO.read(getClass().getResourceAsStream("/ui/hearth-05.png"));
+      AssetManager assets = AssetManager.getInstance();
+      heartFull = assets.getImage(AssetManager.SCOPE_GLOBAL, "/ui/hearth-01.png");
+      heartThreeQuarters = assets.getImage(AssetManager.SCOPE_GLOBAL, "/ui/hearth-02.png");
+      heartHalf = assets.getImage(AssetManager.SCOPE_GLOBAL, "/ui/hearth-03.png");
+      heartQuarter = assets.getImage(AssetManager.SCOPE_GLOBAL, "/ui/hearth-04.png");
+      heartEmpty = assets.getImage(AssetManager.SCOPE_GLOBAL, "/ui/hearth-05.png");
     } catch (Exception e) {
       System.err.println("Erro ao carregar imagens dos corações: " + e.getMessage());
       e.printStackTrace();
@@ -201,7 +200,7 @@ public class GameUI {
    */
   private void loadCoinIcon() {
     try {
-      coinIcon = ImageIO.read(getClass().getResourceAsStream("/ui/coin.png"));
+      coinIcon = AssetManager.getInstance().getImage(AssetManager.SCOPE_GLOBAL, "/ui/coin.png");
     } catch (Exception e) {
       System.err.println("Erro ao carregar ícone da moeda: " + e.getMessage());
       e.printStackTrace();
@@ -263,7 +262,7 @@ public class GameUI {
   private void drawMessages(Graphics2D graphics2D) {
     graphics2D.setFont(dogicaFont_14);
 
-    int screenHeight = gamePanel.getHeight();
+    int screenHeight = gamePanel.getScreenHeight();
     int y = screenHeight - 50;
     int x = 20;
     int spacing = 30;
@@ -333,7 +332,7 @@ public class GameUI {
 
     graphics2D.setFont(dogicaFont_16);
 
-    int screenWidth = gamePanel.getWidth();
+    int screenWidth = gamePanel.getScreenWidth();
     int iconSize = 40;
     int padding = 20;
 
@@ -429,7 +428,7 @@ public class GameUI {
 
     // Overlay semi-transparente
     graphics2D.setColor(new Color(0, 0, 0, 150));
-    graphics2D.fillRect(0, 0, gamePanel.getWidth(), gamePanel.getHeight());
+    graphics2D.fillRect(0, 0, gamePanel.getScreenWidth(), gamePanel.getScreenHeight());
 
     // Cores do tema (mesmo estilo do pause overlay)
     Color backgroundColor = new Color(50, 40, 60, 250); // Fundo principal
@@ -444,8 +443,8 @@ public class GameUI {
 
     int windowWidth = 350;
     int windowHeight = 500;
-    int x = (gamePanel.getWidth() - windowWidth) / 2;
-    int y = (gamePanel.getHeight() - windowHeight) / 2;
+    int x = (gamePanel.getScreenWidth() - windowWidth) / 2;
+    int y = (gamePanel.getScreenHeight() - windowHeight) / 2;
     int borderRadius = 20;
     int padding = 25;
 
@@ -592,7 +591,7 @@ public class GameUI {
 
     // Overlay semi-transparente
     graphics2D.setColor(new Color(0, 0, 0, 150));
-    graphics2D.fillRect(0, 0, gamePanel.getWidth(), gamePanel.getHeight());
+    graphics2D.fillRect(0, 0, gamePanel.getScreenWidth(), gamePanel.getScreenHeight());
 
     // Cores do tema (mesmo estilo da janela de stats)
     Color backgroundColor = new Color(50, 40, 60, 250); // Fundo principal
@@ -610,8 +609,8 @@ public class GameUI {
 
     int windowWidth = 450;
     int windowHeight = 600;
-    int x = (gamePanel.getWidth() - windowWidth) / 2;
-    int y = (gamePanel.getHeight() - windowHeight) / 2;
+    int x = (gamePanel.getScreenWidth() - windowWidth) / 2;
+    int y = (gamePanel.getScreenHeight() - windowHeight) / 2;
     int borderRadius = 20;
     int padding = 25;
 
@@ -763,8 +762,8 @@ public class GameUI {
       return;
     }
 
-    int screenWidth = gamePanel.getWidth();
-    int screenHeight = gamePanel.getHeight();
+    int screenWidth = gamePanel.getScreenWidth();
+    int screenHeight = gamePanel.getScreenHeight();
 
     graphics2D.setFont(dogicaFont_40);
 
@@ -815,7 +814,7 @@ public class GameUI {
   }
 
   public void showFloatingText(Character target, String text, Color color, int offsetX, int offsetY) {
-    int screenHeight = gamePanel.getHeight();
+    int screenHeight = gamePanel.getScreenHeight();
     int x, y;
 
     if (target instanceof Player) {
@@ -832,23 +831,26 @@ public class GameUI {
   public void drawBattleUI(Graphics2D g2) {
     if (gamePanel.gameState != gamePanel.battleState || !gamePanel.battle.isInBattle()) return;
 
-    int screenWidth = gamePanel.getWidth();
-    int screenHeight = gamePanel.getHeight();
+    int screenWidth = gamePanel.getScreenWidth();
+    int screenHeight = gamePanel.getScreenHeight();
     int tileSize = gamePanel.getTileSize();
     Player player = gamePanel.battle.getPlayer();
     Npc battleMonster = gamePanel.battle.getMonster();
-    BufferedImage healthPotionImg = null;
-    BufferedImage manaPotionImg = null;
-    BufferedImage swordImg = null;
-    BufferedImage shieldImg = null;
-    BufferedImage waterOrbImg = null;
-    BufferedImage fireOrbImg = null;
 
-    // Desenha o plano de fundo da batalha com base no mapa atual
-    Image battleBackground = null;
-    if (gamePanel.getBattleEffectManager() != null) {
-      battleBackground = gamePanel.getBattleEffectManager().loadBattleBackground(gamePanel.getCurrentMapName());
+    // Imagens da cena, resolvidas uma vez no início da batalha
+    BattlePreloader.BattleAssets scene = gamePanel.getBattlePreloader().getAssets();
+    if (scene == null) {
+      scene = gamePanel.getBattlePreloader().prepare(player, battleMonster, gamePanel.getCurrentMapName());
     }
+    BufferedImage healthPotionImg = scene.getHealthPotion();
+    BufferedImage manaPotionImg = scene.getManaPotion();
+    BufferedImage swordImg = scene.getSword();
+    BufferedImage shieldImg = scene.getShield();
+    BufferedImage waterOrbImg = scene.getWaterOrb();
+    BufferedImage fireOrbImg = scene.getFireOrb();
+
+    // Desenha o plano de fundo da batalha com base no mapa atual
+    Image battleBackground = scene.getBackground();
 
     if (battleBackground != null) {
       g2.drawImage(battleBackground, 0, 0, screenWidth, screenHeight, null);
@@ -861,19 +863,7 @@ public class GameUI {
     if (battleMonster != null) {
       int monsterX = screenWidth / 2 + 2 * tileSize;
       int monsterY = screenHeight / 6;
-      BufferedImage monsterSkin = null;
-      try {
-        String spritePath = gamePanel.getNpcSpriteLoader().getFrontSprite(battleMonster.getSkin());
-        if (spritePath != null) {
-          InputStream is = getClass().getResourceAsStream("/sprites/" + spritePath);
-          if (is != null) {
-            monsterSkin = ImageIO.read(is);
-          }
-        }
-      } catch (Exception e) {
-        System.err.println("Erro ao carregar sprite do monstro: " + e.getMessage());
-        e.printStackTrace();
-      }
+      BufferedImage monsterSkin = scene.getMonster();
 
       if (monsterSkin != null) {
         g2.drawImage(monsterSkin, monsterX, monsterY, tileSize * 3, tileSize * 3, null);
@@ -920,22 +910,6 @@ public class GameUI {
 
 
     int potionIconSize = 35;
-    try {
-
-      InputStream healthStream = getClass().getResourceAsStream("/sprites/objects/items/health_potion.png");
-      InputStream manaStream = getClass().getResourceAsStream("/sprites/objects/items/mana_potion.png");
-      
-      if (healthStream != null) {
-        healthPotionImg = ImageIO.read(healthStream);
-      }
-      if (manaStream != null) {
-        manaPotionImg = ImageIO.read(manaStream);
-      }
-
-    } catch (IOException e) {
-      System.err.println("Erro ao carregar imagens de poção: " + e.getMessage());
-      e.printStackTrace();
-    }
 
     // Mostrar ações disponíveis
     g2.drawString("Escolha sua ação:", 20, screenHeight - 115);
@@ -1001,28 +975,6 @@ public class GameUI {
 //    }
 
     int buffIconSize = 35;
-    try {
-      InputStream swordStream = getClass().getResourceAsStream("/sprites/objects/items/sword_common.png");
-      InputStream shieldStream = getClass().getResourceAsStream("/sprites/objects/items/shield_common.png");
-      InputStream waterOrbStream = getClass().getResourceAsStream("/sprites/objects/quest/orb_water.png");
-      InputStream fireOrbStream = getClass().getResourceAsStream("/sprites/objects/quest/orb_fire.png");
-      
-      if (swordStream != null) {
-        swordImg = ImageIO.read(swordStream);
-      }
-      if (shieldStream != null) {
-        shieldImg = ImageIO.read(shieldStream);
-      }
-      if (waterOrbStream != null) {
-        waterOrbImg = ImageIO.read(waterOrbStream);
-      }
-      if (fireOrbStream != null) {
-        fireOrbImg = ImageIO.read(fireOrbStream);
-      }
-    } catch (IOException e) {
-      System.err.println("Erro ao carregar imagens de buff: " + e.getMessage());
-      e.printStackTrace();
-    }
 
     // Player buffs
     if (player.hasActiveBuff("ARMOR")) {
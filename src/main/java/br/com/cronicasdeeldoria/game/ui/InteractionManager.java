@@ -5,8 +5,6 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.swing.ImageIcon;
-
 /**
  * Gerencia as interações e exibe as teclas de interação
  */
@@ -79,21 +77,13 @@ public class InteractionManager {
                                            int screenX, int screenY, String entityType, int tileSize) {
         String key = getInteractionKeyForEntity(worldX, worldY, entityType);
         if (key != null) {
-            // Tentar usar ImageIcon para GIFs animados primeiro
-            ImageIcon keyImageIcon = keyboardMapper.getKeyImageIcon(key);
-            if (keyImageIcon != null) {
+            // Quadro atual da tecla (GIF tocado pelo GameClock)
+            BufferedImage keySprite = keyboardMapper.getKeySprite(key);
+            if (keySprite != null) {
                 int keyScreenX = screenX + (tileSize / 2) - (tileSize / 2);
                 int keyScreenY = screenY + (tileSize / 2) - (tileSize / 2) - 40;
 
-                g2d.drawImage(keyImageIcon.getImage(), keyScreenX, keyScreenY, tileSize, tileSize, null);
-            } else {
-                BufferedImage keySprite = keyboardMapper.getKeySprite(key);
-                if (keySprite != null) {
-                    int keyScreenX = screenX + (tileSize / 2) - (tileSize / 2);
-                    int keyScreenY = screenY + (tileSize / 2) - (tileSize / 2) - 40;
-
-                    g2d.drawImage(keySprite, keyScreenX, keyScreenY, tileSize, tileSize, null);
-                }
+                g2d.drawImage(keySprite, keyScreenX, keyScreenY, tileSize, tileSize, null);
             }
         }
     }
@@ -113,9 +103,9 @@ public class InteractionManager {
         String key = getInteractionKeyForEntity(worldX, worldY, entityType);
         if (key != null) {
 
-            // Tentar usar ImageIcon para GIFs animados primeiro
-            ImageIcon keyImageIcon = keyboardMapper.getKeyImageIcon(key);
-            if (keyImageIcon != null) {
+            // Quadro atual da tecla (GIF tocado pelo GameClock)
+            BufferedImage keySprite = keyboardMapper.getKeySprite(key);
+            if (keySprite != null) {
                 int entitySize = tileSize * 2;
                 int keyOffsetX = (entitySize - tileSize) / 2;
 
@@ -125,21 +115,7 @@ public class InteractionManager {
                 int keyScreenX = screenX - keyOffsetX + tileSize;
                 int keyScreenY = screenY - keyOffsetY + (tileSize * 2) - 8;
 
-                g2d.drawImage(keyImageIcon.getImage(), keyScreenX, keyScreenY, tileSize, tileSize, null);
-            } else {
-                BufferedImage keySprite = keyboardMapper.getKeySprite(key);
-                if (keySprite != null) {
-                    int entitySize = tileSize * 2;
-                    int keyOffsetX = (entitySize - tileSize) / 2;
-
-                    // Posicionar a tecla acima da cabeça da entidade
-                    int keyOffsetY = entitySize + (tileSize / 4);
-
-                    int keyScreenX = screenX - keyOffsetX + tileSize;
-                    int keyScreenY = screenY - keyOffsetY + (tileSize * 2) - 8;
-
-                    g2d.drawImage(keySprite, keyScreenX, keyScreenY, tileSize, tileSize, null);
-                }
+                g2d.drawImage(keySprite, keyScreenX, keyScreenY, tileSize, tileSize, null);
             }
         }
     }
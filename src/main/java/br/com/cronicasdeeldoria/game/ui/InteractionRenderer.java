@@ -4,7 +4,11 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Map;
-import javax.swing.ImageIcon;
+
+import br.com.cronicasdeeldoria.game.animation.GameClock;
+import br.com.cronicasdeeldoria.game.animation.GifPlayback;
+import br.com.cronicasdeeldoria.game.animation.GifSequence;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
 
 /**
  * Sistema de renderização simplificado para teclas de interação
@@ -12,7 +16,7 @@ import javax.swing.ImageIcon;
 public class InteractionRenderer {
     
     private Map<String, BufferedImage> keyImages;
-    private Map<String, ImageIcon> animatedKeyImages;
+    private Map<String, GifPlayback> animatedKeyImages;
     
     public InteractionRenderer() {
         this.keyImages = new HashMap<>();
@@ -26,22 +30,14 @@ public class InteractionRenderer {
     private void loadKeyImages() {
         try {
             // Carregar imagem E-keybind
-            ImageIcon eKeyIcon = new ImageIcon(getClass().getResource("/ui/e-keybind.gif"));
-            if (eKeyIcon.getImage() != null) {
-                // Adicionar como ImageIcon animado
-                animatedKeyImages.put("E", eKeyIcon);
-                
-                // Criar BufferedImage estático para fallback
-                BufferedImage eKeyImage = new BufferedImage(
-                    eKeyIcon.getIconWidth(), 
-                    eKeyIcon.getIconHeight(), 
-                    BufferedImage.TYPE_INT_ARGB
-                );
-                Graphics2D g2d = eKeyImage.createGraphics();
-                g2d.drawImage(eKeyIcon.getImage(), 0, 0, null);
-                g2d.dispose();
+            GifSequence eKeySequence = AssetManager.getInstance().getSequence(AssetManager.SCOPE_GLOBAL, "/ui/e-keybind.gif");
+            if (eKeySequence != null) {
+                // Adicionar como GIF animado, tocado pelo GameClock
+                GifPlayback eKeyPlayback = new GifPlayback(eKeySequence, 0);
+                animatedKeyImages.put("E", eKeyPlayback);
                 
-                keyImages.put("E", eKeyImage);
+                // Primeiro quadro como fallback estático
+                keyImages.put("E", eKeyPlayback.frameAt(0));
             } else {
                 System.err.println("Erro: Não foi possível carregar e-keybind.gif");
             }
@@ -63,7 +59,7 @@ public class InteractionRenderer {
         if (key == null || key.isEmpty()) return;
         
         // Tentar usar imagem animada primeiro
-        ImageIcon animatedImage = animatedKeyImages.get(key);
+        GifPlayback animatedImage = animatedKeyImages.get(key);
         if (animatedImage != null) {
             renderAnimatedKey(g2d, screenX, screenY, animatedImage, tileSize);
             return;
@@ -79,14 +75,14 @@ public class InteractionRenderer {
     /**
      * Renderiza uma tecla animada
      */
-    private void renderAnimatedKey(Graphics2D g2d, int screenX, int screenY, ImageIcon imageIcon, int tileSize) {
+    private void renderAnimatedKey(Graphics2D g2d, int screenX, int screenY, GifPlayback playback, int tileSize) {
         // Posicionar a tecla acima da entidade
         int keySize = tileSize;
         int keyX = screenX + (tileSize - keySize) / 2;
         int keyY = screenY - keySize - 10; // 10 pixels acima da entidade
         
         // Renderizar sem opacidade
-        g2d.drawImage(imageIcon.getImage(), keyX, keyY, keySize, keySize, null);
+        g2d.drawImage(playback.frameAt(GameClock.getInstance().getUptimeMillis()), keyX, keyY, keySize, keySize, null);
     }
     
     /**
@@ -1,13 +1,13 @@
 package br.com.cronicasdeeldoria.game.ui;
 
-import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Map;
-import javax.swing.ImageIcon;
-import javax.swing.Timer;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
+
+import br.com.cronicasdeeldoria.game.animation.GameClock;
+import br.com.cronicasdeeldoria.game.animation.GifPlayback;
+import br.com.cronicasdeeldoria.game.animation.GifSequence;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
 
 /**
  * Mapeia as teclas usando imagens GIF separadas
@@ -44,7 +44,7 @@ public class KeyboardMapper {
     public void loadKeyImage(String keyName, String imagePath) {
         try {
             
-            // Verificar se o recurso existe antes de criar o ImageIcon
+            // Verificar se o recurso existe antes de decodificar
             java.net.URL resourceUrl = getClass().getResource(imagePath);
             if (resourceUrl == null) {
                 System.err.println("AVISO: Recurso não encontrado para tecla '" + keyName + "' no caminho: " + imagePath);
@@ -52,10 +52,10 @@ public class KeyboardMapper {
                 return;
             }
             
-            ImageIcon imageIcon = new ImageIcon(resourceUrl);
-            if (imageIcon.getImage() != null && imageIcon.getIconWidth() > 0 && imageIcon.getIconHeight() > 0) {
+            GifSequence sequence = AssetManager.getInstance().getSequence(AssetManager.SCOPE_GLOBAL, imagePath);
+            if (sequence != null && sequence.getWidth() > 0 && sequence.getHeight() > 0) {
                 
-                AnimatedKeySprite animatedSprite = new AnimatedKeySprite(imageIcon);
+                AnimatedKeySprite animatedSprite = new AnimatedKeySprite(sequence);
                 keySprites.put(keyName, animatedSprite);
             } else {
                 System.err.println("AVISO: Imagem inválida para tecla '" + keyName + "' no caminho: " + imagePath);
@@ -80,19 +80,6 @@ public class KeyboardMapper {
         return null;
     }
     
-    /**
-     * Obtém o ImageIcon de uma tecla específica (para animação)
-     * @param keyName Nome da tecla
-     * @return ImageIcon da tecla ou null se não encontrada
-     */
-    public ImageIcon getKeyImageIcon(String keyName) {
-        AnimatedKeySprite animatedSprite = keySprites.get(keyName);
-        if (animatedSprite != null) {
-            return animatedSprite.getImageIcon();
-        }
-        return null;
-    }
-    
     /**
      * Verifica se uma tecla está mapeada
      * @param keyName Nome da tecla
@@ -139,40 +126,15 @@ public class KeyboardMapper {
      * Classe interna para gerenciar sprites animados
      */
     private static class AnimatedKeySprite {
-        private ImageIcon imageIcon;
-        private Timer animationTimer;
-        private BufferedImage currentFrame;
+        // Todas as teclas em fase: tocam desde o início do tempo de execução
+        private final GifPlayback playback;
         
-        public AnimatedKeySprite(ImageIcon imageIcon) {
-            this.imageIcon = imageIcon;
-            this.currentFrame = new BufferedImage(
-                imageIcon.getIconWidth(), 
-                imageIcon.getIconHeight(), 
-                BufferedImage.TYPE_INT_ARGB
-            );
-            
-            // Criar timer para atualizar a animação
-            this.animationTimer = new Timer(100, new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    updateFrame();
-                }
-            });
-            animationTimer.start();
-        }
-        
-        private void updateFrame() {
-            Graphics2D g2d = currentFrame.createGraphics();
-            g2d.drawImage(imageIcon.getImage(), 0, 0, null);
-            g2d.dispose();
+        public AnimatedKeySprite(GifSequence sequence) {
+            this.playback = new GifPlayback(sequence, 0);
         }
         
         public BufferedImage getCurrentFrame() {
-            return currentFrame;
-        }
-        
-        public ImageIcon getImageIcon() {
-            return imageIcon;
+            return playback.frameAt(GameClock.getInstance().getUptimeMillis());
         }
     }
 }
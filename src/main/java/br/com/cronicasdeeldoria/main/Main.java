@@ -13,7 +13,7 @@ public class Main {
         FontManager.setUIFont(FontManager.getDefaultFont());
         JFrame window = new JFrame();
         window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        window.setResizable(false);
+        window.setResizable(true);
         window.setTitle("Crônicas de Eldoria");
 
         final int originalTileSize = 16;
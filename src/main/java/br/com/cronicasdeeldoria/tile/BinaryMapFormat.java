@@ -0,0 +1,330 @@
+package br.com.cronicasdeeldoria.tile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.cronicasdeeldoria.tile.TileManager.MapJson;
+import br.com.cronicasdeeldoria.tile.TileManager.MapLayer;
+import br.com.cronicasdeeldoria.tile.TileManager.MapTile;
+
+/**
+ * Formato binário compacto dos mapas (.emap), gerado a partir do JSON no build.
+ *
+ * Estrutura (inteiros em varint, com zigzag quando podem ser negativos):
+ * <pre>
+ * "EMAP" | versão (1 byte)
+ * largura | altura | flags (bit0: tem mensagem, bit1: tileCollision definido, bit2: valor de tileCollision)
+ * [mensagem]
+ * tabela de ids: quantidade, depois cada id como texto
+ * camadas: quantidade, depois para cada camada:
+ *   nome | flags (bit0: colisora)
+ *   grade em RLE: pares (tamanho da sequência, índice na tabela; 0 = vazio) até cobrir largura*altura
+ *   tabela lateral: quantidade, depois para cada tile especial (NPC, monstro, objeto, teleporte):
+ *     x | y | índice do id | flags (bit0: interactive) | toMap | toX | toY
+ * </pre>
+ * Textos são gravados como (tamanho + 1) seguido dos bytes UTF-8; 0 representa null.
+ */
+public final class BinaryMapFormat {
+    public static final String EXTENSION = ".emap";
+    static final byte[] MAGIC = { 'E', 'M', 'A', 'P' };
+    static final int VERSION = 1;
+
+    private static final int FLAG_MESSAGE = 1;
+    private static final int FLAG_TILE_COLLISION_SET = 2;
+    private static final int FLAG_TILE_COLLISION_VALUE = 4;
+    private static final int LAYER_COLLIDER = 1;
+    private static final int TILE_INTERACTIVE = 1;
+
+    private BinaryMapFormat() {
+    }
+
+    /**
+     * Grava o mapa no formato binário.
+     * @param mapJson Mapa lido do JSON.
+     * @param out Destino.
+     */
+    public static void write(MapJson mapJson, OutputStream out) throws IOException {
+        int width = mapJson.mapWidth;
+        int height = mapJson.mapHeight;
+        List<MapLayer> layers = mapJson.layers != null ? mapJson.layers : new ArrayList<>();
+
+        // Tabela de ids internados na ordem em que aparecem
+        Map<String, Integer> idIndex = new HashMap<>();
+        List<String> ids = new ArrayList<>();
+        for (MapLayer layer : layers) {
+            if (layer.tiles == null) continue;
+            for (MapTile tile : layer.tiles) {
+                if (tile.id != null && !idIndex.containsKey(tile.id)) {
+                    ids.add(tile.id);
+                    idIndex.put(tile.id, ids.size());
+                }
+            }
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        buffer.write(MAGIC);
+        buffer.write(VERSION);
+        writeVarInt(buffer, width);
+        writeVarInt(buffer, height);
+
+        int flags = 0;
+        if (mapJson.message != null && !mapJson.message.isEmpty()) flags |= FLAG_MESSAGE;
+        if (mapJson.tileCollision != null) {
+            flags |= FLAG_TILE_COLLISION_SET;
+            if (mapJson.tileCollision) flags |= FLAG_TILE_COLLISION_VALUE;
+        }
+        writeVarInt(buffer, flags);
+        if ((flags & FLAG_MESSAGE) != 0) {
+            writeString(buffer, mapJson.message);
+        }
+
+        writeVarInt(buffer, ids.size());
+        for (String id : ids) {
+            writeString(buffer, id);
+        }
+
+        writeVarInt(buffer, layers.size());
+        int[] cells = new int[width * height];
+        for (MapLayer layer : layers) {
+            writeString(buffer, layer.name);
+            writeVarInt(buffer, layer.collider ? LAYER_COLLIDER : 0);
+
+            Arrays.fill(cells, 0);
+            if (layer.tiles != null) {
+                for (MapTile tile : layer.tiles) {
+                    if (tile.id != null && tile.x >= 0 && tile.y >= 0 && tile.x < width && tile.y < height) {
+                        cells[tile.y * width + tile.x] = idIndex.get(tile.id);
+                    }
+                }
+            }
+            writeRle(buffer, cells);
+
+            LayerRole role = LayerRole.fromLayerName(layer.name);
+            boolean special = role != LayerRole.NORMAL && role != LayerRole.OVERLAY;
+            if (!special || layer.tiles == null) {
+                writeVarInt(buffer, 0);
+                continue;
+            }
+            writeVarInt(buffer, layer.tiles.size());
+            for (MapTile tile : layer.tiles) {
+                writeVarInt(buffer, zigzag(tile.x));
+                writeVarInt(buffer, zigzag(tile.y));
+                writeVarInt(buffer, tile.id != null ? idIndex.get(tile.id) : 0);
+                writeVarInt(buffer, tile.interactive != null && tile.interactive ? TILE_INTERACTIVE : 0);
+                writeString(buffer, tile.toMap);
+                writeVarInt(buffer, zigzag(tile.toX));
+                writeVarInt(buffer, zigzag(tile.toY));
+            }
+        }
+
+        buffer.writeTo(out);
+    }
+
+    /**
+     * Lê um mapa binário diretamente para as grades do MapData.
+     * @param data Conteúdo do arquivo (pode ser um buffer mapeado em memória).
+     * @param tileManager Gerenciador que interna os ids de tiles.
+     * @param tileCollisionEnabled true se a colisão de tiles.json está habilitada no jogo.
+     * @return Mapa compilado.
+     * @throws IOException se o conteúdo não estiver no formato esperado.
+     */
+    static MapData read(ByteBuffer data, TileManager tileManager, boolean tileCollisionEnabled) throws IOException {
+        for (byte expected : MAGIC) {
+            if (data.get() != expected) {
+                throw new IOException("Arquivo de mapa binário inválido");
+            }
+        }
+        int version = data.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IOException("Versão de mapa binário não suportada: " + version);
+        }
+
+        int width = readVarInt(data);
+        int height = readVarInt(data);
+        int flags = readVarInt(data);
+        String message = (flags & FLAG_MESSAGE) != 0 ? readString(data) : null;
+        boolean honorTileCollision = tileCollisionEnabled &&
+            ((flags & FLAG_TILE_COLLISION_SET) == 0 || (flags & FLAG_TILE_COLLISION_VALUE) != 0);
+
+        int idCount = readVarInt(data);
+        String[] ids = new String[idCount + 1];
+        short[] localToGlobal = new short[idCount + 1];
+        for (int i = 1; i <= idCount; i++) {
+            ids[i] = readString(data);
+            localToGlobal[i] = tileManager.internTileId(ids[i]);
+        }
+
+        List<MapData.CompiledLayer> layers = new ArrayList<>();
+        List<MapTile> npcTiles = new ArrayList<>();
+        List<MapTile> monsterTiles = new ArrayList<>();
+        List<MapTile> teleportTiles = new ArrayList<>();
+        List<MapTile> objectTiles = new ArrayList<>();
+
+        int layerCount = readVarInt(data);
+        for (int l = 0; l < layerCount; l++) {
+            String name = readString(data);
+            boolean collider = (readVarInt(data) & LAYER_COLLIDER) != 0;
+            LayerRole role = LayerRole.fromLayerName(name);
+
+            short[] cells = new short[width * height];
+            int position = 0;
+            while (position < cells.length) {
+                int run = readVarInt(data);
+                int local = readVarInt(data);
+                if (run <= 0 || position + run > cells.length || local > idCount) {
+                    throw new IOException("Grade corrompida na camada " + name);
+                }
+                if (local != 0) {
+                    Arrays.fill(cells, position, position + run, localToGlobal[local]);
+                }
+                position += run;
+            }
+
+            int sideCount = readVarInt(data);
+            List<MapTile> target = null;
+            switch (role) {
+                case NPCS: target = npcTiles; break;
+                case MONSTERS: target = monsterTiles; break;
+                case TELEPORT: target = teleportTiles; break;
+                case OBJECTS: target = objectTiles; break;
+                default: break;
+            }
+            for (int i = 0; i < sideCount; i++) {
+                MapTile tile = new MapTile();
+                tile.x = unzigzag(readVarInt(data));
+                tile.y = unzigzag(readVarInt(data));
+                int local = readVarInt(data);
+                tile.id = local > 0 && local <= idCount ? ids[local] : null;
+                tile.interactive = (readVarInt(data) & TILE_INTERACTIVE) != 0;
+                tile.toMap = readString(data);
+                tile.toX = unzigzag(readVarInt(data));
+                tile.toY = unzigzag(readVarInt(data));
+                if (target != null) {
+                    target.add(tile);
+                }
+            }
+
+            layers.add(new MapData.CompiledLayer(name, role, collider, cells));
+        }
+
+        return MapData.assemble(width, height, message, layers, npcTiles, monsterTiles, teleportTiles, objectTiles,
+            tileManager, honorTileCollision);
+    }
+
+    /**
+     * Abre o conteúdo de um mapa binário. Arquivos no disco são mapeados em memória;
+     * recursos dentro do jar são lidos de uma vez.
+     * @param url Recurso do mapa binário.
+     * @return Buffer com o conteúdo.
+     */
+    static ByteBuffer open(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(toPath(url), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (InputStream is = url.openStream()) {
+            return ByteBuffer.wrap(is.readAllBytes());
+        }
+    }
+
+    /**
+     * Verifica se o mapa binário está desatualizado em relação ao JSON de origem
+     * (apenas quando ambos estão no disco, ex.: ao editar mapas durante o desenvolvimento).
+     */
+    static boolean isStale(URL binaryUrl, URL jsonUrl) {
+        if (jsonUrl == null || !"file".equals(binaryUrl.getProtocol()) || !"file".equals(jsonUrl.getProtocol())) {
+            return false;
+        }
+        try {
+            return toPath(jsonUrl).toFile().lastModified() > toPath(binaryUrl).toFile().lastModified();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static Path toPath(URL url) throws IOException {
+        try {
+            return Paths.get(url.toURI());
+        } catch (Exception e) {
+            throw new IOException("Caminho inválido: " + url, e);
+        }
+    }
+
+    private static void writeRle(OutputStream out, int[] cells) throws IOException {
+        int i = 0;
+        while (i < cells.length) {
+            int value = cells[i];
+            int run = 1;
+            while (i + run < cells.length && cells[i + run] == value) {
+                run++;
+            }
+            writeVarInt(out, run);
+            writeVarInt(out, value);
+            i += run;
+        }
+    }
+
+    static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int readVarInt(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint inválido no mapa binário");
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Tamanho + 1 para distinguir texto vazio de null
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.cronicasdeeldoria.tile;
+
+/**
+ * Grade de colisão do mapa em bits (um bit por tile), guardada em long[] com
+ * uma quantidade fixa de palavras por linha. A consulta de um tile é O(1) e as
+ * consultas de faixas de linha e retângulos testam 64 tiles por operação.
+ * Posições fora do mapa não colidem (mesmo comportamento do carregamento original).
+ * A grade é montada na carga do mapa e não muda depois: nenhum objeto do jogo altera a
+ * colisão dos tiles em tempo de execução, então TileRegions e FlowField a tratam como estática.
+ */
+public class CollisionGrid {
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    public CollisionGrid(int width, int height) {
+        this.width = Math.max(0, width);
+        this.height = Math.max(0, height);
+        this.wordsPerRow = (this.width + 63) >>> 6;
+        this.words = new long[wordsPerRow * this.height];
+    }
+
+    /**
+     * Verifica se o tile bloqueia passagem.
+     */
+    public boolean isBlocked(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return (words[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * Altera a colisão de um tile durante a montagem da grade.
+     */
+    public void setBlocked(int x, int y, boolean blocked) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        int index = y * wordsPerRow + (x >>> 6);
+        if (blocked) {
+            words[index] |= 1L << x;
+        } else {
+            words[index] &= ~(1L << x);
+        }
+    }
+
+    /**
+     * Verifica se algum tile de uma faixa da linha bloqueia passagem.
+     * @param y Linha.
+     * @param fromX Primeira coluna (inclusiva).
+     * @param toX Última coluna (inclusiva).
+     */
+    public boolean isAnyBlockedInRow(int y, int fromX, int toX) {
+        if (y < 0 || y >= height) {
+            return false;
+        }
+        if (fromX > toX) {
+            int swap = fromX;
+            fromX = toX;
+            toX = swap;
+        }
+        fromX = Math.max(fromX, 0);
+        toX = Math.min(toX, width - 1);
+        if (fromX > toX) {
+            return false;
+        }
+
+        int rowBase = y * wordsPerRow;
+        int firstWord = fromX >>> 6;
+        int lastWord = toX >>> 6;
+        long firstMask = -1L << fromX;
+        long lastMask = -1L >>> (63 - (toX & 63));
+
+        if (firstWord == lastWord) {
+            return (words[rowBase + firstWord] & firstMask & lastMask) != 0;
+        }
+        if ((words[rowBase + firstWord] & firstMask) != 0) {
+            return true;
+        }
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            if (words[rowBase + w] != 0) {
+                return true;
+            }
+        }
+        return (words[rowBase + lastWord] & lastMask) != 0;
+    }
+
+    /**
+     * Verifica se algum tile do retângulo (em tiles, limites inclusivos) bloqueia passagem.
+     */
+    public boolean isAnyBlockedInRect(int fromX, int fromY, int toX, int toY) {
+        int firstRow = Math.max(Math.min(fromY, toY), 0);
+        int lastRow = Math.min(Math.max(fromY, toY), height - 1);
+        for (int y = firstRow; y <= lastRow; y++) {
+            if (isAnyBlockedInRow(y, fromX, toX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Quantidade de tiles bloqueados.
+     */
+    public int countBlocked() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWordsPerRow() {
+        return wordsPerRow;
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.cronicasdeeldoria.tile;
+
+/**
+ * Papel de uma camada do mapa, classificado uma única vez pelo nome da camada.
+ */
+public enum LayerRole {
+    /** Camada comum de fundo. */
+    NORMAL,
+    /** Desenhada acima do player (efeito de profundidade). */
+    OVERLAY,
+    /** Objetos interativos (baús, itens, etc.). */
+    OBJECTS,
+    /** Posições de NPCs. */
+    NPCS,
+    /** Posições de monstros. */
+    MONSTERS,
+    /** Pontos de teleporte (desenhados como camada comum). */
+    TELEPORT;
+
+    /**
+     * Classifica uma camada pelo nome, na mesma precedência usada pelo jogo:
+     * overlay, objetos, npcs, monstros, teleporte e, por fim, camada comum.
+     * @param layerName Nome da camada no JSON.
+     * @return Papel da camada.
+     */
+    public static LayerRole fromLayerName(String layerName) {
+        if (layerName == null) {
+            return NORMAL;
+        }
+        String name = layerName.toLowerCase();
+        if (name.contains("overlay")) {
+            return OVERLAY;
+        } else if (name.contains("objetos") || name.contains("objects") || name.contains("items")) {
+            return OBJECTS;
+        } else if (name.contains("npc")) {
+            return NPCS;
+        } else if (name.contains("monster")) {
+            return MONSTERS;
+        } else if (name.contains("teleport")) {
+            return TELEPORT;
+        }
+        return NORMAL;
+    }
+
+    /**
+     * @return true se a camada é desenhada junto com as camadas de fundo comuns.
+     */
+    public boolean isDrawnAsBackground() {
+        return this == NORMAL || this == TELEPORT;
+    }
+}
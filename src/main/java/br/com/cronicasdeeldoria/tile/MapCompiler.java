@@ -0,0 +1,78 @@
+package br.com.cronicasdeeldoria.tile;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.gson.Gson;
+
+import br.com.cronicasdeeldoria.tile.TileManager.MapJson;
+
+/**
+ * Converte os mapas JSON em mapas binários (.emap). Executado no build pelo Maven
+ * (fase process-classes), mas também pode ser rodado manualmente:
+ * <pre>
+ * java -cp target/classes:gson.jar br.com.cronicasdeeldoria.tile.MapCompiler src/main/resources/maps target/classes/maps
+ * </pre>
+ * O JSON continua sendo o formato de edição; o binário é só um artefato de build.
+ */
+public class MapCompiler {
+
+    public static void main(String[] args) throws IOException {
+        // Sem System.exit: o conversor roda dentro da JVM do Maven (exec:java)
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Uso: MapCompiler <diretório de mapas JSON> <diretório de saída>");
+        }
+        Path sourceDir = Paths.get(args[0]);
+        Path outputDir = Paths.get(args[1]);
+
+        List<Path> sources;
+        try (Stream<Path> walk = Files.walk(sourceDir)) {
+            sources = walk.filter(path -> path.toString().endsWith(".json")).collect(Collectors.toList());
+        }
+
+        Gson gson = new Gson();
+        long jsonBytes = 0;
+        long binaryBytes = 0;
+        int converted = 0;
+        int failures = 0;
+        for (Path source : sources) {
+            Path relative = sourceDir.relativize(source);
+            String fileName = relative.getFileName().toString();
+            Path target = outputDir.resolve(relative).resolveSibling(
+                fileName.substring(0, fileName.length() - ".json".length()) + BinaryMapFormat.EXTENSION);
+
+            try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                MapJson mapJson = gson.fromJson(reader, MapJson.class);
+                if (mapJson == null || mapJson.mapWidth <= 0 || mapJson.mapHeight <= 0) {
+                    System.err.println("Ignorando " + relative + ": não é um mapa válido");
+                    continue;
+                }
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+                    BinaryMapFormat.write(mapJson, out);
+                }
+                jsonBytes += Files.size(source);
+                binaryBytes += Files.size(target);
+                converted++;
+            } catch (Exception e) {
+                System.err.println("Erro ao converter " + relative + ": " + e.getMessage());
+                failures++;
+            }
+        }
+
+        System.out.println("Mapas convertidos: " + converted + " (" + jsonBytes / 1024 + " KB JSON -> "
+            + binaryBytes / 1024 + " KB binário)");
+        if (failures > 0) {
+            throw new IllegalStateException(failures + " mapa(s) não puderam ser convertidos");
+        }
+    }
+}
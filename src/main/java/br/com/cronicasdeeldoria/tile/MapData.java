@@ -0,0 +1,215 @@
+package br.com.cronicasdeeldoria.tile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import br.com.cronicasdeeldoria.tile.TileManager.MapJson;
+import br.com.cronicasdeeldoria.tile.TileManager.MapLayer;
+import br.com.cronicasdeeldoria.tile.TileManager.MapTile;
+
+/**
+ * Mapa compilado para renderização e consultas rápidas.
+ * Cada camada vira uma grade densa (short[]) de índices de tiles internados,
+ * com o papel da camada classificado uma única vez no carregamento.
+ * As listas de MapTile são mantidas apenas para camadas especiais (NPCs,
+ * monstros, objetos e teleportes), que carregam dados extras por tile.
+ */
+public class MapData {
+
+    /**
+     * Camada compilada em grade densa.
+     */
+    public static class CompiledLayer {
+        private final String name;
+        private final LayerRole role;
+        private final boolean collider;
+        // 0 = vazio; demais valores = índice do tile em TileManager
+        private final short[] cells;
+
+        CompiledLayer(String name, LayerRole role, boolean collider, short[] cells) {
+            this.name = name;
+            this.role = role;
+            this.collider = collider;
+            this.cells = cells;
+        }
+
+        public String getName() { return name; }
+        public LayerRole getRole() { return role; }
+        public boolean isCollider() { return collider; }
+        short[] getCells() { return cells; }
+    }
+
+    private final int width;
+    private final int height;
+    private final String message;
+    private final CompiledLayer[] backgroundLayers;
+    private final CompiledLayer[] objectLayers;
+    private final CompiledLayer[] staticBackgroundLayers;
+    private final CompiledLayer[] entityLayers;
+    private final CompiledLayer[] overlayLayers;
+    private final CollisionGrid collisionGrid;
+    private final TileRegions tileRegions;
+    private final List<MapTile> npcTiles;
+    private final List<MapTile> monsterTiles;
+    private final List<MapTile> teleportTiles;
+    private final List<MapTile> objectTiles;
+
+    private MapData(int width, int height, String message, List<CompiledLayer> layers, CollisionGrid collisionGrid,
+                    List<MapTile> npcTiles, List<MapTile> monsterTiles,
+                    List<MapTile> teleportTiles, List<MapTile> objectTiles) {
+        this.width = width;
+        this.height = height;
+        this.message = message;
+        this.collisionGrid = collisionGrid;
+        this.tileRegions = new TileRegions(collisionGrid);
+
+        List<CompiledLayer> background = new ArrayList<>();
+        List<CompiledLayer> objects = new ArrayList<>();
+        List<CompiledLayer> entities = new ArrayList<>();
+        List<CompiledLayer> overlay = new ArrayList<>();
+        for (CompiledLayer layer : layers) {
+            switch (layer.role) {
+                case OVERLAY: overlay.add(layer); break;
+                case OBJECTS: objects.add(layer); break;
+                case NPCS: entities.add(layer); break;
+                default:
+                    if (layer.role.isDrawnAsBackground()) {
+                        background.add(layer);
+                    }
+            }
+        }
+        // Monstros são desenhados depois dos NPCs, como no carregamento original
+        for (CompiledLayer layer : layers) {
+            if (layer.role == LayerRole.MONSTERS) {
+                entities.add(layer);
+            }
+        }
+
+        this.backgroundLayers = background.toArray(new CompiledLayer[0]);
+        this.objectLayers = objects.toArray(new CompiledLayer[0]);
+        List<CompiledLayer> staticBackground = new ArrayList<>(background);
+        staticBackground.addAll(objects);
+        this.staticBackgroundLayers = staticBackground.toArray(new CompiledLayer[0]);
+        this.entityLayers = entities.toArray(new CompiledLayer[0]);
+        this.overlayLayers = overlay.toArray(new CompiledLayer[0]);
+        this.npcTiles = Collections.unmodifiableList(npcTiles);
+        this.monsterTiles = Collections.unmodifiableList(monsterTiles);
+        this.teleportTiles = Collections.unmodifiableList(teleportTiles);
+        this.objectTiles = Collections.unmodifiableList(objectTiles);
+    }
+
+    /**
+     * Compila o mapa lido do JSON.
+     * @param mapJson Mapa no formato JSON.
+     * @param tileManager Gerenciador que interna os ids de tiles.
+     * @param tileCollisionEnabled true se a colisão de tiles.json está habilitada no jogo
+     *                             (o mapa ainda pode desligá-la com "tileCollision": false).
+     * @return Mapa compilado.
+     */
+    static MapData compile(MapJson mapJson, TileManager tileManager, boolean tileCollisionEnabled) {
+        int width = mapJson.mapWidth;
+        int height = mapJson.mapHeight;
+
+        List<CompiledLayer> layers = new ArrayList<>();
+        List<MapTile> npcTiles = new ArrayList<>();
+        List<MapTile> monsterTiles = new ArrayList<>();
+        List<MapTile> teleportTiles = new ArrayList<>();
+        List<MapTile> objectTiles = new ArrayList<>();
+
+        if (mapJson.layers != null) {
+            for (MapLayer layer : mapJson.layers) {
+                LayerRole role = LayerRole.fromLayerName(layer.name);
+                short[] cells = new short[width * height];
+
+                if (layer.tiles != null) {
+                    for (MapTile tile : layer.tiles) {
+                        if (tile.id == null || tile.x < 0 || tile.y < 0 || tile.x >= width || tile.y >= height) {
+                            continue;
+                        }
+                        cells[tile.y * width + tile.x] = tileManager.internTileId(tile.id);
+                    }
+
+                    switch (role) {
+                        case NPCS: npcTiles.addAll(layer.tiles); break;
+                        case MONSTERS: monsterTiles.addAll(layer.tiles); break;
+                        case TELEPORT: teleportTiles.addAll(layer.tiles); break;
+                        case OBJECTS: objectTiles.addAll(layer.tiles); break;
+                        default: break;
+                    }
+                }
+
+                layers.add(new CompiledLayer(layer.name, role, layer.collider, cells));
+            }
+        }
+
+        boolean honorTileCollision = tileCollisionEnabled &&
+            (mapJson.tileCollision == null || mapJson.tileCollision);
+        return assemble(width, height, mapJson.message, layers, npcTiles, monsterTiles, teleportTiles, objectTiles,
+            tileManager, honorTileCollision);
+    }
+
+    /**
+     * Monta o mapa a partir das camadas já convertidas em grade (JSON ou formato binário).
+     */
+    static MapData assemble(int width, int height, String message, List<CompiledLayer> layers,
+                            List<MapTile> npcTiles, List<MapTile> monsterTiles,
+                            List<MapTile> teleportTiles, List<MapTile> objectTiles,
+                            TileManager tileManager, boolean honorTileCollision) {
+        CollisionGrid collisionGrid = buildCollisionGrid(width, height, layers, tileManager, honorTileCollision);
+        return new MapData(width, height, message, layers, collisionGrid,
+            npcTiles, monsterTiles, teleportTiles, objectTiles);
+    }
+
+    /**
+     * Monta a grade de colisão: qualquer tile de uma camada colisora bloqueia e,
+     * opcionalmente, tiles de camadas desenhadas (comuns e overlay) cuja definição
+     * em tiles.json tem collision = true. Camadas de NPCs, objetos e teleportes
+     * usam ids próprios e não são consideradas pelo flag.
+     */
+    private static CollisionGrid buildCollisionGrid(int width, int height, List<CompiledLayer> layers,
+                                                    TileManager tileManager, boolean honorTileCollision) {
+        CollisionGrid grid = new CollisionGrid(width, height);
+        for (CompiledLayer layer : layers) {
+            boolean checkTileFlag = honorTileCollision &&
+                (layer.role == LayerRole.NORMAL || layer.role == LayerRole.OVERLAY);
+            if (!layer.collider && !checkTileFlag) {
+                continue;
+            }
+            short[] cells = layer.cells;
+            for (int i = 0; i < cells.length; i++) {
+                short index = cells[i];
+                if (index == 0) {
+                    continue;
+                }
+                if (layer.collider) {
+                    grid.setBlocked(i % width, i / width, true);
+                } else {
+                    Tile tile = tileManager.getTileByIndex(index);
+                    if (tile != null && tile.collision) {
+                        grid.setBlocked(i % width, i / width, true);
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public String getMessage() { return message; }
+
+    CompiledLayer[] getBackgroundLayers() { return backgroundLayers; }
+    CompiledLayer[] getObjectLayers() { return objectLayers; }
+    // Camadas comuns seguidas das de objetos: tudo que fica abaixo das entidades e não muda
+    CompiledLayer[] getStaticBackgroundLayers() { return staticBackgroundLayers; }
+    CompiledLayer[] getEntityLayers() { return entityLayers; }
+    CompiledLayer[] getOverlayLayers() { return overlayLayers; }
+    public CollisionGrid getCollisionGrid() { return collisionGrid; }
+    public TileRegions getTileRegions() { return tileRegions; }
+
+    public List<MapTile> getNpcTiles() { return npcTiles; }
+    public List<MapTile> getMonsterTiles() { return monsterTiles; }
+    public List<MapTile> getTeleportTiles() { return teleportTiles; }
+    public List<MapTile> getObjectTiles() { return objectTiles; }
+}
@@ -0,0 +1,252 @@
+package br.com.cronicasdeeldoria.tile;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import br.com.cronicasdeeldoria.game.render.CompatibleImages;
+
+/**
+ * Cache de blocos (chunks) pré-renderizados das camadas estáticas do mapa.
+ * Cada chunk cobre chunkTiles x chunkTiles tiles e é desenhado uma única vez, na
+ * resolução nativa da arte, numa imagem compatível. A cada quadro apenas os chunks
+ * visíveis são copiados para a tela. Há um conjunto para as camadas de fundo e outro
+ * para as camadas overlay, preservando a ordem de profundidade com o player.
+ * Os chunks são montados numa thread de fundo; enquanto um chunk não fica pronto,
+ * seus tiles são desenhados diretamente. O uso de memória é limitado por um LRU.
+ */
+public class TileChunkCache {
+
+    public enum ChunkSet {
+        /** Camadas comuns, teleportes e objetos (abaixo das entidades). */
+        BACKGROUND,
+        /** Camadas overlay (acima do player). */
+        OVERLAY
+    }
+
+    private static class Chunk {
+        final BufferedImage image; // null quando o chunk não tem nada para desenhar
+        final long bytes;
+
+        Chunk(BufferedImage image) {
+            this.image = image;
+            this.bytes = image != null ? (long) image.getWidth() * image.getHeight() * 4 : 0;
+        }
+    }
+
+    private final TileManager tileManager;
+    private final int chunkTiles;
+    private final long budgetBytes;
+    private final ExecutorService builder;
+
+    private final LinkedHashMap<Long, Chunk> chunks = new LinkedHashMap<>(64, 0.75f, true);
+    private final Set<Long> pending = new HashSet<>();
+    private MapData mapData;
+    private int generation;
+    private long usedBytes;
+
+    // Métricas
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param tileManager Gerenciador de tiles (fonte das imagens).
+     * @param chunkTiles Tiles por lado de cada chunk.
+     * @param budgetBytes Memória máxima ocupada pelas imagens dos chunks.
+     */
+    public TileChunkCache(TileManager tileManager, int chunkTiles, long budgetBytes) {
+        this.tileManager = tileManager;
+        this.chunkTiles = Math.max(1, chunkTiles);
+        this.budgetBytes = Math.max(0, budgetBytes);
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tile-chunk-builder");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Troca o mapa atual, descartando os chunks do mapa anterior.
+     * @param mapData Novo mapa compilado.
+     */
+    public synchronized void setMap(MapData mapData) {
+        this.mapData = mapData;
+        generation++;
+        chunks.clear();
+        pending.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * Desenha a área visível de um conjunto de camadas usando os chunks prontos.
+     * Chunks ainda não montados são desenhados tile a tile e agendados para montagem.
+     */
+    public void draw(Graphics2D g2, ChunkSet set, int firstCol, int lastCol, int firstRow, int lastRow,
+                     int originX, int originY, int tileSize) {
+        MapData map = this.mapData;
+        if (map == null || firstCol > lastCol || firstRow > lastRow) {
+            return;
+        }
+        MapData.CompiledLayer[] layers = layersFor(map, set);
+        if (layers.length == 0) {
+            return;
+        }
+
+        int firstChunkX = firstCol / chunkTiles;
+        int lastChunkX = lastCol / chunkTiles;
+        int firstChunkY = firstRow / chunkTiles;
+        int lastChunkY = lastRow / chunkTiles;
+        int chunkPixels = chunkTiles * tileSize;
+
+        for (int chunkY = firstChunkY; chunkY <= lastChunkY; chunkY++) {
+            for (int chunkX = firstChunkX; chunkX <= lastChunkX; chunkX++) {
+                long key = key(set, chunkX, chunkY);
+                Chunk chunk = getChunk(key);
+                if (chunk != null) {
+                    if (chunk.image != null) {
+                        g2.drawImage(chunk.image, chunkX * chunkPixels - originX, chunkY * chunkPixels - originY,
+                            chunkPixels, chunkPixels, null);
+                    }
+                    continue;
+                }
+
+                requestBuild(map, set, chunkX, chunkY);
+
+                // Ainda não pronto: desenhar os tiles visíveis deste chunk diretamente
+                int c0 = Math.max(firstCol, chunkX * chunkTiles);
+                int c1 = Math.min(lastCol, chunkX * chunkTiles + chunkTiles - 1);
+                int r0 = Math.max(firstRow, chunkY * chunkTiles);
+                int r1 = Math.min(lastRow, chunkY * chunkTiles + chunkTiles - 1);
+                for (MapData.CompiledLayer layer : layers) {
+                    tileManager.renderLayerDirect(g2, map, layer, c0, c1, r0, r1, originX, originY);
+                }
+            }
+        }
+    }
+
+    private synchronized Chunk getChunk(long key) {
+        Chunk chunk = chunks.get(key);
+        if (chunk != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return chunk;
+    }
+
+    private synchronized void requestBuild(MapData map, ChunkSet set, int chunkX, int chunkY) {
+        long key = key(set, chunkX, chunkY);
+        if (map != mapData || chunks.containsKey(key) || !pending.add(key)) {
+            return;
+        }
+        final int buildGeneration = generation;
+        builder.submit(() -> {
+            try {
+                Chunk chunk = buildChunk(map, set, chunkX, chunkY);
+                store(key, chunk, buildGeneration);
+            } catch (Exception e) {
+                System.err.println("Erro ao montar chunk de tiles: " + e.getMessage());
+                e.printStackTrace();
+                synchronized (this) {
+                    pending.remove(key);
+                }
+            }
+        });
+    }
+
+    private synchronized void store(long key, Chunk chunk, int buildGeneration) {
+        if (buildGeneration != generation) {
+            return; // Mapa mudou durante a montagem
+        }
+        pending.remove(key);
+        chunks.put(key, chunk);
+        usedBytes += chunk.bytes;
+
+        // Remover os chunks menos usados recentemente até caber no orçamento
+        Iterator<Map.Entry<Long, Chunk>> iterator = chunks.entrySet().iterator();
+        while (usedBytes > budgetBytes && chunks.size() > 1 && iterator.hasNext()) {
+            Map.Entry<Long, Chunk> eldest = iterator.next();
+            if (eldest.getKey() == key) {
+                continue;
+            }
+            usedBytes -= eldest.getValue().bytes;
+            if (eldest.getValue().image != null) {
+                eldest.getValue().image.flush();
+            }
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Desenha os tiles de um chunk numa imagem na resolução nativa.
+     */
+    private Chunk buildChunk(MapData map, ChunkSet set, int chunkX, int chunkY) {
+        int nativeSize = tileManager.getOriginalTileSize();
+        int firstCol = chunkX * chunkTiles;
+        int firstRow = chunkY * chunkTiles;
+        int lastCol = Math.min(firstCol + chunkTiles, map.getWidth()) - 1;
+        int lastRow = Math.min(firstRow + chunkTiles, map.getHeight()) - 1;
+
+        BufferedImage image = null;
+        Graphics2D g2 = null;
+        try {
+            for (MapData.CompiledLayer layer : layersFor(map, set)) {
+                short[] cells = layer.getCells();
+                for (int row = firstRow; row <= lastRow; row++) {
+                    int rowOffset = row * map.getWidth();
+                    for (int col = firstCol; col <= lastCol; col++) {
+                        short index = cells[rowOffset + col];
+                        if (index == 0) {
+                            continue;
+                        }
+                        Tile tile = tileManager.getTileByIndex(index);
+                        if (tile == null || tile.image == null) {
+                            continue;
+                        }
+                        if (image == null) {
+                            image = CompatibleImages.create(chunkTiles * nativeSize, chunkTiles * nativeSize);
+                            g2 = image.createGraphics();
+                        }
+                        g2.drawImage(tile.image, (col - firstCol) * nativeSize, (row - firstRow) * nativeSize,
+                            nativeSize, nativeSize, null);
+                    }
+                }
+            }
+        } finally {
+            if (g2 != null) {
+                g2.dispose();
+            }
+        }
+        return new Chunk(image);
+    }
+
+    private static MapData.CompiledLayer[] layersFor(MapData map, ChunkSet set) {
+        return set == ChunkSet.OVERLAY ? map.getOverlayLayers() : map.getStaticBackgroundLayers();
+    }
+
+    private static long key(ChunkSet set, int chunkX, int chunkY) {
+        return ((long) set.ordinal() << 48) | ((long) (chunkY & 0xFFFFFF) << 24) | (chunkX & 0xFFFFFF);
+    }
+
+    /**
+     * Encerra a thread de montagem.
+     */
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    public synchronized long getUsedBytes() { return usedBytes; }
+    public synchronized int getChunkCount() { return chunks.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+}
@@ -2,29 +2,41 @@ package br.com.cronicasdeeldoria.tile;
 
 import java.awt.Graphics2D;
 import java.io.InputStream;
-import javax.imageio.ImageIO;
+import java.net.URL;
 
 import com.google.gson.Gson;
 
+import br.com.cronicasdeeldoria.config.GameSettings;
 import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.game.asset.AssetManager;
 import java.util.List;
 import java.util.Map;
 import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 
 public class TileManager {
     private GamePanel gamePanel;
     private Map<String, Tile> tiles;
-    private List<MapLayer> mapLayers;
+    // Tabela de tiles internados: o índice é o valor guardado nas grades de MapData (0 = vazio)
+    private final Map<String, Short> tileIndexById = new HashMap<>();
+    private volatile Tile[] tileTable = new Tile[1];
+    // Mapa atual; trocado de uma vez em applyMap, e lido uma única vez por chamada de desenho
+    private volatile MapData mapData;
     private BufferedImage spritesheet;
     private int tileSize;
-    private int mapWidth;
-    private int mapHeight;
+    private int originalTileSize;
+    private TileChunkCache chunkCache;
 
     public TileManager(GamePanel gamePanel) {
         this.gamePanel = gamePanel;
         loadTilesFromJson();
+        GameSettings settings = GameSettings.getInstance();
+        if (settings.isChunkCache()) {
+            this.chunkCache = new TileChunkCache(this, settings.getChunkTiles(), settings.getChunkCacheBytes());
+        }
         loadMapJson("/maps/houses/player_house.json");
     }
 
@@ -41,14 +53,13 @@ public class TileManager {
             // IMPORTANTE: Usar o tileSize do GamePanel (com escala) em vez do tiles.json
             this.tileSize = gamePanel.getTileSize();
             int originalTileSize = tilesJson.tileSize;
+            this.originalTileSize = originalTileSize;
 
-            InputStream spritesheetStream = getClass().getResourceAsStream(tilesJson.spritesheet);
-            if (spritesheetStream == null) {
+            this.spritesheet = AssetManager.getInstance().getImage(AssetManager.SCOPE_GLOBAL, tilesJson.spritesheet);
+            if (spritesheet == null) {
                 throw new RuntimeException("Spritesheet não encontrada: " + tilesJson.spritesheet);
             }
 
-            this.spritesheet = ImageIO.read(spritesheetStream);
-
             tiles = new HashMap<>();
             for (TileDefinition def : tilesJson.tiles) {
                 Tile tile = new Tile();
@@ -61,6 +72,10 @@ public class TileManager {
                 tile.collision = def.collision;
                 tiles.put(def.id, tile);
             }
+            // Internar depois de carregar todos: ids repetidos ficam com a última definição, como no mapa
+            for (TileDefinition def : tilesJson.tiles) {
+                intern(def.id);
+            }
         } catch (Exception e) {
             System.err.println("ERRO ao carregar tiles: " + e.getMessage());
             e.printStackTrace();
@@ -69,29 +84,113 @@ public class TileManager {
 
     public void loadMapJson(String path) {
         try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is == null) {
-                throw new RuntimeException("Mapa JSON não encontrado: " + path);
-            }
-
-            Gson gson = new Gson();
-            MapJson mapJson = gson.fromJson(new java.io.InputStreamReader(is), MapJson.class);
-
-            this.mapWidth = mapJson.mapWidth;
-            this.mapHeight = mapJson.mapHeight;
-            this.mapLayers = mapJson.layers;
-            
-            // Mostrar mensagem do mapa se presente
-            if (mapJson.message != null && !mapJson.message.isEmpty()) {
-                gamePanel.getGameUI().showCenterMessage(mapJson.message, 4000);
-            }
-
+            applyMap(parseMap(path));
         } catch (Exception e) {
             System.err.println("ERRO ao carregar mapa: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Lê e compila um mapa sem alterar o mapa atual.
+     * Usa a versão binária (.emap) gerada no build quando existir e estiver atualizada;
+     * caso contrário, lê o JSON.
+     * @param path Caminho do JSON do mapa no classpath.
+     * @return Mapa compilado.
+     */
+    public MapData parseMap(String path) throws Exception {
+        boolean tileCollision = GameSettings.getInstance().isTileCollision();
+
+        MapData binary = parseBinaryMap(path, tileCollision);
+        if (binary != null) {
+            return binary;
+        }
+
+        InputStream is = getClass().getResourceAsStream(path);
+        if (is == null) {
+            throw new RuntimeException("Mapa JSON não encontrado: " + path);
+        }
+
+        Gson gson = new Gson();
+        MapJson mapJson;
+        try (java.io.InputStreamReader reader = new java.io.InputStreamReader(is)) {
+            mapJson = gson.fromJson(reader, MapJson.class);
+        }
+
+        // Compilar as camadas em grades densas uma única vez
+        return MapData.compile(mapJson, this, tileCollision);
+    }
+
+    private MapData parseBinaryMap(String path, boolean tileCollision) {
+        if (!GameSettings.getInstance().isBinaryMaps() || !path.endsWith(".json")) {
+            return null;
+        }
+        String binaryPath = path.substring(0, path.length() - ".json".length()) + BinaryMapFormat.EXTENSION;
+        URL binaryUrl = getClass().getResource(binaryPath);
+        if (binaryUrl == null || BinaryMapFormat.isStale(binaryUrl, getClass().getResource(path))) {
+            return null;
+        }
+        try {
+            return BinaryMapFormat.read(BinaryMapFormat.open(binaryUrl), this, tileCollision);
+        } catch (Exception e) {
+            System.err.println("Erro ao ler mapa binário " + binaryPath + ", usando JSON: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Torna o mapa compilado o mapa atual.
+     * @param compiled Mapa compilado.
+     */
+    public void applyMap(MapData compiled) {
+        if (chunkCache != null) {
+            chunkCache.setMap(compiled);
+        }
+        this.mapData = compiled;
+
+        // Mostrar mensagem do mapa se presente
+        if (compiled.getMessage() != null && !compiled.getMessage().isEmpty()) {
+            gamePanel.getGameUI().showCenterMessage(compiled.getMessage(), 4000);
+        }
+    }
+
+    /**
+     * Retorna o índice interno de um id de tile, registrando-o se ainda não existir.
+     * Ids sem definição em tiles.json (NPCs, objetos, teleportes) também recebem índice,
+     * mas sem imagem, para que ocupem a célula nas grades de colisão.
+     * @param id Id do tile.
+     * @return Índice (sempre maior que zero).
+     */
+    synchronized short internTileId(String id) {
+        return intern(id);
+    }
+
+    // Privado: também chamado durante a construção
+    private synchronized short intern(String id) {
+        Short index = tileIndexById.get(id);
+        if (index != null) {
+            return index;
+        }
+        if (tileTable.length > Short.MAX_VALUE) {
+            System.err.println("Limite de tiles distintos atingido; tile ignorado: " + id);
+            return 0;
+        }
+        short newIndex = (short) tileTable.length;
+        Tile[] grown = Arrays.copyOf(tileTable, tileTable.length + 1);
+        grown[newIndex] = tiles != null ? tiles.get(id) : null;
+        tileTable = grown;
+        tileIndexById.put(id, newIndex);
+        return newIndex;
+    }
+
+    /**
+     * Retorna o tile associado a um índice interno.
+     */
+    Tile getTileByIndex(short index) {
+        Tile[] table = tileTable;
+        return index > 0 && index < table.length ? table[index] : null;
+    }
+
     public static class TileDefinition {
         public String id;
         public int x;
@@ -126,6 +225,8 @@ public class TileManager {
         public int mapWidth;
         public int mapHeight;
         public String message;
+        // Permite desligar, por mapa, a colisão definida em tiles.json
+        public Boolean tileCollision;
         public List<MapLayer> layers;
     }
 
@@ -147,59 +248,36 @@ public class TileManager {
      * @param g2 Contexto gráfico
      */
     public void drawBackgroundLayers(Graphics2D g2) {
-        int playerWorldX = gamePanel.getPlayer().getWorldX();
-        int playerWorldY = gamePanel.getPlayer().getWorldY();
+        MapData map = this.mapData;
+        if (map == null) {
+            return;
+        }
+        int playerWorldX = gamePanel.getPlayer().getRenderX();
+        int playerWorldY = gamePanel.getPlayer().getRenderY();
         int screenX = gamePanel.getPlayer().getScreenX();
         int screenY = gamePanel.getPlayer().getScreenY();
         int playerSize = gamePanel.getPlayerSize();
 
         int firstCol = Math.max((playerWorldX - screenX) / tileSize, 0);
-        int lastCol = Math.min((playerWorldX + screenX + playerSize) / tileSize, mapWidth - 1);
+        int lastCol = Math.min((playerWorldX + screenX + playerSize) / tileSize, map.getWidth() - 1);
         int firstRow = Math.max((playerWorldY - screenY) / tileSize, 0);
-        int lastRow = Math.min((playerWorldY + screenY + playerSize) / tileSize, mapHeight - 1);
-
-        List<MapLayer> normalLayers = new ArrayList<>();
-        List<MapLayer> objectLayers = new ArrayList<>();
-        List<MapLayer> npcLayers = new ArrayList<>();
-        List<MapLayer> monsterLayers = new ArrayList<>();
-
-        for (MapLayer layer : mapLayers) {
-            String layerName = layer.name.toLowerCase();
-            if (layerName.contains("overlay")) {
-                // Pular camadas overlay - serão renderizadas separadamente
-                continue;
-            } else if (layerName.contains("objetos") || layerName.contains("objects") || layerName.contains("items")) {
-                objectLayers.add(layer);
-            } else if (layerName.contains("npcs") || layerName.contains("npc")) {
-                npcLayers.add(layer);
-            } else if (layerName.contains("monsters") || layerName.contains("monster")) {
-              monsterLayers.add(layer);
-            }  else {
-                normalLayers.add(layer);
+        int lastRow = Math.min((playerWorldY + screenY + playerSize) / tileSize, map.getHeight() - 1);
+        int originX = playerWorldX - screenX;
+        int originY = playerWorldY - screenY;
+
+        // 1 e 2. Renderizar layers normais (fundo) e objetos
+        if (chunkCache != null) {
+            chunkCache.draw(g2, TileChunkCache.ChunkSet.BACKGROUND, firstCol, lastCol, firstRow, lastRow, originX, originY, tileSize);
+        } else {
+            for (MapData.CompiledLayer layer : map.getStaticBackgroundLayers()) {
+                renderLayerDirect(g2, map, layer, firstCol, lastCol, firstRow, lastRow, originX, originY);
             }
         }
 
-        // 1. Renderizar layers normais (fundo)
-        for (MapLayer layer : normalLayers) {
-            renderLayer(g2, layer, firstCol, lastCol, firstRow, lastRow, playerWorldX, playerWorldY, screenX, screenY);
-        }
-
-        // 2. Renderizar objetos
-        for (MapLayer layer : objectLayers) {
-            renderLayer(g2, layer, firstCol, lastCol, firstRow, lastRow, playerWorldX, playerWorldY, screenX, screenY);
-        }
-
-        // 3. Renderizar NPCs apenas se houver NPCs reais no GamePanel
-        if (gamePanel.getNpcs() != null && !gamePanel.getNpcs().isEmpty()) {
-          for (MapLayer layer : npcLayers) {
-              renderLayer(g2, layer, firstCol, lastCol, firstRow, lastRow, playerWorldX, playerWorldY, screenX, screenY);
-          }
-        }
-
-        // 4. Renderizar Monsters apenas se houver monstros reais no GamePanel
+        // 3. Renderizar NPCs e monstros apenas se houver NPCs reais no GamePanel
         if (gamePanel.getNpcs() != null && !gamePanel.getNpcs().isEmpty()) {
-          for (MapLayer layer : monsterLayers) {
-            renderLayer(g2, layer, firstCol, lastCol, firstRow, lastRow, playerWorldX, playerWorldY, screenX, screenY);
+          for (MapData.CompiledLayer layer : map.getEntityLayers()) {
+              renderLayerDirect(g2, map, layer, firstCol, lastCol, firstRow, lastRow, originX, originY);
           }
         }
     }
@@ -209,47 +287,56 @@ public class TileManager {
      * @param g2 Contexto gráfico
      */
     public void drawOverlayLayers(Graphics2D g2) {
-        int playerWorldX = gamePanel.getPlayer().getWorldX();
-        int playerWorldY = gamePanel.getPlayer().getWorldY();
+        MapData map = this.mapData;
+        if (map == null) {
+            return;
+        }
+        int playerWorldX = gamePanel.getPlayer().getRenderX();
+        int playerWorldY = gamePanel.getPlayer().getRenderY();
         int screenX = gamePanel.getPlayer().getScreenX();
         int screenY = gamePanel.getPlayer().getScreenY();
         int playerSize = gamePanel.getPlayerSize();
 
         int firstCol = Math.max((playerWorldX - screenX) / tileSize, 0);
-        int lastCol = Math.min((playerWorldX + screenX + playerSize) / tileSize, mapWidth - 1);
+        int lastCol = Math.min((playerWorldX + screenX + playerSize) / tileSize, map.getWidth() - 1);
         int firstRow = Math.max((playerWorldY - screenY) / tileSize, 0);
-        int lastRow = Math.min((playerWorldY + screenY + playerSize) / tileSize, mapHeight - 1);
-
-        List<MapLayer> overlayLayers = new ArrayList<>();
-
-        for (MapLayer layer : mapLayers) {
-            String layerName = layer.name.toLowerCase();
-            if (layerName.contains("overlay")) {
-                overlayLayers.add(layer);
-            }
-        }
+        int lastRow = Math.min((playerWorldY + screenY + playerSize) / tileSize, map.getHeight() - 1);
+        int originX = playerWorldX - screenX;
+        int originY = playerWorldY - screenY;
 
         // Renderizar layers overlay (acima do player)
-        for (MapLayer layer : overlayLayers) {
-            renderLayer(g2, layer, firstCol, lastCol, firstRow, lastRow, playerWorldX, playerWorldY, screenX, screenY);
+        if (chunkCache != null) {
+            chunkCache.draw(g2, TileChunkCache.ChunkSet.OVERLAY, firstCol, lastCol, firstRow, lastRow, originX, originY, tileSize);
+        } else {
+            for (MapData.CompiledLayer layer : map.getOverlayLayers()) {
+                renderLayerDirect(g2, map, layer, firstCol, lastCol, firstRow, lastRow, originX, originY);
+            }
         }
     }
 
-    private void renderLayer(Graphics2D g2, MapLayer layer, int firstCol, int lastCol, int firstRow, int lastRow,
-                           int playerWorldX, int playerWorldY, int screenX, int screenY) {
-
-        for (MapTile tile : layer.tiles) {
-            // Verificar se o tile está na área visível
-            if (tile.x >= firstCol && tile.x <= lastCol &&
-                tile.y >= firstRow && tile.y <= lastRow) {
-
-                Tile tileDef = tiles.get(tile.id);
+    /**
+     * Renderiza tile a tile somente a janela indicada da grade da camada.
+     * @param originX Posição X do mundo que corresponde ao canto esquerdo da tela.
+     * @param originY Posição Y do mundo que corresponde ao topo da tela.
+     */
+    void renderLayerDirect(Graphics2D g2, MapData map, MapData.CompiledLayer layer, int firstCol, int lastCol,
+                           int firstRow, int lastRow, int originX, int originY) {
+        short[] cells = layer.getCells();
+        Tile[] table = tileTable;
+        int mapWidth = map.getWidth();
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            int rowOffset = row * mapWidth;
+            int drawY = row * tileSize - originY;
+            for (int col = firstCol; col <= lastCol; col++) {
+                short index = cells[rowOffset + col];
+                if (index == 0 || index >= table.length) {
+                    continue;
+                }
+                Tile tileDef = table[index];
                 if (tileDef != null && tileDef.image != null) {
-                    int drawX = tile.x * tileSize - playerWorldX + screenX;
-                    int drawY = tile.y * tileSize - playerWorldY + screenY;
                     // IMPORTANTE: Renderizar com o tileSize escalado
-                    g2.drawImage(tileDef.image, drawX, drawY, tileSize, tileSize, null);
-
+                    g2.drawImage(tileDef.image, col * tileSize - originX, drawY, tileSize, tileSize, null);
                 }
             }
         }
@@ -260,24 +347,38 @@ public class TileManager {
      * A colisão é determinada pela propriedade collider da layer.
      */
     public boolean isCollisionAt(int x, int y) {
-        for (MapLayer layer : mapLayers) {
-            if (layer.collider) {
-                for (MapTile tile : layer.tiles) {
-                    if (tile.x == x && tile.y == y) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return mapData != null && mapData.getCollisionGrid().isBlocked(x, y);
+    }
+
+    /**
+     * Verifica se algum tile do retângulo (em tiles, limites inclusivos) tem colisão.
+     */
+    public boolean isCollisionInRect(int fromX, int fromY, int toX, int toY) {
+        return mapData != null && mapData.getCollisionGrid().isAnyBlockedInRect(fromX, fromY, toX, toY);
+    }
+
+    /**
+     * Retorna a grade de colisão do mapa atual.
+     */
+    public CollisionGrid getCollisionGrid() {
+        return mapData != null ? mapData.getCollisionGrid() : null;
+    }
+
+    /**
+     * Retorna as regiões conexas de tiles livres do mapa atual.
+     */
+    public TileRegions getTileRegions() {
+        return mapData != null ? mapData.getTileRegions() : null;
     }
 
     public int getMapWidth() {
-        return mapWidth;
+        MapData map = this.mapData;
+        return map != null ? map.getWidth() : 0;
     }
 
     public int getMapHeight() {
-        return mapHeight;
+        MapData map = this.mapData;
+        return map != null ? map.getHeight() : 0;
     }
 
     public int getTileSize() {
@@ -285,67 +386,52 @@ public class TileManager {
     }
 
     /**
-     * Retorna os tiles de NPCs das layers do mapa.
+     * Retorna o tamanho original dos tiles na spritesheet (sem escala).
      */
-    public List<MapTile> getNpcTiles() {
-        List<MapTile> npcTiles = new ArrayList<>();
+    public int getOriginalTileSize() {
+        return originalTileSize;
+    }
 
-        for (MapLayer layer : mapLayers) {
-            String layerName = layer.name.toLowerCase();
-            if (layerName.contains("npcs") || layerName.contains("npc")) {
-                npcTiles.addAll(layer.tiles);
-            }
-        }
+    /**
+     * Retorna o cache de chunks pré-renderizados (null se desativado).
+     */
+    public TileChunkCache getChunkCache() {
+        return chunkCache;
+    }
 
-        return npcTiles;
+    /**
+     * Retorna o mapa compilado atual.
+     */
+    public MapData getMapData() {
+        return mapData;
+    }
+
+    /**
+     * Retorna os tiles de NPCs das layers do mapa.
+     */
+    public List<MapTile> getNpcTiles() {
+        return mapData != null ? new ArrayList<>(mapData.getNpcTiles()) : new ArrayList<>();
     }
 
     /**
      * Retorna os tiles de Monsters das layers do mapa.
      */
     public List<MapTile> getMonsterTiles() {
-      List<MapTile> monsterTiles = new ArrayList<>();
-
-      for (MapLayer layer : mapLayers) {
-        String layerName = layer.name.toLowerCase();
-        if (layerName.contains("monsters") || layerName.contains("monster")) {
-          monsterTiles.addAll(layer.tiles);
-        }
-      }
-
-      return monsterTiles;
+      return mapData != null ? new ArrayList<>(mapData.getMonsterTiles()) : new ArrayList<>();
     }
 
-
-      /**
+    /**
      * Retorna os tiles de teleporte das layers do mapa.
+     * A lista é somente leitura e compartilhada, pois é consultada a cada quadro.
      */
     public List<MapTile> getTeleportTiles() {
-        List<MapTile> teleportTiles = new ArrayList<>();
-
-        for (MapLayer layer : mapLayers) {
-            String layerName = layer.name.toLowerCase();
-            if (layerName.contains("teleport")) {
-                teleportTiles.addAll(layer.tiles);
-            }
-        }
-
-        return teleportTiles;
+        return mapData != null ? mapData.getTeleportTiles() : Collections.emptyList();
     }
 
     /**
      * Retorna os tiles de objetos das layers do mapa.
      */
     public List<MapTile> getObjectTiles() {
-        List<MapTile> objectTiles = new ArrayList<>();
-
-        for (MapLayer layer : mapLayers) {
-            String layerName = layer.name.toLowerCase();
-            if (layerName.contains("objetos") || layerName.contains("objects") || layerName.contains("items")) {
-                objectTiles.addAll(layer.tiles);
-            }
-        }
-
-        return objectTiles;
+        return mapData != null ? new ArrayList<>(mapData.getObjectTiles()) : new ArrayList<>();
     }
 }
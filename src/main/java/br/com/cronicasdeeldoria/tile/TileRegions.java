@@ -0,0 +1,249 @@
+package br.com.cronicasdeeldoria.tile;
+
+/**
+ * Regiões conexas dos tiles livres de uma CollisionGrid, rotuladas por union-find na
+ * carga do mapa. Dois tiles estão na mesma região se existe caminho entre eles, então
+ * "dá para chegar lá?" é respondido sem busca, e pedidos de caminho entre regiões
+ * diferentes podem ser recusados na hora.
+ *
+ * A conectividade é por vizinhos ortogonais: com 8 direções sem cortar quinas (regra do
+ * PathfindingService e do FlowField), uma diagonal só é possível se os dois vizinhos
+ * ortogonais estão livres, então as regiões são as mesmas.
+ *
+ * A CollisionGrid não muda depois da carga, então os rótulos são montados uma vez só, no
+ * construtor (na carga do mapa, antes de ele ser entregue à thread do jogo). Depois disso,
+ * só a thread do jogo os toca: as consultas de região compactam o union-find. A exceção é
+ * nearestFree(), que só lê a CollisionGrid e pode ser usada na thread de carga (posição
+ * inicial dos NPCs).
+ */
+public final class TileRegions {
+
+    private final CollisionGrid grid;
+    private final int width;
+    private final int height;
+    // Pai de cada tile no union-find, ou -1 se o tile está bloqueado
+    private final int[] parent;
+    // Tamanho da região, válido só nas raízes
+    private final int[] size;
+    private final int[] startRoots = new int[4];
+    private final int[] targetRoots = new int[4];
+
+    private int regionCount;
+
+    public TileRegions(CollisionGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.parent = new int[width * height];
+        this.size = new int[width * height];
+        build();
+    }
+
+    private void build() {
+        regionCount = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y * width + x;
+                if (grid.isBlocked(x, y)) {
+                    parent[i] = -1;
+                    continue;
+                }
+                parent[i] = i;
+                size[i] = 1;
+                regionCount++;
+                if (x > 0 && parent[i - 1] >= 0) {
+                    union(i, i - 1);
+                }
+                if (y > 0 && parent[i - width] >= 0) {
+                    union(i, i - width);
+                }
+            }
+        }
+    }
+
+    private int find(int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return;
+        }
+        if (size[rootA] < size[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        regionCount--;
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private int rootAt(int x, int y) {
+        if (!inBounds(x, y)) {
+            return -1;
+        }
+        int i = y * width + x;
+        return parent[i] < 0 ? -1 : find(i);
+    }
+
+    /**
+     * Regiões por onde se sai (ou se chega a) um tile: a dele, se está livre, ou as dos
+     * vizinhos ortogonais livres, se está bloqueado (hitbox encostada numa parede).
+     * @return Quantidade de raízes escritas em roots.
+     */
+    private int rootsAround(int x, int y, int[] roots) {
+        int root = rootAt(x, y);
+        if (root >= 0 || !inBounds(x, y)) {
+            roots[0] = root;
+            return root >= 0 ? 1 : 0;
+        }
+        int count = 0;
+        count = addRoot(rootAt(x + 1, y), roots, count);
+        count = addRoot(rootAt(x - 1, y), roots, count);
+        count = addRoot(rootAt(x, y + 1), roots, count);
+        count = addRoot(rootAt(x, y - 1), roots, count);
+        return count;
+    }
+
+    private static int addRoot(int root, int[] roots, int count) {
+        if (root < 0) {
+            return count;
+        }
+        for (int i = 0; i < count; i++) {
+            if (roots[i] == root) {
+                return count;
+            }
+        }
+        roots[count] = root;
+        return count + 1;
+    }
+
+    private static boolean contains(int[] roots, int count, int root) {
+        for (int i = 0; i < count; i++) {
+            if (roots[i] == root) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Região de um tile.
+     * @return Identificador da região, ou -1 se o tile está bloqueado ou fora do mapa.
+     */
+    public int regionOf(int x, int y) {
+        return rootAt(x, y);
+    }
+
+    /**
+     * @return Quantidade de tiles da região do tile, ou 0 se ele está bloqueado ou fora do mapa.
+     */
+    public int getRegionSize(int x, int y) {
+        int root = regionOf(x, y);
+        return root >= 0 ? size[root] : 0;
+    }
+
+    /**
+     * Verifica se existe caminho entre dois tiles. Uma ponta bloqueada (hitbox encostada
+     * numa parede) conta pelas regiões dos vizinhos ortogonais livres.
+     * @param fromX Tile X de partida.
+     * @param fromY Tile Y de partida.
+     * @param toX Tile X de destino.
+     * @param toY Tile Y de destino.
+     * @return true se os tiles estão ligados por tiles livres.
+     */
+    public boolean isReachable(int fromX, int fromY, int toX, int toY) {
+        int starts = rootsAround(fromX, fromY, startRoots);
+        int targets = rootsAround(toX, toY, targetRoots);
+        for (int i = 0; i < targets; i++) {
+            if (contains(startRoots, starts, targetRoots[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tile livre alcançável a partir de um tile e mais próximo (em linha reta) do alvo.
+     * Se o próprio alvo é alcançável, devolve o alvo.
+     * @param fromX Tile X de partida.
+     * @param fromY Tile Y de partida.
+     * @param targetX Tile X do alvo.
+     * @param targetY Tile Y do alvo.
+     * @param maxRadius Maior distância do alvo a procurar, em tiles.
+     * @return Tile compactado como (y << 16) | x (mesmo formato de PathfindingService.pack),
+     *         ou -1 se não há tile alcançável no raio.
+     */
+    public int nearestReachable(int fromX, int fromY, int targetX, int targetY, int maxRadius) {
+        int starts = rootsAround(fromX, fromY, startRoots);
+        return starts == 0 ? -1 : nearest(targetX, targetY, maxRadius, starts);
+    }
+
+    /**
+     * Tile livre mais próximo (em linha reta) de um tile, em qualquer região; o próprio
+     * tile, se está livre. Usado para ajustar posições iniciais em cima de colisão.
+     * Só lê a CollisionGrid: não altera os rótulos.
+     * @param x Tile X.
+     * @param y Tile Y.
+     * @param maxRadius Maior distância a procurar, em tiles.
+     * @return Tile compactado como (y << 16) | x, ou -1 se não há tile livre no raio.
+     */
+    public int nearestFree(int x, int y, int maxRadius) {
+        return nearest(x, y, maxRadius, -1);
+    }
+
+    /**
+     * Procura em anéis em volta do alvo e para assim que nenhum anel mais distante pode ter
+     * um tile mais próximo.
+     * @param starts Quantidade de regiões aceitas em startRoots, ou -1 para aceitar qualquer
+     *        tile livre (sem consultar os rótulos).
+     */
+    private int nearest(int targetX, int targetY, int maxRadius, int starts) {
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int r = 0; r <= maxRadius && r * r < bestDistance; r++) {
+            for (int dy = -r; dy <= r; dy++) {
+                // Nas linhas do meio do anel, só as duas colunas das pontas
+                int stepX = (dy == -r || dy == r) ? 1 : Math.max(2 * r, 1);
+                for (int dx = -r; dx <= r; dx += stepX) {
+                    int distance = dx * dx + dy * dy;
+                    if (distance >= bestDistance) {
+                        continue;
+                    }
+                    int x = targetX + dx;
+                    int y = targetY + dy;
+                    boolean accepted = starts < 0
+                        ? inBounds(x, y) && !grid.isBlocked(x, y)
+                        : contains(startRoots, starts, rootAt(x, y));
+                    if (accepted) {
+                        best = (y << 16) | (x & 0xFFFF);
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    public CollisionGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return Quantidade de regiões de tiles livres.
+     */
+    public int getRegionCount() {
+        return regionCount;
+    }
+}
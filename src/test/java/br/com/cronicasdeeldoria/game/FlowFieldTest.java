@@ -0,0 +1,150 @@
+package br.com.cronicasdeeldoria.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.cronicasdeeldoria.tile.CollisionGrid;
+import br.com.cronicasdeeldoria.tile.CollisionGrids;
+
+class FlowFieldTest {
+  private final FlowField field = FlowField.getInstance();
+  private final AiJobQueue queue = AiJobQueue.getInstance();
+  private final int radius = field.getRadius();
+
+  @BeforeEach
+  void filaVazia() {
+    queue.clear();
+    queue.setDeterministic(true);
+  }
+
+  @AfterEach
+  void restaurar() {
+    queue.clear();
+    queue.setDeterministic(false);
+  }
+
+  /**
+   * Roda a fila como o GamePanel faz a cada tick até o campo pedido ser trocado.
+   */
+  private void completar() {
+    long before = field.getRebuilds();
+    for (int tick = 0; tick < 1000 && field.getRebuilds() == before; tick++) {
+      queue.applyResults();
+      queue.runJobs();
+    }
+    assertEquals(before + 1, field.getRebuilds(), "campo não foi trocado");
+  }
+
+  @Test
+  void proximoPassoChegaMaisPertoDoJogador() {
+    int size = 2 * radius + 20;
+    CollisionGrid grid = CollisionGrids.random(new Random(11), size, size, 25);
+    int playerX = radius + 10;
+    int playerY = radius + 10;
+    grid.setBlocked(playerX, playerY, false);
+
+    field.update(grid, playerX, playerY);
+    assertEquals(-1, field.nextStep(playerX + 1, playerY));
+    completar();
+
+    int reached = 0;
+    for (int y = 0; y < grid.getHeight(); y++) {
+      for (int x = 0; x < grid.getWidth(); x++) {
+        int distance = field.distanceAt(x, y);
+        if (distance <= 0) {
+          continue;
+        }
+        reached++;
+        int step = field.nextStep(x, y);
+        int stepX = PathfindingService.packedX(step);
+        int stepY = PathfindingService.packedY(step);
+        assertTrue(step >= 0, "sem passo em " + x + "," + y);
+        assertTrue(Math.abs(stepX - x) <= 1 && Math.abs(stepY - y) <= 1, "passo não vizinho em " + x + "," + y);
+        assertTrue(field.distanceAt(stepX, stepY) < distance, "passo não se aproxima em " + x + "," + y);
+      }
+    }
+    assertEquals(reached + 1, field.getLastReached());
+    assertEquals(0, field.distanceAt(playerX, playerY));
+    assertEquals(-1, field.nextStep(playerX, playerY));
+  }
+
+  @Test
+  void tilesForaDoRaioNaoTemPasso() {
+    int size = 2 * radius + 20;
+    CollisionGrid grid = new CollisionGrid(size, size);
+    int playerX = radius + 10;
+    int playerY = radius + 10;
+
+    field.update(grid, playerX, playerY);
+    completar();
+
+    assertTrue(field.nextStep(playerX + radius, playerY) >= 0);
+    assertEquals(-1, field.nextStep(playerX + radius + 1, playerY));
+    assertEquals(-1, field.distanceAt(playerX - radius - 1, playerY));
+    assertEquals(-1, field.nextStep(playerX, playerY + radius + 1));
+    assertEquals(-1, field.nextStep(-1, 0));
+  }
+
+  @Test
+  void diagonalNaoCortaQuina() {
+    int size = 2 * radius + 4;
+    CollisionGrid grid = CollisionGrids.random(new Random(23), size, size, 25);
+    int playerX = radius + 2;
+    int playerY = radius + 2;
+    grid.setBlocked(playerX, playerY, false);
+
+    field.update(grid, playerX, playerY);
+    completar();
+
+    int diagonals = 0;
+    for (int y = 0; y < grid.getHeight(); y++) {
+      for (int x = 0; x < grid.getWidth(); x++) {
+        int step = field.nextStep(x, y);
+        if (step < 0) {
+          continue;
+        }
+        int dx = PathfindingService.packedX(step) - x;
+        int dy = PathfindingService.packedY(step) - y;
+        if (dx != 0 && dy != 0) {
+          diagonals++;
+          assertFalse(grid.isBlocked(x + dx, y) || grid.isBlocked(x, y + dy), "quina cortada em " + x + "," + y);
+        }
+      }
+    }
+    assertTrue(diagonals > 0);
+  }
+
+  @Test
+  void soRefazQuandoOJogadorOuOMapaMuda() {
+    int size = 2 * radius + 20;
+    CollisionGrid grid = new CollisionGrid(size, size);
+    int playerX = radius + 10;
+    int playerY = radius + 10;
+    field.update(grid, playerX, playerY);
+    completar();
+    assertEquals(20, field.distanceAt(playerX + 2, playerY));
+
+    // Mesmo mapa e mesmo tile: nada a refazer
+    field.update(grid, playerX, playerY);
+    assertEquals(0, queue.getQueueDepth());
+
+    // Outro mapa, com parede entre o jogador e o tile: o campo é refeito e o caminho contorna
+    CollisionGrid walled = new CollisionGrid(size, size);
+    for (int y = playerY - 1; y <= playerY + 1; y++) {
+      walled.setBlocked(playerX + 1, y, true);
+    }
+    field.update(walled, playerX, playerY);
+    assertEquals(1, queue.getQueueDepth());
+    completar();
+
+    assertEquals(-1, field.distanceAt(playerX + 1, playerY));
+    assertTrue(field.distanceAt(playerX + 2, playerY) > 20);
+  }
+}
@@ -0,0 +1,75 @@
+package br.com.cronicasdeeldoria.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class GameRandomTest {
+  private final GameRandom random = GameRandom.getInstance();
+
+  private long[] sortear(GameRandom.Stream stream, int count) {
+    Random generator = random.get(stream);
+    long[] values = new long[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = generator.nextLong();
+    }
+    return values;
+  }
+
+  @Test
+  void mesmaSementeRepeteASequencia() {
+    random.setSeed(42L);
+    long[] first = sortear(GameRandom.Stream.BATTLE, 16);
+    random.setSeed(42L);
+    long[] second = sortear(GameRandom.Stream.BATTLE, 16);
+
+    assertEquals(42L, random.getSeed());
+    assertEquals(first.length, second.length);
+    for (int i = 0; i < first.length; i++) {
+      assertEquals(first[i], second[i]);
+    }
+  }
+
+  @Test
+  void sementesDiferentesMudamASequencia() {
+    random.setSeed(42L);
+    long first = random.get(GameRandom.Stream.LOOT).nextLong();
+    random.setSeed(43L);
+    long second = random.get(GameRandom.Stream.LOOT).nextLong();
+
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  void fluxosSaoIndependentes() {
+    random.setSeed(7L);
+    long expected = random.get(GameRandom.Stream.BATTLE).nextLong();
+
+    random.setSeed(7L);
+    sortear(GameRandom.Stream.PARTICLES, 100);
+    long actual = random.get(GameRandom.Stream.BATTLE).nextLong();
+
+    assertEquals(expected, actual);
+    assertNotEquals(random.get(GameRandom.Stream.NPC_WALK).nextLong(),
+        random.get(GameRandom.Stream.MERCHANT).nextLong());
+  }
+
+  @Test
+  void sorteiosSaoContadosPorFluxoEZeradosNaSemente() {
+    random.setSeed(9L);
+    random.get(GameRandom.Stream.NPC_WALK).nextInt(4);
+    random.get(GameRandom.Stream.NPC_WALK).nextInt(4);
+    random.get(GameRandom.Stream.ENVIRONMENT).nextInt(10);
+
+    assertEquals(2, random.getDraws(GameRandom.Stream.NPC_WALK));
+    assertEquals(1, random.getDraws(GameRandom.Stream.ENVIRONMENT));
+    assertEquals(0, random.getDraws(GameRandom.Stream.BATTLE));
+
+    random.setSeed(9L);
+
+    assertEquals(0, random.getDraws(GameRandom.Stream.NPC_WALK));
+  }
+}
@@ -0,0 +1,254 @@
+package br.com.cronicasdeeldoria.game;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.cronicasdeeldoria.tile.CollisionGrid;
+import br.com.cronicasdeeldoria.tile.CollisionGrids;
+import br.com.cronicasdeeldoria.tile.TileRegions;
+
+class PathfindingServiceTest {
+  private final PathfindingService service = PathfindingService.getInstance();
+
+  @BeforeEach
+  void novoTick() {
+    service.setDeterministic(true);
+    service.beginFrame();
+  }
+
+  @AfterEach
+  void restaurar() {
+    service.setDeterministic(false);
+    service.beginFrame();
+  }
+
+  /**
+   * Confere que o caminho anda um tile por passo, só por tiles livres, sem cortar quinas,
+   * e termina no destino.
+   * @return Custo do caminho (10 por passo reto, 14 por diagonal).
+   */
+  private static int conferirCaminho(CollisionGrid grid, int startX, int startY, int targetX, int targetY, int[] path) {
+    int x = startX;
+    int y = startY;
+    int cost = 0;
+    for (int step : path) {
+      int nextX = PathfindingService.packedX(step);
+      int nextY = PathfindingService.packedY(step);
+      int dx = nextX - x;
+      int dy = nextY - y;
+      assertTrue(Math.abs(dx) <= 1 && Math.abs(dy) <= 1 && (dx != 0 || dy != 0), "passo não vizinho para " + nextX + "," + nextY);
+      assertTrue(!grid.isBlocked(nextX, nextY), "passo em parede " + nextX + "," + nextY);
+      if (dx != 0 && dy != 0) {
+        assertTrue(!grid.isBlocked(x + dx, y) && !grid.isBlocked(x, y + dy), "quina cortada em " + x + "," + y);
+        cost += 14;
+      } else {
+        cost += 10;
+      }
+      x = nextX;
+      y = nextY;
+    }
+    assertEquals(targetX, x);
+    assertEquals(targetY, y);
+    return cost;
+  }
+
+  @Test
+  void caminhoRetoEmMapaAberto() {
+    CollisionGrid grid = new CollisionGrid(10, 10);
+
+    int[] path = service.findPath(grid, 1, 5, 8, 5);
+
+    assertEquals(PathfindingService.Result.FOUND, service.getLastResult());
+    int[] expected = new int[7];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = PathfindingService.pack(2 + i, 5);
+    }
+    assertArrayEquals(expected, path);
+  }
+
+  @Test
+  void naoCortaQuinaDeParedeNaDiagonal() {
+    CollisionGrid grid = CollisionGrids.fromRows(
+        ".#..",
+        "....",
+        "..#.",
+        "....");
+
+    int[] path = service.findPath(grid, 0, 0, 1, 1);
+    assertArrayEquals(new int[] {PathfindingService.pack(0, 1), PathfindingService.pack(1, 1)}, path);
+
+    service.beginFrame();
+    path = service.findPath(grid, 1, 1, 3, 3);
+    assertNotNull(path);
+    assertEquals(40, conferirCaminho(grid, 1, 1, 3, 3, path));
+  }
+
+  @Test
+  void destinoIsoladoOuBloqueadoNaoTemCaminho() {
+    CollisionGrid grid = CollisionGrids.fromRows(
+        "......",
+        "...###",
+        "...#..",
+        "...#..");
+
+    assertNull(service.findPath(grid, 0, 0, 5, 3));
+    assertEquals(PathfindingService.Result.UNREACHABLE, service.getLastResult());
+
+    service.beginFrame();
+    assertNull(service.findPath(grid, 0, 0, 3, 2));
+    assertEquals(PathfindingService.Result.UNREACHABLE, service.getLastResult());
+
+    service.beginFrame();
+    assertNull(service.findPath(grid, 0, 0, 40, 0));
+    assertEquals(PathfindingService.Result.UNREACHABLE, service.getLastResult());
+  }
+
+  @Test
+  void regioesRecusamDestinoIsoladoSemBuscar() {
+    CollisionGrid grid = CollisionGrids.fromRows(
+        "..#..",
+        "..#..",
+        "..#..");
+    TileRegions regions = new TileRegions(grid);
+    long rejected = service.getTotalRejected();
+    long searches = service.getTotalSearches();
+
+    assertNull(service.findPath(regions, 0, 0, 4, 2));
+
+    assertEquals(PathfindingService.Result.UNREACHABLE, service.getLastResult());
+    assertEquals(rejected + 1, service.getTotalRejected());
+    assertEquals(searches, service.getTotalSearches());
+    assertEquals(0, service.getLastExpansions());
+  }
+
+  @Test
+  void partidaIgualAoDestinoDevolveCaminhoVazio() {
+    CollisionGrid grid = new CollisionGrid(5, 5);
+
+    int[] path = service.findPath(grid, 2, 2, 2, 2);
+
+    assertEquals(PathfindingService.Result.FOUND, service.getLastResult());
+    assertEquals(0, path.length);
+  }
+
+  @Test
+  void buscaAdiadaTerminaNoTickSeguinte() {
+    // Colunas de parede com a passagem alternando entre o topo e o fundo: a busca
+    // varre quase o mapa todo e estoura o orçamento padrão do tick
+    int size = 200;
+    CollisionGrid grid = new CollisionGrid(size, size);
+    for (int x = 2; x < size - 1; x += 2) {
+      int gap = (x / 2) % 2 == 0 ? 0 : size - 1;
+      for (int y = 0; y < size; y++) {
+        if (y != gap) {
+          grid.setBlocked(x, y, true);
+        }
+      }
+    }
+
+    assertNotNull(service.findPath(grid, 0, 0, size - 1, size - 1));
+    assertEquals(PathfindingService.Result.FOUND, service.getLastResult());
+
+    long deferred = service.getTotalDeferred();
+    assertNull(service.findPath(grid, 0, size - 1, size - 1, 0));
+    assertEquals(PathfindingService.Result.DEFERRED, service.getLastResult());
+    assertEquals(deferred + 1, service.getTotalDeferred());
+
+    service.beginFrame();
+    int[] path = service.findPath(grid, 0, size - 1, size - 1, 0);
+    assertEquals(PathfindingService.Result.FOUND, service.getLastResult());
+    conferirCaminho(grid, 0, size - 1, size - 1, 0, path);
+  }
+
+  @Test
+  void buffersReaproveitadosEntreMuitasBuscas() {
+    Random random = new Random(2024);
+    CollisionGrid[] grids = {CollisionGrids.random(random, 40, 30, 28), CollisionGrids.random(random, 17, 23, 28), CollisionGrids.random(random, 64, 64, 28)};
+
+    for (int i = 0; i < 3000; i++) {
+      CollisionGrid grid = grids[i % grids.length];
+      int startX = random.nextInt(grid.getWidth());
+      int startY = random.nextInt(grid.getHeight());
+      int targetX = random.nextInt(grid.getWidth());
+      int targetY = random.nextInt(grid.getHeight());
+      if (grid.isBlocked(startX, startY)) {
+        continue;
+      }
+
+      service.beginFrame();
+      int[] path = service.findPath(grid, startX, startY, targetX, targetY);
+
+      int expected = custoMinimo(grid, startX, startY, targetX, targetY);
+      String search = startX + "," + startY + " -> " + targetX + "," + targetY;
+      if (expected < 0) {
+        assertNull(path, search);
+        assertEquals(PathfindingService.Result.UNREACHABLE, service.getLastResult(), search);
+      } else {
+        assertNotNull(path, search);
+        assertEquals(expected, conferirCaminho(grid, startX, startY, targetX, targetY, path), search);
+      }
+    }
+  }
+
+  /**
+   * Dijkstra de referência em 8 direções sem cortar quinas.
+   * @return Custo mínimo, ou -1 se não há caminho.
+   */
+  private static int custoMinimo(CollisionGrid grid, int startX, int startY, int targetX, int targetY) {
+    int width = grid.getWidth();
+    int height = grid.getHeight();
+    if (grid.isBlocked(targetX, targetY)) {
+      return -1;
+    }
+    int[] best = new int[width * height];
+    Arrays.fill(best, Integer.MAX_VALUE);
+    PriorityQueue<int[]> open = new PriorityQueue<>((a, b) -> Integer.compare(a[0], b[0]));
+    best[startY * width + startX] = 0;
+    open.add(new int[] {0, startX, startY});
+    while (!open.isEmpty()) {
+      int[] entry = open.poll();
+      int cost = entry[0];
+      int x = entry[1];
+      int y = entry[2];
+      if (cost > best[y * width + x]) {
+        continue;
+      }
+      if (x == targetX && y == targetY) {
+        return cost;
+      }
+      for (int dy = -1; dy <= 1; dy++) {
+        for (int dx = -1; dx <= 1; dx++) {
+          int nextX = x + dx;
+          int nextY = y + dy;
+          if ((dx == 0 && dy == 0) || !livre(grid, nextX, nextY)) {
+            continue;
+          }
+          if (dx != 0 && dy != 0 && (!livre(grid, x + dx, y) || !livre(grid, x, y + dy))) {
+            continue;
+          }
+          int nextCost = cost + (dx != 0 && dy != 0 ? 14 : 10);
+          if (nextCost < best[nextY * width + nextX]) {
+            best[nextY * width + nextX] = nextCost;
+            open.add(new int[] {nextCost, nextX, nextY});
+          }
+        }
+      }
+    }
+    return -1;
+  }
+
+  private static boolean livre(CollisionGrid grid, int x, int y) {
+    return x >= 0 && y >= 0 && x < grid.getWidth() && y < grid.getHeight() && !grid.isBlocked(x, y);
+  }
+}
@@ -0,0 +1,78 @@
+package br.com.cronicasdeeldoria.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpatialGridTest {
+  private SpatialGrid<String> grid;
+  private final List<String> out = new ArrayList<>();
+
+  @BeforeEach
+  void criarGrade() {
+    grid = new SpatialGrid<>(48);
+    grid.reset(10, 10);
+  }
+
+  @Test
+  void consultaDevolveSoOsOcupantesDasCelulasSobrepostas() {
+    grid.update("a", 10, 10, 20, 20);
+    grid.update("b", 200, 200, 20, 20);
+
+    assertEquals(1, grid.query(0, 0, 48, 48, out));
+    assertEquals(List.of("a"), out);
+    assertEquals(0, grid.query(100, 0, 40, 40, out));
+  }
+
+  @Test
+  void ocupanteEmVariasCelulasApareceUmaVez() {
+    grid.update("grande", 40, 40, 100, 100);
+
+    assertEquals(1, grid.query(0, 0, 480, 480, out));
+    assertEquals(List.of("grande"), out);
+  }
+
+  @Test
+  void updateMoveOcupanteDeCelula() {
+    grid.update("a", 0, 0, 10, 10);
+    grid.update("a", 300, 300, 10, 10);
+
+    assertEquals(0, grid.query(0, 0, 48, 48, out));
+    assertEquals(1, grid.query(288, 288, 48, 48, out));
+    assertEquals(1, grid.size());
+  }
+
+  @Test
+  void removeTiraOcupanteDasConsultas() {
+    grid.update("a", 0, 0, 10, 10);
+
+    assertTrue(grid.remove("a"));
+    assertFalse(grid.remove("a"));
+    assertFalse(grid.contains("a"));
+    assertEquals(0, grid.query(0, 0, 480, 480, out));
+  }
+
+  @Test
+  void posicoesForaDoMapaVaoParaABorda() {
+    grid.update("fora", -500, 5000, 10, 10);
+
+    assertEquals(1, grid.query(0, 9 * 48, 48, 48, out));
+    assertEquals(List.of("fora"), out);
+  }
+
+  @Test
+  void resetLimpaERedimensiona() {
+    grid.update("a", 0, 0, 10, 10);
+    grid.reset(2, 2);
+
+    assertEquals(0, grid.size());
+    grid.update("b", 1000, 1000, 10, 10);
+    assertEquals(1, grid.query(48, 48, 48, 48, out));
+  }
+}
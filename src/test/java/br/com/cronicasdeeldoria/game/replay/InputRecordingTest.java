@@ -0,0 +1,81 @@
+package br.com.cronicasdeeldoria.game.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InputRecordingTest {
+
+    // Estado das teclas em cada tick da sessão gravada
+    private static final int[] STATES = {0, 0, 5, 5, 5, 1 << 20, 0, 0, 0, 3};
+
+    @TempDir
+    Path dir;
+
+    private Path gravar(int[] states) throws IOException {
+        Path file = dir.resolve("sessao.rec");
+        try (InputRecorder recorder = new InputRecorder(file, 1234L, "Teste", "Mage")) {
+            for (int state : states) {
+                recorder.record(state);
+            }
+            assertEquals(states.length, recorder.getTicks());
+        }
+        return file;
+    }
+
+    @Test
+    void gravacaoVoltaIgual() throws IOException {
+        InputRecording recording = InputRecording.load(gravar(STATES));
+
+        assertEquals(1234L, recording.getSeed());
+        assertEquals("Teste", recording.getPlayerName());
+        assertEquals("Mage", recording.getClassName());
+        assertEquals(STATES.length, recording.getLength());
+        assertEquals(5, recording.getEntryCount());
+        for (int tick = 0; tick < STATES.length; tick++) {
+            assertEquals(STATES[tick], recording.stateAt(tick), "tick " + tick);
+        }
+    }
+
+    @Test
+    void rewindReproduzDoInicio() throws IOException {
+        InputRecording recording = InputRecording.load(gravar(STATES));
+        for (int tick = 0; tick < STATES.length; tick++) {
+            recording.stateAt(tick);
+        }
+
+        recording.rewind();
+
+        assertEquals(0, recording.stateAt(0));
+        assertEquals(5, recording.stateAt(2));
+    }
+
+    @Test
+    void gravacaoInterrompidaValeAteAUltimaEntrada() throws IOException {
+        Path file = gravar(STATES);
+        byte[] bytes = Files.readAllBytes(file);
+        // Sem o marcador de fim (varint de 5 bytes), como num jogo encerrado à força
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+
+        InputRecording recording = InputRecording.load(file);
+
+        assertEquals(5, recording.getEntryCount());
+        assertEquals(STATES.length, recording.getLength());
+        assertEquals(3, recording.stateAt(STATES.length - 1));
+    }
+
+    @Test
+    void arquivoQueNaoEhGravacaoEhRecusado() throws IOException {
+        Path file = dir.resolve("outro.rec");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> InputRecording.load(file));
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.cronicasdeeldoria.tile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+
+import br.com.cronicasdeeldoria.game.GamePanel;
+import br.com.cronicasdeeldoria.tile.MapData.CompiledLayer;
+import br.com.cronicasdeeldoria.tile.TileManager.MapJson;
+import br.com.cronicasdeeldoria.tile.TileManager.MapTile;
+
+class BinaryMapFormatTest {
+
+    private static TileManager tileManager;
+
+    @BeforeAll
+    static void criarTileManager() {
+        GamePanel gamePanel = mock(GamePanel.class);
+        when(gamePanel.getTileSize()).thenReturn(48);
+        tileManager = new TileManager(gamePanel);
+    }
+
+    static MapJson readJson(Path path) throws Exception {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return new Gson().fromJson(reader, MapJson.class);
+        }
+    }
+
+    static List<Path> shippedMaps() throws Exception {
+        Path root = Paths.get(BinaryMapFormatTest.class.getResource("/maps").toURI());
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(path -> path.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void mapasDoJogoVoltamIguaisDoFormatoBinario() throws Exception {
+        List<Path> maps = shippedMaps();
+        assertFalse(maps.isEmpty());
+        for (Path path : maps) {
+            MapJson mapJson = readJson(path);
+            if (mapJson == null || mapJson.mapWidth <= 0 || mapJson.mapHeight <= 0) {
+                continue;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BinaryMapFormat.write(mapJson, out);
+
+            MapData fromJson = MapData.compile(mapJson, tileManager, true);
+            MapData fromBinary = BinaryMapFormat.read(ByteBuffer.wrap(out.toByteArray()), tileManager, true);
+            assertSameMap(path.getFileName().toString(), fromJson, fromBinary);
+        }
+    }
+
+    @Test
+    void conteudoInvalidoEhRecusado() {
+        ByteBuffer data = ByteBuffer.wrap("JSON{}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class,
+            () -> BinaryMapFormat.read(data, tileManager, true));
+    }
+
+    @Test
+    void varIntIdaEVolta() throws Exception {
+        int[] values = { 0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int value : values) {
+            BinaryMapFormat.writeVarInt(out, value);
+        }
+        ByteBuffer in = ByteBuffer.wrap(out.toByteArray());
+        for (int value : values) {
+            assertEquals(value, BinaryMapFormat.readVarInt(in));
+        }
+    }
+
+    static void assertSameMap(String name, MapData expected, MapData actual) {
+        assertEquals(expected.getWidth(), actual.getWidth(), name);
+        assertEquals(expected.getHeight(), actual.getHeight(), name);
+        assertEquals(expected.getMessage(), actual.getMessage(), name);
+        assertSameLayers(name, expected.getBackgroundLayers(), actual.getBackgroundLayers());
+        assertSameLayers(name, expected.getObjectLayers(), actual.getObjectLayers());
+        assertSameLayers(name, expected.getEntityLayers(), actual.getEntityLayers());
+        assertSameLayers(name, expected.getOverlayLayers(), actual.getOverlayLayers());
+
+        CollisionGrid expectedGrid = expected.getCollisionGrid();
+        CollisionGrid actualGrid = actual.getCollisionGrid();
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(expectedGrid.isBlocked(x, y), actualGrid.isBlocked(x, y), name + " colisão " + x + "," + y);
+            }
+        }
+
+        assertSameTiles(name, expected.getNpcTiles(), actual.getNpcTiles());
+        assertSameTiles(name, expected.getMonsterTiles(), actual.getMonsterTiles());
+        assertSameTiles(name, expected.getTeleportTiles(), actual.getTeleportTiles());
+        assertSameTiles(name, expected.getObjectTiles(), actual.getObjectTiles());
+    }
+
+    private static void assertSameLayers(String name, CompiledLayer[] expected, CompiledLayer[] actual) {
+        assertEquals(expected.length, actual.length, name);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getName(), actual[i].getName(), name);
+            assertEquals(expected[i].getRole(), actual[i].getRole(), name);
+            assertEquals(expected[i].isCollider(), actual[i].isCollider(), name);
+            assertArrayEquals(expected[i].getCells(), actual[i].getCells(), name + " camada " + expected[i].getName());
+        }
+    }
+
+    private static void assertSameTiles(String name, List<MapTile> expected, List<MapTile> actual) {
+        assertEquals(expected.size(), actual.size(), name);
+        for (int i = 0; i < expected.size(); i++) {
+            MapTile a = expected.get(i);
+            MapTile b = actual.get(i);
+            assertEquals(a.id, b.id, name);
+            assertEquals(a.x, b.x, name);
+            assertEquals(a.y, b.y, name);
+            assertEquals(a.interactive, b.interactive, name);
+            assertEquals(a.toMap, b.toMap, name);
+            assertEquals(a.toX, b.toX, name);
+            assertEquals(a.toY, b.toY, name);
+        }
+    }
+}
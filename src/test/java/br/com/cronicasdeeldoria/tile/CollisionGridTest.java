@@ -0,0 +1,79 @@
+package br.com.cronicasdeeldoria.tile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CollisionGridTest {
+
+    @Test
+    void marcaEConsultaTilesIndividuais() {
+        CollisionGrid grid = new CollisionGrid(100, 3);
+        grid.setBlocked(0, 0, true);
+        grid.setBlocked(63, 1, true);
+        grid.setBlocked(64, 1, true);
+        grid.setBlocked(99, 2, true);
+
+        assertTrue(grid.isBlocked(0, 0));
+        assertTrue(grid.isBlocked(63, 1));
+        assertTrue(grid.isBlocked(64, 1));
+        assertTrue(grid.isBlocked(99, 2));
+        assertFalse(grid.isBlocked(1, 0));
+        assertFalse(grid.isBlocked(63, 0));
+        assertEquals(4, grid.countBlocked());
+    }
+
+    @Test
+    void foraDoMapaNaoColide() {
+        CollisionGrid grid = new CollisionGrid(4, 4);
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 4; x++) {
+                grid.setBlocked(x, y, true);
+            }
+        }
+
+        assertFalse(grid.isBlocked(-1, 0));
+        assertFalse(grid.isBlocked(0, -1));
+        assertFalse(grid.isBlocked(4, 0));
+        assertFalse(grid.isBlocked(0, 4));
+    }
+
+    @Test
+    void faixaDeLinhaAtravessaPalavras() {
+        CollisionGrid grid = new CollisionGrid(200, 2);
+        grid.setBlocked(130, 1, true);
+
+        assertTrue(grid.isAnyBlockedInRow(1, 0, 199));
+        assertTrue(grid.isAnyBlockedInRow(1, 130, 130));
+        assertTrue(grid.isAnyBlockedInRow(1, 140, 10));
+        assertFalse(grid.isAnyBlockedInRow(1, 0, 129));
+        assertFalse(grid.isAnyBlockedInRow(1, 131, 199));
+        assertFalse(grid.isAnyBlockedInRow(0, 0, 199));
+    }
+
+    @Test
+    void retanguloConfereTodasAsLinhas() {
+        CollisionGrid grid = new CollisionGrid(10, 10);
+        grid.setBlocked(5, 7, true);
+
+        assertTrue(grid.isAnyBlockedInRect(4, 6, 6, 8));
+        assertTrue(grid.isAnyBlockedInRect(6, 8, 4, 6));
+        assertFalse(grid.isAnyBlockedInRect(0, 0, 9, 6));
+        assertFalse(grid.isAnyBlockedInRect(6, 0, 9, 9));
+    }
+
+    @Test
+    void setBlockedLiberaTileMarcado() {
+        CollisionGrid grid = new CollisionGrid(8, 8);
+        grid.setBlocked(2, 3, true);
+        grid.setBlocked(3, 3, true);
+        grid.setBlocked(2, 3, false);
+        grid.setBlocked(20, 3, true);
+
+        assertFalse(grid.isBlocked(2, 3));
+        assertTrue(grid.isBlocked(3, 3));
+        assertEquals(1, grid.countBlocked());
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.cronicasdeeldoria.tile;
+
+import java.util.Random;
+
+/**
+ * Grades de colisão para os testes de tile e de busca de caminhos.
+ */
+public final class CollisionGrids {
+
+    private CollisionGrids() {
+    }
+
+    /**
+     * Grade a partir de linhas de texto: '#' bloqueia, qualquer outro caractere é livre.
+     */
+    public static CollisionGrid fromRows(String... rows) {
+        CollisionGrid grid = new CollisionGrid(rows[0].length(), rows.length);
+        for (int y = 0; y < rows.length; y++) {
+            for (int x = 0; x < rows[y].length(); x++) {
+                if (rows[y].charAt(x) == '#') {
+                    grid.setBlocked(x, y, true);
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Grade com paredes sorteadas tile a tile, linha por linha.
+     * @param wallPercent Chance de cada tile ser parede, de 0 a 100.
+     */
+    public static CollisionGrid random(Random random, int width, int height, int wallPercent) {
+        CollisionGrid grid = new CollisionGrid(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (random.nextInt(100) < wallPercent) {
+                    grid.setBlocked(x, y, true);
+                }
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.cronicasdeeldoria.tile;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MapCompilerTest {
+
+    @Test
+    void contaSoOsMapasGravados(@TempDir Path dir) throws Exception {
+        Path source = dir.resolve("json");
+        Path output = dir.resolve("out");
+        Files.createDirectories(source.resolve("houses"));
+        Files.writeString(source.resolve("sala.json"),
+            "{\"mapWidth\":2,\"mapHeight\":1,\"layers\":[{\"name\":\"floor\",\"tiles\":[{\"id\":\"grass\",\"x\":1,\"y\":0}]}]}");
+        Files.writeString(source.resolve("houses").resolve("config.json"), "{\"volume\":3}");
+
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            MapCompiler.main(new String[] { source.toString(), output.toString() });
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertTrue(Files.exists(output.resolve("sala" + BinaryMapFormat.EXTENSION)));
+        assertFalse(Files.exists(output.resolve("houses").resolve("config" + BinaryMapFormat.EXTENSION)));
+        assertTrue(captured.toString(StandardCharsets.UTF_8).contains("Mapas convertidos: 1 "));
+    }
+}
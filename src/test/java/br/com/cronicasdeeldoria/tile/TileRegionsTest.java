@@ -0,0 +1,91 @@
+package br.com.cronicasdeeldoria.tile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TileRegionsTest {
+
+    private static int pack(int x, int y) {
+        return (y << 16) | x;
+    }
+
+    @Test
+    void paredeDivideARegiao() {
+        CollisionGrid grid = CollisionGrids.fromRows(
+            "..#..",
+            "..#..",
+            "..#..");
+        TileRegions regions = new TileRegions(grid);
+
+        assertEquals(2, regions.getRegionCount());
+        assertFalse(regions.isReachable(0, 0, 4, 2));
+        assertNotEquals(regions.regionOf(0, 0), regions.regionOf(4, 0));
+        assertEquals(6, regions.getRegionSize(1, 1));
+    }
+
+    @Test
+    void passagemUneAsRegioes() {
+        CollisionGrid grid = CollisionGrids.fromRows(
+            "..#..",
+            ".....",
+            "..#..");
+        TileRegions regions = new TileRegions(grid);
+
+        assertEquals(1, regions.getRegionCount());
+        assertTrue(regions.isReachable(0, 0, 4, 2));
+        assertEquals(regions.regionOf(0, 0), regions.regionOf(4, 2));
+        assertEquals(13, regions.getRegionSize(4, 0));
+    }
+
+    @Test
+    void nearestReachableFicaNaRegiaoDaPartida() {
+        CollisionGrid grid = CollisionGrids.fromRows(
+            ".....#...",
+            ".....#...",
+            ".....#...");
+        TileRegions regions = new TileRegions(grid);
+
+        assertEquals(pack(4, 1), regions.nearestReachable(0, 0, 7, 1, 5));
+        assertEquals(pack(7, 1), regions.nearestReachable(8, 2, 7, 1, 5));
+        assertEquals(pack(2, 2), regions.nearestReachable(0, 0, 2, 2, 5));
+        assertEquals(-1, regions.nearestReachable(0, 0, 8, 1, 3));
+    }
+
+    @Test
+    void pontaBloqueadaContaPelosVizinhosLivres() {
+        CollisionGrid grid = CollisionGrids.fromRows(
+            ".....#...",
+            ".....#...",
+            "######...");
+        TileRegions regions = new TileRegions(grid);
+
+        // Parede entre as duas regiões: alcançável pelos dois lados
+        assertTrue(regions.isReachable(0, 0, 5, 1));
+        assertTrue(regions.isReachable(8, 0, 5, 1));
+        assertTrue(regions.isReachable(5, 1, 0, 0));
+        // Parede só com vizinhos da região da esquerda
+        assertTrue(regions.isReachable(0, 0, 1, 2));
+        assertFalse(regions.isReachable(8, 0, 1, 2));
+        // Fora do mapa nunca é alcançável
+        assertFalse(regions.isReachable(0, 0, -1, 0));
+        assertEquals(-1, regions.regionOf(5, 0));
+    }
+
+    @Test
+    void nearestFreeLeSoAColisao() {
+        CollisionGrid grid = CollisionGrids.fromRows(
+            "#....",
+            ".###.",
+            ".....");
+        TileRegions regions = new TileRegions(grid);
+
+        assertEquals(pack(4, 0), regions.nearestFree(4, 0, 2));
+        assertEquals(pack(1, 0), regions.nearestFree(0, 0, 2));
+        assertEquals(pack(2, 0), regions.nearestFree(2, 1, 1));
+        assertEquals(-1, regions.nearestFree(-5, -5, 2));
+    }
+}